@@ -62,7 +62,7 @@ public:
     virtual void insertToIndex(int dim, int numIds, int threadCount, int64_t vectorsAddress, std::vector<int64_t> &ids, jlong idMapAddress);
 
     /**
-     * Write index to disk
+     * Write index to disk. The index is freed once it is written. If writing fails, the caller keeps ownership of it.
      *
      * @param writer IOWriter implementation doing IO processing.
      *               In most cases, it is expected to have underlying Lucene's IndexOuptut.
@@ -57,6 +57,12 @@ namespace knn_jni {
         // Return a pointer to the loaded index
         jlong LoadIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring indexPathJ);
 
+        // Load an index from indexPathJ by memory mapping the file. The flat codes and the graph of the index point
+        // into the mapping instead of being copied, so the file must stay readable while the index is in use.
+        //
+        // Return a pointer to the loaded index
+        jlong LoadIndexWithMmap(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring indexPathJ);
+
         // Loads an index with a reader implemented IOReader
         //
         // Returns a pointer of the loaded index
@@ -120,6 +126,34 @@ namespace knn_jni {
                                            jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
                                            jint filterIdsTypeJ, jintArray parentIdsJ);
 
+        /**
+         *  Execute a query against the index located in memory at indexPointerJ along with Filters, writing the ids and
+         *  distances of the results into resultIdsJ and resultDistancesJ instead of allocating a KNNQueryResult per hit.
+         *  Both buffers must be able to hold kJ results.
+         *
+         * Parameters:
+         * methodParamsJ: introduces a map to have additional method parameters
+         *
+         * Return the number of results written into the buffers
+         */
+        jint QueryIndex_WithFilterIntoBuffer(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                             jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
+                                             jint filterIdsTypeJ, jintArray parentIdsJ, jintArray resultIdsJ,
+                                             jfloatArray resultDistancesJ);
+
+        /**
+         *  Execute a batch of queries against the index located in memory at indexPointerJ with a single search call.
+         *  queryVectorsJ holds numQueriesJ query vectors laid out one after another. The ids and distances of the results of
+         *  query i are written into resultIdsJ and resultDistancesJ at offset i * kJ. A query with less than kJ results has
+         *  its remaining ids set to -1. Both buffers must be able to hold numQueriesJ * kJ results.
+         *
+         * Parameters:
+         * methodParamsJ: introduces a map to have additional method parameters
+         */
+        void QueryIndex_BatchIntoBuffer(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                        jfloatArray queryVectorsJ, jint numQueriesJ, jint kJ, jobject methodParamsJ,
+                                        jintArray resultIdsJ, jfloatArray resultDistancesJ);
+
         // Execute a query against the binary index located in memory at indexPointerJ along with Filters
         //
         // Return an array of KNNQueryResults
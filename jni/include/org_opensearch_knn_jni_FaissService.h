@@ -124,6 +124,14 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createByteIndexF
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndex
   (JNIEnv *, jclass, jstring);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    loadIndexWithMmap
+ * Signature: (Ljava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithMmap
+  (JNIEnv *, jclass, jstring);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    loadIndexWithStream
@@ -196,6 +204,22 @@ JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryInd
 JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexWithFilter
   (JNIEnv *, jclass, jlong, jfloatArray, jint, jobject, jlongArray, jint, jintArray);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    queryIndexWithFilterIntoBuffer
+ * Signature: (J[FILjava/util/Map;[JI[I[I[F)I
+ */
+JNIEXPORT jint JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexWithFilterIntoBuffer
+  (JNIEnv *, jclass, jlong, jfloatArray, jint, jobject, jlongArray, jint, jintArray, jintArray, jfloatArray);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    queryIndexBatchIntoBuffer
+ * Signature: (J[FIILjava/util/Map;[I[F)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexBatchIntoBuffer
+  (JNIEnv *, jclass, jlong, jfloatArray, jint, jint, jobject, jintArray, jfloatArray);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    queryBIndexWithFilter
@@ -145,6 +145,7 @@ void IndexService::writeIndex(
     jlong idMapAddress,
     bool skipFlat
 ) {
+    // The index is only freed once it is written, the caller keeps ownership of it if writing fails
     std::unique_ptr<faiss::IndexIDMap> idMap (reinterpret_cast<faiss::IndexIDMap *> (idMapAddress));
 
     try {
@@ -154,6 +155,7 @@ void IndexService::writeIndex(
             openSearchIOWriter->flush();
         }
     } catch(std::exception &e) {
+        idMap.release();
         throw std::runtime_error(std::string("Failed to write index to disk, error=") + e.what());
     }
 }
@@ -274,6 +276,7 @@ void BinaryIndexService::writeIndex(
     jlong idMapAddress,
     bool skipFlat
 ) {
+    // The index is only freed once it is written, the caller keeps ownership of it if writing fails
     std::unique_ptr<faiss::IndexBinaryIDMap> idMap (reinterpret_cast<faiss::IndexBinaryIDMap *> (idMapAddress));
 
     try {
@@ -283,6 +286,7 @@ void BinaryIndexService::writeIndex(
             openSearchIOWriter->flush();
         }
     } catch(std::exception &e) {
+        idMap.release();
         throw std::runtime_error("Failed to write index to disk");
     }
 }
@@ -392,6 +396,7 @@ void ByteIndexService::writeIndex(
     jlong idMapAddress,
     bool skipFlat
 ) {
+    // The index is only freed once it is written, the caller keeps ownership of it if writing fails
     std::unique_ptr<faiss::IndexIDMap> idMap (reinterpret_cast<faiss::IndexIDMap *> (idMapAddress));
 
     try {
@@ -401,6 +406,7 @@ void ByteIndexService::writeIndex(
             openSearchIOWriter->flush();
         }
     } catch(std::exception &e) {
+        idMap.release();
         throw std::runtime_error("Failed to write index to disk");
     }
 }
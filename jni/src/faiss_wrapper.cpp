@@ -89,6 +89,12 @@ void buildFilterIdsBitMap(const int* filterIds, int filterIdsLength, uint8_t* bi
 
 std::unique_ptr<faiss::IDGrouperBitmap> buildIDGrouperBitmap(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env, jintArray parentIdsJ, std::vector<uint64_t>* bitmap);
 
+// Search the float index at indexPointerJ for the top k results of a single query. Writes ids and distances into the given
+// vectors and returns the number of valid results
+int InternalQueryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                  jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
+                                  jint filterIdsTypeJ, jintArray parentIdsJ, std::vector<float>& dis, std::vector<faiss::idx_t>& ids);
+
 // Check if a loaded index is an IVFPQ index with l2 space type
 bool isIndexIVFPQL2(faiss::Index * index);
 
@@ -506,6 +512,22 @@ jlong knn_jni::faiss_wrapper::LoadIndex(knn_jni::JNIUtilInterface * jniUtil, JNI
     return (jlong) indexReader;
 }
 
+jlong knn_jni::faiss_wrapper::LoadIndexWithMmap(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring indexPathJ) {
+    if (indexPathJ == nullptr) {
+        throw std::runtime_error("Index path cannot be null");
+    }
+
+    std::string indexPathCpp(jniUtil->ConvertJavaStringToCppString(env, indexPathJ));
+    // IO_FLAG_MMAP_IFC makes Faiss read through a mapping of the file and keep the flat codes and the graph as views
+    // into it, so loading only materializes the index metadata and the OS page cache holds the data.
+    faiss::Index* indexReader = faiss::read_index(indexPathCpp.c_str(),
+                                                  faiss::IO_FLAG_MMAP_IFC
+                                                  | faiss::IO_FLAG_READ_ONLY
+                                                  | faiss::IO_FLAG_PQ_SKIP_SDC_TABLE
+                                                  | faiss::IO_FLAG_SKIP_PRECOMPUTE_TABLE);
+    return (jlong) indexReader;
+}
+
 jlong knn_jni::faiss_wrapper::LoadIndexWithStream(faiss::IOReader* ioReader) {
     if (ioReader == nullptr)  {
         throw std::runtime_error("IOReader cannot be null");
@@ -706,6 +728,129 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex(knn_jni::JNIUtilInterface * jniU
 jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
                                                 jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ) {
 
+    // The ids vector will hold the top k ids from the search and the dis vector will hold the top k distances from
+    // the query point
+    std::vector<float> dis(kJ);
+    std::vector<faiss::idx_t> ids(kJ);
+    int resultSize = InternalQueryIndex_WithFilter(jniUtil, env, indexPointerJ, queryVectorJ, kJ, methodParamsJ, filterIdsJ,
+                                                   filterIdsTypeJ, parentIdsJ, dis, ids);
+
+    jclass resultClass = jniUtil->FindClass(env,"org/opensearch/knn/index/query/KNNQueryResult");
+    jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
+
+    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
+
+    for(int i = 0; i < resultSize; ++i) {
+        jobject result = jniUtil->NewObject(env, resultClass, allArgs, ids[i], dis[i]);
+        jniUtil->SetObjectArrayElement(env, results, i, result);
+        env->DeleteLocalRef(result);
+    }
+    return results;
+}
+
+jint knn_jni::faiss_wrapper::QueryIndex_WithFilterIntoBuffer(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                                jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ,
+                                                jintArray resultIdsJ, jfloatArray resultDistancesJ) {
+
+    if (resultIdsJ == nullptr || resultDistancesJ == nullptr) {
+        throw std::runtime_error("Result buffers cannot be null");
+    }
+
+    if (jniUtil->GetJavaIntArrayLength(env, resultIdsJ) < kJ || jniUtil->GetJavaFloatArrayLength(env, resultDistancesJ) < kJ) {
+        throw std::runtime_error("Result buffers must be able to hold k results");
+    }
+
+    std::vector<float> dis(kJ);
+    std::vector<faiss::idx_t> ids(kJ);
+    int resultSize = InternalQueryIndex_WithFilter(jniUtil, env, indexPointerJ, queryVectorJ, kJ, methodParamsJ, filterIdsJ,
+                                                   filterIdsTypeJ, parentIdsJ, dis, ids);
+
+    // Doc ids of a segment always fit in an int
+    std::vector<jint> resultIds(ids.begin(), ids.begin() + resultSize);
+    jniUtil->SetIntArrayRegion(env, resultIdsJ, 0, resultSize, resultIds.data());
+    jniUtil->SetFloatArrayRegion(env, resultDistancesJ, 0, resultSize, dis.data());
+    return resultSize;
+}
+
+void knn_jni::faiss_wrapper::QueryIndex_BatchIntoBuffer(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                                        jfloatArray queryVectorsJ, jint numQueriesJ, jint kJ, jobject methodParamsJ,
+                                                        jintArray resultIdsJ, jfloatArray resultDistancesJ) {
+
+    if (queryVectorsJ == nullptr) {
+        throw std::runtime_error("Query Vectors cannot be null");
+    }
+
+    if (numQueriesJ <= 0) {
+        throw std::runtime_error("Number of queries must be greater than 0");
+    }
+
+    if (resultIdsJ == nullptr || resultDistancesJ == nullptr) {
+        throw std::runtime_error("Result buffers cannot be null");
+    }
+
+    auto *indexReader = reinterpret_cast<faiss::IndexIDMap *>(indexPointerJ);
+
+    if (indexReader == nullptr) {
+        throw std::runtime_error("Invalid pointer to index");
+    }
+
+    if (jniUtil->GetJavaFloatArrayLength(env, queryVectorsJ) != (int64_t) numQueriesJ * indexReader->d) {
+        throw std::runtime_error("Length of query vectors does not match number of queries times index dimension");
+    }
+
+    // Faiss writes the top k ids and distances of query i at offset i * k
+    const int64_t numResults = (int64_t) numQueriesJ * kJ;
+    if (jniUtil->GetJavaIntArrayLength(env, resultIdsJ) < numResults
+        || jniUtil->GetJavaFloatArrayLength(env, resultDistancesJ) < numResults) {
+        throw std::runtime_error("Result buffers must be able to hold k results per query");
+    }
+
+    std::unordered_map<std::string, jobject> methodParams;
+    if (methodParamsJ != nullptr) {
+        methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
+    }
+
+    faiss::SearchParameters *searchParameters = nullptr;
+    faiss::SearchParametersHNSW hnswParams;
+    faiss::SearchParametersIVF ivfParams;
+    auto hnswReader = dynamic_cast<const faiss::IndexHNSW*>(indexReader->index);
+    if (hnswReader != nullptr) {
+        // Query param efsearch supersedes ef_search provided during index setting.
+        hnswParams.efSearch = knn_jni::commons::getIntegerMethodParameter(env, jniUtil, methodParams, EF_SEARCH, hnswReader->hnsw.efSearch);
+        searchParameters = &hnswParams;
+    } else {
+        auto ivfReader = dynamic_cast<const faiss::IndexIVF*>(indexReader->index);
+        if (ivfReader) {
+            ivfParams.nprobe = commons::getIntegerMethodParameter(env, jniUtil, methodParams, NPROBES, ivfReader->nprobe);
+            searchParameters = &ivfParams;
+        }
+    }
+
+    std::vector<float> dis(numResults);
+    std::vector<faiss::idx_t> ids(numResults);
+    float* rawQueryVectors = jniUtil->GetFloatArrayElements(env, queryVectorsJ, nullptr);
+    /*
+        Setting the omp_set_num_threads to 1 to make sure that no new OMP threads are getting created.
+    */
+    omp_set_num_threads(1);
+    try {
+        indexReader->search(numQueriesJ, rawQueryVectors, kJ, dis.data(), ids.data(), searchParameters);
+    } catch (...) {
+        jniUtil->ReleaseFloatArrayElements(env, queryVectorsJ, rawQueryVectors, JNI_ABORT);
+        throw;
+    }
+    jniUtil->ReleaseFloatArrayElements(env, queryVectorsJ, rawQueryVectors, JNI_ABORT);
+
+    // Doc ids of a segment always fit in an int. Faiss pads missing results with -1, which is kept as the end marker of a query.
+    std::vector<jint> resultIds(ids.begin(), ids.end());
+    jniUtil->SetIntArrayRegion(env, resultIdsJ, 0, numResults, resultIds.data());
+    jniUtil->SetFloatArrayRegion(env, resultDistancesJ, 0, numResults, dis.data());
+}
+
+int InternalQueryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                  jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
+                                  jint filterIdsTypeJ, jintArray parentIdsJ, std::vector<float>& dis, std::vector<faiss::idx_t>& ids) {
+
     if (queryVectorJ == nullptr) {
         throw std::runtime_error("Query Vector cannot be null");
     }
@@ -720,10 +865,6 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
     if (methodParamsJ != nullptr) {
         methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
     }
-    // The ids vector will hold the top k ids from the search and the dis vector will hold the top k distances from
-    // the query point
-    std::vector<float> dis(kJ);
-    std::vector<faiss::idx_t> ids(kJ);
     float* rawQueryvector = jniUtil->GetFloatArrayElements(env, queryVectorJ, nullptr);
     /*
         Setting the omp_set_num_threads to 1 to make sure that no new OMP threads are getting created.
@@ -813,18 +954,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
     if (it != ids.end()) {
         resultSize = it - ids.begin();
     }
-
-    jclass resultClass = jniUtil->FindClass(env,"org/opensearch/knn/index/query/KNNQueryResult");
-    jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
-
-    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
-
-    for(int i = 0; i < resultSize; ++i) {
-        jobject result = jniUtil->NewObject(env, resultClass, allArgs, ids[i], dis[i]);
-        jniUtil->SetObjectArrayElement(env, results, i, result);
-        env->DeleteLocalRef(result);
-    }
-    return results;
+    return resultSize;
 }
 
 jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
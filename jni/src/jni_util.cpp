@@ -648,6 +648,16 @@ void knn_jni::JNIUtil::SetByteArrayRegion(JNIEnv *env, jbyteArray array, jsize s
     this->HasExceptionInStack(env, "Unable to set byte array region");
 }
 
+void knn_jni::JNIUtil::SetIntArrayRegion(JNIEnv *env, jintArray array, jsize start, jsize len, const jint * buf) {
+    env->SetIntArrayRegion(array, start, len, buf);
+    this->HasExceptionInStack(env, "Unable to set int array region");
+}
+
+void knn_jni::JNIUtil::SetFloatArrayRegion(JNIEnv *env, jfloatArray array, jsize start, jsize len, const jfloat * buf) {
+    env->SetFloatArrayRegion(array, start, len, buf);
+    this->HasExceptionInStack(env, "Unable to set float array region");
+}
+
 jobject knn_jni::JNIUtil::GetObjectField(JNIEnv * env, jobject obj, jfieldID fieldID) {
     return env->GetObjectField(obj, fieldID);
 }
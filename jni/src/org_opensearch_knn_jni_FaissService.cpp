@@ -310,6 +310,16 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndex(JNIEn
   return NULL;
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithMmap(JNIEnv * env, jclass cls, jstring indexPathJ)
+{
+  try {
+      return knn_jni::faiss_wrapper::LoadIndexWithMmap(&jniUtil, env, indexPathJ);
+  } catch (...) {
+      jniUtil.CatchCppExceptionAndThrowJava(env);
+  }
+  return NULL;
+}
+
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithStream(JNIEnv * env,
                                                                                      jclass cls,
                                                                                      jobject readStream)
@@ -440,6 +450,33 @@ JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryInd
 
 }
 
+JNIEXPORT jint JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexWithFilterIntoBuffer
+  (JNIEnv * env, jclass cls, jlong indexPointerJ, jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filteredIdsJ, jint filterIdsTypeJ,
+   jintArray parentIdsJ, jintArray resultIdsJ, jfloatArray resultDistancesJ) {
+
+      try {
+          return knn_jni::faiss_wrapper::QueryIndex_WithFilterIntoBuffer(&jniUtil, env, indexPointerJ, queryVectorJ, kJ, methodParamsJ, filteredIdsJ,
+                                                                         filterIdsTypeJ, parentIdsJ, resultIdsJ, resultDistancesJ);
+      } catch (...) {
+          jniUtil.CatchCppExceptionAndThrowJava(env);
+      }
+      return 0;
+
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexBatchIntoBuffer
+  (JNIEnv * env, jclass cls, jlong indexPointerJ, jfloatArray queryVectorsJ, jint numQueriesJ, jint kJ, jobject methodParamsJ,
+   jintArray resultIdsJ, jfloatArray resultDistancesJ) {
+
+      try {
+          knn_jni::faiss_wrapper::QueryIndex_BatchIntoBuffer(&jniUtil, env, indexPointerJ, queryVectorsJ, numQueriesJ, kJ, methodParamsJ,
+                                                             resultIdsJ, resultDistancesJ);
+      } catch (...) {
+          jniUtil.CatchCppExceptionAndThrowJava(env);
+      }
+
+}
+
 JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryBinaryIndexWithFilter
   (JNIEnv * env, jclass cls, jlong indexPointerJ, jbyteArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filteredIdsJ, jint filterIdsTypeJ,  jintArray parentIdsJ) {
 
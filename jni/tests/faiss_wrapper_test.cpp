@@ -373,6 +373,51 @@ TEST(FaissLoadIndexTest, BasicAssertions) {
     std::remove(indexPath.c_str());
 }
 
+TEST(FaissLoadIndexWithMmapTest, BasicAssertions) {
+    // Define the data
+    faiss::idx_t numIds = 100;
+    int dim = 2;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    std::string indexPath = test_util::RandomString(10, "tmp/", ".faiss");
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    test_util::FaissWriteIndex(&createdIndexWithData, indexPath);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    std::unique_ptr<faiss::Index> loadedIndexPointer(
+            reinterpret_cast<faiss::Index *>(knn_jni::faiss_wrapper::LoadIndexWithMmap(
+                    &mockJNIUtil, &jniEnv, (jstring)&indexPath)));
+
+    // The mapped index must serialize to the same bytes as the one it was written from
+    auto createIndexSerialization =
+            test_util::FaissGetSerializedIndex(&createdIndexWithData);
+    auto loadedIndexSerialization = test_util::FaissGetSerializedIndex(loadedIndexPointer.get());
+
+    ASSERT_EQ(numIds, loadedIndexPointer->ntotal);
+    ASSERT_EQ(createIndexSerialization.data.size(),
+              loadedIndexSerialization.data.size());
+    for (int i = 0; i < loadedIndexSerialization.data.size(); ++i) {
+        ASSERT_EQ(createIndexSerialization.data[i],
+                  loadedIndexSerialization.data[i]);
+    }
+
+    // Clean up
+    loadedIndexPointer.reset();
+    std::remove(indexPath.c_str());
+}
+
 TEST(FaissLoadBinaryIndexTest, BasicAssertions) {
     // Define the data
     faiss::idx_t numIds = 200;
@@ -545,6 +590,134 @@ TEST(FaissQueryIndexTest, BasicAssertions) {
     }
 }
 
+TEST(FaissQueryIndexIntoBufferTest, BasicAssertions) {
+    // Define the index data
+    faiss::idx_t numIds = 100;
+    int dim = 16;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Define query data
+    int k = 10;
+    int efSearch = 20;
+    std::unordered_map<std::string, jobject> methodParams;
+    methodParams[knn_jni::EF_SEARCH] = reinterpret_cast<jobject>(&efSearch);
+
+    std::vector<float> query;
+    query.reserve(dim);
+    for (int j = 0; j < dim; j++) {
+        query.push_back(test_util::RandomFloat(-500.0, 500.0));
+    }
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    auto methodParamsJ = reinterpret_cast<jobject>(&methodParams);
+
+    std::unique_ptr<std::vector<std::pair<int, float> *>> expectedResults(
+            reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                    knn_jni::faiss_wrapper::QueryIndex(
+                            &mockJNIUtil, &jniEnv,
+                            reinterpret_cast<jlong>(&createdIndexWithData),
+                            reinterpret_cast<jfloatArray>(&query), k, methodParamsJ, nullptr)));
+
+    std::vector<int64_t> resultIds(k);
+    std::vector<float> resultDistances(k);
+    int resultSize = knn_jni::faiss_wrapper::QueryIndex_WithFilterIntoBuffer(
+            &mockJNIUtil, &jniEnv,
+            reinterpret_cast<jlong>(&createdIndexWithData),
+            reinterpret_cast<jfloatArray>(&query), k, methodParamsJ, nullptr, 0, nullptr,
+            reinterpret_cast<jintArray>(&resultIds), reinterpret_cast<jfloatArray>(&resultDistances));
+
+    ASSERT_EQ(expectedResults->size(), resultSize);
+    for (int i = 0; i < resultSize; ++i) {
+        ASSERT_EQ(expectedResults->at(i)->first, resultIds[i]);
+        ASSERT_FLOAT_EQ(expectedResults->at(i)->second, resultDistances[i]);
+    }
+
+    // Need to free up each result
+    for (auto it : *expectedResults.get()) {
+        delete it;
+    }
+}
+
+TEST(FaissQueryIndexBatchIntoBufferTest, BasicAssertions) {
+    // Define the index data
+    faiss::idx_t numIds = 100;
+    int dim = 16;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Define query data
+    int k = 10;
+    int numQueries = 5;
+    int efSearch = 20;
+    std::unordered_map<std::string, jobject> methodParams;
+    methodParams[knn_jni::EF_SEARCH] = reinterpret_cast<jobject>(&efSearch);
+
+    std::vector<std::vector<float>> queries(numQueries);
+    std::vector<float> batchedQueries;
+    batchedQueries.reserve(numQueries * dim);
+    for (int i = 0; i < numQueries; i++) {
+        for (int j = 0; j < dim; j++) {
+            queries[i].push_back(test_util::RandomFloat(-500.0, 500.0));
+        }
+        batchedQueries.insert(batchedQueries.end(), queries[i].begin(), queries[i].end());
+    }
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    auto methodParamsJ = reinterpret_cast<jobject>(&methodParams);
+
+    std::vector<int64_t> resultIds(numQueries * k);
+    std::vector<float> resultDistances(numQueries * k);
+    knn_jni::faiss_wrapper::QueryIndex_BatchIntoBuffer(
+            &mockJNIUtil, &jniEnv,
+            reinterpret_cast<jlong>(&createdIndexWithData),
+            reinterpret_cast<jfloatArray>(&batchedQueries), numQueries, k, methodParamsJ,
+            reinterpret_cast<jintArray>(&resultIds), reinterpret_cast<jfloatArray>(&resultDistances));
+
+    // Each query of the batch gets the results of a search with that query alone
+    for (int i = 0; i < numQueries; i++) {
+        std::unique_ptr<std::vector<std::pair<int, float> *>> expectedResults(
+                reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                        knn_jni::faiss_wrapper::QueryIndex(
+                                &mockJNIUtil, &jniEnv,
+                                reinterpret_cast<jlong>(&createdIndexWithData),
+                                reinterpret_cast<jfloatArray>(&queries[i]), k, methodParamsJ, nullptr)));
+
+        ASSERT_EQ(k, expectedResults->size());
+        for (int j = 0; j < k; ++j) {
+            ASSERT_EQ(expectedResults->at(j)->first, resultIds[i * k + j]);
+            ASSERT_FLOAT_EQ(expectedResults->at(j)->second, resultDistances[i * k + j]);
+        }
+
+        // Need to free up each result
+        for (auto it : *expectedResults.get()) {
+            delete it;
+        }
+    }
+}
+
 TEST(FaissQueryBinaryIndexTest, BasicAssertions) {
     // Define the data
     faiss::idx_t numIds = 200;
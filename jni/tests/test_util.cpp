@@ -255,6 +255,25 @@ test_util::MockJNIUtil::MockJNIUtil() {
                 }
             });
 
+    // array is re-interpreted as a std::vector<int64_t> *, matching
+    // GetJavaIntArrayLength, and the values from buf are copied into it starting
+    // at start
+    ON_CALL(*this, SetIntArrayRegion)
+            .WillByDefault([this](JNIEnv *env, jintArray array, jsize start,
+                                  jsize len, const jint *buf) {
+                auto intBuffer = reinterpret_cast<std::vector<int64_t> *>(array);
+                std::copy(buf, buf + len, intBuffer->begin() + start);
+            });
+
+    // array is re-interpreted as a std::vector<float> * and the values from buf
+    // are copied into it starting at start
+    ON_CALL(*this, SetFloatArrayRegion)
+            .WillByDefault([this](JNIEnv *env, jfloatArray array, jsize start,
+                                  jsize len, const jfloat *buf) {
+                auto floatBuffer = reinterpret_cast<std::vector<float> *>(array);
+                std::copy(buf, buf + len, floatBuffer->begin() + start);
+            });
+
     // array is re-interpreted as a std::vector<std::pair<int, float> *> * and
     // then val is re-interpreted as a std::pair<int, float> * and added to the
     // vector
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import java.util.Random;
+
+/**
+ * Generates the datasets of the benchmarks. Every dataset is drawn from a {@link Random} with a fixed seed, so that every run
+ * of a benchmark, on every build, measures the same data and results of two builds can be compared.
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 0x6b6e6eL;
+
+    private SyntheticData() {}
+
+    /**
+     * @param numVectors number of vectors
+     * @param dimension  dimension of every vector
+     * @param seed       seed of the dataset
+     * @return vectors with standard normal distributed components
+     */
+    public static float[][] floatVectors(final int numVectors, final int dimension, final long seed) {
+        final Random random = new Random(seed);
+        final float[][] vectors = new float[numVectors][dimension];
+        for (float[] vector : vectors) {
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = (float) random.nextGaussian();
+            }
+        }
+        return vectors;
+    }
+
+    /**
+     * @param numVectors number of vectors
+     * @param dimension  dimension of every vector
+     * @param seed       seed of the dataset
+     * @return vectors with components uniformly distributed over the byte range
+     */
+    public static byte[][] byteVectors(final int numVectors, final int dimension, final long seed) {
+        final Random random = new Random(seed);
+        final byte[][] vectors = new byte[numVectors][dimension];
+        for (byte[] vector : vectors) {
+            random.nextBytes(vector);
+        }
+        return vectors;
+    }
+
+    /**
+     * @param numVectors number of vectors
+     * @param dimension  dimension of every vector in bits, a multiple of 8
+     * @param seed       seed of the dataset
+     * @return packed binary vectors with uniformly distributed bits
+     */
+    public static byte[][] binaryVectors(final int numVectors, final int dimension, final long seed) {
+        if (dimension % Byte.SIZE != 0) {
+            throw new IllegalArgumentException("Dimension of binary vectors must be a multiple of 8, got=" + dimension);
+        }
+        return byteVectors(numVectors, dimension / Byte.SIZE, seed);
+    }
+
+    /**
+     * @param numScores number of scores
+     * @param seed      seed of the dataset
+     * @return scores uniformly distributed in [0, 1)
+     */
+    public static float[] scores(final int numScores, final long seed) {
+        final Random random = new Random(seed);
+        final float[] scores = new float[numScores];
+        for (int i = 0; i < numScores; i++) {
+            scores[i] = random.nextFloat();
+        }
+        return scores;
+    }
+}
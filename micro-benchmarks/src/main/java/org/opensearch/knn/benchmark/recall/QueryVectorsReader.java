@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads the query vectors of a {@link RecallBenchmarkRunner} run. Files ending in {@code .fvecs} are read in the format of
+ * the common ANN benchmark datasets, every vector being a little endian int dimension followed by as many little endian
+ * floats. Any other file is read as text, one vector of comma separated floats per line.
+ */
+final class QueryVectorsReader {
+
+    private static final String FVECS_EXTENSION = ".fvecs";
+
+    private QueryVectorsReader() {}
+
+    /**
+     * @param path       file with the query vectors
+     * @param maxQueries maximum number of vectors to read
+     * @return query vectors, all of the same dimension
+     * @throws IOException if the file cannot be read
+     */
+    static List<float[]> read(final Path path, final int maxQueries) throws IOException {
+        final List<float[]> queries = path.getFileName().toString().endsWith(FVECS_EXTENSION)
+            ? readFvecs(path, maxQueries)
+            : readText(path, maxQueries);
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("No query vectors found in [" + path + "]");
+        }
+        final int dimension = queries.get(0).length;
+        for (int i = 1; i < queries.size(); i++) {
+            if (queries.get(i).length != dimension) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "Query %d has dimension %d, expected %d", i, queries.get(i).length, dimension)
+                );
+            }
+        }
+        return queries;
+    }
+
+    private static List<float[]> readFvecs(final Path path, final int maxQueries) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        final List<float[]> queries = new ArrayList<>();
+        while (buffer.hasRemaining() && queries.size() < maxQueries) {
+            final int dimension = buffer.getInt();
+            if (dimension <= 0 || buffer.remaining() < dimension * Float.BYTES) {
+                throw new IllegalArgumentException("Truncated or corrupted fvecs file [" + path + "]");
+            }
+            final float[] query = new float[dimension];
+            buffer.asFloatBuffer().get(query);
+            buffer.position(buffer.position() + dimension * Float.BYTES);
+            queries.add(query);
+        }
+        return queries;
+    }
+
+    private static List<float[]> readText(final Path path, final int maxQueries) throws IOException {
+        final List<float[]> queries = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (queries.size() == maxQueries) {
+                break;
+            }
+            final String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            final String[] values = trimmed.split(",");
+            final float[] query = new float[values.length];
+            for (int i = 0; i < values.length; i++) {
+                query[i] = Float.parseFloat(values[i].trim());
+            }
+            queries.add(query);
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Options of a {@link RecallBenchmarkRunner} run, parsed from {@code --name value} command line arguments. List options
+ * take comma separated values.
+ */
+@Value
+@Builder
+public class RecallBenchmarkOptions {
+
+    static final String USAGE = String.join(
+        "\n",
+        "Usage: RecallBenchmarkRunner --index <path> --field <name> --queries <file> [options]",
+        "",
+        "  --index <path>                 directory of a Lucene index, e.g. a shard's index directory",
+        "  --field <name>                 k-NN vector field to search",
+        "  --queries <file>               query vectors, in .fvecs format or one comma separated vector per line",
+        "  --k <int>                      number of results per query, default 10",
+        "  --ef-search <ints>             ef_search values to sweep, default 100",
+        "  --oversample <floats>          oversample factors to sweep for rescoring, default 1.0,2.0,3.0",
+        "  --rescore <booleans>           rescoring on/off to sweep, default false,true",
+        "  --memory-optimized <booleans>  memory optimized search on/off to sweep, default false,true",
+        "  --warmup <int>                 queries run before every measurement, default 100",
+        "  --max-queries <int>            number of queries to measure, default all",
+        "  --output <file>                writes the results as JSON to the file"
+    );
+
+    @NonNull
+    Path index;
+    @NonNull
+    String field;
+    @NonNull
+    Path queries;
+    @Builder.Default
+    int k = 10;
+    @Builder.Default
+    List<Integer> efSearch = List.of(100);
+    @Builder.Default
+    List<Float> oversampleFactors = List.of(1.0f, 2.0f, 3.0f);
+    @Builder.Default
+    List<Boolean> rescore = List.of(false, true);
+    @Builder.Default
+    List<Boolean> memoryOptimizedSearch = List.of(false, true);
+    @Builder.Default
+    int warmupQueries = 100;
+    @Builder.Default
+    int maxQueries = Integer.MAX_VALUE;
+    Path output;
+
+    /**
+     * @param args command line arguments
+     * @return parsed options
+     * @throws IllegalArgumentException if an argument is unknown, has no value or a required argument is missing
+     */
+    public static RecallBenchmarkOptions parse(final String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (args[i].startsWith("--") == false || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --name value pairs, got [" + args[i] + "]");
+            }
+            values.put(args[i].substring(2), args[i + 1]);
+        }
+
+        final RecallBenchmarkOptionsBuilder builder = builder();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            final String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "index" -> builder.index(Path.of(value));
+                case "field" -> builder.field(value);
+                case "queries" -> builder.queries(Path.of(value));
+                case "k" -> builder.k(parsePositive(entry.getKey(), value));
+                case "ef-search" -> builder.efSearch(parseList(value, v -> parsePositive(entry.getKey(), v)));
+                case "oversample" -> builder.oversampleFactors(parseList(value, Float::parseFloat));
+                case "rescore" -> builder.rescore(parseList(value, RecallBenchmarkOptions::parseBoolean));
+                case "memory-optimized" -> builder.memoryOptimizedSearch(parseList(value, RecallBenchmarkOptions::parseBoolean));
+                case "warmup" -> builder.warmupQueries(Integer.parseInt(value));
+                case "max-queries" -> builder.maxQueries(parsePositive(entry.getKey(), value));
+                case "output" -> builder.output(Path.of(value));
+                default -> throw new IllegalArgumentException("Unknown argument [--" + entry.getKey() + "]");
+            }
+        }
+        for (String required : List.of("index", "field", "queries")) {
+            if (values.containsKey(required) == false) {
+                throw new IllegalArgumentException("Missing required argument [--" + required + "]");
+            }
+        }
+        return builder.build();
+    }
+
+    private static <T> List<T> parseList(final String value, final Function<String, T> parser) {
+        final List<T> list = new ArrayList<>();
+        for (String element : value.split(",")) {
+            list.add(parser.apply(element.trim()));
+        }
+        return List.copyOf(list);
+    }
+
+    private static int parsePositive(final String name, final String value) {
+        final int parsed = Integer.parseInt(value);
+        if (parsed <= 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[--%s] must be greater than 0, got [%s]", name, value));
+        }
+        return parsed;
+    }
+
+    private static boolean parseBoolean(final String value) {
+        if ("true".equals(value) == false && "false".equals(value) == false) {
+            throw new IllegalArgumentException("Expected true or false, got [" + value + "]");
+        }
+        return Boolean.parseBoolean(value);
+    }
+}
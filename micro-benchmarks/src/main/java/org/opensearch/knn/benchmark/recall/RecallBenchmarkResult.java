@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recall and latency measured for one {@link SearchConfiguration}.
+ */
+@Value
+public class RecallBenchmarkResult {
+    SearchConfiguration configuration;
+    double recall;
+    double queriesPerSecond;
+    double p50Millis;
+    double p90Millis;
+    double p99Millis;
+
+    /**
+     * @param configuration  configuration of the searches
+     * @param recall         mean recall of the queries
+     * @param latenciesNanos latency of every query
+     * @return result of the configuration
+     */
+    static RecallBenchmarkResult of(final SearchConfiguration configuration, final double recall, final long[] latenciesNanos) {
+        final long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        final double totalNanos = Arrays.stream(sorted).sum();
+        return new RecallBenchmarkResult(
+            configuration,
+            recall,
+            sorted.length / (totalNanos / 1_000_000_000d),
+            percentileMillis(sorted, 50),
+            percentileMillis(sorted, 90),
+            percentileMillis(sorted, 99)
+        );
+    }
+
+    /**
+     * @param other result to compare with
+     * @return whether the other result has at least the recall and throughput of this one, and more of either
+     */
+    boolean isDominatedBy(final RecallBenchmarkResult other) {
+        return other.recall >= recall
+            && other.queriesPerSecond >= queriesPerSecond
+            && (other.recall > recall || other.queriesPerSecond > queriesPerSecond);
+    }
+
+    /**
+     * @param results results of all configurations
+     * @return the results no other result dominates, the configurations worth choosing from
+     */
+    static List<RecallBenchmarkResult> paretoFrontier(final List<RecallBenchmarkResult> results) {
+        final List<RecallBenchmarkResult> frontier = new ArrayList<>();
+        for (RecallBenchmarkResult result : results) {
+            if (results.stream().noneMatch(result::isDominatedBy)) {
+                frontier.add(result);
+            }
+        }
+        return frontier;
+    }
+
+    // Nearest rank percentile
+    private static double percentileMillis(final long[] sortedNanos, final int percentile) {
+        final int rank = (int) Math.ceil(percentile / 100d * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1_000_000d;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.mapper.VectorTransformerFactory;
+import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Measures recall, throughput and latency percentiles of k-NN searches over the segments of a local Lucene index written by
+ * the plugin, without standing up a cluster. The index is opened with the codecs of the plugin, the ground truth is computed
+ * with the {@link ExactSearcher} over full precision vectors, and every combination of ef_search, oversample factor,
+ * rescoring and memory optimized search is searched like a query of a single shard would. Results are printed as a table
+ * marking the Pareto frontier of recall and throughput, and optionally written as JSON.
+ * <p>
+ * Queries run one after another on a single thread, so latencies are those of a shard without concurrent load.
+ */
+@Log4j2
+public final class RecallBenchmarkRunner implements Closeable {
+
+    private final RecallBenchmarkOptions options;
+    private final Directory directory;
+    private final DirectoryReader reader;
+    private final List<SegmentSearcher> segmentSearchers = new ArrayList<>();
+
+    RecallBenchmarkRunner(final RecallBenchmarkOptions options) throws IOException {
+        this.options = options;
+        this.directory = new MMapDirectory(options.getIndex());
+        this.reader = DirectoryReader.open(directory);
+        try {
+            final ExactSearcher exactSearcher = new ExactSearcher(null);
+            for (LeafReaderContext leafReaderContext : reader.leaves()) {
+                final SegmentSearcher segmentSearcher = SegmentSearcher.create(leafReaderContext, options.getField(), exactSearcher);
+                if (segmentSearcher != null) {
+                    segmentSearchers.add(segmentSearcher);
+                }
+            }
+            if (segmentSearchers.isEmpty()) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "No segment of [%s] has vectors of field [%s]", options.getIndex(), options.getField())
+                );
+            }
+        } catch (RuntimeException e) {
+            IOUtils.closeWhileHandlingException(reader, directory);
+            throw e;
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final RecallBenchmarkOptions options;
+        try {
+            options = RecallBenchmarkOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(RecallBenchmarkOptions.USAGE);
+            System.exit(1);
+            return;
+        }
+
+        try (
+            StandaloneKNNSettings ignored = new StandaloneKNNSettings();
+            RecallBenchmarkRunner runner = new RecallBenchmarkRunner(options)
+        ) {
+            final List<RecallBenchmarkResult> results = runner.run();
+            printTable(System.out, options.getK(), results);
+            if (options.getOutput() != null) {
+                Files.writeString(options.getOutput(), toJson(options, results), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    /**
+     * Searches all queries with every configuration of the sweep.
+     *
+     * @return result of every configuration
+     * @throws IOException if the index cannot be read
+     */
+    List<RecallBenchmarkResult> run() throws IOException {
+        final List<float[]> queries = transformQueries(QueryVectorsReader.read(options.getQueries(), options.getMaxQueries()));
+        final int dimension = queries.get(0).length;
+        final int k = options.getK();
+
+        log.info("Computing the ground truth of [{}] queries over [{}] segments", queries.size(), segmentSearchers.size());
+        final List<Set<Integer>> groundTruth = new ArrayList<>(queries.size());
+        for (float[] query : queries) {
+            final List<TopDocs> segmentResults = new ArrayList<>(segmentSearchers.size());
+            for (SegmentSearcher segmentSearcher : segmentSearchers) {
+                segmentResults.add(segmentSearcher.exactSearch(query, k));
+            }
+            groundTruth.add(docIds(reduceToTopK(segmentResults, k)));
+        }
+
+        final List<RecallBenchmarkResult> results = new ArrayList<>();
+        for (SearchConfiguration configuration : SearchConfiguration.sweep(options)) {
+            if (configuration.isMemoryOptimizedSearch() == false) {
+                // Graphs are loaded once, like the native memory cache of a node does, and not as part of a query
+                for (SegmentSearcher segmentSearcher : segmentSearchers) {
+                    segmentSearcher.loadNativeIndex();
+                }
+            }
+            final int firstPassK = configuration.getFirstPassK(k, dimension);
+            for (int i = 0; i < options.getWarmupQueries(); i++) {
+                search(queries.get(i % queries.size()), k, firstPassK, configuration);
+            }
+
+            final long[] latenciesNanos = new long[queries.size()];
+            double totalRecall = 0;
+            for (int i = 0; i < queries.size(); i++) {
+                final long startNanos = System.nanoTime();
+                final ScoreDoc[] scoreDocs = search(queries.get(i), k, firstPassK, configuration);
+                latenciesNanos[i] = System.nanoTime() - startNanos;
+                totalRecall += recall(groundTruth.get(i), scoreDocs);
+            }
+            final RecallBenchmarkResult result = RecallBenchmarkResult.of(configuration, totalRecall / queries.size(), latenciesNanos);
+            log.info("[{}] recall [{}], QPS [{}]", configuration, result.getRecall(), result.getQueriesPerSecond());
+            results.add(result);
+        }
+        return results;
+    }
+
+    @Override
+    public void close() throws IOException {
+        final List<Closeable> closeables = new ArrayList<>(segmentSearchers);
+        closeables.add(reader);
+        closeables.add(directory);
+        IOUtils.close(closeables);
+    }
+
+    private ScoreDoc[] search(final float[] query, final int k, final int firstPassK, final SearchConfiguration configuration)
+        throws IOException {
+        final List<TopDocs> segmentResults = new ArrayList<>(segmentSearchers.size());
+        for (SegmentSearcher segmentSearcher : segmentSearchers) {
+            segmentResults.add(segmentSearcher.approximateSearch(query, firstPassK, configuration));
+        }
+        final ScoreDoc[] candidates = reduceToTopK(segmentResults, firstPassK);
+        if (configuration.isRescore() == false) {
+            return candidates;
+        }
+
+        final List<Integer> candidateDocIds = new ArrayList<>(candidates.length);
+        for (ScoreDoc candidate : candidates) {
+            candidateDocIds.add(candidate.doc);
+        }
+        final List<TopDocs> rescoredResults = new ArrayList<>(segmentSearchers.size());
+        for (SegmentSearcher segmentSearcher : segmentSearchers) {
+            rescoredResults.add(segmentSearcher.rescore(query, k, candidateDocIds));
+        }
+        return reduceToTopK(rescoredResults, k);
+    }
+
+    // Queries are transformed once, as the field type of a node does when the query is parsed
+    private List<float[]> transformQueries(final List<float[]> queries) {
+        final List<float[]> transformed = new ArrayList<>(queries.size());
+        for (float[] query : queries) {
+            transformed.add(
+                VectorTransformerFactory.getVectorTransformer(KNNEngine.FAISS, segmentSearchers.get(0).getSpaceType(), null)
+                    .transform(query, false)
+            );
+        }
+        return transformed;
+    }
+
+    private static ScoreDoc[] reduceToTopK(final List<TopDocs> segmentResults, final int k) {
+        final List<ScoreDoc> scoreDocs = new ArrayList<>();
+        for (TopDocs segmentResult : segmentResults) {
+            scoreDocs.addAll(List.of(segmentResult.scoreDocs));
+        }
+        scoreDocs.sort(Comparator.comparingDouble((ScoreDoc scoreDoc) -> scoreDoc.score).reversed().thenComparingInt(s -> s.doc));
+        return scoreDocs.subList(0, Math.min(k, scoreDocs.size())).toArray(new ScoreDoc[0]);
+    }
+
+    private static Set<Integer> docIds(final ScoreDoc[] scoreDocs) {
+        final Set<Integer> docIds = new HashSet<>();
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            docIds.add(scoreDoc.doc);
+        }
+        return docIds;
+    }
+
+    private static double recall(final Set<Integer> groundTruth, final ScoreDoc[] scoreDocs) {
+        if (groundTruth.isEmpty()) {
+            return 1.0;
+        }
+        int numFound = 0;
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            if (groundTruth.contains(scoreDoc.doc)) {
+                numFound++;
+            }
+        }
+        return (double) numFound / groundTruth.size();
+    }
+
+    private static void printTable(final PrintStream out, final int k, final List<RecallBenchmarkResult> results) {
+        final List<RecallBenchmarkResult> frontier = RecallBenchmarkResult.paretoFrontier(results);
+        final List<RecallBenchmarkResult> sorted = new ArrayList<>(results);
+        sorted.sort(
+            Comparator.comparingDouble(RecallBenchmarkResult::getRecall).thenComparingDouble(RecallBenchmarkResult::getQueriesPerSecond)
+        );
+
+        final String format = "%-9s %-10s %-7s %-8s %-9s %-10s %-9s %-9s %-9s %s%n";
+        out.printf(
+            Locale.ROOT,
+            format,
+            "ef_search",
+            "oversample",
+            "rescore",
+            "mem_opt",
+            "recall@" + k,
+            "QPS",
+            "p50(ms)",
+            "p90(ms)",
+            "p99(ms)",
+            "pareto"
+        );
+        for (RecallBenchmarkResult result : sorted) {
+            final SearchConfiguration configuration = result.getConfiguration();
+            out.printf(
+                Locale.ROOT,
+                format,
+                configuration.getEfSearch(),
+                configuration.isRescore() ? String.format(Locale.ROOT, "%.1f", configuration.getOversampleFactor()) : "-",
+                configuration.isRescore(),
+                configuration.isMemoryOptimizedSearch(),
+                String.format(Locale.ROOT, "%.4f", result.getRecall()),
+                String.format(Locale.ROOT, "%.1f", result.getQueriesPerSecond()),
+                String.format(Locale.ROOT, "%.3f", result.getP50Millis()),
+                String.format(Locale.ROOT, "%.3f", result.getP90Millis()),
+                String.format(Locale.ROOT, "%.3f", result.getP99Millis()),
+                frontier.contains(result) ? "*" : ""
+            );
+        }
+    }
+
+    private static String toJson(final RecallBenchmarkOptions options, final List<RecallBenchmarkResult> results) throws IOException {
+        final List<RecallBenchmarkResult> frontier = RecallBenchmarkResult.paretoFrontier(results);
+        final XContentBuilder builder = XContentFactory.jsonBuilder().prettyPrint().startObject();
+        builder.field("index", options.getIndex().toString());
+        builder.field("field", options.getField());
+        builder.field("k", options.getK());
+        builder.startArray("results");
+        for (RecallBenchmarkResult result : results) {
+            final SearchConfiguration configuration = result.getConfiguration();
+            builder.startObject()
+                .field("ef_search", configuration.getEfSearch())
+                .field("oversample_factor", configuration.getOversampleFactor())
+                .field("rescore", configuration.isRescore())
+                .field("memory_optimized_search", configuration.isMemoryOptimizedSearch())
+                .field("recall", result.getRecall())
+                .field("queries_per_second", result.getQueriesPerSecond())
+                .field("p50_ms", result.getP50Millis())
+                .field("p90_ms", result.getP90Millis())
+                .field("p99_ms", result.getP99Millis())
+                .field("pareto_optimal", frontier.contains(result))
+                .endObject();
+        }
+        builder.endArray().endObject();
+        return BytesReference.bytes(builder).utf8ToString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.Value;
+import org.opensearch.knn.index.query.rescore.RescoreContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One point of the parameter sweep of a {@link RecallBenchmarkRunner} run.
+ */
+@Value
+public class SearchConfiguration {
+    int efSearch;
+    float oversampleFactor;
+    boolean rescore;
+    boolean memoryOptimizedSearch;
+
+    /**
+     * Number of candidates every segment returns before they are reduced to the top of the index. Without rescoring this
+     * is k, otherwise k oversampled the same way the query of a shard does.
+     *
+     * @param k         number of results of the search
+     * @param dimension dimension of the query vectors
+     * @return number of candidates of the first pass
+     */
+    public int getFirstPassK(final int k, final int dimension) {
+        if (rescore == false) {
+            return k;
+        }
+        return RescoreContext.builder().oversampleFactor(oversampleFactor).build().getFirstPassK(k, false, dimension);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ROOT,
+            "ef_search=%d, oversample_factor=%.1f, rescore=%s, memory_optimized_search=%s",
+            efSearch,
+            oversampleFactor,
+            rescore,
+            memoryOptimizedSearch
+        );
+    }
+
+    /**
+     * Builds the cartesian product of the swept parameters. Oversample factors only apply to configurations with rescoring,
+     * so configurations without rescoring are built once per ef_search.
+     *
+     * @param options options of the run
+     * @return configurations to measure
+     */
+    public static List<SearchConfiguration> sweep(final RecallBenchmarkOptions options) {
+        final List<SearchConfiguration> configurations = new ArrayList<>();
+        for (boolean memoryOptimizedSearch : options.getMemoryOptimizedSearch()) {
+            for (int efSearch : options.getEfSearch()) {
+                for (boolean rescore : options.getRescore()) {
+                    if (rescore == false) {
+                        final float oversampleFactor = RescoreContext.DEFAULT_OVERSAMPLE_FACTOR;
+                        configurations.add(new SearchConfiguration(efSearch, oversampleFactor, false, memoryOptimizedSearch));
+                        continue;
+                    }
+                    for (float oversampleFactor : options.getOversampleFactors()) {
+                        configurations.add(new SearchConfiguration(efSearch, oversampleFactor, true, memoryOptimizedSearch));
+                    }
+                }
+            }
+        }
+        return configurations;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.AcceptDocs;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.query.KNNQueryResult;
+import org.opensearch.knn.index.query.MemoryOptimizedSearchScoreConverter;
+import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.index.util.IndexUtil;
+import org.opensearch.knn.jni.JNIService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_SEARCH;
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+
+/**
+ * Searches the vector field of one segment, exactly with the {@link ExactSearcher} of the plugin, or approximately through
+ * the native engine or the memory optimized searcher of the segment's vectors reader. Segments without a native engine file
+ * are searched exactly, like a query of a shard does. Results carry doc ids of the whole index.
+ * <p>
+ * The native index of the segment is loaded on the first approximate search that needs it and kept until the searcher is
+ * closed, so that loading is not measured as query latency.
+ */
+@Log4j2
+final class SegmentSearcher implements Closeable {
+
+    private final LeafReaderContext leafReaderContext;
+    private final SegmentReader reader;
+    private final String field;
+    private final KNNEngine knnEngine;
+    @Getter
+    private final SpaceType spaceType;
+    private final String engineFileName;
+    private final ExactSearcher exactSearcher;
+    private long indexAddress;
+
+    private SegmentSearcher(
+        final LeafReaderContext leafReaderContext,
+        final FieldInfo fieldInfo,
+        final KNNEngine knnEngine,
+        final ExactSearcher exactSearcher
+    ) {
+        this.leafReaderContext = leafReaderContext;
+        this.reader = Lucene.segmentReader(leafReaderContext.reader());
+        this.field = fieldInfo.getName();
+        this.knnEngine = knnEngine;
+        this.spaceType = FieldInfoExtractor.getSpaceType(null, fieldInfo);
+        this.engineFileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, reader.getSegmentInfo().info);
+        this.exactSearcher = exactSearcher;
+    }
+
+    /**
+     * @param leafReaderContext segment to search
+     * @param field             k-NN vector field
+     * @param exactSearcher     searcher computing the exact results
+     * @return searcher of the segment, or {@code null} if the segment has no vectors of the field
+     * @throws IllegalArgumentException if the field is not supported by the runner
+     */
+    static SegmentSearcher create(final LeafReaderContext leafReaderContext, final String field, final ExactSearcher exactSearcher) {
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(leafReaderContext.reader(), field);
+        if (fieldInfo == null) {
+            return null;
+        }
+        final KNNEngine knnEngine = FieldInfoExtractor.extractKNNEngine(fieldInfo);
+        if (knnEngine != KNNEngine.FAISS) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Field [%s] uses engine [%s], only faiss fields are supported", field, knnEngine)
+            );
+        }
+        if (FieldInfoExtractor.extractVectorDataType(fieldInfo) != VectorDataType.FLOAT
+            || FieldInfoExtractor.hasQuantizationConfig(fieldInfo)
+            || fieldInfo.getAttribute(MODEL_ID) != null) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Field [%s] is not supported, only float fields without model or quantization config are", field)
+            );
+        }
+        return new SegmentSearcher(leafReaderContext, fieldInfo, knnEngine, exactSearcher);
+    }
+
+    /**
+     * Scores all live documents of the segment.
+     *
+     * @param query query vector
+     * @param k     number of results
+     * @return the k best live documents
+     * @throws IOException if the vectors cannot be read
+     */
+    TopDocs exactSearch(final float[] query, final int k) throws IOException {
+        final Bits liveDocs = reader.getLiveDocs();
+        if (liveDocs == null) {
+            return exactSearch(query, k, null, reader.maxDoc());
+        }
+        final FixedBitSet liveDocSet = new FixedBitSet(reader.maxDoc());
+        for (int doc = 0; doc < reader.maxDoc(); doc++) {
+            if (liveDocs.get(doc)) {
+                liveDocSet.set(doc);
+            }
+        }
+        return exactSearch(query, k, new BitSetIterator(liveDocSet, reader.numDocs()), reader.numDocs());
+    }
+
+    /**
+     * Rescores candidates of the first pass with full precision vectors.
+     *
+     * @param query      query vector
+     * @param k          number of results
+     * @param candidates doc ids of the index, only the ones of this segment are scored
+     * @return the k best candidates of the segment
+     * @throws IOException if the vectors cannot be read
+     */
+    TopDocs rescore(final float[] query, final int k, final List<Integer> candidates) throws IOException {
+        final int docBase = leafReaderContext.docBase;
+        final FixedBitSet candidateSet = new FixedBitSet(reader.maxDoc());
+        int numCandidates = 0;
+        for (int doc : candidates) {
+            if (doc >= docBase && doc < docBase + reader.maxDoc()) {
+                candidateSet.set(doc - docBase);
+                numCandidates++;
+            }
+        }
+        if (numCandidates == 0) {
+            return new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+        }
+        return exactSearch(query, k, new BitSetIterator(candidateSet, numCandidates), numCandidates);
+    }
+
+    /**
+     * Searches the segment the way a query of a shard with the given configuration does.
+     *
+     * @param query         query vector, already transformed for the space type of the field
+     * @param firstPassK    number of results
+     * @param configuration parameters of the search
+     * @return the approximately best live documents
+     * @throws IOException if the index cannot be read
+     */
+    TopDocs approximateSearch(final float[] query, final int firstPassK, final SearchConfiguration configuration) throws IOException {
+        if (engineFileName == null) {
+            // No graph was built for the segment
+            return exactSearch(query, firstPassK);
+        }
+        return configuration.isMemoryOptimizedSearch()
+            ? memoryOptimizedSearch(query, firstPassK, configuration.getEfSearch())
+            : nativeSearch(query, firstPassK, configuration.getEfSearch());
+    }
+
+    /**
+     * Loads the native index of the segment, unless it is loaded already.
+     *
+     * @throws IOException if the index file cannot be read
+     */
+    void loadNativeIndex() throws IOException {
+        if (indexAddress != 0 || engineFileName == null) {
+            return;
+        }
+        final Map<String, Object> parameters = IndexUtil.getParametersAtLoading(spaceType, knnEngine, null, VectorDataType.FLOAT, null);
+        try (IndexInput indexInput = reader.directory().openInput(engineFileName, IOContext.DEFAULT)) {
+            indexAddress = JNIService.loadIndex(new IndexInputWithBuffer(indexInput), parameters, knnEngine);
+        }
+        log.debug("Loaded native index [{}] of segment [{}]", engineFileName, reader.getSegmentName());
+    }
+
+    @Override
+    public void close() {
+        if (indexAddress != 0) {
+            JNIService.free(indexAddress, knnEngine);
+            indexAddress = 0;
+        }
+    }
+
+    private TopDocs nativeSearch(final float[] query, final int firstPassK, final int efSearch) throws IOException {
+        loadNativeIndex();
+        final KNNQueryResult[] results = JNIService.queryIndex(
+            indexAddress,
+            query,
+            firstPassK,
+            Map.of(METHOD_PARAMETER_EF_SEARCH, efSearch),
+            knnEngine,
+            null,
+            0,
+            null
+        );
+        final Bits liveDocs = reader.getLiveDocs();
+        final ScoreDoc[] scoreDocs = new ScoreDoc[results.length];
+        int numResults = 0;
+        for (KNNQueryResult result : results) {
+            if (liveDocs == null || liveDocs.get(result.getId())) {
+                scoreDocs[numResults++] = new ScoreDoc(result.getId(), knnEngine.score(result.getScore(), spaceType));
+            }
+        }
+        return toIndexDocIds(Arrays.copyOf(scoreDocs, numResults));
+    }
+
+    private TopDocs memoryOptimizedSearch(final float[] query, final int firstPassK, final int efSearch) throws IOException {
+        // Like the Lucene engine, the graph is searched with a queue of max(k, ef_search) candidates
+        final TopKnnCollector collector = new TopKnnCollector(Math.max(firstPassK, efSearch), Integer.MAX_VALUE);
+        reader.getVectorReader().search(field, query, collector, AcceptDocs.fromLiveDocs(reader.getLiveDocs(), reader.maxDoc()));
+        final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+        if (spaceType == SpaceType.COSINESIMIL) {
+            MemoryOptimizedSearchScoreConverter.convertToCosineScore(scoreDocs);
+        }
+        return toIndexDocIds(Arrays.copyOf(scoreDocs, Math.min(firstPassK, scoreDocs.length)));
+    }
+
+    private TopDocs exactSearch(final float[] query, final int k, final DocIdSetIterator matchedDocs, final long numMatchedDocs)
+        throws IOException {
+        final ExactSearcher.ExactSearcherContext context = ExactSearcher.ExactSearcherContext.builder()
+            .field(field)
+            // Creating a scorer may transform the query vector in place
+            .floatQueryVector(query.clone())
+            .k(k)
+            .matchedDocsIterator(matchedDocs)
+            .numberOfMatchedDocs(numMatchedDocs)
+            .useQuantizedVectorsForSearch(false)
+            .build();
+        return toIndexDocIds(exactSearcher.searchLeaf(leafReaderContext, context).scoreDocs);
+    }
+
+    private TopDocs toIndexDocIds(final ScoreDoc[] scoreDocs) {
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            scoreDoc.doc += leafReaderContext.docBase;
+        }
+        return new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+}
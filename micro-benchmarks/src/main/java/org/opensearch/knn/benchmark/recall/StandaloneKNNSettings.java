@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.node.Node;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backs {@link KNNSettings} with a cluster service of default settings outside of a node, as the readers and searchers of
+ * the plugin look up node level settings, such as the prefetch depth of the memory optimized search or the native memory
+ * cache limits.
+ */
+final class StandaloneKNNSettings implements Closeable {
+
+    private static final String NODE_NAME = "knn-recall-benchmark";
+
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+
+    StandaloneKNNSettings() {
+        final Settings settings = Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), NODE_NAME).build();
+        final Set<Setting<?>> registeredSettings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        for (Setting<?> setting : KNNSettings.state().getSettings()) {
+            if (setting.getProperties().contains(Setting.Property.NodeScope)) {
+                registeredSettings.add(setting);
+            }
+        }
+        this.threadPool = new ThreadPool(settings);
+        this.clusterService = new ClusterService(settings, new ClusterSettings(settings, registeredSettings), threadPool);
+        KNNSettings.state().setClusterService(clusterService);
+    }
+
+    @Override
+    public void close() {
+        clusterService.close();
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+}
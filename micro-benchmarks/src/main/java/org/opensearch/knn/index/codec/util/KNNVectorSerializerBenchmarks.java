@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.util;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding of float vectors stored in binary doc values, which the exact search and scripting do for every
+ * document of an index without native engine files.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class KNNVectorSerializerBenchmarks {
+
+    private static final int NUM_VECTORS = 1024;
+
+    @Param({ "128", "768", "1536" })
+    public int dimension;
+
+    private BytesRef[] serialized;
+
+    @Setup
+    public void setup() {
+        final float[][] vectors = SyntheticData.floatVectors(NUM_VECTORS, dimension, SyntheticData.SEED);
+        serialized = new BytesRef[NUM_VECTORS];
+        for (int i = 0; i < NUM_VECTORS; i++) {
+            serialized[i] = new BytesRef(KNNVectorAsCollectionOfFloatsSerializer.INSTANCE.floatToByteArray(vectors[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_VECTORS)
+    public void byteToFloatArray(final Blackhole blackhole) {
+        for (BytesRef bytesRef : serialized) {
+            blackhole.consume(KNNVectorAsCollectionOfFloatsSerializer.INSTANCE.byteToFloatArray(bytesRef));
+        }
+    }
+}
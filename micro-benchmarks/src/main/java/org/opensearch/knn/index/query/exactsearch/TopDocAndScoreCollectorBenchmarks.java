@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.exactsearch;
+
+import org.apache.lucene.search.DocAndFloatFeatureBuffer;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the top k collection of an exact search over one segment, see {@link ExactSearcher}. Scoring is left out, every
+ * operation collects pre-scored batches the way the exact search does, skipping the batches that cannot compete.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TopDocAndScoreCollectorBenchmarks {
+
+    private static final int NUM_DOCS = 65536;
+    private static final int BATCH_SIZE = 64;
+
+    @Param({ "10", "100", "1000" })
+    public int k;
+
+    private DocAndFloatFeatureBuffer[] batches;
+    private float[] maxBatchScores;
+
+    @Setup
+    public void setup() {
+        final float[] scores = SyntheticData.scores(NUM_DOCS, SyntheticData.SEED);
+        batches = new DocAndFloatFeatureBuffer[NUM_DOCS / BATCH_SIZE];
+        maxBatchScores = new float[batches.length];
+        for (int i = 0; i < batches.length; i++) {
+            final DocAndFloatFeatureBuffer batch = new DocAndFloatFeatureBuffer();
+            batch.docs = new int[BATCH_SIZE];
+            batch.features = new float[BATCH_SIZE];
+            batch.size = BATCH_SIZE;
+            float maxBatchScore = Float.NEGATIVE_INFINITY;
+            for (int j = 0; j < BATCH_SIZE; j++) {
+                final int doc = i * BATCH_SIZE + j;
+                batch.docs[j] = doc;
+                batch.features[j] = scores[doc];
+                maxBatchScore = Math.max(maxBatchScore, scores[doc]);
+            }
+            batches[i] = batch;
+            maxBatchScores[i] = maxBatchScore;
+        }
+    }
+
+    @Benchmark
+    public TopDocs collectTopK() {
+        final TopDocAndScoreCollector collector = new TopDocAndScoreCollector(k);
+        for (int i = 0; i < batches.length; i++) {
+            if (maxBatchScores[i] >= collector.minCompetitiveScore()) {
+                collector.collect(batches[i]);
+            }
+        }
+        return collector.topDocs();
+    }
+}
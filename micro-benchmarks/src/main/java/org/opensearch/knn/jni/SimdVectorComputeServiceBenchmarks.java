@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.jni;
+
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.MMapDirectory;
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.opensearch.knn.memoryoptsearch.MemorySegmentAddressExtractorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bulk scoring of FP16 vectors by {@link SimdVectorComputeService}, as done by the memory optimized search
+ * over an mmapped Faiss flat index. Requires the JNI libraries, built with {@code ./gradlew buildJniLib}.
+ * <p>
+ * The search context is thread local in the native library, hence every benchmark thread gets its own state.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SimdVectorComputeServiceBenchmarks {
+
+    private static final int NUM_VECTORS = 16384;
+    private static final int BATCH_SIZE = 64;
+    private static final String FILE_NAME = "vectors.bin";
+
+    @Param({ "128", "768", "1536" })
+    public int dimension;
+
+    @Param({ "FP16_MAXIMUM_INNER_PRODUCT", "FP16_L2" })
+    public SimdVectorComputeService.SimilarityFunctionType functionType;
+
+    private Path directoryPath;
+    private MMapDirectory directory;
+    private IndexInput indexInput;
+    private long[] addressAndSize;
+    private float[] query;
+    private int[][] batches;
+    private float[] scores;
+    private int nextBatch;
+
+    @Setup
+    public void setup() throws IOException {
+        directoryPath = Files.createTempDirectory("simd-benchmarks");
+        final float[][] vectors = SyntheticData.floatVectors(NUM_VECTORS, dimension, SyntheticData.SEED);
+        // Faiss keeps FP16 vectors in the byte order of the machine
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(NUM_VECTORS * dimension * Short.BYTES).order(ByteOrder.nativeOrder());
+        final ShortBuffer shortBuffer = byteBuffer.asShortBuffer();
+        for (float[] vector : vectors) {
+            for (float value : vector) {
+                shortBuffer.put(Float.floatToFloat16(value));
+            }
+        }
+        final Path filePath = directoryPath.resolve(FILE_NAME);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(byteBuffer);
+        }
+
+        directory = new MMapDirectory(directoryPath);
+        indexInput = directory.openInput(FILE_NAME, IOContext.DEFAULT);
+        addressAndSize = MemorySegmentAddressExtractorUtil.tryExtractAddressAndSize(indexInput, 0, indexInput.length());
+        if (addressAndSize == null) {
+            throw new IllegalStateException("Failed to extract the addresses of the mmapped vectors");
+        }
+        query = SyntheticData.floatVectors(1, dimension, SyntheticData.SEED + 1)[0];
+
+        // Batches of random vector ids, like the candidates of a graph search
+        final Random random = new Random(SyntheticData.SEED);
+        batches = new int[NUM_VECTORS / BATCH_SIZE][BATCH_SIZE];
+        for (int[] batch : batches) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch[i] = random.nextInt(NUM_VECTORS);
+            }
+        }
+        scores = new float[BATCH_SIZE];
+        SimdVectorComputeService.saveSearchContext(query, addressAndSize, functionType.ordinal());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexInput.close();
+        directory.close();
+        Files.deleteIfExists(directoryPath.resolve(FILE_NAME));
+        Files.deleteIfExists(directoryPath);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public float scoreSimilarityInBulk() {
+        final int[] batch = batches[nextBatch];
+        nextBatch = (nextBatch + 1) % batches.length;
+        return SimdVectorComputeService.scoreSimilarityInBulk(batch, scores, BATCH_SIZE);
+    }
+
+    @Benchmark
+    public void saveSearchContext() {
+        SimdVectorComputeService.saveSearchContext(query, addressAndSize, functionType.ordinal());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * Measures the neighbor list traversal of {@link FaissHnswGraph} over an mmapped graph, which the memory optimized search does
+ * for every node it visits. The graph is synthetic, a single level of random neighbor lists written in the layout Faiss
+ * serializes HNSW graphs with, so that no native library is needed to build it.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FaissHnswGraphBenchmarks {
+
+    private static final int NUM_SEEKS = 1024;
+    private static final String FILE_NAME = "graph.bin";
+
+    @Param({ "100000", "1000000" })
+    public int numVectors;
+
+    @Param({ "16", "32" })
+    public int m;
+
+    private Path directoryPath;
+    private MMapDirectory directory;
+    private IndexInput indexInput;
+    private FaissHnswGraph graph;
+    private int[] nodes;
+
+    @Setup
+    public void setup() throws IOException {
+        directoryPath = Files.createTempDirectory("hnsw-benchmarks");
+        directory = new MMapDirectory(directoryPath);
+        final Random random = new Random(SyntheticData.SEED);
+        // Faiss keeps 2 * M neighbors on the bottom level
+        final int maxNumNeighbors = 2 * m;
+        try (IndexOutput output = directory.createOutput(FILE_NAME, IOContext.DEFAULT)) {
+            // No assign probabilities, they are only used to build the graph
+            output.writeLong(0);
+            // Cumulative number of neighbors per level
+            output.writeLong(2);
+            output.writeInt(0);
+            output.writeInt(maxNumNeighbors);
+            // Levels, all vectors are on the bottom level only
+            output.writeLong(numVectors);
+            for (int i = 0; i < numVectors; i++) {
+                output.writeInt(1);
+            }
+            // Offsets of the neighbor lists
+            output.writeLong(numVectors + 1L);
+            for (long i = 0; i <= numVectors; i++) {
+                output.writeLong(i * maxNumNeighbors);
+            }
+            // Neighbor lists, padded with -1 when a vector has fewer neighbors than the maximum
+            output.writeLong((long) numVectors * maxNumNeighbors);
+            for (int i = 0; i < numVectors; i++) {
+                final int numNeighbors = m + random.nextInt(m + 1);
+                for (int j = 0; j < maxNumNeighbors; j++) {
+                    output.writeInt(j < numNeighbors ? random.nextInt(numVectors) : -1);
+                }
+            }
+            // Entry point, max level, efConstruction, efSearch and a deprecated field
+            output.writeInt(0);
+            output.writeInt(0);
+            output.writeInt(100);
+            output.writeInt(100);
+            output.writeInt(0);
+        }
+
+        indexInput = directory.openInput(FILE_NAME, IOContext.DEFAULT);
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(indexInput, numVectors);
+        graph = new FaissHnswGraph(faissHNSW, indexInput);
+        nodes = new int[NUM_SEEKS];
+        for (int i = 0; i < NUM_SEEKS; i++) {
+            nodes[i] = random.nextInt(numVectors);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexInput.close();
+        directory.deleteFile(FILE_NAME);
+        directory.close();
+        Files.deleteIfExists(directoryPath);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_SEEKS)
+    public void seekAndVisitNeighbors(final Blackhole blackhole) {
+        for (int node : nodes) {
+            graph.seek(0, node);
+            for (int neighbor = graph.nextNeighbor(); neighbor != NO_MORE_DOCS; neighbor = graph.nextNeighbor()) {
+                blackhole.consume(neighbor);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MonotonicIntegerSequenceEncoder}, which encodes the neighbor list offsets of a Faiss HNSW graph when the
+ * graph is loaded, and decodes one of them for every node visited by a search.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MonotonicIntegerSequenceEncoderBenchmarks {
+
+    private static final int NUM_LOOKUPS = 4096;
+
+    @Param({ "100000", "1000000" })
+    public int numElements;
+
+    private byte[] sequence;
+    private DirectMonotonicReader reader;
+    private int[] lookups;
+
+    @Setup
+    public void setup() throws IOException {
+        // Offsets of neighbor lists of varying length, like in a graph with nodes on several levels
+        final Random random = new Random(SyntheticData.SEED);
+        sequence = new byte[numElements * Long.BYTES];
+        final ByteArrayDataOutput output = new ByteArrayDataOutput(sequence);
+        long offset = 0;
+        for (int i = 0; i < numElements; i++) {
+            output.writeLong(offset);
+            offset += 32 + (random.nextInt(8) == 0 ? 16 * random.nextInt(4) : 0);
+        }
+        reader = encode();
+        lookups = new int[NUM_LOOKUPS];
+        for (int i = 0; i < NUM_LOOKUPS; i++) {
+            lookups[i] = random.nextInt(numElements);
+        }
+    }
+
+    @Benchmark
+    public DirectMonotonicReader encode() throws IOException {
+        final IndexInput input = new ByteArrayIndexInput("sequence", sequence);
+        return MonotonicIntegerSequenceEncoder.encode(numElements, input, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_LOOKUPS)
+    public void get(final Blackhole blackhole) {
+        for (int lookup : lookups) {
+            blackhole.consume(reader.get(lookup));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.script;
+
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the distance functions of {@link KNNScoringUtil} used by scripting and exact search. Every operation scores a
+ * query against one document vector.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class KNNScoringUtilBenchmarks {
+
+    private static final int NUM_DOCS = 1024;
+
+    @Param({ "128", "768", "1536" })
+    public int dimension;
+
+    @Param
+    public Function function;
+
+    private float[] floatQuery;
+    private float[][] floatDocs;
+    private byte[] byteQuery;
+    private byte[][] byteDocs;
+
+    @Setup
+    public void setup() {
+        floatQuery = SyntheticData.floatVectors(1, dimension, SyntheticData.SEED + 1)[0];
+        floatDocs = SyntheticData.floatVectors(NUM_DOCS, dimension, SyntheticData.SEED);
+        if (function == Function.BINARY_HAMMING) {
+            byteQuery = SyntheticData.binaryVectors(1, dimension, SyntheticData.SEED + 1)[0];
+            byteDocs = SyntheticData.binaryVectors(NUM_DOCS, dimension, SyntheticData.SEED);
+        } else {
+            byteQuery = SyntheticData.byteVectors(1, dimension, SyntheticData.SEED + 1)[0];
+            byteDocs = SyntheticData.byteVectors(NUM_DOCS, dimension, SyntheticData.SEED);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_DOCS)
+    public void score(final Blackhole blackhole) {
+        for (int doc = 0; doc < NUM_DOCS; doc++) {
+            blackhole.consume(function.score(this, doc));
+        }
+    }
+
+    /**
+     * Distance functions by the data type of the vectors they compare.
+     */
+    public enum Function {
+        FLOAT_L2 {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.l2Squared(state.floatQuery, state.floatDocs[doc]);
+            }
+        },
+        FLOAT_INNER_PRODUCT {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.innerProduct(state.floatQuery, state.floatDocs[doc]);
+            }
+        },
+        FLOAT_COSINE {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.cosinesimil(state.floatQuery, state.floatDocs[doc]);
+            }
+        },
+        FLOAT_L1 {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.l1Norm(state.floatQuery, state.floatDocs[doc]);
+            }
+        },
+        FLOAT_LINF {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.lInfNorm(state.floatQuery, state.floatDocs[doc]);
+            }
+        },
+        BYTE_L2 {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.l2Squared(state.byteQuery, state.byteDocs[doc]);
+            }
+        },
+        BYTE_INNER_PRODUCT {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.innerProduct(state.byteQuery, state.byteDocs[doc]);
+            }
+        },
+        BYTE_COSINE {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.cosinesimil(state.byteQuery, state.byteDocs[doc]);
+            }
+        },
+        BINARY_HAMMING {
+            @Override
+            float score(final KNNScoringUtilBenchmarks state, final int doc) {
+                return KNNScoringUtil.calculateHammingBit(state.byteQuery, state.byteDocs[doc]);
+            }
+        };
+
+        abstract float score(KNNScoringUtilBenchmarks state, int doc);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import org.opensearch.knn.benchmark.SyntheticData;
+import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.requests.TrainingRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the binary quantization of vectors at indexing time, by {@link OneBitScalarQuantizer} for one bit and by
+ * {@link MultiBitScalarQuantizer} for more bits per coordinate. The quantizers are trained once, on the benchmarked vectors.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ScalarQuantizerBenchmarks {
+
+    private static final int NUM_VECTORS = 1024;
+
+    @Param({ "128", "768", "1536" })
+    public int dimension;
+
+    @Param({ "1", "2", "4" })
+    public int bits;
+
+    private float[][] vectors;
+    private Quantizer<float[], byte[]> quantizer;
+    private QuantizationState state;
+    private BinaryQuantizationOutput output;
+
+    @Setup
+    public void setup() throws IOException {
+        vectors = SyntheticData.floatVectors(NUM_VECTORS, dimension, SyntheticData.SEED);
+        quantizer = bits == 1 ? new OneBitScalarQuantizer() : new MultiBitScalarQuantizer(bits);
+        state = quantizer.train(new TrainingRequest<>(NUM_VECTORS) {
+            @Override
+            public float[] getVectorAtThePosition(final int position) {
+                return vectors[position];
+            }
+
+            @Override
+            public void resetVectorValues() {}
+        });
+        output = new BinaryQuantizationOutput(bits);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_VECTORS)
+    public void quantize(final Blackhole blackhole) {
+        for (float[] vector : vectors) {
+            quantizer.quantize(vector, state, output);
+            blackhole.consume(output.getQuantizedVector());
+        }
+    }
+}
@@ -30,4 +30,11 @@ public interface RemoteIndexClient {
      * @throws IOException if there is an error communicating with the server
      */
     RemoteBuildStatusResponse getBuildStatus(RemoteBuildStatusRequest remoteBuildStatusRequest) throws IOException;
+
+    /**
+     * Cancel an index build whose result is no longer needed, e.g. because the merge it was submitted for was aborted
+     * @param remoteBuildStatusRequest the status request object containing the job ID to cancel
+     * @throws IOException if there is an error communicating with the server
+     */
+    void cancelBuild(RemoteBuildStatusRequest remoteBuildStatusRequest) throws IOException;
 }
@@ -39,6 +39,7 @@ import java.security.PrivilegedExceptionAction;
 import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.BASIC_PREFIX;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.BUILD_ENDPOINT;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.CANCEL_ENDPOINT;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.JOB_ID_FIELD;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.STATUS_ENDPOINT;
 import org.apache.hc.core5.http.HttpEntity;
@@ -160,6 +161,29 @@ public class RemoteIndexHTTPClient implements RemoteIndexClient, Closeable {
         }
     }
 
+    /**
+     * Cancel a submitted build, so that the service stops spending resources on a graph nobody will download
+     * @param remoteBuildStatusRequest containing job ID to cancel
+     */
+    @Override
+    public void cancelBuild(RemoteBuildStatusRequest remoteBuildStatusRequest) throws IOException {
+        String jobId = remoteBuildStatusRequest.getJobId();
+        HttpPost request = new HttpPost(endpoint + CANCEL_ENDPOINT + "/" + jobId);
+        if (authHeader != null) {
+            request.setHeader(HttpHeaders.AUTHORIZATION, authHeader);
+        }
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> httpClient.execute(request, body -> {
+                if (body.getCode() < SC_OK || body.getCode() > HttpStatus.SC_MULTIPLE_CHOICES) {
+                    throw new IOException("Failed to submit cancel request, got status code: " + body.getCode());
+                }
+                return null;
+            }));
+        } catch (Exception e) {
+            throw new IOException("Failed to execute HTTP request", e);
+        }
+    }
+
     /**
      * Convert the RemoteBuildRequest object to a JSON object for this specific HTTP implementation.
      * @param object RemoteBuildRequest with parameters
@@ -10,6 +10,7 @@ public class KNNRemoteConstants {
     // Repository filepath constants
     public static final String VECTOR_BLOB_FILE_EXTENSION = ".knnvec";
     public static final String DOC_ID_FILE_EXTENSION = ".knndid";
+    public static final String GZIP_FILE_EXTENSION = ".gz";
 
     // Repository-S3
     public static final String S3 = "s3";
@@ -35,6 +36,7 @@ public class KNNRemoteConstants {
     public static final String BASIC_PREFIX = "Basic ";
     public static final String BUILD_ENDPOINT = "/_build";
     public static final String STATUS_ENDPOINT = "/_status";
+    public static final String CANCEL_ENDPOINT = "/_cancel";
 
     // Build response keys
     public static final String JOB_ID_FIELD = "job_id";
@@ -51,4 +53,12 @@ public class KNNRemoteConstants {
     public static final String VECTOR_DATA_TYPE_FIELD = "data_type";
     public static final String KNN_ENGINE = "engine";
     public static final String SKIP_STORED_VECTORS = "skip_stored_vectors";
+
+    // Blob encodings, only sent in the build request when they differ from raw little endian values
+    public static final String VECTOR_ENCODING = "vector_encoding";
+    public static final String DOC_ID_ENCODING = "doc_id_encoding";
+    public static final String INDEX_ENCODING = "index_encoding";
+    public static final String VECTOR_ENCODING_FP16 = "fp16";
+    public static final String DOC_ID_ENCODING_DELTA_VARINT = "delta_varint";
+    public static final String INDEX_ENCODING_GZIP = "gzip";
 }
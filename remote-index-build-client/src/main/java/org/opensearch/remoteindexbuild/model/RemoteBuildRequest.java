@@ -15,13 +15,16 @@ import java.io.IOException;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.CONTAINER_NAME;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DIMENSION;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_COUNT;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_ID_ENCODING;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_ID_PATH;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.SKIP_STORED_VECTORS;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.INDEX_ENCODING;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.INDEX_PARAMETERS;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.KNN_ENGINE;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.REPOSITORY_TYPE;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.TENANT_ID;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_DATA_TYPE_FIELD;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_ENCODING;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_PATH;
 
 /**
@@ -42,6 +45,11 @@ public class RemoteBuildRequest implements ToXContentObject {
     protected String engine;
     protected RemoteIndexParameters indexParameters;
     protected boolean skipStoredVectors;
+    // Encodings of the vector and doc id blobs, and of the index file the service may write. Omitted when null, meaning raw
+    // little endian values for the blobs and an uncompressed index file.
+    protected String vectorEncoding;
+    protected String docIdEncoding;
+    protected String indexEncoding;
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
@@ -57,6 +65,15 @@ public class RemoteBuildRequest implements ToXContentObject {
         builder.field(KNN_ENGINE, engine);
         builder.field(INDEX_PARAMETERS, indexParameters);
         builder.field(SKIP_STORED_VECTORS, skipStoredVectors);
+        if (vectorEncoding != null) {
+            builder.field(VECTOR_ENCODING, vectorEncoding);
+        }
+        if (docIdEncoding != null) {
+            builder.field(DOC_ID_ENCODING, docIdEncoding);
+        }
+        if (indexEncoding != null) {
+            builder.field(INDEX_ENCODING, indexEncoding);
+        }
         builder.endObject();
         return builder;
     }
@@ -15,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.opensearch.core.common.settings.SecureString;
 import org.opensearch.remoteindexbuild.model.RemoteBuildRequest;
 import org.opensearch.remoteindexbuild.model.RemoteBuildResponse;
+import org.opensearch.remoteindexbuild.model.RemoteBuildStatusRequest;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
 import java.io.IOException;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.BASIC_PREFIX;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.BUILD_ENDPOINT;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.CANCEL_ENDPOINT;
 
 public class RemoteIndexHTTPClientTests extends OpenSearchSingleNodeTestCase {
     public static final String TEST_BUCKET = "test-bucket";
@@ -63,6 +65,17 @@ public class RemoteIndexHTTPClientTests extends OpenSearchSingleNodeTestCase {
         assertFalse(capturedRequest.containsHeader(HttpHeaders.AUTHORIZATION));
     }
 
+    public void testCancelBuild() throws IOException, URISyntaxException {
+        CloseableHttpClient mockHttpClient = mock(CloseableHttpClient.class);
+        RemoteIndexHTTPClient client = new RemoteIndexHTTPClient(MOCK_ENDPOINT, mockHttpClient);
+
+        client.cancelBuild(RemoteBuildStatusRequest.builder().jobId(MOCK_JOB_ID).build());
+
+        ArgumentCaptor<HttpPost> requestCaptor = ArgumentCaptor.forClass(HttpPost.class);
+        verify(mockHttpClient).execute(requestCaptor.capture(), any(HttpClientResponseHandler.class));
+        assertEquals(MOCK_ENDPOINT + CANCEL_ENDPOINT + "/" + MOCK_JOB_ID, requestCaptor.getValue().getUri().toString());
+    }
+
     public void testSecureSettingsReloadAndException() throws IOException, ProtocolException {
         CloseableHttpClient mockHttpClient = mock(CloseableHttpClient.class);
         RemoteIndexHTTPClient client = new RemoteIndexHTTPClient(MOCK_ENDPOINT, mockHttpClient);
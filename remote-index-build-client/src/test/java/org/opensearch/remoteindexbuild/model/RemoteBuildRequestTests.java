@@ -28,9 +28,13 @@ import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.ALGOR
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.CONTAINER_NAME;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DIMENSION;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_COUNT;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_ID_ENCODING;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_ID_ENCODING_DELTA_VARINT;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_ID_FILE_EXTENSION;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.DOC_ID_PATH;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.SKIP_STORED_VECTORS;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.INDEX_ENCODING;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.INDEX_ENCODING_GZIP;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.INDEX_PARAMETERS;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.KNN_ENGINE;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.METHOD_PARAMETER_EF_CONSTRUCTION;
@@ -42,6 +46,8 @@ import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.S3;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.TENANT_ID;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_BLOB_FILE_EXTENSION;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_DATA_TYPE_FIELD;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_ENCODING;
+import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_ENCODING_FP16;
 import static org.opensearch.remoteindexbuild.constants.KNNRemoteConstants.VECTOR_PATH;
 
 public class RemoteBuildRequestTests extends OpenSearchSingleNodeTestCase {
@@ -133,6 +139,58 @@ public class RemoteBuildRequestTests extends OpenSearchSingleNodeTestCase {
         assertEquals(true, map.get(SKIP_STORED_VECTORS));
     }
 
+    public void testToXContentWithEncodings() throws IOException {
+        RemoteBuildRequest.RemoteBuildRequestBuilder requestBuilder = RemoteBuildRequest.builder()
+            .repositoryType(S3)
+            .containerName(TEST_BUCKET)
+            .vectorPath(MOCK_FULL_PATH + VECTOR_BLOB_FILE_EXTENSION)
+            .docIdPath(MOCK_FULL_PATH + DOC_ID_FILE_EXTENSION)
+            .tenantId(TEST_CLUSTER)
+            .dimension(2)
+            .docCount(2)
+            .vectorDataType(FLOAT)
+            .engine(FAISS)
+            .indexParameters(
+                RemoteFaissHNSWIndexParameters.builder()
+                    .algorithm(HNSW_ALGORITHM)
+                    .spaceType(L2_SPACE_TYPE)
+                    .efConstruction(94)
+                    .efSearch(89)
+                    .m(14)
+                    .build()
+            );
+
+        // Raw blobs are not advertised, so that services unaware of the encodings keep accepting the request
+        Map<String, Object> rawMap = toMap(requestBuilder.build());
+        assertFalse(rawMap.containsKey(VECTOR_ENCODING));
+        assertFalse(rawMap.containsKey(DOC_ID_ENCODING));
+        assertFalse(rawMap.containsKey(INDEX_ENCODING));
+
+        Map<String, Object> map = toMap(
+            requestBuilder.vectorEncoding(VECTOR_ENCODING_FP16)
+                .docIdEncoding(DOC_ID_ENCODING_DELTA_VARINT)
+                .indexEncoding(INDEX_ENCODING_GZIP)
+                .build()
+        );
+        assertEquals(VECTOR_ENCODING_FP16, map.get(VECTOR_ENCODING));
+        assertEquals(DOC_ID_ENCODING_DELTA_VARINT, map.get(DOC_ID_ENCODING));
+        assertEquals(INDEX_ENCODING_GZIP, map.get(INDEX_ENCODING));
+    }
+
+    private static Map<String, Object> toMap(RemoteBuildRequest request) throws IOException {
+        String jsonRequest;
+        try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+            request.toXContent(builder, ToXContentObject.EMPTY_PARAMS);
+            jsonRequest = builder.toString();
+        }
+        XContentParser parser = JsonXContent.jsonXContent.createParser(
+            NamedXContentRegistry.EMPTY,
+            DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+            jsonRequest
+        );
+        return parser.map();
+    }
+
     /**
      * Get a mock JSON build request
      * <p>
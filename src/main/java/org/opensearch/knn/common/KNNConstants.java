@@ -66,6 +66,14 @@ public class KNNConstants {
 
     public static final String KNN_THREAD_POOL_PREFIX = "knn";
     public static final String TRAIN_THREAD_POOL = "training";
+    public static final String GRAPH_LOAD_THREAD_POOL = "graph_load";
+    public static final int GRAPH_LOAD_THREAD_POOL_QUEUE_SIZE = 1000;
+    public static final String SEGMENT_SEARCH_THREAD_POOL = "segment_search";
+    public static final int SEGMENT_SEARCH_THREAD_POOL_QUEUE_SIZE = 1000;
+    public static final String EXACT_SEARCH_THREAD_POOL = "exact_search";
+    public static final int EXACT_SEARCH_THREAD_POOL_QUEUE_SIZE = 1000;
+    public static final String INDEX_BUILD_THREAD_POOL = "index_build";
+    public static final int INDEX_BUILD_THREAD_POOL_QUEUE_SIZE = 1000;
 
     public static final String TRAINING_JOB_COUNT_FIELD_NAME = "training_job_count";
     public static final String NODES_KEY = "nodes";
@@ -179,6 +187,7 @@ public class KNNConstants {
 
     // API Constants
     public static final String CLEAR_CACHE = "clear_cache";
+    public static final String BATCH_SEARCH = "batch_search";
 
     // Filtered Search Constants
     // Please refer this github issue for more details for choosing this value:
@@ -196,6 +205,12 @@ public class KNNConstants {
     public static final String VECTOR_BLOB_FILE_EXTENSION = ".knnvec";
     public static final String DOC_ID_FILE_EXTENSION = ".knndid";
     public static final String VECTORS_PATH = "_vectors";
+    public static final String GZIP_FILE_EXTENSION = ".gz";
+
+    // Remote build blob encodings
+    public static final String VECTOR_ENCODING_FP16 = "fp16";
+    public static final String DOC_ID_ENCODING_DELTA_VARINT = "delta_varint";
+    public static final String INDEX_ENCODING_GZIP = "gzip";
 
     // Repository-S3
     public static final String S3 = "s3";
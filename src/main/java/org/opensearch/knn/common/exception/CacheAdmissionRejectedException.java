@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.common.exception;
+
+/**
+ * Thrown when the native memory cache declines to load an entry because it is accessed less often than the entries it
+ * would displace. The entry is neither loaded nor does it evict anything, and it is admitted once it becomes popular enough.
+ */
+public class CacheAdmissionRejectedException extends OutOfNativeMemoryException {
+
+    /**
+     * Constructor
+     *
+     * @param message Exception message to be appended.
+     */
+    public CacheAdmissionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -20,6 +20,7 @@ import org.opensearch.index.engine.Engine;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.common.exception.CacheAdmissionRejectedException;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
@@ -145,6 +146,9 @@ public class KNNIndexShard {
                     ),
                     true
                 );
+            } catch (CacheAdmissionRejectedException ex) {
+                // Warming up must not flush graphs that are searched more often out of the cache
+                log.debug("[KNN] Skipped warming up [{}]: {}", engineFileContext.vectorFileName, ex.getMessage());
             } catch (ExecutionException ex) {
                 throw new RuntimeException(ex);
             }
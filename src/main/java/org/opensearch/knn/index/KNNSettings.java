@@ -26,6 +26,7 @@ import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexModule;
 import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
+import org.opensearch.knn.index.memory.NativeMemoryCacheEvictionPolicy;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManagerDto;
 import org.opensearch.knn.index.util.IndexHyperParametersUtil;
@@ -92,6 +93,14 @@ public class KNNSettings {
     public static final String KNN_CIRCUIT_BREAKER_TRIGGERED = "knn.circuit_breaker.triggered";
     public static final String KNN_CACHE_ITEM_EXPIRY_ENABLED = "knn.cache.item.expiry.enabled";
     public static final String KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES = "knn.cache.item.expiry.minutes";
+    public static final String KNN_CACHE_EVICTION_POLICY = "knn.cache.eviction_policy";
+    public static final String KNN_CACHE_ASYNC_LOAD_ENABLED = "knn.cache.async_load.enabled";
+    public static final String KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES = "knn.exact_search.parallel.min_candidates";
+    public static final String KNN_NATIVE_SEARCH_MAX_CONCURRENCY = "knn.native_search.max_concurrency";
+    public static final String KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT = "knn.native_search.scratch_memory.limit";
+    public static final String KNN_NATIVE_SEARCH_QUEUE_TIMEOUT = "knn.native_search.queue_timeout";
+    public static final String KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH = "knn.memory_optimized_search.prefetch.look_ahead_depth";
+    public static final String KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED = "knn.index_build.pipelined_transfer.enabled";
     public static final String KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE = "knn.circuit_breaker.unset.percentage";
     public static final String KNN_INDEX = "index.knn";
     public static final String MODEL_INDEX_NUMBER_OF_SHARDS = "knn.model.index.number_of_shards";
@@ -105,6 +114,10 @@ public class KNNSettings {
     public static final String KNN_FAISS_AVX512_SPR_DISABLED = "knn.faiss.avx512_spr.disabled";
     public static final String KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED = "index.knn.disk.vector.shard_level_rescoring_disabled";
     public static final String KNN_DERIVED_SOURCE_ENABLED = "index.knn.derived_source.enabled";
+    public static final String INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED = "index.knn.intra_shard_search.enabled";
+    public static final String INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED = "index.knn.filtered_search.adaptive_planner.enabled";
+    public static final String INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED = "index.knn.faiss.memory_mapped_load.enabled";
+    public static final String INDEX_KNN_INCREMENTAL_MERGE_ENABLED = "index.knn.incremental_merge.enabled";
     // Remote index build index settings
     public static final String KNN_INDEX_REMOTE_VECTOR_BUILD = "index.knn.remote_index_build.enabled";
     public static final String KNN_INDEX_REMOTE_VECTOR_BUILD_SIZE_MIN = "index.knn.remote_index_build.size.min";
@@ -115,6 +128,9 @@ public class KNNSettings {
     public static final String KNN_REMOTE_BUILD_SERVICE_ENDPOINT = "knn.remote_index_build.service.endpoint";
     public static final String KNN_REMOTE_BUILD_POLL_INTERVAL = "knn.remote_index_build.poll.interval";
     public static final String KNN_REMOTE_BUILD_CLIENT_TIMEOUT = "knn.remote_index_build.client.timeout";
+    public static final String KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY = "knn.remote_index_build.upload.max_concurrency";
+    public static final String KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY = "knn.remote_index_build.download.max_concurrency";
+    public static final String KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED = "knn.remote_index_build.compact_format.enabled";
     public static final String KNN_REMOTE_BUILD_SERVICE_USERNAME = "knn.remote_index_build.service.username";
     public static final String KNN_REMOTE_BUILD_SERVICE_PASSWORD = "knn.remote_index_build.service.password";
     public static final String INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH =
@@ -149,6 +165,13 @@ public class KNNSettings {
     public static final String KNN_DEFAULT_VECTOR_STREAMING_MEMORY_LIMIT_PCT = "1%";
 
     public static final Integer ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD_DEFAULT_VALUE = -1;
+    public static final Integer KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES_DEFAULT_VALUE = -1;
+    public static final Integer KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_DEFAULT_VALUE = 0;
+    public static final Integer KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_MAX_VALUE = 64;
+    public static final boolean KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE = false;
+    public static final Integer KNN_NATIVE_SEARCH_MAX_CONCURRENCY_DEFAULT_VALUE = 0;
+    public static final ByteSizeValue KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT_DEFAULT_VALUE = new ByteSizeValue(0, ByteSizeUnit.BYTES);
+    public static final TimeValue KNN_NATIVE_SEARCH_QUEUE_TIMEOUT_DEFAULT_VALUE = TimeValue.timeValueSeconds(1);
     public static final Integer KNN_DEFAULT_QUANTIZATION_STATE_CACHE_SIZE_LIMIT_PERCENTAGE = 5; // By default, set aside 5% of the JVM for
     // the limit
     public static final Integer KNN_MAX_QUANTIZATION_STATE_CACHE_SIZE_LIMIT_PERCENTAGE = 10; // Quantization state cache limit cannot exceed
@@ -162,6 +185,8 @@ public class KNNSettings {
     // TODO: Tune these default values based on benchmarking
     public static final Integer KNN_DEFAULT_REMOTE_BUILD_CLIENT_TIMEOUT_MINUTES = 60;
     public static final Integer KNN_DEFAULT_REMOTE_BUILD_CLIENT_POLL_INTERVAL_SECONDS = 5;
+    public static final Integer KNN_DEFAULT_REMOTE_BUILD_TRANSFER_MAX_CONCURRENCY = 4;
+    public static final boolean KNN_DEFAULT_REMOTE_BUILD_COMPACT_FORMAT_ENABLED = false;
 
     /**
      * Settings Definition
@@ -491,6 +516,40 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * Maximum number of remote index builds of a node uploading their vectors to the repository at the same time.
+     */
+    public static final Setting<Integer> KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY_SETTING = Setting.intSetting(
+        KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY,
+        KNN_DEFAULT_REMOTE_BUILD_TRANSFER_MAX_CONCURRENCY,
+        1,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Maximum number of remote index builds of a node downloading their graph from the repository at the same time.
+     */
+    public static final Setting<Integer> KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY_SETTING = Setting.intSetting(
+        KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY,
+        KNN_DEFAULT_REMOTE_BUILD_TRANSFER_MAX_CONCURRENCY,
+        1,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Uploads vectors and doc ids of remote index builds in a compact format, and accepts a compressed graph in return. Half
+     * precision vectors are only uploaded for fields whose encoder already stores them in half precision. Must only be enabled
+     * when the remote build service supports the encodings advertised in the build request.
+     */
+    public static final Setting<Boolean> KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED_SETTING = Setting.boolSetting(
+        KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED,
+        KNN_DEFAULT_REMOTE_BUILD_COMPACT_FORMAT_ENABLED,
+        NodeScope,
+        Dynamic
+    );
+
     public static final Setting<Boolean> INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING = Setting.boolSetting(
         INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH,
         false,
@@ -498,6 +557,135 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * When enabled, a search that misses the native memory cache schedules the graph load on a background thread pool and is
+     * answered by exact search until the graph is resident, instead of blocking until the load completes.
+     */
+    public static final Setting<Boolean> KNN_CACHE_ASYNC_LOAD_ENABLED_SETTING = Setting.boolSetting(
+        KNN_CACHE_ASYNC_LOAD_ENABLED,
+        false,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Minimum number of filtered candidates in a segment for exact search to split them into doc id ranges that are scored in
+     * parallel on the k-NN exact search thread pool. A negative value keeps exact search single threaded.
+     */
+    public static final Setting<Integer> KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES_SETTING = Setting.intSetting(
+        KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES,
+        KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES_DEFAULT_VALUE,
+        -1,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Maximum number of native engine searches of a node running at the same time. Searches over the limit are queued for at
+     * most {@link #KNN_NATIVE_SEARCH_QUEUE_TIMEOUT} and rejected afterwards. 0 does not limit the number of searches.
+     */
+    public static final Setting<Integer> KNN_NATIVE_SEARCH_MAX_CONCURRENCY_SETTING = Setting.intSetting(
+        KNN_NATIVE_SEARCH_MAX_CONCURRENCY,
+        KNN_NATIVE_SEARCH_MAX_CONCURRENCY_DEFAULT_VALUE,
+        0,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Budget of the scratch memory, such as visited tables, result heaps and filter ids, that the native engine searches of a
+     * node running at the same time may allocate. Searches over the budget are queued like searches over
+     * {@link #KNN_NATIVE_SEARCH_MAX_CONCURRENCY}. 0 does not limit the scratch memory.
+     */
+    public static final Setting<ByteSizeValue> KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT_SETTING = Setting.byteSizeSetting(
+        KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT,
+        KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Time a native engine search waits to be admitted when the node is over its native search limits before it is rejected.
+     */
+    public static final Setting<TimeValue> KNN_NATIVE_SEARCH_QUEUE_TIMEOUT_SETTING = Setting.timeSetting(
+        KNN_NATIVE_SEARCH_QUEUE_TIMEOUT,
+        KNN_NATIVE_SEARCH_QUEUE_TIMEOUT_DEFAULT_VALUE,
+        TimeValue.ZERO,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Number of the best scored, not yet expanded candidates whose neighbor lists memory optimized HNSW search prefetches while
+     * it traverses the graph. 0 disables the look-ahead.
+     */
+    public static final Setting<Integer> KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_SETTING = Setting.intSetting(
+        KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH,
+        KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_DEFAULT_VALUE,
+        0,
+        KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_MAX_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the memory optimized native index build transfers the next batch of vectors off heap while the previous
+     * batch is inserted into the index on the k-NN index build thread pool. The build then holds two transfer buffers of
+     * {@link #KNN_VECTOR_STREAMING_MEMORY_LIMIT_IN_MB} each instead of one, so it is disabled by default.
+     */
+    public static final Setting<Boolean> KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_SETTING = Setting.boolSetting(
+        KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED,
+        KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, the approximate search of a shard searches its segments in parallel on the k-NN segment search thread pool,
+     * unless concurrent segment search already parallelizes the request.
+     */
+    public static final Setting<Boolean> INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED_SETTING = Setting.boolSetting(
+        INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, filtered searches choose between exact search and approximate search per segment from the latencies
+     * observed for earlier searches on the field, unless the filtered exact search threshold is set explicitly.
+     */
+    public static final Setting<Boolean> INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED_SETTING = Setting.boolSetting(
+        INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, Faiss HNSW graphs of the index are loaded by memory mapping their segment file instead of copying
+     * them into native memory. Such graphs are backed by the OS page cache and are counted against the native memory
+     * cache limit with the size of their file. Only applies to graphs whose file is read as is from a local file system.
+     */
+    public static final Setting<Boolean> INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED_SETTING = Setting.boolSetting(
+        INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, a merge extends the Faiss graph of its first source segment with the vectors of the other source
+     * segments instead of building the graph of the merged segment from scratch, if that segment has no deletions and holds
+     * most of the merged vectors.
+     */
+    public static final Setting<Boolean> INDEX_KNN_INCREMENTAL_MERGE_ENABLED_SETTING = Setting.boolSetting(
+        INDEX_KNN_INCREMENTAL_MERGE_ENABLED,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
     /**
      * Keystore settings for build service HTTP authorization
      */
@@ -563,6 +751,19 @@ public class KNNSettings {
                 KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES,
                 Setting.positiveTimeSetting(KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES, TimeValue.timeValueHours(3), NodeScope, Dynamic)
             );
+            /**
+             * Cache eviction policy settings. See {@link NativeMemoryCacheEvictionPolicy} for the supported policies.
+             */
+            put(
+                KNN_CACHE_EVICTION_POLICY,
+                new Setting<>(
+                    KNN_CACHE_EVICTION_POLICY,
+                    NativeMemoryCacheEvictionPolicy.LRU.getName(),
+                    NativeMemoryCacheEvictionPolicy::fromName,
+                    NodeScope,
+                    Dynamic
+                )
+            );
         }
     };
 
@@ -608,6 +809,12 @@ public class KNNSettings {
                     .getMinutes()
             );
 
+            builder.evictionPolicy(
+                NativeMemoryCacheEvictionPolicy.fromName(
+                    updatedSettings.get(KNN_CACHE_EVICTION_POLICY, getCacheEvictionPolicy().getName())
+                )
+            );
+
             NativeMemoryCacheManager.getInstance().rebuildCache(builder.build());
         },
             Stream.concat(dynamicCacheSettings.values().stream(), FEATURE_FLAGS_WHICH_REBUILDS_CACHE.values().stream())
@@ -734,6 +941,62 @@ public class KNNSettings {
             return INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING;
         }
 
+        if (KNN_CACHE_ASYNC_LOAD_ENABLED.equals(key)) {
+            return KNN_CACHE_ASYNC_LOAD_ENABLED_SETTING;
+        }
+
+        if (INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED.equals(key)) {
+            return INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED_SETTING;
+        }
+
+        if (KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES.equals(key)) {
+            return KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES_SETTING;
+        }
+
+        if (INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED.equals(key)) {
+            return INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED_SETTING;
+        }
+
+        if (INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED.equals(key)) {
+            return INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED_SETTING;
+        }
+
+        if (KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH.equals(key)) {
+            return KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_SETTING;
+        }
+
+        if (INDEX_KNN_INCREMENTAL_MERGE_ENABLED.equals(key)) {
+            return INDEX_KNN_INCREMENTAL_MERGE_ENABLED_SETTING;
+        }
+
+        if (KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED.equals(key)) {
+            return KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_SETTING;
+        }
+
+        if (KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY.equals(key)) {
+            return KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY_SETTING;
+        }
+
+        if (KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY.equals(key)) {
+            return KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY_SETTING;
+        }
+
+        if (KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED.equals(key)) {
+            return KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED_SETTING;
+        }
+
+        if (KNN_NATIVE_SEARCH_MAX_CONCURRENCY.equals(key)) {
+            return KNN_NATIVE_SEARCH_MAX_CONCURRENCY_SETTING;
+        }
+
+        if (KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT.equals(key)) {
+            return KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT_SETTING;
+        }
+
+        if (KNN_NATIVE_SEARCH_QUEUE_TIMEOUT.equals(key)) {
+            return KNN_NATIVE_SEARCH_QUEUE_TIMEOUT_SETTING;
+        }
+
         throw new IllegalArgumentException("Cannot find setting by key [" + key + "]");
     }
 
@@ -770,7 +1033,21 @@ public class KNNSettings {
             KNN_REMOTE_BUILD_CLIENT_TIMEOUT_SETTING,
             KNN_REMOTE_BUILD_SERVER_USERNAME_SETTING,
             KNN_REMOTE_BUILD_SERVER_PASSWORD_SETTING,
-            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING
+            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING,
+            KNN_CACHE_ASYNC_LOAD_ENABLED_SETTING,
+            INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED_SETTING,
+            KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES_SETTING,
+            INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED_SETTING,
+            INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED_SETTING,
+            KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_SETTING,
+            INDEX_KNN_INCREMENTAL_MERGE_ENABLED_SETTING,
+            KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_SETTING,
+            KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY_SETTING,
+            KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY_SETTING,
+            KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED_SETTING,
+            KNN_NATIVE_SEARCH_MAX_CONCURRENCY_SETTING,
+            KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT_SETTING,
+            KNN_NATIVE_SEARCH_QUEUE_TIMEOUT_SETTING
         );
         return Stream.concat(settings.stream(), Stream.concat(getFeatureFlags().stream(), dynamicCacheSettings.values().stream()))
             .collect(Collectors.toList());
@@ -882,6 +1159,85 @@ public class KNNSettings {
         return getCircuitBreakerLimit();
     }
 
+    /**
+     * Gets the eviction policy used by the native memory cache. Falls back to LRU when the setting cannot be resolved.
+     *
+     * @return NativeMemoryCacheEvictionPolicy
+     */
+    public static NativeMemoryCacheEvictionPolicy getCacheEvictionPolicy() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_CACHE_EVICTION_POLICY),
+            NativeMemoryCacheEvictionPolicy.LRU
+        );
+    }
+
+    /**
+     * @return true if graphs missing from the native memory cache should be loaded in the background
+     */
+    public static boolean isAsyncGraphLoadEnabled() {
+        return Booleans.parseBooleanStrict(KNNSettings.state().getSettingValue(KNN_CACHE_ASYNC_LOAD_ENABLED).toString(), false);
+    }
+
+    /**
+     * @return maximum number of native engine searches of the node running at the same time, 0 if unlimited
+     */
+    public static int getNativeSearchMaxConcurrency() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_NATIVE_SEARCH_MAX_CONCURRENCY),
+            KNN_NATIVE_SEARCH_MAX_CONCURRENCY_DEFAULT_VALUE
+        );
+    }
+
+    /**
+     * @return scratch memory budget in bytes of the native engine searches of the node running at the same time, 0 if unlimited
+     */
+    public static long getNativeSearchScratchMemoryLimitInBytes() {
+        return Objects.<ByteSizeValue>requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT),
+            KNN_NATIVE_SEARCH_SCRATCH_MEMORY_LIMIT_DEFAULT_VALUE
+        ).getBytes();
+    }
+
+    /**
+     * @return time a native engine search waits to be admitted before it is rejected
+     */
+    public static TimeValue getNativeSearchQueueTimeout() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_NATIVE_SEARCH_QUEUE_TIMEOUT),
+            KNN_NATIVE_SEARCH_QUEUE_TIMEOUT_DEFAULT_VALUE
+        );
+    }
+
+    /**
+     * @return minimum number of filtered candidates for exact search to score a segment in parallel, negative if disabled
+     */
+    public static int getExactSearchParallelMinCandidates() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES),
+            KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES_DEFAULT_VALUE
+        );
+    }
+
+    /**
+     * @return number of candidates whose neighbor lists memory optimized search prefetches ahead of expanding them
+     */
+    public static int getMemoryOptimizedSearchPrefetchDepth() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH),
+            KNN_MEMORY_OPTIMIZED_SEARCH_PREFETCH_DEPTH_DEFAULT_VALUE
+        );
+    }
+
+    /**
+     * @return true if the native index build overlaps the off heap transfer of vectors with their insertion into the index
+     */
+    public static boolean isIndexBuildPipelinedTransferEnabled() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED),
+            KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED_DEFAULT_VALUE
+        );
+    }
+
     public static double getCircuitBreakerUnsetPercentage() {
         return KNNSettings.state().getSettingValue(KNNSettings.KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE);
     }
@@ -923,6 +1279,36 @@ public class KNNSettings {
         return KNNSettings.state().getSettingValue(KNNSettings.KNN_REMOTE_BUILD_POLL_INTERVAL);
     }
 
+    /**
+     * Gets the maximum number of remote index builds uploading vectors to the repository at the same time.
+     */
+    public static int getRemoteBuildUploadMaxConcurrency() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY),
+            KNN_DEFAULT_REMOTE_BUILD_TRANSFER_MAX_CONCURRENCY
+        );
+    }
+
+    /**
+     * Gets the maximum number of remote index builds downloading graphs from the repository at the same time.
+     */
+    public static int getRemoteBuildDownloadMaxConcurrency() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY),
+            KNN_DEFAULT_REMOTE_BUILD_TRANSFER_MAX_CONCURRENCY
+        );
+    }
+
+    /**
+     * Returns whether remote index builds exchange their blobs with the repository in the compact format.
+     */
+    public static boolean isRemoteBuildCompactFormatEnabled() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED),
+            KNN_DEFAULT_REMOTE_BUILD_COMPACT_FORMAT_ENABLED
+        );
+    }
+
     public static boolean isFaissAVX2Disabled() {
         try {
             return KNNSettings.state().getSettingValue(KNNSettings.KNN_FAISS_AVX2_DISABLED);
@@ -976,6 +1362,26 @@ public class KNNSettings {
         return getIndexSettings(indexName).getAsBoolean(KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED, false);
     }
 
+    public static boolean isIntraShardSearchEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(INDEX_KNN_INTRA_SHARD_SEARCH_ENABLED, false);
+    }
+
+    /**
+     * @param indexName name of the index
+     * @return true if filtered searches on the index are planned from observed latencies
+     */
+    public static boolean isFilteredSearchPlannerEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(INDEX_KNN_FILTERED_SEARCH_PLANNER_ENABLED, false);
+    }
+
+    /**
+     * @param indexName name of the index
+     * @return true if Faiss graphs of the index are loaded by memory mapping their file
+     */
+    public static boolean isFaissMemoryMappedLoadEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(INDEX_KNN_FAISS_MEMORY_MAPPED_LOAD_ENABLED, false);
+    }
+
     public void initialize(Client client, ClusterService clusterService) {
         this.client = client;
         this.clusterService = clusterService;
@@ -1114,6 +1520,46 @@ public class KNNSettings {
         }
     }
 
+    /**
+     * Finds the size of the thread pool used to load graphs into the native memory cache in the background. Loading is
+     * mostly bound by IO, so a quarter of the available processors is enough to keep up with cache misses.
+     *
+     * @return number of graph loading threads
+     */
+    public static int getGraphLoadThreadPoolSize(final Settings settings) {
+        return Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 4);
+    }
+
+    /**
+     * Finds the size of the thread pool used to search the segments of a shard in parallel. Segment searches are CPU bound,
+     * so the pool is sized to the available processors.
+     *
+     * @return number of segment search threads
+     */
+    public static int getSegmentSearchThreadPoolSize(final Settings settings) {
+        return OpenSearchExecutors.allocatedProcessors(settings);
+    }
+
+    /**
+     * Finds the size of the thread pool used to score the candidates of an exact search in parallel. Scoring is CPU bound,
+     * so the pool is sized to the available processors.
+     *
+     * @return number of exact search threads
+     */
+    public static int getExactSearchThreadPoolSize(final Settings settings) {
+        return OpenSearchExecutors.allocatedProcessors(settings);
+    }
+
+    /**
+     * Finds the size of the thread pool used to insert vectors into native indices while the building thread transfers the
+     * next batch. Every build has at most one insert in flight, so the pool is sized to the available processors.
+     *
+     * @return number of index build threads
+     */
+    public static int getIndexBuildThreadPoolSize(final Settings settings) {
+        return OpenSearchExecutors.allocatedProcessors(settings);
+    }
+
     /**
      * Get the index thread quantity setting value from cluster setting.
      * @return int
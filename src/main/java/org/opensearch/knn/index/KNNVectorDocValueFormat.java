@@ -34,6 +34,7 @@ public class KNNVectorDocValueFormat implements DocValueFormat {
 
     private final boolean binary;
     private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
 
     private KNNVectorDocValueFormat(boolean binary) {
         this.binary = binary;
@@ -65,6 +66,16 @@ public class KNNVectorDocValueFormat implements DocValueFormat {
         return BASE64_ENCODER.encodeToString(bytes);
     }
 
+    /**
+     * Decodes a float[] vector from a base64 string of little-endian floats, as encoded by {@link #encodeToBinary(float[])}.
+     */
+    public static float[] decodeFromBinary(final String encodedVector) {
+        final ByteBuffer buffer = ByteBuffer.wrap(BASE64_DECODER.decode(encodedVector)).order(ByteOrder.LITTLE_ENDIAN);
+        final float[] vector = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+
     @Override
     public String toString() {
         return binary ? "knn_vector(binary)" : "knn_vector(array)";
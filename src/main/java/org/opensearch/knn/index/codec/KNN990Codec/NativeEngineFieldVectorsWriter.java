@@ -19,13 +19,13 @@ import org.apache.lucene.util.InfoStream;
 import org.apache.lucene.util.RamUsageEstimator;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 /**
  * NativeEngineVectorFieldsWriter is a class that will be used to accumulate all the vectors during ingestion before
  * lucene does a flush. This class ensures that KNNVectorWriter is free from generics and this class can encapsulate
- * all the details related to vectors types and docIds.
+ * all the details related to vectors types and docIds. The vectors are buffered once, by the flat field vectors writer,
+ * as a list in doc id order next to the docs with the field, and the native index is built from that buffer on flush.
  *
  * @param <T> float[] or byte[]
  */
@@ -33,14 +33,6 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
     private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(NativeEngineFieldVectorsWriter.class);
     @Getter
     private final FieldInfo fieldInfo;
-    /**
-     * We are using a map here instead of list, because for sampler interface for quantization we have to advance the iterator
-     * to a specific docId, there a list cannot be useful because a docId != index of the vector in the list. Similar
-     * thing is true when we have vector field in child document. There doc Ids will not be consistent. Hence, we need to
-     * use the map here.
-     */
-    @Getter
-    private final Map<Integer, T> vectors;
     private int lastDocID = -1;
     private final InfoStream infoStream;
     @Getter
@@ -72,7 +64,6 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
     ) {
         this.fieldInfo = fieldInfo;
         this.infoStream = infoStream;
-        vectors = new HashMap<>();
         this.flatFieldVectorsWriter = flatFieldVectorsWriter;
     }
 
@@ -95,12 +86,21 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
         // TODO: we can build the graph here too iteratively. but right now I am skipping that as we need iterative
         // graph build support on the JNI layer.
         assert docID > lastDocID;
-        // ensuring that vector is provided to flatFieldWriter.
+        // ensuring that vector is provided to flatFieldWriter, which keeps the only copy of the vector until flush.
         flatFieldVectorsWriter.addValue(docID, vectorValue);
-        vectors.put(docID, vectorValue);
         lastDocID = docID;
     }
 
+    /**
+     * Returns the vectors added to the field, in increasing doc id order. The vector of a doc is at its ordinal among the docs
+     * of {@link FlatFieldVectorsWriter#getDocsWithFieldSet()}.
+     *
+     * @return vectors buffered by the flat field vectors writer
+     */
+    public List<T> getVectors() {
+        return flatFieldVectorsWriter.getVectors();
+    }
+
     /**
      * Used to copy values being indexed to internal storage.
      *
@@ -113,13 +113,11 @@ public class NativeEngineFieldVectorsWriter<T> extends KnnFieldVectorsWriter<T>
     }
 
     /**
-     * Return the memory usage of this object in bytes. Negative values are illegal.
+     * Return the memory usage of this object in bytes. Negative values are illegal. The vectors and the docs with the field
+     * are only buffered by the flat field vectors writer, which accounts for them.
      */
     @Override
     public long ramBytesUsed() {
-        return SHALLOW_SIZE + flatFieldVectorsWriter.getDocsWithFieldSet().ramBytesUsed() + (long) this.vectors.size()
-            * (long) (RamUsageEstimator.NUM_BYTES_OBJECT_REF + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER) + (long) this.vectors.size()
-                * RamUsageEstimator.shallowSizeOfInstance(Integer.class) + (long) vectors.size() * fieldInfo.getVectorDimension()
-                    * fieldInfo.getVectorEncoding().byteSize + flatFieldVectorsWriter.ramBytesUsed();
+        return SHALLOW_SIZE + flatFieldVectorsWriter.ramBytesUsed();
     }
 }
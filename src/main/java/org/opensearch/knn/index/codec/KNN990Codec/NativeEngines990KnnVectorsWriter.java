@@ -21,6 +21,7 @@ import org.apache.lucene.index.Sorter;
 import org.apache.lucene.util.IOUtils;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.knn.index.codec.nativeindex.AbstractNativeEnginesKnnVectorsWriter;
+import org.opensearch.knn.index.codec.nativeindex.DeferredIndexBuilds;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -46,6 +47,8 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
     private boolean finished;
     private final Integer approximateThreshold;
     private final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory;
+    // Remote builds of merged fields complete in finish(), so that they run while the other fields are merged
+    private final DeferredIndexBuilds deferredIndexBuilds = new DeferredIndexBuilds();
 
     public NativeEngines990KnnVectorsWriter(
         SegmentWriteState segmentWriteState,
@@ -116,6 +119,7 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
             throw new IllegalStateException("NativeEnginesKNNVectorsWriter is already finished");
         }
         finished = true;
+        deferredIndexBuilds.completeAll();
         if (quantizationStateWriter != null) {
             quantizationStateWriter.writeFooter();
         }
@@ -140,7 +144,12 @@ public class NativeEngines990KnnVectorsWriter extends AbstractNativeEnginesKnnVe
         if (quantizationStateWriter != null) {
             quantizationStateWriter.closeOutput();
         }
-        IOUtils.close(flatVectorsWriter);
+        IOUtils.close(deferredIndexBuilds, flatVectorsWriter);
+    }
+
+    @Override
+    protected DeferredIndexBuilds getDeferredIndexBuilds() {
+        return deferredIndexBuilds;
     }
 
     /**
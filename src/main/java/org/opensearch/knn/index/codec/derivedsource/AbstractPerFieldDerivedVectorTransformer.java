@@ -7,35 +7,44 @@ package org.opensearch.knn.index.codec.derivedsource;
 
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.util.BytesRef;
-import org.opensearch.common.CheckedSupplier;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapperUtil;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 
 import java.io.IOException;
 
 public abstract class AbstractPerFieldDerivedVectorTransformer implements PerFieldDerivedVectorTransformer {
     /**
-     * Utility method for formatting the vector values based on the vector data type.
+     * Utility method for writing the current vector of the vector values based on the vector data type. Float vectors are
+     * written as floats, byte and binary vectors as the integer value of each byte. The values are written straight from the
+     * vector, so that it does not need to be cloned or boxed.
      *
      * @param fieldInfo fieldinfo for the vector field
-     * @param vectorSupplier supplies vector (without clone)
-     * @param vectorCloneSupplier supplies clone of vector.
-     * @return vector formatted based on the vector data type. Typically, this will be a float[] or int[].
-     * @throws IOException if unable to deserialize stored vector
+     * @param vectorValues vector values positioned at the doc to write
+     * @param builder builder the vector is written to
+     * @throws IOException if unable to read the vector or deserialize stored vector
      */
-    protected Object formatVector(
-        FieldInfo fieldInfo,
-        CheckedSupplier<Object, IOException> vectorSupplier,
-        CheckedSupplier<Object, IOException> vectorCloneSupplier
-    ) throws IOException {
-        Object vectorValue = vectorSupplier.get();
-        // If the vector value is a byte[], we must deserialize
-        if (vectorValue instanceof byte[]) {
-            BytesRef vectorBytesRef = new BytesRef((byte[]) vectorValue);
-            VectorDataType vectorDataType = FieldInfoExtractor.extractVectorDataType(fieldInfo);
-            return KNNVectorFieldMapperUtil.deserializeStoredVector(vectorBytesRef, vectorDataType);
+    protected void writeVector(FieldInfo fieldInfo, KNNVectorValues<?> vectorValues, XContentBuilder builder) throws IOException {
+        Object vectorValue = vectorValues.getVector();
+        // Float vectors of doc values are stored serialized
+        if (vectorValue instanceof byte[] bytes && FieldInfoExtractor.extractVectorDataType(fieldInfo) == VectorDataType.FLOAT) {
+            vectorValue = KNNVectorFieldMapperUtil.deserializeStoredVector(new BytesRef(bytes), VectorDataType.FLOAT);
         }
-        return vectorCloneSupplier.get();
+
+        builder.startArray();
+        if (vectorValue instanceof float[] floats) {
+            for (float value : floats) {
+                builder.value(value);
+            }
+        } else if (vectorValue instanceof byte[] bytes) {
+            for (byte value : bytes) {
+                builder.value((int) value);
+            }
+        } else {
+            throw new IllegalStateException("Unsupported vector type [" + vectorValue.getClass().getSimpleName() + "]");
+        }
+        builder.endArray();
     }
 }
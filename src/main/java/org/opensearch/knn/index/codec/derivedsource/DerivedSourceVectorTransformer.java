@@ -7,31 +7,34 @@ package org.opensearch.knn.index.codec.derivedsource;
 
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.SegmentReadState;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentHelper;
-import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.common.regex.Regex;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
 @Log4j2
 public class DerivedSourceVectorTransformer {
 
     private final DerivedSourceReaders derivedSourceReaders;
-    Function<Map<String, Object>, Map<String, Object>> derivedSourceVectorTransformer;
     Map<String, PerFieldDerivedVectorTransformer> perFieldDerivedVectorTransformers;
+    // Paths of the objects that contain a vector field to inject, the only objects of the source that need to be walked
+    private final Set<String> vectorFieldParentPaths = new HashSet<>();
     private boolean isNested;
     private final DerivedSourceLuceneHelper derivedSourceLuceneHelper;
 
@@ -62,7 +65,7 @@ public class DerivedSourceVectorTransformer {
 
     /**
      * Initialize the transformer with the fields that should be injected based on includes/excludes.
-     * This filters perFieldDerivedVectorTransformers and builds the derivedSourceVectorTransformer.
+     * This filters perFieldDerivedVectorTransformers and collects the paths of the objects containing the remaining fields.
      * Should be called once before the first call to injectVectors().
      *
      * @param excludes List of field patterns that should not be injected
@@ -74,10 +77,11 @@ public class DerivedSourceVectorTransformer {
             perFieldDerivedVectorTransformers.remove(fieldName);
         }
 
-        Map<String, Function<Object, Object>> transformerFunctions = new HashMap<>();
-        transformerFunctions.putAll(perFieldDerivedVectorTransformers);
-        derivedSourceVectorTransformer = XContentMapValues.transform(transformerFunctions, true);
-
+        for (String fieldName : perFieldDerivedVectorTransformers.keySet()) {
+            for (int dot = fieldName.indexOf('.'); dot != -1; dot = fieldName.indexOf('.', dot + 1)) {
+                vectorFieldParentPaths.add(fieldName.substring(0, dot));
+            }
+        }
     }
 
     private Set<String> getFieldsToExclude(String[] includes, String[] excludes) {
@@ -129,7 +133,10 @@ public class DerivedSourceVectorTransformer {
     }
 
     /**
-     * Given a docId and the source of that doc as bytes, add all the necessary vector fields into the source.
+     * Given a docId and the source of that doc as bytes, add all the necessary vector fields into the source. The source is
+     * streamed token by token into the output, and the vectors are written from the vector values in place of the masked
+     * values of their fields, without building a map of the source. Objects that contain no vector field are copied as a
+     * whole.
      *
      * @param docId doc id of the document
      * @param sourceAsBytes source of document as bytes
@@ -137,17 +144,6 @@ public class DerivedSourceVectorTransformer {
      * @throws IOException if there is an issue reading from the formats
      */
     public byte[] injectVectors(int docId, byte[] sourceAsBytes) throws IOException {
-        // Reference:
-        // https://github.com/opensearch-project/OpenSearch/blob/2.18.0/server/src/main/java/org/opensearch/index/mapper/SourceFieldMapper.java#L322
-        // Deserialize the source into a modifiable map
-        Tuple<? extends MediaType, Map<String, Object>> mapTuple = XContentHelper.convertToMap(
-            BytesReference.fromByteBuffer(ByteBuffer.wrap(sourceAsBytes)),
-            true,
-            MediaTypeRegistry.getDefaultMediaType()
-        );
-        // Have to create a copy of the map here to ensure that is mutable
-        Map<String, Object> sourceAsMap = mapTuple.v2();
-
         // We only need the offset for the nested fields. If there arent any, we can skip
         int offset = 0;
         if (isNested) {
@@ -160,15 +156,57 @@ public class DerivedSourceVectorTransformer {
             vectorTransformer.setCurrentDoc(offset, docId);
         }
 
-        Map<String, Object> copy = derivedSourceVectorTransformer.apply(sourceAsMap);
-
-        // At this point, we can serialize the modified source map
         // Setting to 1024 based on
         // https://github.com/opensearch-project/OpenSearch/blob/2.18.0/server/src/main/java/org/opensearch/search/fetch/subphase/FetchSourcePhase.java#L106
         BytesStreamOutput bStream = new BytesStreamOutput(1024);
-        MediaType actualContentType = mapTuple.v1();
-        XContentBuilder builder = MediaTypeRegistry.contentBuilder(actualContentType, bStream).map(copy);
-        builder.close();
-        return BytesReference.toBytes(BytesReference.bytes(builder));
+        MediaType mediaType = MediaTypeRegistry.getDefaultMediaType();
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                new BytesArray(sourceAsBytes),
+                mediaType
+            );
+            XContentBuilder builder = MediaTypeRegistry.contentBuilder(mediaType, bStream)
+        ) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            builder.startObject();
+            copyObject(parser, builder, "");
+            builder.endObject();
+            builder.flush();
+            return BytesReference.toBytes(bStream.bytes());
+        }
+    }
+
+    // Copies the fields of the object the parser is in, up to the end of the object
+    private void copyObject(XContentParser parser, XContentBuilder builder, String pathPrefix) throws IOException {
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            builder.field(fieldName);
+            copyValue(parser, builder, parser.nextToken(), pathPrefix + fieldName);
+        }
+    }
+
+    // Copies the value the parser is at, the value of the field at the given path or an element of an array at the path
+    private void copyValue(XContentParser parser, XContentBuilder builder, XContentParser.Token token, String path) throws IOException {
+        PerFieldDerivedVectorTransformer vectorTransformer = perFieldDerivedVectorTransformers.get(path);
+        if (vectorTransformer != null && token != XContentParser.Token.VALUE_NULL) {
+            parser.skipChildren();
+            vectorTransformer.writeVector(builder);
+        } else if (token == XContentParser.Token.START_OBJECT && vectorFieldParentPaths.contains(path)) {
+            builder.startObject();
+            copyObject(parser, builder, path + ".");
+            builder.endObject();
+        } else if (token == XContentParser.Token.START_ARRAY && vectorFieldParentPaths.contains(path)) {
+            // Objects of an array share the path of the array, like the nested documents of a nested field
+            builder.startArray();
+            XContentParser.Token elementToken;
+            while ((elementToken = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                copyValue(parser, builder, elementToken, path);
+            }
+            builder.endArray();
+        } else {
+            builder.copyCurrentStructure(parser);
+        }
     }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.knn.index.codec.derivedsource;
 
 import org.apache.lucene.index.FieldInfo;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
 
@@ -28,18 +29,9 @@ public class NestedPerFieldDerivedVectorTransformer extends AbstractPerFieldDeri
     }
 
     @Override
-    public Object apply(Object object) {
-        if (object == null) {
-            return object;
-        }
-
-        try {
-            Object vector = formatVector(childFieldInfo, vectorValues::getVector, vectorValues::conditionalCloneVector);
-            vectorValues.nextDoc();
-            return vector;
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeVector(XContentBuilder builder) throws IOException {
+        writeVector(childFieldInfo, vectorValues, builder);
+        vectorValues.nextDoc();
     }
 
     @Override
@@ -5,10 +5,11 @@
 
 package org.opensearch.knn.index.codec.derivedsource;
 
+import org.opensearch.core.xcontent.XContentBuilder;
+
 import java.io.IOException;
-import java.util.function.Function;
 
-public interface PerFieldDerivedVectorTransformer extends Function<Object, Object> {
+public interface PerFieldDerivedVectorTransformer {
 
     /**
      * Update the current doc to the given doc id
@@ -18,4 +19,12 @@ public interface PerFieldDerivedVectorTransformer extends Function<Object, Objec
      * @throws IOException thrown on invalid read
      */
     void setCurrentDoc(int offset, int docId) throws IOException;
+
+    /**
+     * Write the vector of the field for the current doc as the value the builder is at
+     *
+     * @param builder builder of the source the vector is injected into
+     * @throws IOException thrown on invalid read or write
+     */
+    void writeVector(XContentBuilder builder) throws IOException;
 }
@@ -7,6 +7,7 @@ package org.opensearch.knn.index.codec.derivedsource;
 
 import org.apache.lucene.index.FieldInfo;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
 
@@ -40,15 +41,7 @@ public class RootPerFieldDerivedVectorTransformer extends AbstractPerFieldDerive
     }
 
     @Override
-    public Object apply(Object object) {
-        if (object == null) {
-            return object;
-        }
-
-        try {
-            return formatVector(fieldInfo, vectorValues::getVector, vectorValues::conditionalCloneVector);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public void writeVector(XContentBuilder builder) throws IOException {
+        writeVector(fieldInfo, vectorValues, builder);
     }
 }
@@ -23,7 +23,6 @@ import org.opensearch.knn.quantization.models.quantizationState.QuantizationStat
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractVectorDataType;
@@ -32,25 +31,29 @@ import static org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory.getVe
 
 @Log4j2
 public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWriter {
-    protected <T> void doFlush(
+
+    /**
+     * Builds whose completion the writer defers to {@link #finish()}, or null if the writer completes every build before
+     * moving on to the next field.
+     */
+    @Nullable
+    protected DeferredIndexBuilds getDeferredIndexBuilds() {
+        return null;
+    }
+
+    protected void doFlush(
         final FieldInfo fieldInfo,
         final FlatFieldVectorsWriter<?> fieldWriter,
-        final T vectors,
+        final List<?> vectors,
         @Nullable final TriFunction<FieldInfo, Supplier<KNNVectorValues<?>>, Integer, QuantizationState> quantizationStateSupplier,
         final Integer approximateThreshold,
         final SegmentWriteState segmentWriteState,
         final NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory,
         @Nullable final QuantizedByteVectorValues quantizedByteVectorValues
     ) throws IOException {
-        // Check total live docs first to avoid unnecessary supplier creation for empty fields
-        final int totalLiveDocs;
-        // NativeEngines990KnnVectorsWriter keeps vector as Map<DocId, Vector> as BQ sampler needs random access.
-        // while Faiss1040ScalarQuantizedKnnVectorsWriter keeps vector as List<Vector> from FlatFieldVectorsWriter.
-        if (vectors instanceof Map) {
-            totalLiveDocs = ((Map) vectors).size();
-        } else {
-            totalLiveDocs = ((List) vectors).size();
-        }
+        // Check total live docs first to avoid unnecessary supplier creation for empty fields.
+        // Vectors are the List<Vector> buffered by the FlatFieldVectorsWriter, in the order of its docs with the field.
+        final int totalLiveDocs = vectors.size();
 
         if (totalLiveDocs == 0) {
             log.debug("[Flush] No live docs for field {}", fieldInfo.getName());
@@ -59,12 +62,11 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
 
         // Get vector values supplier
         final VectorDataType vectorDataType = extractVectorDataType(fieldInfo);
-        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier;
-        if (vectors instanceof Map) {
-            knnVectorValuesSupplier = getVectorValuesSupplier(vectorDataType, fieldWriter.getDocsWithFieldSet(), (Map) vectors);
-        } else {
-            knnVectorValuesSupplier = getVectorValuesSupplier(vectorDataType, fieldWriter.getDocsWithFieldSet(), (List) vectors);
-        }
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier = getVectorValuesSupplier(
+            vectorDataType,
+            fieldWriter.getDocsWithFieldSet(),
+            vectors
+        );
 
         QuantizationState quantizationState = null;
         if (quantizationStateSupplier != null) {
@@ -139,10 +141,23 @@ public abstract class AbstractNativeEnginesKnnVectorsWriter extends KnnVectorsWr
             nativeIndexBuildStrategyFactory,
             quantizedByteVectorValues
         );
+        final DeferredIndexBuilds deferredIndexBuilds = getDeferredIndexBuilds();
+        if (deferredIndexBuilds != null) {
+            writer.setDeferredIndexBuilds(deferredIndexBuilds);
+        }
+
+        MergeBaseGraph baseGraph = null;
+        if (quantizationState == null && quantizedByteVectorValues == null && nativeIndexBuildStrategyFactory.isIncrementalMergeEnabled()) {
+            baseGraph = MergeBaseGraph.find(fieldInfo, mergeState, totalLiveDocs);
+        }
 
         final StopWatch stopWatch = new StopWatch().start();
 
-        writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+        if (baseGraph != null) {
+            writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs, baseGraph);
+        } else {
+            writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+        }
 
         final long time_in_millis = stopWatch.stop().totalTime().millis();
         KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
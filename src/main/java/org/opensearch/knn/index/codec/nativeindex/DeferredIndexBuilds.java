@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.common.CheckedRunnable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Native index builds of a segment whose completion is deferred until every field of the segment has been written. A
+ * remote build of one field then runs while the following fields are merged, instead of the merge thread waiting for it
+ * before moving on. The segment still waits for every build in {@link #completeAll()}, as it cannot gain files once it
+ * is committed. Every build owns the output of its engine file, which is closed once the build completes, and a
+ * cancellation, which is run if the build is dropped without being completed.
+ */
+@Log4j2
+public final class DeferredIndexBuilds implements Closeable {
+
+    private final Deque<DeferredIndexBuild> builds = new ArrayDeque<>();
+
+    /**
+     * Defers the completion of a build.
+     *
+     * @param output output of the engine file the build writes to, closed after the completion
+     * @param completion writes the rest of the engine file
+     * @param cancellation releases the resources of the build if it is not completed, e.g. cancels its remote job
+     */
+    void add(final IndexOutput output, final CheckedRunnable<IOException> completion, final Runnable cancellation) {
+        builds.add(new DeferredIndexBuild(output, completion, cancellation));
+    }
+
+    /**
+     * Completes the deferred builds in the order they were added. If a completion fails, the remaining builds are cancelled
+     * and their outputs closed without completing them.
+     *
+     * @throws IOException if a completion fails
+     */
+    public void completeAll() throws IOException {
+        try {
+            DeferredIndexBuild build;
+            while ((build = builds.poll()) != null) {
+                try (IndexOutput output = build.output()) {
+                    build.completion().run();
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Cancels the builds that were not completed, e.g. because the merge was aborted, and closes their outputs.
+     */
+    @Override
+    public void close() throws IOException {
+        final List<IndexOutput> outputs = new ArrayList<>(builds.size());
+        DeferredIndexBuild build;
+        while ((build = builds.poll()) != null) {
+            outputs.add(build.output());
+            try {
+                build.cancellation().run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to cancel a deferred index build", e);
+            }
+        }
+        IOUtils.close(outputs);
+    }
+
+    private record DeferredIndexBuild(IndexOutput output, CheckedRunnable<IOException> completion, Runnable cancellation) {
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.index.util.IndexUtil;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.jni.JNIService;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.opensearch.knn.common.KNNVectorUtil.intListToArray;
+import static org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory.getVectorTransfer;
+import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
+
+/**
+ * Builds the graph of a merged segment by loading the graph of its first source segment and inserting only the vectors of
+ * the other source segments into it, instead of inserting every vector into a new graph. See {@link MergeBaseGraph} for
+ * when the first source graph can be reused.
+ */
+@Log4j2
+final class IncrementalMergeIndexBuildStrategy implements NativeIndexBuildStrategy {
+
+    private final MergeBaseGraph baseGraph;
+
+    IncrementalMergeIndexBuildStrategy(final MergeBaseGraph baseGraph) {
+        this.baseGraph = baseGraph;
+    }
+
+    @Override
+    public void buildAndWriteIndex(final BuildIndexParams indexInfo) throws IOException {
+        final KNNVectorValues<?> knnVectorValues = indexInfo.getKnnVectorValuesSupplier().get();
+        // Needed to make sure we don't get 0 dimensions while initializing index
+        initializeVectorValues(knnVectorValues);
+        final KNNEngine engine = indexInfo.getKnnEngine();
+        final Map<String, Object> indexParameters = indexInfo.getIndexParameters();
+        final IndexBuildSetup indexBuildSetup = QuantizationIndexUtils.prepareIndexBuild(knnVectorValues, indexInfo);
+
+        // Load the graph of the base segment, whose vectors come first in the merged segment
+        final long indexMemoryAddress;
+        try (IndexInput indexInput = baseGraph.getDirectory().openInput(baseGraph.getFileName(), IOContext.READONCE)) {
+            final IndexInputWithBuffer indexInputWithBuffer = new IndexInputWithBuffer(indexInput);
+            indexMemoryAddress = AccessController.doPrivileged(
+                (PrivilegedAction<Long>) () -> JNIService.loadIndex(indexInputWithBuffer, indexParameters, engine)
+            );
+        }
+
+        // Writing the index frees it, until then it has to be freed here if the build fails
+        boolean written = false;
+        try (
+            final OffHeapVectorTransfer vectorTransfer = getVectorTransfer(
+                indexInfo.getVectorDataType(),
+                indexBuildSetup.getBytesPerVector(),
+                Math.max(1, indexInfo.getTotalLiveDocs() - baseGraph.getNumVectors())
+            )
+        ) {
+            final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
+
+            // Skip the vectors already in the graph
+            if (knnVectorValues.docId() < baseGraph.getMaxDoc()) {
+                knnVectorValues.advance(baseGraph.getMaxDoc());
+            }
+            int numInserted = 0;
+            while (knnVectorValues.docId() != NO_MORE_DOCS) {
+                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                // append is false to be able to reuse the memory location
+                boolean transferred = vectorTransfer.transfer(vector, false);
+                transferredDocIds.add(knnVectorValues.docId());
+                if (transferred) {
+                    insert(
+                        transferredDocIds,
+                        vectorTransfer.getVectorAddress(),
+                        indexBuildSetup,
+                        indexParameters,
+                        indexMemoryAddress,
+                        engine
+                    );
+                    numInserted += transferredDocIds.size();
+                    transferredDocIds.clear();
+                }
+                knnVectorValues.nextDoc();
+            }
+
+            // Need to make sure that the flushed vectors are indexed
+            if (vectorTransfer.flush(false)) {
+                insert(transferredDocIds, vectorTransfer.getVectorAddress(), indexBuildSetup, indexParameters, indexMemoryAddress, engine);
+                numInserted += transferredDocIds.size();
+                transferredDocIds.clear();
+            }
+            log.debug(
+                "Inserted [{}] vectors into the graph [{}] of [{}] vectors for field [{}]",
+                numInserted,
+                baseGraph.getFileName(),
+                baseGraph.getNumVectors(),
+                indexInfo.getField()
+            );
+
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters, false);
+                return null;
+            });
+            written = true;
+        } catch (IndexBuildAbortedException indexBuildAbortedException) {
+            throw indexBuildAbortedException;
+        } catch (Exception exception) {
+            throw new RuntimeException(
+                "Failed to build index incrementally, field name [" + indexInfo.getField() + "], parameters " + indexInfo,
+                exception
+            );
+        } finally {
+            if (written == false) {
+                JNIService.free(indexMemoryAddress, engine, IndexUtil.isBinaryIndex(engine, indexParameters));
+            }
+        }
+    }
+
+    private static void insert(
+        final List<Integer> docIds,
+        final long vectorAddress,
+        final IndexBuildSetup indexBuildSetup,
+        final Map<String, Object> indexParameters,
+        final long indexMemoryAddress,
+        final KNNEngine engine
+    ) {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            JNIService.insertToIndex(
+                intListToArray(docIds),
+                vectorAddress,
+                indexBuildSetup.getDimensions(),
+                indexParameters,
+                indexMemoryAddress,
+                engine
+            );
+            return null;
+        });
+    }
+}
@@ -7,21 +7,29 @@ package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.jni.JNIService;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
-import static org.opensearch.knn.common.KNNVectorUtil.intListToArray;
+import static org.opensearch.knn.common.KNNConstants.INDEX_BUILD_THREAD_POOL;
 import static org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory.getVectorTransfer;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 
@@ -29,12 +37,21 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
  * Iteratively builds the index. Iterative builds are memory optimized as it does not require all vectors
  * to be transferred. It transfers vectors in small batches, builds index and can clear the offheap space where
  * the vectors were transferred
+ *
+ * <p>When {@link KNNSettings#KNN_INDEX_BUILD_PIPELINED_TRANSFER_ENABLED} is set, two transfer buffers are used in turns:
+ * while one batch is inserted into the index on the {@link org.opensearch.knn.common.KNNConstants#INDEX_BUILD_THREAD_POOL},
+ * the building thread reads, quantizes and transfers the next batch into the other buffer. At most one batch is inserted
+ * at a time, as the native index does not support concurrent inserts.
  */
+@Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
+public final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
 
     private static MemOptimizedNativeIndexBuildStrategy INSTANCE = new MemOptimizedNativeIndexBuildStrategy();
 
+    @Setter
+    private static ThreadPool threadPool;
+
     public static MemOptimizedNativeIndexBuildStrategy getInstance() {
         return INSTANCE;
     }
@@ -68,56 +85,75 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
             )
         );
 
+        final boolean pipelined = isPipelinedTransferEnabled();
+        // Writing the index frees it, until then it has to be freed here if the build fails
+        boolean written = false;
         try (
             final OffHeapVectorTransfer vectorTransfer = getVectorTransfer(
                 indexInfo.getVectorDataType(),
                 indexBuildSetup.getBytesPerVector(),
                 indexInfo.getTotalLiveDocs()
-            )
+            );
+            final OffHeapVectorTransfer standbyVectorTransfer = pipelined
+                ? getVectorTransfer(indexInfo.getVectorDataType(), indexBuildSetup.getBytesPerVector(), indexInfo.getTotalLiveDocs())
+                : null
         ) {
+            // Without pipelining a single buffer is reused for every batch
+            OffHeapVectorTransfer fillingTransfer = vectorTransfer;
+            OffHeapVectorTransfer insertingTransfer = pipelined ? standbyVectorTransfer : vectorTransfer;
+            // Doc ids of a batch are handed to the native insert as they are, so the batch being inserted keeps its own array
+            int[] transferredDocIds = new int[vectorTransfer.getTransferLimit()];
+            int[] insertingDocIds = new int[vectorTransfer.getTransferLimit()];
+            int numTransferredDocIds = 0;
+            Future<?> pendingInsert = null;
 
-            final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
-
-            while (knnVectorValues.docId() != NO_MORE_DOCS) {
-                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
-                // append is false to be able to reuse the memory location
-                boolean transferred = vectorTransfer.transfer(vector, false);
-                transferredDocIds.add(knnVectorValues.docId());
-                if (transferred) {
-                    // Insert vectors
-                    long vectorAddress = vectorTransfer.getVectorAddress();
-                    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                        JNIService.insertToIndex(
-                            intListToArray(transferredDocIds),
-                            vectorAddress,
+            try {
+                while (knnVectorValues.docId() != NO_MORE_DOCS) {
+                    Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                    // append is false to be able to reuse the memory location
+                    boolean transferred = fillingTransfer.transfer(vector, false);
+                    transferredDocIds[numTransferredDocIds++] = knnVectorValues.docId();
+                    if (transferred) {
+                        awaitInsert(pendingInsert);
+                        pendingInsert = insertToIndex(
+                            pipelined,
+                            batchDocIds(transferredDocIds, numTransferredDocIds),
+                            fillingTransfer.getVectorAddress(),
                             indexBuildSetup.getDimensions(),
                             indexParameters,
                             indexMemoryAddress,
                             engine
                         );
-                        return null;
-                    });
-                    transferredDocIds.clear();
+                        numTransferredDocIds = 0;
+
+                        final OffHeapVectorTransfer transfer = fillingTransfer;
+                        fillingTransfer = insertingTransfer;
+                        insertingTransfer = transfer;
+                        final int[] docIds = transferredDocIds;
+                        transferredDocIds = insertingDocIds;
+                        insertingDocIds = docIds;
+                    }
+                    knnVectorValues.nextDoc();
                 }
-                knnVectorValues.nextDoc();
-            }
 
-            boolean flush = vectorTransfer.flush(false);
-            // Need to make sure that the flushed vectors are indexed
-            if (flush) {
-                long vectorAddress = vectorTransfer.getVectorAddress();
-                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                    JNIService.insertToIndex(
-                        intListToArray(transferredDocIds),
-                        vectorAddress,
+                boolean flush = fillingTransfer.flush(false);
+                awaitInsert(pendingInsert);
+                pendingInsert = null;
+                // Need to make sure that the flushed vectors are indexed
+                if (flush) {
+                    insertToIndex(
+                        false,
+                        batchDocIds(transferredDocIds, numTransferredDocIds),
+                        fillingTransfer.getVectorAddress(),
                         indexBuildSetup.getDimensions(),
                         indexParameters,
                         indexMemoryAddress,
                         engine
                     );
-                    return null;
-                });
-                transferredDocIds.clear();
+                }
+            } finally {
+                // The buffers are freed on close, so an insert still reading from one must finish first
+                awaitInsertQuietly(pendingInsert);
             }
 
             // Write vector
@@ -125,7 +161,7 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
                 JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters, false);
                 return null;
             });
-
+            written = true;
         } catch (IndexBuildAbortedException indexBuildAbortedException) {
             throw indexBuildAbortedException;
         } catch (Exception exception) {
@@ -133,6 +169,91 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
                 "Failed to build index, field name [" + indexInfo.getField() + "], parameters " + indexInfo,
                 exception
             );
+        } finally {
+            if (written == false) {
+                JNIService.free(indexMemoryAddress, engine, IndexUtil.isBinaryIndex(engine, indexParameters));
+            }
+        }
+    }
+
+    private static int[] batchDocIds(final int[] docIds, final int numDocIds) {
+        // A full batch is passed without copying, the native insert expects exactly one doc id per vector
+        return numDocIds == docIds.length ? docIds : Arrays.copyOf(docIds, numDocIds);
+    }
+
+    private static boolean isPipelinedTransferEnabled() {
+        return threadPool != null && KNNSettings.isIndexBuildPipelinedTransferEnabled();
+    }
+
+    /**
+     * Inserts a transferred batch of vectors into the index. When asynchronous, the insert runs on the index build thread
+     * pool, or on the calling thread if the pool rejects it.
+     *
+     * @return {@link Future} of the insert, null if the insert ran synchronously
+     */
+    private static Future<?> insertToIndex(
+        final boolean async,
+        final int[] docIds,
+        final long vectorAddress,
+        final int dimensions,
+        final Map<String, Object> indexParameters,
+        final long indexMemoryAddress,
+        final KNNEngine engine
+    ) {
+        final PrivilegedAction<Void> insertAction = () -> {
+            JNIService.insertToIndex(docIds, vectorAddress, dimensions, indexParameters, indexMemoryAddress, engine);
+            return null;
+        };
+        if (async == false) {
+            AccessController.doPrivileged(insertAction);
+            return null;
+        }
+        final FutureTask<Void> insert = new FutureTask<>(() -> AccessController.doPrivileged(insertAction));
+        try {
+            threadPool.executor(INDEX_BUILD_THREAD_POOL).execute(insert);
+        } catch (OpenSearchRejectedExecutionException e) {
+            // The pool is saturated. Insert the batch on the calling thread rather than failing the build.
+            log.debug("Index build thread pool rejected the insert, inserting the batch on the calling thread", e);
+            insert.run();
+        }
+        return insert;
+    }
+
+    private static void awaitInsert(final Future<?> insert) throws IOException {
+        if (insert == null) {
+            return;
+        }
+        try {
+            insert.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while inserting vectors into the index", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void awaitInsertQuietly(final Future<?> insert) {
+        if (insert == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                insert.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                // Already failing, the original exception is reported
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
     }
 }
@@ -140,14 +140,15 @@ public class MemOptimizedScalarQuantizedIndexBuildStrategy implements NativeInde
             )
         );
 
-        // Track whether writeIndex (Phase 3) was reached. Once writeIndex is called,
-        // the native C++ side wraps the pointer in a unique_ptr that frees the index on exit
-        // (even if writeIndex itself throws). Calling releaseSQIndex after that would be a
-        // double-free (and SIGSEGV).
+        // Java owns the native memory until writeIndex (Phase 3) succeeds. The native C++ side
+        // frees the index only once it is written, so a failure in any phase, including the write
+        // itself, must release it here.
         try {
             // Phase 1 + 2: transfer vectors and build HNSW graph.
-            // If these fail, Java still owns the native memory and must release it.
             doBuildIndex(indexMemoryAddress, binarizedVectorValues, knnVectorValues, indexInfo, indexParameters, quantizedVecBytes);
+
+            // Phase 3: write index to disk, which frees the native index once it is written.
+            writeIndex(indexMemoryAddress, indexInfo, indexParameters);
         } catch (final Exception e) {
             // Release the native Faiss SQ index to prevent off-heap memory leaks.
             // The indexMemoryAddress points to faiss::IndexBinaryIDMap* which owns the entire
@@ -155,11 +156,6 @@ public class MemOptimizedScalarQuantizedIndexBuildStrategy implements NativeInde
             JNIService.releaseSQIndex(indexMemoryAddress, indexInfo.getKnnEngine());
             throw e;
         }
-
-        // Phase 3: write index to disk.
-        // writeIndex takes ownership of the native pointer via unique_ptr in C++,
-        // so the memory is freed regardless of success or failure — no cleanup needed here.
-        writeIndex(indexMemoryAddress, indexInfo, indexParameters);
     }
 
     /**
@@ -218,10 +214,10 @@ public class MemOptimizedScalarQuantizedIndexBuildStrategy implements NativeInde
     /**
      * Phase 3: Serialize the in-memory HNSW graph to disk.
      *
-     * <p>IMPORTANT: This method transfers ownership of the native index memory to C++.
-     * The native {@code BinaryIndexService::writeIndex} wraps the pointer in a {@code unique_ptr},
-     * which frees the memory when the function exits (whether successfully or via exception).
-     * Callers must NOT call {@code releaseSQndex} after invoking this method.
+     * <p>IMPORTANT: This method transfers ownership of the native index memory to C++ once the index
+     * is written. The native {@code BinaryIndexService::writeIndex} frees the memory after a successful
+     * write. Callers must NOT call {@code releaseSQIndex} after this method returns, but must call it if
+     * this method throws.
      */
     private void writeIndex(final long indexMemoryAddress, final BuildIndexParams indexInfo, final Map<String, Object> indexParameters) {
         // The IO_FLAG_SKIP_STORAGE flag (set in native code) causes Faiss to write only the
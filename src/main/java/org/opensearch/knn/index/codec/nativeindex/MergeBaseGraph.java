@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.Nullable;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.engine.KNNEngine;
+
+import java.io.IOException;
+
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+
+/**
+ * The native graph of a merged segment that the merge extends with the vectors of the other merged segments, instead of
+ * building the graph of the merged segment from scratch.
+ * <p>
+ * The graph stores the doc ids of its segment, so it can only be reused as is when those doc ids do not change in the
+ * merged segment. That is the case for the first merged segment when it has no deletions and the merge does not sort
+ * the index. Its docs then come first in the merged segment, in the same order, and the vectors of the other segments
+ * are appended after them, which keeps the id mapping of the graph increasing as the memory optimized search expects.
+ */
+@Value
+@Log4j2
+public class MergeBaseGraph {
+
+    // The base segment must hold at least this share of the merged vectors. Extending a graph that holds few of the
+    // vectors saves little work compared to a rebuild.
+    static final double MIN_SHARE_OF_MERGED_VECTORS = 0.5;
+
+    Directory directory;
+    String fileName;
+    // Docs with an id below this value belong to the base segment and are already in the graph
+    int maxDoc;
+    int numVectors;
+
+    /**
+     * Finds the graph a merge of the field can be built upon.
+     *
+     * @param fieldInfo field being merged
+     * @param mergeState state of the merge
+     * @param totalLiveDocs number of vectors of the merged segment
+     * @return {@link MergeBaseGraph} of the first merged segment, or null if the graph has to be built from scratch
+     * @throws IOException if the vectors of the first merged segment cannot be read
+     */
+    @Nullable
+    public static MergeBaseGraph find(final FieldInfo fieldInfo, final MergeState mergeState, final int totalLiveDocs) throws IOException {
+        if (isSupported(fieldInfo) == false || mergeState.needsIndexSort || mergeState.knnVectorsReaders.length < 2) {
+            return null;
+        }
+        // The base segment keeps its doc ids only if none of its docs are dropped
+        if (mergeState.liveDocs[0] != null || mergeState.knnVectorsReaders[0] == null) {
+            return null;
+        }
+
+        KnnVectorsReader reader = mergeState.knnVectorsReaders[0];
+        if (reader instanceof PerFieldKnnVectorsFormat.FieldsReader fieldsReader) {
+            reader = fieldsReader.getFieldReader(fieldInfo.getName());
+        }
+        if ((reader instanceof AbstractNativeEnginesKnnVectorsReader nativeReader) == false) {
+            return null;
+        }
+        final FieldInfo baseFieldInfo = nativeReader.fieldInfos.fieldInfo(fieldInfo.getName());
+        if (baseFieldInfo == null || isSupported(baseFieldInfo) == false) {
+            return null;
+        }
+        // The graph is missing when the segment was below the approximate search threshold
+        final String fileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(baseFieldInfo, nativeReader.segmentReadState.segmentInfo);
+        if (fileName == null) {
+            return null;
+        }
+        final FloatVectorValues baseVectorValues = nativeReader.getFloatVectorValues(fieldInfo.getName());
+        if (baseVectorValues == null || baseVectorValues.size() < MIN_SHARE_OF_MERGED_VECTORS * totalLiveDocs) {
+            return null;
+        }
+
+        log.debug(
+            "Merge of field [{}] extends the graph [{}] holding [{}] of [{}] vectors",
+            fieldInfo.getName(),
+            fileName,
+            baseVectorValues.size(),
+            totalLiveDocs
+        );
+        return new MergeBaseGraph(nativeReader.segmentReadState.directory, fileName, mergeState.maxDocs[0], baseVectorValues.size());
+    }
+
+    // Only float Faiss graphs built from a method, whose vectors are inserted as is, can be extended
+    private static boolean isSupported(final FieldInfo fieldInfo) {
+        return fieldInfo.attributes().containsKey(MODEL_ID) == false
+            && FieldInfoExtractor.extractKNNEngine(fieldInfo) == KNNEngine.FAISS
+            && FieldInfoExtractor.extractVectorDataType(fieldInfo) == VectorDataType.FLOAT
+            && FieldInfoExtractor.hasQuantizationConfig(fieldInfo) == false
+            && FieldInfoExtractor.isSQField(fieldInfo) == false;
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Setter;
 import org.apache.lucene.index.FieldInfo;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.nativeindex.remote.RemoteIndexBuildStrategy;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.faiss.FaissSQEncoder;
@@ -44,6 +45,13 @@ public final class NativeIndexBuildStrategyFactory {
         this.indexSettings = indexSettings;
     }
 
+    /**
+     * @return true if merges may extend the graph of a source segment instead of building the graph from scratch
+     */
+    public boolean isIncrementalMergeEnabled() {
+        return indexSettings != null && indexSettings.getValue(KNNSettings.INDEX_KNN_INCREMENTAL_MERGE_ENABLED_SETTING);
+    }
+
     /**
      * @param fieldInfo         Field related attributes/info
      * @param totalLiveDocs     Number of documents with the vector field. This values comes from {@link org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsWriter#flush}
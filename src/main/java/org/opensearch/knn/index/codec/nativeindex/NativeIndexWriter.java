@@ -6,6 +6,7 @@
 package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.AllArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.codecs.lucene104.QuantizedByteVectorValues;
@@ -13,6 +14,7 @@ import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.bytes.BytesArray;
@@ -25,6 +27,7 @@ import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.codec.nativeindex.remote.RemoteIndexBuildStrategy;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
@@ -63,6 +66,10 @@ public class NativeIndexWriter {
     private final QuantizationState quantizationState;
     @Nullable
     private final QuantizedByteVectorValues quantizedByteVectorValues;
+    // When set, merges only submit remote builds and complete them once all fields of the segment were merged
+    @Setter
+    @Nullable
+    private DeferredIndexBuilds deferredIndexBuilds;
 
     /**
      * Gets the correct writer type from fieldInfo
@@ -125,7 +132,7 @@ public class NativeIndexWriter {
      * @throws IOException
      */
     public void flushIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs) throws IOException {
-        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, true);
+        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, true, null, null);
         recordRefreshStats();
     }
 
@@ -135,6 +142,21 @@ public class NativeIndexWriter {
      * @throws IOException
      */
     public void mergeIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs) throws IOException {
+        mergeIndex(knnVectorValuesSupplier, totalLiveDocs, null);
+    }
+
+    /**
+     * Merges kNN index, extending the graph of a source segment when one is given
+     * @param knnVectorValuesSupplier
+     * @param totalLiveDocs
+     * @param baseGraph graph of a source segment to insert the other vectors into, or null to build the graph from scratch
+     * @throws IOException
+     */
+    public void mergeIndex(
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        @Nullable final MergeBaseGraph baseGraph
+    ) throws IOException {
         KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
         initializeVectorValues(knnVectorValues);
         if (knnVectorValues.docId() == NO_MORE_DOCS) {
@@ -147,8 +169,16 @@ public class NativeIndexWriter {
 
         try {
             startMergeStats(totalLiveDocs, bytesPerVector);
-            buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, false);
-            endMergeStats(totalLiveDocs, bytesPerVector);
+            final boolean isDeferred = buildAndWriteIndex(
+                knnVectorValuesSupplier,
+                totalLiveDocs,
+                false,
+                baseGraph,
+                () -> endMergeStats(totalLiveDocs, bytesPerVector)
+            );
+            if (isDeferred == false) {
+                endMergeStats(totalLiveDocs, bytesPerVector);
+            }
         } catch (IndexBuildAbortedException ex) {
             log.warn("Merge Aborted for field {}", fieldInfo.name, ex);
             throw new MergePolicy.MergeAbortedException("KNN Merge aborted.");
@@ -157,11 +187,23 @@ public class NativeIndexWriter {
         }
     }
 
-    private void buildAndWriteIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs, boolean isFlush)
-        throws IOException {
+    /**
+     * Builds the index of the field and writes it to its engine file, or submits its remote build and defers the rest to
+     * {@link DeferredIndexBuilds#completeAll()} during a merge.
+     *
+     * @param onDeferredBuildDone run once a deferred build completes or is cancelled, ignored if the build is not deferred
+     * @return true if the build was deferred
+     */
+    private boolean buildAndWriteIndex(
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        boolean isFlush,
+        @Nullable final MergeBaseGraph baseGraph,
+        @Nullable final Runnable onDeferredBuildDone
+    ) throws IOException {
         if (totalLiveDocs == 0) {
             log.debug("No live docs for field {}", fieldInfo.name);
-            return;
+            return false;
         }
 
         final KNNEngine knnEngine = extractKNNEngine(fieldInfo);
@@ -171,6 +213,26 @@ public class NativeIndexWriter {
             fieldInfo.name,
             knnEngine.getExtension()
         );
+        NativeIndexBuildStrategy indexBuilder = indexBuilderFactory.getBuildStrategy(
+            fieldInfo,
+            totalLiveDocs,
+            knnVectorValuesSupplier.get()
+        );
+        // Only a local build inserting the vectors as is can start from an existing graph
+        if (baseGraph != null && indexBuilder instanceof MemOptimizedNativeIndexBuildStrategy) {
+            indexBuilder = new IncrementalMergeIndexBuildStrategy(baseGraph);
+        }
+        if (isFlush == false && deferredIndexBuilds != null && indexBuilder instanceof RemoteIndexBuildStrategy remoteIndexBuilder) {
+            submitRemoteIndexBuild(
+                remoteIndexBuilder,
+                engineFileName,
+                knnEngine,
+                knnVectorValuesSupplier,
+                totalLiveDocs,
+                onDeferredBuildDone == null ? () -> {} : onDeferredBuildDone
+            );
+            return true;
+        }
         try (IndexOutput output = state.directory.createOutput(engineFileName, state.context)) {
             final IndexOutputWithBuffer indexOutputWithBuffer = new IndexOutputWithBuffer(output);
             final BuildIndexParams nativeIndexParams = indexParams(
@@ -181,13 +243,59 @@ public class NativeIndexWriter {
                 totalLiveDocs,
                 isFlush
             );
-            NativeIndexBuildStrategy indexBuilder = indexBuilderFactory.getBuildStrategy(
+            indexBuilder.buildAndWriteIndex(nativeIndexParams);
+            CodecUtil.writeFooter(output);
+        }
+        return false;
+    }
+
+    /**
+     * Submits the remote build of a merged field and defers waiting for it, and writing the engine file, to
+     * {@link DeferredIndexBuilds#completeAll()}. Failures while completing the build are handled like in
+     * {@link #mergeIndex(Supplier, int, MergeBaseGraph)}. If the merge is aborted before then, the remote build is
+     * cancelled. Either way, onDeferredBuildDone is run once the build is done with.
+     */
+    private void submitRemoteIndexBuild(
+        final RemoteIndexBuildStrategy remoteIndexBuilder,
+        final String engineFileName,
+        final KNNEngine knnEngine,
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        final Runnable onDeferredBuildDone
+    ) throws IOException {
+        final IndexOutput output = state.directory.createOutput(engineFileName, state.context);
+        try {
+            final BuildIndexParams nativeIndexParams = indexParams(
                 fieldInfo,
+                new IndexOutputWithBuffer(output),
+                knnEngine,
+                knnVectorValuesSupplier,
                 totalLiveDocs,
-                knnVectorValuesSupplier.get()
+                false
             );
-            indexBuilder.buildAndWriteIndex(nativeIndexParams);
-            CodecUtil.writeFooter(output);
+            final RemoteIndexBuildStrategy.PendingIndexBuild pendingIndexBuild = remoteIndexBuilder.submitIndexBuild(nativeIndexParams);
+            deferredIndexBuilds.add(output, () -> {
+                try {
+                    pendingIndexBuild.awaitAndWriteIndex();
+                    CodecUtil.writeFooter(output);
+                } catch (IndexBuildAbortedException ex) {
+                    log.warn("Merge Aborted for field {}", fieldInfo.name, ex);
+                    throw new MergePolicy.MergeAbortedException("KNN Merge aborted.");
+                } catch (Exception ex) {
+                    log.error("Merge exception happened for field {}", fieldInfo.name, ex);
+                } finally {
+                    onDeferredBuildDone.run();
+                }
+            }, () -> {
+                try {
+                    pendingIndexBuild.cancel();
+                } finally {
+                    onDeferredBuildDone.run();
+                }
+            });
+        } catch (Throwable t) {
+            IOUtils.closeWhileHandlingException(output);
+            throw t;
         }
     }
 
@@ -358,6 +466,6 @@ public class NativeIndexWriter {
         NativeIndexBuildStrategyFactory nativeIndexBuildStrategyFactory,
         @Nullable final QuantizedByteVectorValues quantizedByteVectorValues
     ) {
-        return new NativeIndexWriter(state, fieldInfo, nativeIndexBuildStrategyFactory, quantizationState, quantizedByteVectorValues);
+        return new NativeIndexWriter(state, fieldInfo, nativeIndexBuildStrategyFactory, quantizationState, quantizedByteVectorValues, null);
     }
 }
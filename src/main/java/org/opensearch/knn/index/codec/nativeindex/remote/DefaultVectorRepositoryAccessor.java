@@ -5,7 +5,6 @@
 
 package org.opensearch.knn.index.codec.nativeindex.remote;
 
-import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.action.LatchedActionListener;
@@ -28,20 +27,36 @@ import java.io.InputStream;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 import static org.opensearch.knn.common.KNNConstants.DOC_ID_FILE_EXTENSION;
+import static org.opensearch.knn.common.KNNConstants.GZIP_FILE_EXTENSION;
 import static org.opensearch.knn.common.KNNConstants.VECTOR_BLOB_FILE_EXTENSION;
 
 @Log4j2
-@AllArgsConstructor
 public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor {
     // Buffer sizes for remote build repository interactions. The max memory usage is this buffer size * the number of indexing threads.
     // e.g. 16 threads would use at most 0.8 GB or 800 MB (for vectors).
     private static final int VECTOR_UPLOAD_BUFFER_SIZE = 50 * 1024 * 1024; // 50 MB
     private static final int DOC_ID_UPLOAD_BUFFER_SIZE = 8 * 1024; // 8 KB
     private static final int INDEX_DOWNLOAD_BUFFER_SIZE = 50 * 1024 * 1024; // 50 MB
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024; // 64 KB
     private final BlobContainer blobContainer;
+    private final RemoteBlobFormat blobFormat;
+
+    public DefaultVectorRepositoryAccessor(BlobContainer blobContainer) {
+        this(blobContainer, RemoteBlobFormat.RAW);
+    }
+
+    /**
+     * @param blobContainer container the blobs are written to and the index file is read from
+     * @param blobFormat    encodings of the blobs, which must match the ones advertised in the build request
+     */
+    DefaultVectorRepositoryAccessor(BlobContainer blobContainer, RemoteBlobFormat blobFormat) {
+        this.blobContainer = blobContainer;
+        this.blobFormat = blobFormat;
+    }
 
     /**
      * If the repository implements {@link AsyncMultiStreamBlobContainer}, then parallel uploads will be used. Parallel uploads are backed by a {@link WriteContext}, for which we have a custom
@@ -67,7 +82,7 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
         assert blobContainer != null;
         KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
         initializeVectorValues(knnVectorValues);
-        long vectorBlobLength = (long) knnVectorValues.bytesPerVector() * totalLiveDocs;
+        long vectorBlobLength = (long) blobFormat.encodedBytesPerVector(knnVectorValues.bytesPerVector()) * totalLiveDocs;
 
         // TODO : Once Lucene patch https://github.com/apache/lucene/issues/14992 is merged, remove vector data type check in condition.
         if (vectorDataType == VectorDataType.FLOAT && blobContainer instanceof AsyncMultiStreamBlobContainer asyncBlobContainer) {
@@ -103,7 +118,7 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
 
             // Then upload doc id blob before waiting on vector uploads, wrapping with a BufferedInputStream to support retries.
             // Note: We do not use the parallel upload API here as the doc id blob will be much smaller than the vector blob
-            writeDocIds(knnVectorValuesSupplier.get(), vectorBlobLength, totalLiveDocs, blobName, blobContainer);
+            writeDocIds(knnVectorValuesSupplier, totalLiveDocs, blobName, blobContainer);
             latch.await();
             if (exception.get() != null) {
                 throw new IOException(exception.get());
@@ -113,7 +128,7 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
             // Write Vectors
             try (
                 InputStream vectorStream = new BufferedInputStream(
-                    new VectorValuesInputStream(knnVectorValuesSupplier.get(), vectorDataType),
+                    new VectorValuesInputStream(knnVectorValuesSupplier.get(), vectorDataType, blobFormat.halfPrecisionVectors()),
                     VECTOR_UPLOAD_BUFFER_SIZE
                 )
             ) {
@@ -121,34 +136,36 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
                 blobContainer.writeBlob(blobName + VECTOR_BLOB_FILE_EXTENSION, vectorStream, vectorBlobLength, true);
             }
             // Then write doc ids
-            writeDocIds(knnVectorValuesSupplier.get(), vectorBlobLength, totalLiveDocs, blobName, blobContainer);
+            writeDocIds(knnVectorValuesSupplier, totalLiveDocs, blobName, blobContainer);
         }
     }
 
     /**
      * Helper method for uploading doc ids to repository, as it's re-used in both parallel and sequential upload cases
-     * @param knnVectorValues
-     * @param vectorBlobLength
+     * @param knnVectorValuesSupplier
      * @param totalLiveDocs
      * @param blobName
      * @param blobContainer
      * @throws IOException
      */
     private void writeDocIds(
-        KNNVectorValues<?> knnVectorValues,
-        long vectorBlobLength,
+        Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
         long totalLiveDocs,
         String blobName,
         BlobContainer blobContainer
     ) throws IOException {
-        try (InputStream docStream = new BufferedInputStream(new DocIdInputStream(knnVectorValues), DOC_ID_UPLOAD_BUFFER_SIZE)) {
-            log.debug(
-                "Writing {} bytes for {} docs ids to {}",
-                vectorBlobLength,
-                totalLiveDocs * Integer.BYTES,
-                blobName + DOC_ID_FILE_EXTENSION
-            );
-            blobContainer.writeBlob(blobName + DOC_ID_FILE_EXTENSION, docStream, totalLiveDocs * Integer.BYTES, true);
+        final boolean deltaEncoded = blobFormat.deltaEncodedDocIds();
+        final long docIdBlobLength = deltaEncoded
+            ? DocIdInputStream.deltaEncodedLength(knnVectorValuesSupplier.get())
+            : totalLiveDocs * Integer.BYTES;
+        try (
+            InputStream docStream = new BufferedInputStream(
+                new DocIdInputStream(knnVectorValuesSupplier.get(), deltaEncoded),
+                DOC_ID_UPLOAD_BUFFER_SIZE
+            )
+        ) {
+            log.debug("Writing {} bytes for {} docs ids to {}", docIdBlobLength, totalLiveDocs, blobName + DOC_ID_FILE_EXTENSION);
+            blobContainer.writeBlob(blobName + DOC_ID_FILE_EXTENSION, docStream, docIdBlobLength, true);
         }
     }
 
@@ -196,6 +213,7 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
             VectorValuesInputStream vectorValuesInputStream = new VectorValuesInputStream(
                 knnVectorValuesSupplier.get(),
                 vectorDataType,
+                blobFormat.halfPrecisionVectors(),
                 position,
                 size
             );
@@ -232,7 +250,10 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
         if (StringUtils.isBlank(fileName)) {
             throw new IllegalArgumentException("download path is null or empty");
         }
-        if (!fileName.endsWith(KNNEngine.FAISS.getExtension())) {
+        // The remote build service may compress the index file if the build request accepted it
+        final boolean compressed = blobFormat.compressedIndex()
+            && fileName.endsWith(KNNEngine.FAISS.getExtension() + GZIP_FILE_EXTENSION);
+        if (!compressed && !fileName.endsWith(KNNEngine.FAISS.getExtension())) {
             log.error("file name [{}] does not end with extension [{}}", fileName, KNNEngine.FAISS.getExtension());
             throw new IllegalArgumentException("download path has incorrect file extension");
         }
@@ -240,6 +261,9 @@ public class DefaultVectorRepositoryAccessor implements VectorRepositoryAccessor
         // TODO: We are using the sequential download API as multi-part parallel download is difficult for us to implement today and
         // requires some changes in core. For more details, see: https://github.com/opensearch-project/k-NN/issues/2464
         InputStream graphStream = blobContainer.readBlob(fileName);
+        if (compressed) {
+            graphStream = new GZIPInputStream(graphStream, GZIP_BUFFER_SIZE);
+        }
         indexOutputWithBuffer.writeFromStreamWithBuffer(graphStream, INDEX_DOWNLOAD_BUFFER_SIZE);
     }
 }
@@ -22,10 +22,15 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
  */
 @Log4j2
 class DocIdInputStream extends InputStream {
+    private static final int MAX_VINT_BYTES = 5;
+
     private final KNNVectorValues<?> knnVectorValues;
     // Doc ids are 4 byte integers, byte read() only returns a single byte, so we will need to track the byte position within a doc id.
-    // For simplicity, and to maintain the byte ordering, we use a buffer with size of 1 int.
+    // For simplicity, and to maintain the byte ordering, we use a buffer with size of 1 int, or of the longest varint.
     private ByteBuffer currentBuffer;
+    // Doc ids are written as varint encoded deltas to the previous doc id instead of 4 byte integers
+    private final boolean deltaEncoded;
+    private int previousDocId;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     /**
@@ -35,12 +40,50 @@ class DocIdInputStream extends InputStream {
      * @see VectorValuesInputStream
      */
     public DocIdInputStream(KNNVectorValues<?> knnVectorValues) throws IOException {
-        this.currentBuffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this(knnVectorValues, false);
+    }
+
+    /**
+     * Use to represent the doc ids of a {@link KNNVectorValues} as an {@link InputStream}, optionally as varint encoded deltas.
+     * Doc ids are visited in increasing order, so every delta is positive and most fit in one or two bytes.
+     * @param knnVectorValues
+     * @param deltaEncoded    whether doc ids are written as varint encoded deltas to the previous doc id, starting from 0
+     * @throws IOException
+     * @see DocIdInputStream#deltaEncodedLength
+     */
+    public DocIdInputStream(KNNVectorValues<?> knnVectorValues, boolean deltaEncoded) throws IOException {
+        this.currentBuffer = ByteBuffer.allocate(deltaEncoded ? MAX_VINT_BYTES : Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
         this.knnVectorValues = knnVectorValues;
+        this.deltaEncoded = deltaEncoded;
         initializeVectorValues(this.knnVectorValues);
         reloadBuffer();
     }
 
+    /**
+     * Computes the length of the doc ids of a {@link KNNVectorValues} as varint encoded deltas, which cannot be derived from the
+     * number of docs alone. Only iterates doc ids, without reading any vector.
+     * @param knnVectorValues unpositioned vector values, exhausted by this method
+     * @return number of bytes a delta encoded {@link DocIdInputStream} over the same doc ids returns
+     * @throws IOException
+     */
+    static long deltaEncodedLength(KNNVectorValues<?> knnVectorValues) throws IOException {
+        initializeVectorValues(knnVectorValues);
+        long length = 0;
+        int previousDocId = 0;
+        int docId = knnVectorValues.docId();
+        while (docId != -1 && docId != DocIdSetIterator.NO_MORE_DOCS) {
+            length += vIntLength(docId - previousDocId);
+            previousDocId = docId;
+            docId = knnVectorValues.nextDoc();
+        }
+        return length;
+    }
+
+    private static int vIntLength(int value) {
+        // 7 bits per byte, at least one byte
+        return Math.max(1, (Integer.SIZE - Integer.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
     @Override
     public int read() throws IOException {
         checkClosed();
@@ -118,7 +161,19 @@ class DocIdInputStream extends InputStream {
      */
     private void reloadBuffer() throws IOException {
         currentBuffer.clear();
-        currentBuffer.putInt(knnVectorValues.docId());
-        currentBuffer.position(0);
+        final int docId = knnVectorValues.docId();
+        if (deltaEncoded) {
+            // Same layout as Lucene's DataOutput#writeVInt: 7 bits per byte, lowest first, high bit set on all but the last byte
+            int delta = docId - previousDocId;
+            previousDocId = docId;
+            while ((delta & ~0x7F) != 0) {
+                currentBuffer.put((byte) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            currentBuffer.put((byte) delta);
+        } else {
+            currentBuffer.putInt(docId);
+        }
+        currentBuffer.flip();
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex.remote;
+
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.faiss.FaissHNSWMethod;
+
+import java.util.Map;
+
+/**
+ * Encodings of the blobs a remote index build exchanges with the repository. The raw format uploads little endian vectors
+ * and 4 byte doc ids, and downloads an uncompressed index file. The compact format, enabled by
+ * {@link KNNSettings#KNN_REMOTE_BUILD_COMPACT_FORMAT_ENABLED_SETTING}, uploads doc ids as varint encoded deltas and accepts a
+ * gzip compressed index file. Float vectors are then only uploaded in half precision when the field's encoder stores them in
+ * half precision anyway, so that the graph built from them is the same.
+ *
+ * @param halfPrecisionVectors whether float vectors are uploaded as fp16
+ * @param deltaEncodedDocIds   whether doc ids are uploaded as varint encoded deltas to the previous doc id
+ * @param compressedIndex      whether the remote build service may write a gzip compressed index file
+ */
+record RemoteBlobFormat(boolean halfPrecisionVectors, boolean deltaEncodedDocIds, boolean compressedIndex) {
+
+    static final RemoteBlobFormat RAW = new RemoteBlobFormat(false, false, false);
+
+    /**
+     * @param vectorDataType data type of the field
+     * @param parameters     library parameters of the field
+     * @return the format to build the field's index with
+     */
+    static RemoteBlobFormat of(final VectorDataType vectorDataType, final Map<String, Object> parameters) {
+        if (KNNSettings.isRemoteBuildCompactFormatEnabled() == false) {
+            return RAW;
+        }
+        return new RemoteBlobFormat(FaissHNSWMethod.isFloat16Index(vectorDataType, parameters), true, true);
+    }
+
+    /**
+     * @param bytesPerVector size of a raw vector
+     * @return size of a vector in the vector blob
+     */
+    int encodedBytesPerVector(final int bytesPerVector) {
+        return halfPrecisionVectors ? bytesPerVector / Float.BYTES * Short.BYTES : bytesPerVector;
+    }
+}
@@ -41,10 +41,13 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.opensearch.knn.common.KNNConstants.BUCKET;
+import static org.opensearch.knn.common.KNNConstants.DOC_ID_ENCODING_DELTA_VARINT;
 import static org.opensearch.knn.common.KNNConstants.DOC_ID_FILE_EXTENSION;
+import static org.opensearch.knn.common.KNNConstants.INDEX_ENCODING_GZIP;
 import static org.opensearch.knn.common.KNNConstants.S3;
 import static org.opensearch.knn.common.KNNConstants.VECTORS_PATH;
 import static org.opensearch.knn.common.KNNConstants.VECTOR_BLOB_FILE_EXTENSION;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_ENCODING_FP16;
 import static org.opensearch.knn.index.KNNSettings.KNN_INDEX_REMOTE_VECTOR_BUILD_SETTING;
 import static org.opensearch.knn.index.KNNSettings.KNN_INDEX_REMOTE_VECTOR_BUILD_SIZE_MIN_SETTING;
 import static org.opensearch.knn.index.KNNSettings.KNN_REMOTE_VECTOR_BUILD_SIZE_MAX_SETTING;
@@ -54,6 +57,8 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
 /**
  * This class orchestrates building vector indices. It handles uploading data to a repository, submitting a remote
  * build request, awaiting upon the build request to complete, and finally downloading the data from a repository.
+ * Uploads and downloads are bounded per node by {@link KNNSettings#KNN_REMOTE_BUILD_UPLOAD_MAX_CONCURRENCY_SETTING} and
+ * {@link KNNSettings#KNN_REMOTE_BUILD_DOWNLOAD_MAX_CONCURRENCY_SETTING}.
  */
 @Log4j2
 @ExperimentalApi
@@ -151,8 +156,21 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
      */
     @Override
     public void buildAndWriteIndex(BuildIndexParams indexInfo) throws IOException {
+        submitIndexBuild(indexInfo).awaitAndWriteIndex();
+    }
+
+    /**
+     * Writes the required data to the repository and triggers the index build, without waiting for the build to complete.
+     * The caller completes the build with {@link PendingIndexBuild#awaitAndWriteIndex()}, and may do other work while the
+     * remote service builds the index. If the build cannot be submitted, completing it falls back to the designated
+     * {@link NativeIndexBuildStrategy}.
+     *
+     * @param indexInfo {@link BuildIndexParams} containing information about the index to be built
+     * @return {@link PendingIndexBuild} to complete the build with
+     * @throws IOException if a terminal error occurs while submitting the build
+     */
+    public PendingIndexBuild submitIndexBuild(BuildIndexParams indexInfo) throws IOException {
         metrics.startRemoteIndexBuildMetrics(indexInfo);
-        boolean success = false;
         try {
             RepositoryContext repositoryContext = getRepositoryContext(indexInfo);
 
@@ -162,22 +180,89 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
             // 2. Trigger remote index build
             RemoteIndexClient client = RemoteIndexClientFactory.getRemoteIndexClient(KNNSettings.getRemoteBuildServiceEndpoint());
             RemoteBuildResponse remoteBuildResponse = submitBuild(repositoryContext, indexInfo, client);
-
-            // 3. Await vector build completion
-            RemoteBuildStatusResponse remoteBuildStatusResponse = awaitIndexBuild(remoteBuildResponse, indexInfo, client);
-
-            // 4. Download index file and write to indexOutput
-            readFromRepository(indexInfo, repositoryContext, remoteBuildStatusResponse);
-            success = true;
-            return;
+            return new PendingIndexBuild(indexInfo, repositoryContext, client, remoteBuildResponse);
         } catch (TerminalIOException e) {
+            metrics.endRemoteIndexBuildMetrics(false);
             throw e;
         } catch (Exception e) {
             log.error("Failed to build index remotely: " + indexInfo, e);
-        } finally {
-            metrics.endRemoteIndexBuildMetrics(success);
+            metrics.endRemoteIndexBuildMetrics(false);
+        }
+        return new PendingIndexBuild(indexInfo, null, null, null);
+    }
+
+    /**
+     * Remote index build that was submitted, or failed to be submitted, and has not been written to the indexOutput yet.
+     */
+    public final class PendingIndexBuild {
+        private final BuildIndexParams indexInfo;
+        private final RepositoryContext repositoryContext;
+        private final RemoteIndexClient client;
+        // Null if the build could not be submitted
+        private final RemoteBuildResponse remoteBuildResponse;
+
+        private PendingIndexBuild(
+            BuildIndexParams indexInfo,
+            RepositoryContext repositoryContext,
+            RemoteIndexClient client,
+            RemoteBuildResponse remoteBuildResponse
+        ) {
+            this.indexInfo = indexInfo;
+            this.repositoryContext = repositoryContext;
+            this.client = client;
+            this.remoteBuildResponse = remoteBuildResponse;
+        }
+
+        /**
+         * Awaits the submitted build, then downloads the index file and writes it to the indexOutput. Falls back to the
+         * designated {@link NativeIndexBuildStrategy} if the build was not submitted or fails.
+         *
+         * @throws IOException if a terminal error occurs during the build process
+         */
+        public void awaitAndWriteIndex() throws IOException {
+            if (remoteBuildResponse != null) {
+                boolean success = false;
+                try {
+                    // 3. Await vector build completion
+                    RemoteBuildStatusResponse remoteBuildStatusResponse = awaitIndexBuild(remoteBuildResponse, indexInfo, client);
+
+                    // 4. Download index file and write to indexOutput
+                    readFromRepository(indexInfo, repositoryContext, remoteBuildStatusResponse);
+                    success = true;
+                    return;
+                } catch (TerminalIOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error("Failed to build index remotely: " + indexInfo, e);
+                } finally {
+                    metrics.endRemoteIndexBuildMetrics(success);
+                }
+            }
+            fallbackStrategy.buildAndWriteIndex(indexInfo);
+        }
+
+        /**
+         * Cancels the submitted build instead of awaiting it, e.g. because the merge it was submitted for was aborted.
+         * Cancelling is best effort: if the remote service cannot be reached, the failure is logged and the job runs to
+         * completion without its graph being downloaded.
+         */
+        public void cancel() {
+            if (remoteBuildResponse == null) {
+                return;
+            }
+            try {
+                client.cancelBuild(RemoteBuildStatusRequest.builder().jobId(remoteBuildResponse.getJobId()).build());
+            } catch (Exception e) {
+                log.warn(
+                    "Failed to cancel remote index build [{}] for field [{}]",
+                    remoteBuildResponse.getJobId(),
+                    indexInfo.getField(),
+                    e
+                );
+            } finally {
+                metrics.endRemoteIndexBuildMetrics(false);
+            }
         }
-        fallbackStrategy.buildAndWriteIndex(indexInfo);
     }
 
     /**
@@ -187,6 +272,12 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
         VectorRepositoryAccessor vectorRepositoryAccessor = repositoryContext.vectorRepositoryAccessor;
         boolean success = false;
         metrics.startRepositoryWriteMetrics();
+        try {
+            RemoteIndexTransferLimiter.UPLOADS.acquire();
+        } catch (InterruptedException e) {
+            metrics.endRepositoryWriteMetrics(false);
+            throw new RuntimeException(String.format("Repository write failed for vector field [%s]", indexInfo.getField()), e);
+        }
         try {
             vectorRepositoryAccessor.writeToRepository(
                 repositoryContext.blobName,
@@ -198,6 +289,7 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
         } catch (InterruptedException | IOException e) {
             throw new RuntimeException(String.format("Repository write failed for vector field [%s]", indexInfo.getField()), e);
         } finally {
+            RemoteIndexTransferLimiter.UPLOADS.release();
             metrics.endRepositoryWriteMetrics(success);
         }
     }
@@ -224,7 +316,8 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
                 indexInfo,
                 repositoryContext.blobStoreRepository.getMetadata(),
                 repositoryContext.blobPath.buildAsString() + repositoryContext.blobName,
-                knnLibraryIndexingContext.getLibraryParameters()
+                knnLibraryIndexingContext.getLibraryParameters(),
+                repositoryContext.blobFormat
             );
             remoteBuildResponse = client.submitVectorBuild(buildRequest);
             success = true;
@@ -272,6 +365,12 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
     ) throws TerminalIOException {
         metrics.startRepositoryReadMetrics();
         boolean success = false;
+        try {
+            RemoteIndexTransferLimiter.DOWNLOADS.acquire();
+        } catch (InterruptedException e) {
+            metrics.endRepositoryReadMetrics(false);
+            throw new RuntimeException(String.format("Repository read failed for vector field [%s]", indexInfo.getField()), e);
+        }
         try {
             repositoryContext.vectorRepositoryAccessor.readFromRepository(
                 remoteBuildStatusResponse.getFileName(),
@@ -283,6 +382,7 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
         } catch (Exception e) {
             throw new RuntimeException(String.format("Repository read failed for vector field [%s]", indexInfo.getField()), e);
         } finally {
+            RemoteIndexTransferLimiter.DOWNLOADS.release();
             metrics.endRepositoryReadMetrics(success);
         }
     }
@@ -309,7 +409,7 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
      * Record to hold various repository related objects
      */
     private record RepositoryContext(BlobStoreRepository blobStoreRepository, BlobPath blobPath,
-        VectorRepositoryAccessor vectorRepositoryAccessor, String blobName) {
+        VectorRepositoryAccessor vectorRepositoryAccessor, String blobName, RemoteBlobFormat blobFormat) {
     }
 
     /**
@@ -320,10 +420,13 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
         BlobStoreRepository repository = getRepository();
         BlobPath blobPath = repository.basePath().add(indexSettings.getUUID() + VECTORS_PATH);
         String blobName = UUIDs.base64UUID() + "_" + indexInfo.getField() + "_" + indexInfo.getSegmentWriteState().segmentInfo.name;
+        // Resolved once per build, so that the uploaded blobs and the build request agree even if the setting changes in between
+        RemoteBlobFormat blobFormat = RemoteBlobFormat.of(indexInfo.getVectorDataType(), knnLibraryIndexingContext.getLibraryParameters());
         VectorRepositoryAccessor vectorRepositoryAccessor = new DefaultVectorRepositoryAccessor(
-            repository.blobStore().blobContainer(blobPath)
+            repository.blobStore().blobContainer(blobPath),
+            blobFormat
         );
-        return new RepositoryContext(repository, blobPath, vectorRepositoryAccessor, blobName);
+        return new RepositoryContext(repository, blobPath, vectorRepositoryAccessor, blobName, blobFormat);
     }
 
     private static String determineVectorDataType(final VectorDataType dataType, final Map<String, Object> parameters) {
@@ -366,6 +469,28 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
         RepositoryMetadata repositoryMetadata,
         String fullPath,
         Map<String, Object> parameters
+    ) throws IOException {
+        return buildRemoteBuildRequest(indexSettings, indexInfo, repositoryMetadata, fullPath, parameters, RemoteBlobFormat.RAW);
+    }
+
+    /**
+     * Constructor for RemoteBuildRequest advertising the encodings of the uploaded blobs.
+     *
+     * @param indexSettings      IndexSettings object
+     * @param indexInfo          BuildIndexParams object
+     * @param repositoryMetadata RepositoryMetadata object
+     * @param fullPath           Full blob path + file name representing location of the vectors/doc IDs (excludes repository-specific prefix)
+     * @param parameters         Map of parameters to be parsed and passed to the remote build service
+     * @param blobFormat         Encodings the blobs were uploaded with
+     * @throws IOException if an I/O error occurs
+     */
+    static RemoteBuildRequest buildRemoteBuildRequest(
+        IndexSettings indexSettings,
+        BuildIndexParams indexInfo,
+        RepositoryMetadata repositoryMetadata,
+        String fullPath,
+        Map<String, Object> parameters,
+        RemoteBlobFormat blobFormat
     ) throws IOException {
         final String repositoryType = repositoryMetadata.type();
         final String containerName;
@@ -394,6 +519,9 @@ public class RemoteIndexBuildStrategy implements NativeIndexBuildStrategy {
             .engine(indexInfo.getKnnEngine().getName())
             .indexParameters(indexInfo.getKnnEngine().createRemoteIndexingParameters(parameters))
             .skipStoredVectors(shouldSkipStoredVectors(indexInfo.getVectorDataType(), parameters))
+            .vectorEncoding(blobFormat.halfPrecisionVectors() ? VECTOR_ENCODING_FP16 : null)
+            .docIdEncoding(blobFormat.deltaEncodedDocIds() ? DOC_ID_ENCODING_DELTA_VARINT : null)
+            .indexEncoding(blobFormat.compressedIndex() ? INDEX_ENCODING_GZIP : null)
             .build();
     }
 }
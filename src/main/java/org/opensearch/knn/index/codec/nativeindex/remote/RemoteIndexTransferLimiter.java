@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex.remote;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Bounds the number of repository transfers of remote index builds that run on a node at the same time. Uploads and
+ * downloads have separate limits, so that builds waiting to download their graph are never stuck behind uploads. The limit
+ * is read from its dynamic setting whenever a transfer starts, so that a changed limit applies without a restart.
+ */
+final class RemoteIndexTransferLimiter {
+
+    static final RemoteIndexTransferLimiter UPLOADS = new RemoteIndexTransferLimiter(KNNSettings::getRemoteBuildUploadMaxConcurrency);
+    static final RemoteIndexTransferLimiter DOWNLOADS = new RemoteIndexTransferLimiter(KNNSettings::getRemoteBuildDownloadMaxConcurrency);
+
+    // Waiting transfers re-read the limit at this interval, so that a raised limit also admits them without a release
+    private static final long RECHECK_INTERVAL_MILLIS = 1000;
+
+    private final IntSupplier maxConcurrency;
+    private int inFlight;
+
+    @VisibleForTesting
+    RemoteIndexTransferLimiter(final IntSupplier maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Blocks until the transfer may start.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= maxConcurrency.getAsInt()) {
+            wait(RECHECK_INTERVAL_MILLIS);
+        }
+        inFlight++;
+    }
+
+    /**
+     * Marks a transfer started with {@link #acquire()} as done.
+     */
+    synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    @VisibleForTesting
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
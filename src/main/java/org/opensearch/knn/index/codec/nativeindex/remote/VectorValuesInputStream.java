@@ -38,6 +38,8 @@ class VectorValuesInputStream extends InputStream {
     private final int bytesPerVector;
     private long bytesRemaining;
     private final VectorDataType vectorDataType;
+    // Float vectors are written as fp16 instead of fp32
+    private final boolean halfPrecision;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     /**
@@ -54,24 +56,64 @@ class VectorValuesInputStream extends InputStream {
      *
      * @param knnVectorValues
      * @param vectorDataType
+     * @param halfPrecision   whether float vectors are written as fp16, in which case positions refer to the fp16 vectors
      * @param startPosition
      * @param size
      * @throws IOException
      * @see DocIdInputStream
      */
-    public VectorValuesInputStream(KNNVectorValues<?> knnVectorValues, VectorDataType vectorDataType, long startPosition, long size)
-        throws IOException {
+    public VectorValuesInputStream(
+        KNNVectorValues<?> knnVectorValues,
+        VectorDataType vectorDataType,
+        boolean halfPrecision,
+        long startPosition,
+        long size
+    ) throws IOException {
+        if (halfPrecision && vectorDataType != FLOAT) {
+            throw new IllegalArgumentException("Half precision is only supported for float vectors, got: " + vectorDataType);
+        }
         this.bytesRemaining = size;
         this.knnVectorValues = knnVectorValues;
         this.vectorDataType = vectorDataType;
+        this.halfPrecision = halfPrecision;
         initializeVectorValues(this.knnVectorValues);
-        this.bytesPerVector = this.knnVectorValues.bytesPerVector();
+        this.bytesPerVector = halfPrecision ? this.knnVectorValues.dimension() * Short.BYTES : this.knnVectorValues.bytesPerVector();
         // We use currentBuffer == null to indicate that there are no more vectors to be read
         this.currentBuffer = ByteBuffer.allocate(bytesPerVector).order(ByteOrder.LITTLE_ENDIAN);
         // Position the InputStream at the specific byte within the specific vector that startPosition references
         setPosition(startPosition);
     }
 
+    /**
+     * Used to represent a part of a {@link KNNVectorValues} with raw vectors as an {@link InputStream}.
+     *
+     * @param knnVectorValues
+     * @param vectorDataType
+     * @param startPosition
+     * @param size
+     * @throws IOException
+     * @see VectorValuesInputStream#VectorValuesInputStream(KNNVectorValues, VectorDataType, boolean, long, long)
+     */
+    public VectorValuesInputStream(KNNVectorValues<?> knnVectorValues, VectorDataType vectorDataType, long startPosition, long size)
+        throws IOException {
+        this(knnVectorValues, vectorDataType, false, startPosition, size);
+    }
+
+    /**
+     * Used to represent the entire {@link KNNVectorValues} as a single {@link InputStream}. Expected to be used with
+     * {@link org.opensearch.common.blobstore.BlobContainer#writeBlob}
+     *
+     * @param knnVectorValues
+     * @param vectorDataType
+     * @param halfPrecision   whether float vectors are written as fp16
+     * @throws IOException
+     * @see DocIdInputStream
+     */
+    public VectorValuesInputStream(KNNVectorValues<?> knnVectorValues, VectorDataType vectorDataType, boolean halfPrecision)
+        throws IOException {
+        this(knnVectorValues, vectorDataType, halfPrecision, 0, Long.MAX_VALUE);
+    }
+
     /**
      * Used to represent the entire {@link KNNVectorValues} as a single {@link InputStream}. Expected to be used with
      * {@link org.opensearch.common.blobstore.BlobContainer#writeBlob}
@@ -82,7 +124,7 @@ class VectorValuesInputStream extends InputStream {
      * @see DocIdInputStream
      */
     public VectorValuesInputStream(KNNVectorValues<?> knnVectorValues, VectorDataType vectorDataType) throws IOException {
-        this(knnVectorValues, vectorDataType, 0, Long.MAX_VALUE);
+        this(knnVectorValues, vectorDataType, false);
     }
 
     @Override
@@ -199,7 +241,13 @@ class VectorValuesInputStream extends InputStream {
      */
     private void reloadBuffer() throws IOException {
         currentBuffer.clear();
-        if (vectorDataType == FLOAT) {
+        if (vectorDataType == FLOAT && halfPrecision) {
+            float[] floatVector = ((KNNFloatVectorValues) knnVectorValues).getVector();
+            for (float value : floatVector) {
+                // Rounds to nearest even, the same as the fp16 scalar quantizer of Faiss
+                currentBuffer.putShort(Float.floatToFloat16(value));
+            }
+        } else if (vectorDataType == FLOAT) {
             float[] floatVector = ((KNNFloatVectorValues) knnVectorValues).getVector();
             currentBuffer.asFloatBuffer().put(floatVector);
         } else if (vectorDataType == BYTE) {
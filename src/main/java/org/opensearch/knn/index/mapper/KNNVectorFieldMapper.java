@@ -6,6 +6,8 @@
 package org.opensearch.knn.index.mapper;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -809,7 +811,8 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
     }
 
     // Returns an optional array of byte values where each value in the vector is parsed as a float and validated
-    // if it is a finite number without any decimals and within the byte range of [-128 to 127].
+    // if it is a finite number without any decimals and within the byte range of [-128 to 127]. The vector can also be
+    // given encoded, see isEncodedVector, with one byte per dimension, or for binary vectors one byte per 8 dimensions.
     Optional<byte[]> getBytesFromContext(ParseContext context, int dimension, VectorDataType dataType) throws IOException {
         context.path().add(simpleName());
 
@@ -819,6 +822,15 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
         ArrayList<Byte> vector = new ArrayList<>();
         XContentParser.Token token = context.parser().currentToken();
 
+        if (isEncodedVector(token)) {
+            final byte[] array = context.parser().binaryValue();
+            for (byte value : array) {
+                perDimensionValidator.validateByte(perDimensionProcessor.processByte(value));
+            }
+            validateVectorDimension(dimension, array.length, dataType);
+            return Optional.of(array);
+        }
+
         if (token == XContentParser.Token.START_ARRAY) {
             token = context.parser().nextToken();
             while (token != XContentParser.Token.END_ARRAY) {
@@ -845,12 +857,24 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
         return Optional.of(array);
     }
 
+    // Returns an optional array of float values, parsed from a JSON array of numbers or decoded from an encoded vector, see
+    // isEncodedVector, of little-endian float32 values.
     Optional<float[]> getFloatsFromContext(ParseContext context, int dimension) throws IOException {
         context.path().add(simpleName());
 
         PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
         PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
 
+        if (isEncodedVector(context.parser().currentToken())) {
+            final float[] array = decodeFloatVector(context.parser().binaryValue());
+            for (int i = 0; i < array.length; i++) {
+                array[i] = perDimensionProcessor.process(array[i]);
+                perDimensionValidator.validate(array[i]);
+            }
+            validateVectorDimension(dimension, array.length, vectorDataType);
+            return Optional.of(array);
+        }
+
         ArrayList<Float> vector = new ArrayList<>();
         XContentParser.Token token = context.parser().currentToken();
         float value;
@@ -881,6 +905,33 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
         return Optional.of(array);
     }
 
+    /**
+     * Besides a JSON array of numbers, a vector can be given as a single encoded value: a base64 string, or a binary value with
+     * CBOR or SMILE content. Encoded vectors are decoded in bulk instead of parsing a token for every dimension, which is much
+     * cheaper for large vectors and about a third of the request size.
+     *
+     * @param token current token of the parser
+     * @return true if the vector is encoded
+     */
+    private static boolean isEncodedVector(final XContentParser.Token token) {
+        return token == XContentParser.Token.VALUE_STRING || token == XContentParser.Token.VALUE_EMBEDDED_OBJECT;
+    }
+
+    private static float[] decodeFloatVector(final byte[] bytes) {
+        if (bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Encoded float vector must be a sequence of 4 byte little-endian floats, but has [%d] bytes",
+                    bytes.length
+                )
+            );
+        }
+        final float[] array = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(array);
+        return array;
+    }
+
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
         // We cannot get the dimension from the model based indices at this field because the
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+/**
+ * Approximate access frequency counter for cache keys, based on a count-min sketch with 4-bit counters. Once the
+ * number of recorded accesses reaches the sample size, all counters are halved so that recent popularity outweighs
+ * historic popularity.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int COUNTERS_PER_SLOT = 16;
+    private static final int MIN_TABLE_LENGTH = 64;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    // Every slot packs sixteen 4-bit counters
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Constructor
+     *
+     * @param expectedEntries number of distinct keys the sketch is expected to track
+     */
+    FrequencySketch(int expectedEntries) {
+        int tableLength = MIN_TABLE_LENGTH;
+        while (tableLength < expectedEntries && tableLength < (1 << 30)) {
+            tableLength <<= 1;
+        }
+        this.table = new long[tableLength];
+        this.tableMask = tableLength - 1;
+        this.sampleSize = SAMPLE_SIZE_MULTIPLIER * tableLength;
+        this.additions = 0;
+    }
+
+    /**
+     * Records an access of the given key.
+     *
+     * @param key cache key
+     */
+    synchronized void increment(String key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int depth = 0; depth < DEPTH; depth++) {
+            added |= incrementAt(slotOf(hash, depth), counterOf(hash, depth));
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Returns the estimated number of accesses of the given key, capped at 15.
+     *
+     * @param key cache key
+     * @return estimated access frequency
+     */
+    synchronized int frequency(String key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int depth = 0; depth < DEPTH; depth++) {
+            frequency = Math.min(frequency, countAt(slotOf(hash, depth), counterOf(hash, depth)));
+        }
+        return frequency;
+    }
+
+    private boolean incrementAt(int slot, int counter) {
+        int shift = counter << 2;
+        long mask = 0xfL << shift;
+        if ((table[slot] & mask) != mask) {
+            table[slot] += 1L << shift;
+            return true;
+        }
+        return false;
+    }
+
+    private int countAt(int slot, int counter) {
+        return (int) ((table[slot] >>> (counter << 2)) & 0xfL);
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int slotOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int counterOf(int hash, int depth) {
+        return (hash >>> (depth << 3)) & (COUNTERS_PER_SLOT - 1);
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
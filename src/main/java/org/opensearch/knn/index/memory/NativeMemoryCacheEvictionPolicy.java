@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Policies {@link NativeMemoryCacheManager} can use to decide which allocations stay resident when the cache is full.
+ */
+@AllArgsConstructor
+@Getter
+public enum NativeMemoryCacheEvictionPolicy {
+    /**
+     * Least recently used entries are evicted first. Every loaded entry is admitted.
+     */
+    LRU("lru"),
+    /**
+     * Entries are admitted and evicted based on their approximate access frequency, tracked with a {@link FrequencySketch}.
+     * A graph whose frequency does not beat the combined frequency of the entries it would displace is not loaded and
+     * evicts nothing, so that scans over cold indices cannot flush hot graphs out of the cache. Searches on such a graph
+     * fall back to exact search until it is accessed often enough to be admitted.
+     */
+    SIZE_AWARE_LFU("size_aware_lfu");
+
+    private final String name;
+
+    /**
+     * Get the policy for the given name.
+     *
+     * @param name name of the policy
+     * @return NativeMemoryCacheEvictionPolicy
+     */
+    public static NativeMemoryCacheEvictionPolicy fromName(String name) {
+        for (NativeMemoryCacheEvictionPolicy policy : NativeMemoryCacheEvictionPolicy.values()) {
+            if (policy.getName().equals(name.toLowerCase(Locale.ROOT))) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format(
+                Locale.ROOT,
+                "Invalid cache eviction policy: [%s]. Supported policies are: %s",
+                name,
+                Arrays.stream(values()).map(NativeMemoryCacheEvictionPolicy::getName).collect(Collectors.joining(", "))
+            )
+        );
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.commons.lang3.Validate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.common.exception.CacheAdmissionRejectedException;
 import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.knn.index.KNNSettings;
@@ -30,10 +32,15 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -44,12 +51,16 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+import static org.opensearch.knn.plugin.stats.KNNCounter.CACHE_ADMISSION_REJECT_COUNT;
+
 /**
  * Manages native memory allocations made by JNI.
  */
 public class NativeMemoryCacheManager implements Closeable {
 
     public static String GRAPH_COUNT = "graph_count";
+    private static final int FREQUENCY_SKETCH_EXPECTED_ENTRIES = 4096;
 
     private static final Logger logger = LogManager.getLogger(NativeMemoryCacheManager.class);
     private static NativeMemoryCacheManager INSTANCE;
@@ -58,10 +69,15 @@ public class NativeMemoryCacheManager implements Closeable {
 
     private Cache<String, NativeMemoryAllocation> cache;
     private Deque<String> accessRecencyQueue;
+    private FrequencySketch frequencySketch;
+    @Getter
+    private NativeMemoryCacheEvictionPolicy evictionPolicy;
     private final ConcurrentHashMap<String, ReentrantLock> indexLocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AsyncLoad> pendingAsyncLoads = new ConcurrentHashMap<>();
     private final ExecutorService executor;
     private AtomicBoolean cacheCapacityReached;
     private long maxWeight;
+    private long pendingLoadSizeInKB;
     @Getter
     private Cancellable maintenanceTask;
 
@@ -102,6 +118,7 @@ public class NativeMemoryCacheManager implements Closeable {
                 .expiryTimeInMin(
                     ((TimeValue) KNNSettings.state().getSettingValue(KNNSettings.KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES)).getMinutes()
                 )
+                .evictionPolicy(KNNSettings.getCacheEvictionPolicy())
                 .build()
         );
     }
@@ -123,6 +140,8 @@ public class NativeMemoryCacheManager implements Closeable {
 
         cacheCapacityReached = new AtomicBoolean(false);
         accessRecencyQueue = new ConcurrentLinkedDeque<>();
+        evictionPolicy = Objects.requireNonNullElse(nativeMemoryCacheDTO.getEvictionPolicy(), NativeMemoryCacheEvictionPolicy.LRU);
+        frequencySketch = new FrequencySketch(FREQUENCY_SKETCH_EXPECTED_ENTRIES);
         cache = cacheBuilder.build();
 
         if (threadPool != null) {
@@ -144,6 +163,7 @@ public class NativeMemoryCacheManager implements Closeable {
                 .expiryTimeInMin(
                     ((TimeValue) KNNSettings.state().getSettingValue(KNNSettings.KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES)).getMinutes()
                 )
+                .evictionPolicy(KNNSettings.getCacheEvictionPolicy())
                 .build()
         );
     }
@@ -384,6 +404,10 @@ public class NativeMemoryCacheManager implements Closeable {
             );
         }
 
+        if (evictionPolicy == NativeMemoryCacheEvictionPolicy.SIZE_AWARE_LFU) {
+            return getWithFrequencyAdmission(nativeMemoryEntryContext);
+        }
+
         if (KNNFeatureFlags.isForceEvictCacheEnabled()) {
             // Utilizes a force eviction mechanism to free up memory before the entry can be added to the cache
             // In case of a cache hit, the operation just updates the locally maintained recency list
@@ -418,12 +442,12 @@ public class NativeMemoryCacheManager implements Closeable {
                         && (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight)) {
 
                         String keyToRemove = lruIterator.next();
+                        lruIterator.remove();
                         NativeMemoryAllocation allocationToRemove = cache.getIfPresent(keyToRemove);
                         if (allocationToRemove != null) {
                             allocationToRemove.close();
                             cache.invalidate(keyToRemove);
                         }
-                        lruIterator.remove();
                     }
                 }
 
@@ -447,6 +471,171 @@ public class NativeMemoryCacheManager implements Closeable {
         }
     }
 
+    /**
+     * Returns the NativeMemoryAllocation associated with the nativeMemoryEntryContext if it is already resident in the
+     * cache. Otherwise, the load is scheduled on the {@link org.opensearch.knn.common.KNNConstants#GRAPH_LOAD_THREAD_POOL}
+     * thread pool and an empty Optional is returned immediately, so that the caller can answer the request through a
+     * fallback path instead of blocking until the load completes. At most one load is scheduled per key at a time. If
+     * the entry is invalidated while it is loading, e.g. because its segment was merged away, the loaded entry is
+     * dropped instead of being left in the cache where nothing would ever invalidate it again.
+     *
+     * @param nativeMemoryEntryContext Context from which to get NativeMemoryAllocation
+     * @return NativeMemoryAllocation if resident, empty Optional if it is being loaded in the background
+     * @throws ExecutionException if there is an exception when loading from the cache
+     */
+    public Optional<NativeMemoryAllocation> getOrScheduleLoad(NativeMemoryEntryContext<?> nativeMemoryEntryContext)
+        throws ExecutionException {
+        String key = nativeMemoryEntryContext.getKey();
+        if (threadPool == null || cache.asMap().containsKey(key)) {
+            return Optional.of(get(nativeMemoryEntryContext, true));
+        }
+
+        final AsyncLoad asyncLoad = new AsyncLoad();
+        if (pendingAsyncLoads.putIfAbsent(key, asyncLoad) == null) {
+            try {
+                threadPool.executor(GRAPH_LOAD_THREAD_POOL).execute(() -> {
+                    try {
+                        get(new InvalidationAwareEntryContext<>(nativeMemoryEntryContext, asyncLoad), true);
+                        // The entry may have been invalidated between the check of the load and its publication
+                        if (asyncLoad.invalidated) {
+                            cache.invalidate(key);
+                        }
+                    } catch (CacheAdmissionRejectedException e) {
+                        logger.debug("[KNN] Background load of {} was not admitted: {}", key, e.getMessage());
+                    } catch (Exception e) {
+                        if (asyncLoad.invalidated) {
+                            logger.debug("[KNN] Dropped background load of {}, it was invalidated while loading", key);
+                        } else {
+                            logger.error("[KNN] Failed to load {} into the cache in the background", key, e);
+                        }
+                    } finally {
+                        pendingAsyncLoads.remove(key, asyncLoad);
+                    }
+                });
+            } catch (OpenSearchRejectedExecutionException e) {
+                // The next request for this key will try to schedule the load again
+                pendingAsyncLoads.remove(key, asyncLoad);
+                logger.debug("[KNN] Background load of {} was rejected: {}", key, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieves NativeMemoryAllocation associated with the nativeMemoryEntryContext using the
+     * {@link NativeMemoryCacheEvictionPolicy#SIZE_AWARE_LFU} policy. Every request is recorded in the frequency sketch.
+     * On a cache miss, the least frequently used entries that have to go for the new entry to fit are selected first. The
+     * entry is admitted only if it is accessed more often than all the selected entries combined; otherwise nothing is
+     * evicted, the entry is not loaded and {@link CacheAdmissionRejectedException} is thrown. Only the bookkeeping runs
+     * under the lock, the load itself does not block loads of other entries.
+     *
+     * @param nativeMemoryEntryContext Context from which to get NativeMemoryAllocation
+     * @return NativeMemoryAllocation associated with nativeMemoryEntryContext
+     * @throws ExecutionException if there is an exception when loading from the cache
+     */
+    private NativeMemoryAllocation getWithFrequencyAdmission(NativeMemoryEntryContext<?> nativeMemoryEntryContext)
+        throws ExecutionException {
+        String key = nativeMemoryEntryContext.getKey();
+        frequencySketch.increment(key);
+
+        NativeMemoryAllocation result = cache.getIfPresent(key);
+        if (result != null) {
+            return result;
+        }
+
+        long entrySizeInKB = nativeMemoryEntryContext.calculateSizeInKB();
+        synchronized (this) {
+            // recheck if another thread already loaded this entry into the cache
+            result = cache.getIfPresent(key);
+            if (result != null) {
+                return result;
+            }
+
+            List<String> victimKeys = selectLeastFrequentlyUsed(entrySizeInKB);
+            int candidateFrequency = frequencySketch.frequency(key);
+            int displacedFrequency = victimKeys.stream().mapToInt(frequencySketch::frequency).sum();
+            if (displacedFrequency > 0 && candidateFrequency <= displacedFrequency) {
+                CACHE_ADMISSION_REJECT_COUNT.increment();
+                throw new CacheAdmissionRejectedException(
+                    "Entry "
+                        + key
+                        + " was not admitted into the cache. Estimated access frequency: "
+                        + candidateFrequency
+                        + ", frequency of the entries it would displace: "
+                        + displacedFrequency
+                );
+            }
+            victimKeys.forEach(this::evict);
+            // reserve room for the entry so that concurrent admissions do not count on the same free space
+            pendingLoadSizeInKB += entrySizeInKB;
+        }
+
+        try {
+            open(key, nativeMemoryEntryContext);
+            result = cache.get(key, nativeMemoryEntryContext::load);
+        } finally {
+            synchronized (this) {
+                pendingLoadSizeInKB -= entrySizeInKB;
+            }
+        }
+        synchronized (this) {
+            // the entry may have been invalidated already, in which case it must not be picked as a victim later
+            if (cache.asMap().get(key) == result && accessRecencyQueue.contains(key) == false) {
+                accessRecencyQueue.addLast(key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Selects the entries with the lowest estimated access frequency whose eviction makes room for an entry of the given
+     * size, accounting for loads that are in flight. Ties are broken by recency, so that the least recently admitted entry
+     * is chosen first. Nothing is evicted.
+     *
+     * @param entrySizeInKB size of the entry that needs to fit
+     * @return keys of the entries to evict, empty if the entry fits already
+     */
+    private List<String> selectLeastFrequentlyUsed(long entrySizeInKB) {
+        long excessSizeInKB = getCacheSizeInKilobytes() + pendingLoadSizeInKB + entrySizeInKB - maxWeight;
+        if (excessSizeInKB < 0) {
+            return List.of();
+        }
+        List<String> candidateKeys = new ArrayList<>(accessRecencyQueue);
+        // stable sort, so that equally frequent entries stay in recency order
+        candidateKeys.sort(Comparator.comparingInt(frequencySketch::frequency));
+        List<String> victimKeys = new ArrayList<>();
+        for (String candidateKey : candidateKeys) {
+            if (excessSizeInKB < 0) {
+                break;
+            }
+            NativeMemoryAllocation allocation = cache.asMap().get(candidateKey);
+            if (allocation != null) {
+                victimKeys.add(candidateKey);
+                excessSizeInKB -= allocation.getSizeInKB();
+            }
+        }
+        return victimKeys;
+    }
+
+    private void evict(String key) {
+        // read through the map view so that evictions are not recorded as cache hits
+        NativeMemoryAllocation allocationToRemove = cache.asMap().get(key);
+        if (allocationToRemove != null) {
+            allocationToRemove.close();
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Returns whether an entry is resident in the cache, without counting the lookup as an access of the entry.
+     *
+     * @param key Identifier of the entry
+     * @return true if the entry is loaded
+     */
+    public boolean isResident(String key) {
+        return cache.asMap().containsKey(key);
+    }
+
     /**
      * Returns the NativeMemoryAllocation associated with given index
      * @param indexName name of OpenSearch index
@@ -470,6 +659,10 @@ public class NativeMemoryCacheManager implements Closeable {
      * @param key Identifier of entry to invalidate
      */
     public void invalidate(String key) {
+        AsyncLoad asyncLoad = pendingAsyncLoads.get(key);
+        if (asyncLoad != null) {
+            asyncLoad.invalidated = true;
+        }
         cache.invalidate(key);
     }
 
@@ -477,6 +670,7 @@ public class NativeMemoryCacheManager implements Closeable {
      * Invalidate all entries in the cache.
      */
     public void invalidateAll() {
+        pendingAsyncLoads.values().forEach(asyncLoad -> asyncLoad.invalidated = true);
         cache.invalidateAll();
     }
 
@@ -526,6 +720,11 @@ public class NativeMemoryCacheManager implements Closeable {
     private void onRemoval(RemovalNotification<String, NativeMemoryAllocation> removalNotification) {
         NativeMemoryAllocation nativeMemoryAllocation = removalNotification.getValue();
         nativeMemoryAllocation.close();
+        // Every removal path ends up here, so that the recency queue only holds resident entries. A replaced value keeps
+        // its key resident.
+        if (RemovalCause.REPLACED != removalNotification.getCause()) {
+            accessRecencyQueue.remove(removalNotification.getKey());
+        }
 
         if (RemovalCause.SIZE == removalNotification.getCause()) {
             KNNSettings.state().updateCircuitBreakerSettings(true);
@@ -567,4 +766,50 @@ public class NativeMemoryCacheManager implements Closeable {
 
         maintenanceTask = threadPool.scheduleWithFixedDelay(cleanUp, interval, ThreadPool.Names.MANAGEMENT);
     }
+
+    /**
+     * Load scheduled by {@link #getOrScheduleLoad(NativeMemoryEntryContext)}, marked when its entry is invalidated.
+     */
+    private static final class AsyncLoad {
+        private volatile boolean invalidated;
+    }
+
+    /**
+     * Loads through the given context, but refuses to publish the loaded entry if it was invalidated while loading.
+     */
+    private static final class InvalidationAwareEntryContext<T extends NativeMemoryAllocation> extends NativeMemoryEntryContext<T> {
+        private final NativeMemoryEntryContext<T> delegate;
+        private final AsyncLoad asyncLoad;
+
+        private InvalidationAwareEntryContext(NativeMemoryEntryContext<T> delegate, AsyncLoad asyncLoad) {
+            super(delegate.getKey());
+            this.delegate = delegate;
+            this.asyncLoad = asyncLoad;
+        }
+
+        @Override
+        public Integer calculateSizeInKB() {
+            return delegate.calculateSizeInKB();
+        }
+
+        @Override
+        public void open() {
+            delegate.open();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @Override
+        public T load() throws IOException {
+            T allocation = delegate.load();
+            if (asyncLoad.invalidated) {
+                allocation.close();
+                throw new IOException("Entry " + key + " was invalidated while loading");
+            }
+            return allocation;
+        }
+    }
 }
@@ -15,4 +15,6 @@ public class NativeMemoryCacheManagerDto {
     long maxWeight;
     boolean isExpirationLimited;
     long expiryTimeInMin;
+    @Builder.Default
+    NativeMemoryCacheEvictionPolicy evictionPolicy = NativeMemoryCacheEvictionPolicy.LRU;
 }
@@ -14,17 +14,27 @@ package org.opensearch.knn.index.memory;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.index.util.IndexUtil;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -82,6 +92,18 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
     @Log4j2
     public static class IndexEntryContext extends NativeMemoryEntryContext<NativeMemoryAllocation.IndexAllocation> {
 
+        // Wrappers of the shard store that read the bytes of the wrapped directory as is
+        private static final Set<String> PASS_THROUGH_DIRECTORY_WRAPPERS = Set.of(
+            "org.opensearch.index.store.Store$StoreDirectory",
+            "org.opensearch.index.store.ByteSizeCachingDirectory"
+        );
+        // File system directories that store the bytes of a file as is
+        private static final Set<String> PLAIN_FS_DIRECTORIES = Set.of(
+            MMapDirectory.class.getName(),
+            NIOFSDirectory.class.getName(),
+            "org.opensearch.index.store.FsDirectoryFactory$HybridDirectory"
+        );
+
         @Getter
         private final Directory directory;
         private final NativeMemoryLoadStrategy.IndexLoadStrategy indexLoadStrategy;
@@ -104,6 +126,9 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
         @Getter
         IndexInputWithBuffer indexInputWithBuffer;
 
+        private boolean memoryMappedFilePathResolved = false;
+        private Path memoryMappedFilePath;
+
         /**
          * Constructor
          *
@@ -151,6 +176,8 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
 
         @Override
         public Integer calculateSizeInKB() {
+            // A memory mapped graph lives in the page cache, but is accounted for like a copied graph, so that the cache
+            // and the circuit breaker bound the mapped files as well
             final String indexFileName = NativeMemoryCacheKeyHelper.extractVectorIndexFileName(key);
             try {
                 final long fileLength = directory.fileLength(indexFileName);
@@ -160,6 +187,71 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
             }
         }
 
+        /**
+         * Returns the path of the graph file if the graph is to be loaded by memory mapping the file instead of being
+         * copied into native memory. That is the case for Faiss indices built from a method, without binary vectors or
+         * ADC, whose file is read as is from a local file system, and only when enabled for the index.
+         *
+         * @return path of the graph file, or null if the graph is to be copied into native memory
+         */
+        public synchronized Path getMemoryMappedFilePath() {
+            if (memoryMappedFilePathResolved == false) {
+                memoryMappedFilePath = resolveMemoryMappedFilePath();
+                memoryMappedFilePathResolved = true;
+            }
+            return memoryMappedFilePath;
+        }
+
+        private Path resolveMemoryMappedFilePath() {
+            final String vectorFileName = NativeMemoryCacheKeyHelper.extractVectorIndexFileName(key);
+            if (vectorFileName == null || parameters == null || (modelId != null && modelId.isEmpty() == false)) {
+                return null;
+            }
+            final KNNEngine knnEngine = KNNEngine.getEngineNameFromPath(vectorFileName);
+            if (knnEngine != KNNEngine.FAISS
+                || IndexUtil.isBinaryIndex(knnEngine, parameters)
+                || IndexUtil.isADCEnabled(knnEngine, parameters)) {
+                return null;
+            }
+            final FSDirectory fsDirectory = unwrapPlainFSDirectory(directory);
+            if (fsDirectory == null) {
+                return null;
+            }
+            final Path path = fsDirectory.getDirectory().resolve(vectorFileName);
+            if (Files.exists(path) == false) {
+                return null;
+            }
+            try {
+                return KNNSettings.isFaissMemoryMappedLoadEnabled(openSearchIndexName) ? path : null;
+            } catch (RuntimeException e) {
+                // The index metadata may be gone, e.g. while the index is being deleted. Fall back to the regular load.
+                log.debug("[KNN] Failed to read the memory mapped load setting of index [{}]", openSearchIndexName, e);
+                return null;
+            }
+        }
+
+        /**
+         * Faiss reads a mapped file directly, bypassing the directory. That is only correct if every directory between the
+         * given one and the file passes the bytes through unchanged, as opposed to e.g. encrypting or compressing
+         * directories. Directories are matched on their exact class, since transforming directories may extend plain ones.
+         *
+         * @param directory directory the graph file is read from
+         * @return the plain file system directory holding the file, or null if a directory of the chain may transform bytes
+         */
+        private static FSDirectory unwrapPlainFSDirectory(final Directory directory) {
+            Directory current = directory;
+            while (current instanceof FilterDirectory filterDirectory) {
+                if (PASS_THROUGH_DIRECTORY_WRAPPERS.contains(current.getClass().getName()) == false) {
+                    return null;
+                }
+                current = filterDirectory.getDelegate();
+            }
+            if (current == null || PLAIN_FS_DIRECTORIES.contains(current.getClass().getName()) == false) {
+                return null;
+            }
+            return (FSDirectory) current;
+        }
+
         @Override
         public void open() {
             // if graph file is already opened for index, do nothing
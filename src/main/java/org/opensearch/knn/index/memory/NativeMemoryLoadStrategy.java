@@ -24,6 +24,7 @@ import org.opensearch.knn.training.VectorReader;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -82,8 +83,19 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
             // Prepare for opening index input from directory.
             final KNNEngine knnEngine = KNNEngine.getEngineNameFromPath(vectorFileName);
             final Directory directory = indexEntryContext.getDirectory();
+
             final int indexSizeKb = Math.toIntExact(directory.fileLength(vectorFileName) / 1024);
 
+            // The graph is served from the page cache, shared with every other mapping of the file. It is accounted for
+            // with the size of its file, like a copied graph.
+            final Path memoryMappedFilePath = indexEntryContext.getMemoryMappedFilePath();
+            if (memoryMappedFilePath != null) {
+                try (indexEntryContext) {
+                    final long indexAddress = JNIService.loadIndexWithMmap(memoryMappedFilePath.toString(), knnEngine);
+                    return createIndexAllocation(indexEntryContext, knnEngine, indexAddress, indexSizeKb, vectorFileName);
+                }
+            }
+
             // Try to open an index input then pass it down to native engine for loading an index.
             // open in NativeMemoryEntryContext takes care of opening the indexInput file
             if (!indexEntryContext.isIndexGraphFileOpened()) {
@@ -22,6 +22,7 @@ import org.opensearch.index.search.NestedHelper;
 import org.opensearch.index.search.OpenSearchToParentBlockJoinQuery;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.query.budget.SearchBudget;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 
 import java.io.IOException;
@@ -58,6 +59,7 @@ public abstract class BaseQueryFactory {
         private QueryShardContext context;
         private RescoreContext rescoreContext;
         private boolean expandNested;
+        private SearchBudget searchBudget;
         private boolean memoryOptimizedSearchEnabled;
 
         public Optional<QueryBuilder> getFilter() {
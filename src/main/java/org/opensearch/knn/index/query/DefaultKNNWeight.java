@@ -12,6 +12,8 @@ import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Version;
+import org.opensearch.knn.common.exception.CacheAdmissionRejectedException;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
@@ -20,6 +22,7 @@ import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
 import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
+import org.opensearch.knn.index.query.budget.LeafSearchBudget;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 
@@ -28,9 +31,11 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 
 import static org.opensearch.knn.index.util.IndexUtil.getParametersAtLoading;
 import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_LOAD_FALLBACKS;
 
 /**
  * Calculates query weights and builds query scorers.
@@ -39,10 +44,18 @@ import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
 @Log4j2
 public class DefaultKNNWeight extends KNNWeight {
     private final NativeMemoryCacheManager nativeMemoryCacheManager;
+    private final NativeSearchAdmissionController admissionController;
 
     public DefaultKNNWeight(KNNQuery query, float boost, Weight filterWeight) {
         super(query, boost, filterWeight);
         this.nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+        this.admissionController = NativeSearchAdmissionController.getInstance();
+    }
+
+    @Override
+    protected boolean isGraphResident(final SegmentReader reader, final String vectorIndexFileName) {
+        final String cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(vectorIndexFileName, reader.getSegmentInfo().info);
+        return nativeMemoryCacheManager.isResident(cacheKey);
     }
 
     @Override
@@ -95,25 +108,56 @@ public class DefaultKNNWeight extends KNNWeight {
             throw new RuntimeException(e);
         }
 
+        if (indexAllocation == null) {
+            // The graph is being loaded in the background or was not admitted, answer from the flat vectors until it is resident
+            GRAPH_QUERY_LOAD_FALLBACKS.increment();
+            onGraphSearchFallback(context);
+            return doExactSearch(
+                context,
+                getFilterWeight() == null || filterIdsBitSet == null ? null : new BitSetIterator(filterIdsBitSet, cardinality),
+                cardinality,
+                k
+            );
+        }
+
+        // A native search cannot be interrupted, so the budget is checked once the graph is loaded, which may take a while
+        final LeafSearchBudget leafSearchBudget = getLeafSearchBudget(context);
+        if (leafSearchBudget != null && leafSearchBudget.hasTimeLeft() == false) {
+            return EMPTY_TOPDOCS;
+        }
+
         // From cardinality select different filterIds type
         FilterIdsSelector filterIdsSelector = FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
         long[] filterIds = filterIdsSelector.getFilterIds();
         FilterIdsSelector.FilterIdsSelectorType filterType = filterIdsSelector.getFilterType();
+        final int[] parentIds = getParentIdsArray(context);
+
+        // Wait for the node to have room for the search before the allocation is locked, so that queued searches do not hold
+        // off its eviction
+        final long scratchBytes = NativeSearchAdmissionController.estimateScratchBytes(
+            reader.maxDoc(),
+            k > 0 ? k : knnQuery.getContext().getMaxResultWindow(),
+            filterIds == null ? 0 : filterIds.length,
+            parentIds == null ? 0 : parentIds.length
+        );
+        admissionController.acquire(scratchBytes);
+
         // Now that we have the allocation, we need to readLock it
         indexAllocation.readLock();
         try {
             indexAllocation.incRef();
         } catch (IllegalStateException e) {
             indexAllocation.readUnlock();
+            admissionController.release(scratchBytes);
             log.error("[KNN] Exception when allocation getting evicted: ", e);
             throw new RuntimeException("Failed to do kNN search when vector data structures getting evicted ", e);
         }
-        KNNQueryResult[] results;
+        KNNQueryResult[] results = null;
+        KNNQueryResultBuffer resultBuffer = null;
         try {
             if (indexAllocation.isClosed()) {
                 throw new RuntimeException("Index has already been closed");
             }
-            final int[] parentIds = getParentIdsArray(context);
             if (k > 0) {
                 if (knnQuery.getVectorDataType() == VectorDataType.BINARY
                     || quantizedVector != null && quantizationService.getVectorDataTypeForTransfer(fieldInfo) == VectorDataType.BINARY) {
@@ -129,7 +173,9 @@ public class DefaultKNNWeight extends KNNWeight {
                         parentIds
                     );
                 } else {
-                    results = JNIService.queryIndex(
+                    // Float searches are the hot path, so their results are transferred through primitive buffers
+                    resultBuffer = KNNQueryResultBuffer.getThreadLocalBuffer(k);
+                    JNIService.queryIndex(
                         indexAllocation.getMemoryAddress(),
                         transformedVector == null ? knnQuery.getQueryVector() : transformedVector,
                         k,
@@ -137,7 +183,8 @@ public class DefaultKNNWeight extends KNNWeight {
                         knnEngine,
                         filterIds,
                         filterType.getValue(),
-                        parentIds
+                        parentIds,
+                        resultBuffer
                     );
                 }
             } else {
@@ -159,6 +206,7 @@ public class DefaultKNNWeight extends KNNWeight {
         } finally {
             indexAllocation.readUnlock();
             indexAllocation.decRef();
+            admissionController.release(scratchBytes);
         }
 
         TopApproxKnnCollector collector = new TopApproxKnnCollector(
@@ -166,6 +214,16 @@ public class DefaultKNNWeight extends KNNWeight {
             knnEngine,
             quantizedVector != null ? SpaceType.HAMMING : spaceType
         );
+        if (resultBuffer != null) {
+            final int[] ids = resultBuffer.getIds();
+            final float[] scores = resultBuffer.getScores();
+            for (int i = 0; i < resultBuffer.getSize(); i++) {
+                collector.incVisitedCount(1);
+                collector.collect(ids[i], scores[i]);
+            }
+            addExplainIfRequired(resultBuffer, knnEngine, spaceType);
+            return collector.topDocs();
+        }
         for (KNNQueryResult knnQueryResult : results) {
             collector.incVisitedCount(1);
             collector.collect(knnQueryResult.getId(), knnQueryResult.getScore());
@@ -176,7 +234,9 @@ public class DefaultKNNWeight extends KNNWeight {
     }
 
     /**
-     * Loads the graph from native memory.
+     * Loads the graph from native memory. When {@link KNNSettings#KNN_CACHE_ASYNC_LOAD_ENABLED} is on and the graph is not
+     * resident yet, its load is scheduled in the background and null is returned. Null is also returned if the cache does
+     * not admit the graph, see {@link CacheAdmissionRejectedException}.
      */
     protected NativeMemoryAllocation loadGraph(
         final SegmentReader reader,
@@ -190,23 +250,29 @@ public class DefaultKNNWeight extends KNNWeight {
         final String modelId,
         LeafReaderContext context
     ) throws ExecutionException, IOException {
-        return nativeMemoryCacheManager.get(
-            new NativeMemoryEntryContext.IndexEntryContext(
-                reader.directory(),
-                cacheKey,
-                NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
-                getParametersAtLoading(
-                    spaceType,
-                    knnEngine,
-                    knnQuery.getIndexName(),
-                    // TODO: In the future, more vector data types will be supported with quantization
-                    quantizedVector == null ? vectorDataType : VectorDataType.BINARY,
-                    segmentLevelQuantizationInfo
-                ),
+        final NativeMemoryEntryContext.IndexEntryContext indexEntryContext = new NativeMemoryEntryContext.IndexEntryContext(
+            reader.directory(),
+            cacheKey,
+            NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+            getParametersAtLoading(
+                spaceType,
+                knnEngine,
                 knnQuery.getIndexName(),
-                modelId
+                // TODO: In the future, more vector data types will be supported with quantization
+                quantizedVector == null ? vectorDataType : VectorDataType.BINARY,
+                segmentLevelQuantizationInfo
             ),
-            true
+            knnQuery.getIndexName(),
+            modelId
         );
+        try {
+            if (KNNSettings.isAsyncGraphLoadEnabled()) {
+                return nativeMemoryCacheManager.getOrScheduleLoad(indexEntryContext).orElse(null);
+            }
+            return nativeMemoryCacheManager.get(indexEntryContext, true);
+        } catch (CacheAdmissionRejectedException e) {
+            log.debug("[KNN] Graph {} was not admitted into the cache: {}", cacheKey, e.getMessage());
+            return null;
+        }
     }
 }
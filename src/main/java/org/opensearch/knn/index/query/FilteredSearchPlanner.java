@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses between exact search and filtered approximate search for a segment from the latencies observed for earlier
+ * searches on the same field, instead of from static thresholds.
+ *
+ * <p>Exact search is modelled as a cost per scored candidate. Filtered approximate search is modelled as a latency per
+ * filter selectivity, as the graph traversal visits more nodes the fewer of them pass the filter. Both models are kept per
+ * index, field and power of two of {@code k}, so that the dimension and quantization of the field, which are fixed per
+ * field, are accounted for. The approximate search model is additionally kept per power of two of the segment size.
+ *
+ * <p>Until both paths have enough samples for a segment shape the planner stays undecided and the caller applies its
+ * static heuristic. A small share of the searches the heuristic sends to exact search is sent to approximate search
+ * instead, so that the approximate search model also gets samples where the heuristic never picks it.
+ */
+public final class FilteredSearchPlanner {
+
+    private static final FilteredSearchPlanner INSTANCE = new FilteredSearchPlanner();
+
+    // Number of samples a model needs before its estimate is trusted
+    @VisibleForTesting
+    static final int MIN_SAMPLES = 5;
+    // Weight of the newest sample in the exponentially weighted moving averages
+    private static final double SMOOTHING = 0.2;
+    // One in this many undecided plans the heuristic sends to exact search explores approximate search instead
+    @VisibleForTesting
+    static final int EXPLORATION_INTERVAL = 64;
+    // Selectivities below 2^-(NUM_SELECTIVITY_BUCKETS - 1) share the last bucket
+    private static final int NUM_SELECTIVITY_BUCKETS = 24;
+
+    private final Cache<String, FieldCostModel> costModels = CacheBuilder.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+
+    public static FilteredSearchPlanner getInstance() {
+        return INSTANCE;
+    }
+
+    @VisibleForTesting
+    FilteredSearchPlanner() {}
+
+    /**
+     * Plans the search of a segment.
+     *
+     * @param indexName name of the index
+     * @param field name of the vector field
+     * @param k number of results to return
+     * @param filterCardinality number of docs passing the filter in the segment
+     * @param maxDoc number of docs in the segment
+     * @return {@link Plan} with the estimated costs and the decision
+     */
+    public Plan plan(final String indexName, final String field, final int k, final int filterCardinality, final int maxDoc) {
+        return getCostModel(indexName, field, k).plan(filterCardinality, maxDoc);
+    }
+
+    /**
+     * Records the latency of an exact search.
+     *
+     * @param indexName name of the index
+     * @param field name of the vector field
+     * @param k number of results returned
+     * @param numCandidates number of docs that were scored
+     * @param tookNanos latency of the search in nanoseconds
+     */
+    public void recordExactSearch(final String indexName, final String field, final int k, final int numCandidates, final long tookNanos) {
+        if (numCandidates > 0) {
+            getCostModel(indexName, field, k).recordExactSearch(numCandidates, tookNanos);
+        }
+    }
+
+    /**
+     * Records the latency of a filtered approximate search.
+     *
+     * @param indexName name of the index
+     * @param field name of the vector field
+     * @param k number of results returned
+     * @param filterCardinality number of docs passing the filter in the segment
+     * @param maxDoc number of docs in the segment
+     * @param tookNanos latency of the search in nanoseconds
+     */
+    public void recordApproximateSearch(
+        final String indexName,
+        final String field,
+        final int k,
+        final int filterCardinality,
+        final int maxDoc,
+        final long tookNanos
+    ) {
+        if (filterCardinality > 0 && maxDoc > 0) {
+            getCostModel(indexName, field, k).recordApproximateSearch(filterCardinality, maxDoc, tookNanos);
+        }
+    }
+
+    /**
+     * Whether a search the static heuristic sends to exact search should explore approximate search instead, so that
+     * the approximate search model gets samples for the segment shape.
+     *
+     * @param indexName name of the index
+     * @param field name of the vector field
+     * @param k number of results to return
+     * @return true if approximate search should be run
+     */
+    public boolean shouldExploreApproximateSearch(final String indexName, final String field, final int k) {
+        return getCostModel(indexName, field, k).shouldExploreApproximateSearch();
+    }
+
+    private FieldCostModel getCostModel(final String indexName, final String field, final int k) {
+        final String key = indexName + "/" + field + "/" + log2(k);
+        try {
+            return costModels.get(key, FieldCostModel::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to create the cost model for " + key, e);
+        }
+    }
+
+    private static int log2(final int value) {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, value));
+    }
+
+    private static int selectivityBucket(final int filterCardinality, final int maxDoc) {
+        // Bucket i holds selectivities in (2^-(i+1), 2^-i]
+        final int bucket = log2(maxDoc) - log2(filterCardinality);
+        return Math.min(Math.max(bucket, 0), NUM_SELECTIVITY_BUCKETS - 1);
+    }
+
+    /**
+     * Decision of the planner for a segment.
+     */
+    public enum Decision {
+        EXACT_SEARCH,
+        APPROXIMATE_SEARCH,
+        UNDECIDED
+    }
+
+    /**
+     * Outcome of planning a segment search. Estimates are -1 while the corresponding model has too few samples.
+     */
+    @Value
+    public static class Plan {
+        Decision decision;
+        long estimatedExactSearchNanos;
+        long estimatedApproximateSearchNanos;
+    }
+
+    /**
+     * Exponentially weighted moving average with a sample count.
+     */
+    private static final class MovingAverage {
+        private double value;
+        private long samples;
+
+        void add(final double sample) {
+            value = samples == 0 ? sample : value + SMOOTHING * (sample - value);
+            samples++;
+        }
+
+        boolean isTrusted() {
+            return samples >= MIN_SAMPLES;
+        }
+    }
+
+    /**
+     * Cost models of one index, field and power of two of k.
+     */
+    private static final class FieldCostModel {
+        private final MovingAverage exactNanosPerCandidate = new MovingAverage();
+        // Indexed by the power of two of the segment size and by the selectivity bucket
+        private final MovingAverage[][] approximateSearchNanos = new MovingAverage[Integer.SIZE][];
+        private long undecidedPlans;
+
+        synchronized Plan plan(final int filterCardinality, final int maxDoc) {
+            final long estimatedExact = exactNanosPerCandidate.isTrusted()
+                ? (long) (exactNanosPerCandidate.value * filterCardinality)
+                : -1;
+            final MovingAverage[] approximateBySelectivity = approximateSearchNanos[log2(maxDoc)];
+            final int bucket = selectivityBucket(filterCardinality, maxDoc);
+
+            if (approximateBySelectivity != null && approximateBySelectivity[bucket].isTrusted()) {
+                final long estimatedApproximate = (long) approximateBySelectivity[bucket].value;
+                if (estimatedExact < 0) {
+                    return new Plan(Decision.UNDECIDED, estimatedExact, estimatedApproximate);
+                }
+                final Decision decision = estimatedExact <= estimatedApproximate ? Decision.EXACT_SEARCH : Decision.APPROXIMATE_SEARCH;
+                return new Plan(decision, estimatedExact, estimatedApproximate);
+            }
+
+            // A search over a less selective filter visits fewer nodes, so its latency bounds this one from below
+            if (estimatedExact >= 0 && approximateBySelectivity != null) {
+                for (int denser = bucket - 1; denser >= 0; denser--) {
+                    if (approximateBySelectivity[denser].isTrusted()) {
+                        final long lowerBound = (long) approximateBySelectivity[denser].value;
+                        if (estimatedExact <= lowerBound) {
+                            return new Plan(Decision.EXACT_SEARCH, estimatedExact, -1);
+                        }
+                        break;
+                    }
+                }
+            }
+            return new Plan(Decision.UNDECIDED, estimatedExact, -1);
+        }
+
+        synchronized boolean shouldExploreApproximateSearch() {
+            return undecidedPlans++ % EXPLORATION_INTERVAL == EXPLORATION_INTERVAL - 1;
+        }
+
+        synchronized void recordExactSearch(final int numCandidates, final long tookNanos) {
+            exactNanosPerCandidate.add((double) tookNanos / numCandidates);
+        }
+
+        synchronized void recordApproximateSearch(final int filterCardinality, final int maxDoc, final long tookNanos) {
+            final int sizeBucket = log2(maxDoc);
+            if (approximateSearchNanos[sizeBucket] == null) {
+                approximateSearchNanos[sizeBucket] = new MovingAverage[NUM_SELECTIVITY_BUCKETS];
+                for (int i = 0; i < NUM_SELECTIVITY_BUCKETS; i++) {
+                    approximateSearchNanos[sizeBucket][i] = new MovingAverage();
+                }
+            }
+            approximateSearchNanos[sizeBucket][selectivityBucket(filterCardinality, maxDoc)].add(tookNanos);
+        }
+    }
+}
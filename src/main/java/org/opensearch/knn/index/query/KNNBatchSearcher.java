@@ -0,0 +1,322 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.AcceptDocs;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.Bits;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.common.exception.CacheAdmissionRejectedException;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
+import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
+import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
+import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.jni.JNIService;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.index.util.IndexUtil.getParametersAtLoading;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_LOAD_FALLBACKS;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_REQUESTS;
+
+/**
+ * Searches a batch of float query vectors against a k-NN field of a shard and returns the top k documents of each query.
+ * <p>
+ * Segments with a native graph are searched with a single native call for the whole batch, so the graph is locked, the
+ * JNI boundary is crossed and the search scratch memory is admitted once per segment instead of once per query. Segments
+ * searched through memory optimized search walk the graph inside Lucene, where there is no native crossing to amortize,
+ * so their queries are searched one after another. Segments without a graph, or whose graph is not admitted into the
+ * cache, are searched exactly.
+ * <p>
+ * The field is expected to have been validated by the caller: a Faiss float field without quantization, outside of a
+ * nested object, with query vectors of its dimension that have already been transformed for its space type.
+ */
+@Log4j2
+@AllArgsConstructor
+public class KNNBatchSearcher {
+
+    private final NativeMemoryCacheManager nativeMemoryCacheManager;
+    private final ModelDao modelDao;
+    private final ExactSearcher exactSearcher;
+
+    public KNNBatchSearcher(final NativeMemoryCacheManager nativeMemoryCacheManager, final ModelDao modelDao) {
+        this(nativeMemoryCacheManager, modelDao, new ExactSearcher(modelDao));
+    }
+
+    /**
+     * Searches the batch against every segment of the reader.
+     *
+     * @param indexReader reader of the shard
+     * @param indexName name of the index
+     * @param field name of the k-NN vector field
+     * @param queryVectors query vectors of the batch
+     * @param k number of documents to return per query
+     * @param methodParameters method parameters of the search, or null
+     * @param memoryOptimizedSearch whether the field is searched through memory optimized search
+     * @return top documents of each query, in the order of the query vectors, with shard level doc ids
+     * @throws IOException if reading a segment fails
+     */
+    public TopDocs[] search(
+        final IndexReader indexReader,
+        final String indexName,
+        final String field,
+        final float[][] queryVectors,
+        final int k,
+        final Map<String, ?> methodParameters,
+        final boolean memoryOptimizedSearch
+    ) throws IOException {
+        final List<LeafReaderContext> leaves = indexReader.leaves();
+        final TopDocs[][] perLeafTopDocs = new TopDocs[queryVectors.length][leaves.size()];
+        for (int leaf = 0; leaf < leaves.size(); leaf++) {
+            final LeafReaderContext leafReaderContext = leaves.get(leaf);
+            final TopDocs[] leafTopDocs = searchLeaf(
+                leafReaderContext,
+                indexName,
+                field,
+                queryVectors,
+                k,
+                methodParameters,
+                memoryOptimizedSearch
+            );
+            for (int query = 0; query < queryVectors.length; query++) {
+                for (ScoreDoc scoreDoc : leafTopDocs[query].scoreDocs) {
+                    scoreDoc.doc += leafReaderContext.docBase;
+                }
+                perLeafTopDocs[query][leaf] = leafTopDocs[query];
+            }
+        }
+
+        final TopDocs[] topDocs = new TopDocs[queryVectors.length];
+        for (int query = 0; query < queryVectors.length; query++) {
+            topDocs[query] = leaves.isEmpty() ? TopDocsCollector.EMPTY_TOPDOCS : TopDocs.merge(k, perLeafTopDocs[query]);
+        }
+        return topDocs;
+    }
+
+    private TopDocs[] searchLeaf(
+        final LeafReaderContext leafReaderContext,
+        final String indexName,
+        final String field,
+        final float[][] queryVectors,
+        final int k,
+        final Map<String, ?> methodParameters,
+        final boolean memoryOptimizedSearch
+    ) throws IOException {
+        final SegmentReader reader = Lucene.segmentReader(leafReaderContext.reader());
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, field);
+        if (fieldInfo == null) {
+            final TopDocs[] empty = new TopDocs[queryVectors.length];
+            Arrays.fill(empty, TopDocsCollector.EMPTY_TOPDOCS);
+            return empty;
+        }
+
+        final KNNEngine knnEngine = FieldInfoExtractor.extractKNNEngine(fieldInfo);
+        final SpaceType spaceType = FieldInfoExtractor.getSpaceType(modelDao, fieldInfo);
+        final List<String> engineFiles = KNNCodecUtil.getEngineFiles(knnEngine.getExtension(), field, reader.getSegmentInfo().info);
+        if (engineFiles.isEmpty()) {
+            log.debug("[KNN] No native engine files found for field {} for segment {}", field, reader.getSegmentName());
+            return exactSearch(leafReaderContext, field, queryVectors, k);
+        }
+        if (memoryOptimizedSearch) {
+            return memoryOptimizedSearch(reader, field, spaceType, queryVectors, k, methodParameters);
+        }
+
+        final String cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(engineFiles.get(0), reader.getSegmentInfo().info);
+        final NativeMemoryAllocation indexAllocation;
+        try {
+            indexAllocation = loadGraph(reader, fieldInfo, field, cacheKey, spaceType, knnEngine, indexName);
+        } catch (ExecutionException e) {
+            GRAPH_QUERY_ERRORS.increment();
+            throw new RuntimeException(e);
+        }
+        if (indexAllocation == null) {
+            GRAPH_QUERY_LOAD_FALLBACKS.increment();
+            return exactSearch(leafReaderContext, field, queryVectors, k);
+        }
+        return nativeSearch(reader, indexAllocation, knnEngine, spaceType, queryVectors, k, methodParameters);
+    }
+
+    private NativeMemoryAllocation loadGraph(
+        final SegmentReader reader,
+        final FieldInfo fieldInfo,
+        final String field,
+        final String cacheKey,
+        final SpaceType spaceType,
+        final KNNEngine knnEngine,
+        final String indexName
+    ) throws ExecutionException {
+        final NativeMemoryEntryContext.IndexEntryContext indexEntryContext = new NativeMemoryEntryContext.IndexEntryContext(
+            reader.directory(),
+            cacheKey,
+            NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+            getParametersAtLoading(
+                spaceType,
+                knnEngine,
+                indexName,
+                VectorDataType.FLOAT,
+                SegmentLevelQuantizationInfo.build(reader, fieldInfo, field)
+            ),
+            indexName,
+            fieldInfo.getAttribute(MODEL_ID)
+        );
+        try {
+            return nativeMemoryCacheManager.get(indexEntryContext, true);
+        } catch (CacheAdmissionRejectedException e) {
+            log.debug("[KNN] Graph {} was not admitted into the cache: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private TopDocs[] nativeSearch(
+        final SegmentReader reader,
+        final NativeMemoryAllocation indexAllocation,
+        final KNNEngine knnEngine,
+        final SpaceType spaceType,
+        final float[][] queryVectors,
+        final int k,
+        final Map<String, ?> methodParameters
+    ) {
+        final int numQueries = queryVectors.length;
+        final int dimension = queryVectors[0].length;
+        final float[] flattenedQueryVectors = new float[numQueries * dimension];
+        for (int query = 0; query < numQueries; query++) {
+            System.arraycopy(queryVectors[query], 0, flattenedQueryVectors, query * dimension, dimension);
+        }
+        final int[] resultIds = new int[numQueries * k];
+        final float[] resultDistances = new float[numQueries * k];
+
+        // The batch is searched by a single native call, so it is admitted once with the result heaps of all of its queries
+        final NativeSearchAdmissionController admissionController = NativeSearchAdmissionController.getInstance();
+        final long scratchBytes = NativeSearchAdmissionController.estimateScratchBytes(reader.maxDoc(), numQueries * k, 0, 0);
+        admissionController.acquire(scratchBytes);
+
+        indexAllocation.readLock();
+        try {
+            indexAllocation.incRef();
+        } catch (IllegalStateException e) {
+            indexAllocation.readUnlock();
+            admissionController.release(scratchBytes);
+            log.error("[KNN] Exception when allocation getting evicted: ", e);
+            throw new RuntimeException("Failed to do kNN search when vector data structures getting evicted ", e);
+        }
+        try {
+            if (indexAllocation.isClosed()) {
+                throw new RuntimeException("Index has already been closed");
+            }
+            GRAPH_QUERY_REQUESTS.increment();
+            JNIService.queryIndexBatch(
+                indexAllocation.getMemoryAddress(),
+                flattenedQueryVectors,
+                numQueries,
+                k,
+                methodParameters,
+                knnEngine,
+                resultIds,
+                resultDistances
+            );
+        } catch (Exception e) {
+            GRAPH_QUERY_ERRORS.increment();
+            throw new RuntimeException(e);
+        } finally {
+            indexAllocation.readUnlock();
+            indexAllocation.decRef();
+            admissionController.release(scratchBytes);
+        }
+
+        final Bits liveDocs = reader.getLiveDocs();
+        final TopDocs[] topDocs = new TopDocs[numQueries];
+        for (int query = 0; query < numQueries; query++) {
+            final TopApproxKnnCollector collector = new TopApproxKnnCollector(k, knnEngine, spaceType);
+            for (int i = query * k; i < (query + 1) * k && resultIds[i] != -1; i++) {
+                if (liveDocs == null || liveDocs.get(resultIds[i])) {
+                    collector.incVisitedCount(1);
+                    collector.collect(resultIds[i], resultDistances[i]);
+                }
+            }
+            topDocs[query] = collector.topDocs();
+        }
+        return topDocs;
+    }
+
+    private TopDocs[] memoryOptimizedSearch(
+        final SegmentReader reader,
+        final String field,
+        final SpaceType spaceType,
+        final float[][] queryVectors,
+        final int k,
+        final Map<String, ?> methodParameters
+    ) throws IOException {
+        // Like the search of a single query, the graph is walked with a queue of ef_search entries when it exceeds k
+        final Object efSearch = methodParameters == null ? null : methodParameters.get(KNNConstants.METHOD_PARAMETER_EF_SEARCH);
+        final int queueSize = Math.max(k, efSearch instanceof Integer ? (Integer) efSearch : 0);
+        final AcceptDocs acceptDocs = AcceptDocs.fromLiveDocs(reader.getLiveDocs(), reader.maxDoc());
+        final TopDocs[] topDocs = new TopDocs[queryVectors.length];
+        for (int query = 0; query < queryVectors.length; query++) {
+            final TopKnnCollector collector = new TopKnnCollector(queueSize, Integer.MAX_VALUE);
+            reader.getVectorReader().search(field, queryVectors[query], collector, acceptDocs);
+            final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+            if (spaceType == SpaceType.COSINESIMIL) {
+                MemoryOptimizedSearchScoreConverter.convertToCosineScore(scoreDocs);
+            }
+            final ScoreDoc[] topK = scoreDocs.length > k ? Arrays.copyOf(scoreDocs, k) : scoreDocs;
+            topDocs[query] = new TopDocs(new TotalHits(topK.length, TotalHits.Relation.EQUAL_TO), topK);
+        }
+        return topDocs;
+    }
+
+    private TopDocs[] exactSearch(
+        final LeafReaderContext leafReaderContext,
+        final String field,
+        final float[][] queryVectors,
+        final int k
+    ) throws IOException {
+        final Bits liveDocs = leafReaderContext.reader().getLiveDocs();
+        final TopDocs[] topDocs = new TopDocs[queryVectors.length];
+        for (int query = 0; query < queryVectors.length; query++) {
+            final TopDocs leafTopDocs = exactSearcher.searchLeaf(
+                leafReaderContext,
+                ExactSearcher.ExactSearcherContext.builder()
+                    .k(k)
+                    .field(field)
+                    .floatQueryVector(queryVectors[query])
+                    .useQuantizedVectorsForSearch(true)
+                    .numberOfMatchedDocs(leafReaderContext.reader().maxDoc())
+                    .isMemoryOptimizedSearchEnabled(false)
+                    .build()
+            );
+            final ScoreDoc[] liveScoreDocs = liveDocs == null
+                ? leafTopDocs.scoreDocs
+                : Arrays.stream(leafTopDocs.scoreDocs).filter(scoreDoc -> liveDocs.get(scoreDoc.doc)).toArray(ScoreDoc[]::new);
+            topDocs[query] = new TopDocs(new TotalHits(liveScoreDocs.length, TotalHits.Relation.EQUAL_TO), liveScoreDocs);
+        }
+        return topDocs;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.lucene.search.join.BitSetProducer;
 import org.opensearch.common.StopWatch;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
+import org.opensearch.knn.index.query.budget.SearchBudget;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.knn.profile.KNNProfileUtil;
 import org.opensearch.knn.profile.ProfileDefaultKNNWeight;
@@ -54,6 +55,7 @@ public class KNNQuery extends Query {
     private final String indexName;
     private final VectorDataType vectorDataType;
     private final RescoreContext rescoreContext;
+    private SearchBudget searchBudget;
     @Setter
     private Query filterQuery;
     @Getter
@@ -313,7 +315,8 @@ public class KNNQuery extends Query {
             parentsFilter,
             radius,
             methodParameters,
-            rescoreContext
+            rescoreContext,
+            searchBudget
         );
     }
 
@@ -334,7 +337,8 @@ public class KNNQuery extends Query {
             && Objects.equals(indexName, other.indexName)
             && Objects.equals(parentsFilter, other.parentsFilter)
             && Objects.equals(filterQuery, other.filterQuery)
-            && Objects.equals(rescoreContext, other.rescoreContext);
+            && Objects.equals(rescoreContext, other.rescoreContext)
+            && Objects.equals(searchBudget, other.searchBudget);
     }
 
     /**
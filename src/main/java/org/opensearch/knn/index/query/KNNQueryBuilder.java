@@ -40,8 +40,10 @@ import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.KNNMappingConfig;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.query.budget.SearchBudget;
 import org.opensearch.knn.index.query.parser.KNNQueryBuilderParser;
 import org.opensearch.knn.index.query.parser.RescoreParser;
+import org.opensearch.knn.index.query.parser.SearchBudgetParser;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.knn.indices.ModelDao;
@@ -67,6 +69,7 @@ import static org.opensearch.knn.index.engine.validation.ParameterValidator.vali
 import static org.opensearch.knn.index.query.parser.MethodParametersParser.validateMethodParameters;
 import static org.opensearch.knn.index.query.parser.RescoreParser.RESCORE_OVERSAMPLE_PARAMETER;
 import static org.opensearch.knn.index.query.parser.RescoreParser.RESCORE_PARAMETER;
+import static org.opensearch.knn.index.query.parser.SearchBudgetParser.SEARCH_BUDGET_PARAMETER;
 
 /**
  * Helper class to build the KNN query
@@ -89,6 +92,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
     public static final ParseField METHOD_PARAMS_FIELD = new ParseField(METHOD_PARAMETER);
     public static final ParseField RESCORE_FIELD = new ParseField(RESCORE_PARAMETER);
     public static final ParseField RESCORE_OVERSAMPLE_FIELD = new ParseField(RESCORE_OVERSAMPLE_PARAMETER);
+    public static final ParseField SEARCH_BUDGET_FIELD = new ParseField(SEARCH_BUDGET_PARAMETER);
 
     public static final int K_MAX = 10000;
     /**
@@ -117,6 +121,8 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
     private RescoreContext rescoreContext;
     @Getter
     private Boolean expandNested;
+    @Getter
+    private SearchBudget searchBudget;
 
     /**
      * Constructs a new query with the given field name and vector
@@ -159,6 +165,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
         private float boost = DEFAULT_BOOST;
         private RescoreContext rescoreContext;
         private Boolean expandNested;
+        private SearchBudget searchBudget;
 
         public Builder() {}
 
@@ -222,6 +229,11 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
             return this;
         }
 
+        public Builder searchBudget(SearchBudget searchBudget) {
+            this.searchBudget = searchBudget;
+            return this;
+        }
+
         public KNNQueryBuilder build() {
             validate();
             return new KNNQueryBuilder(
@@ -234,7 +246,8 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
                 filter,
                 ignoreUnmapped,
                 rescoreContext,
-                expandNested
+                expandNested,
+                searchBudget
             ).boost(boost).queryName(queryName);
         }
 
@@ -291,6 +304,15 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
                     );
                 }
             }
+
+            if (searchBudget != null) {
+                ValidationException validationException = SearchBudgetParser.validate(searchBudget);
+                if (validationException != null) {
+                    throw new IllegalArgumentException(
+                        String.format(Locale.ROOT, "[%s] errors in search budget parameter [%s]", NAME, validationException.getMessage())
+                    );
+                }
+            }
         }
     }
 
@@ -337,6 +359,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
         this.minScore = null;
         this.rescoreContext = null;
         this.expandNested = null;
+        this.searchBudget = null;
     }
 
     public static void initialize(ModelDao modelDao) {
@@ -360,6 +383,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
         methodParameters = builder.methodParameters;
         rescoreContext = builder.rescoreContext;
         expandNested = builder.expandNested;
+        searchBudget = builder.searchBudget;
     }
 
     @Override
@@ -410,6 +434,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
                 .ignoreUnmapped(ignoreUnmapped)
                 .rescoreContext(rescoreContext)
                 .expandNested(expandNested)
+                .searchBudget(searchBudget)
                 .build();
         }
 
@@ -424,6 +449,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
             .ignoreUnmapped(ignoreUnmapped)
             .rescoreContext(rescoreContext)
             .expandNested(expandNested)
+            .searchBudget(searchBudget)
             .build();
     }
 
@@ -572,6 +598,30 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
             throw new IllegalArgumentException(String.format(Locale.ROOT, "Engine [%s] does not support filters", knnEngine));
         }
 
+        // A search through the native library cannot be stopped, so the number of distance computations can only be bounded
+        // when the graph is searched in Lucene
+        if (KNNEngine.getEnginesThatCreateCustomSegmentFiles().contains(knnEngine)
+            && memoryOptimizedSearchEnabled == false
+            && searchBudget != null
+            && searchBudget.getMaxDistanceComputations() != null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "[%s] search budget parameter [%s] requires memory optimized search for engine [%s]",
+                    NAME,
+                    SearchBudgetParser.MAX_DISTANCE_COMPUTATIONS_PARAMETER,
+                    knnEngine
+                )
+            );
+        }
+
+        // Lucene searches its graph with its own collector, so neither limit of the budget would be applied
+        if (KNNEngine.getEnginesThatCreateCustomSegmentFiles().contains(knnEngine) == false && searchBudget != null) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "[%s] parameter [%s] is not supported for engine [%s]", NAME, SEARCH_BUDGET_PARAMETER, knnEngine)
+            );
+        }
+
         if (k != null && k != 0) {
             KNNQueryFactory.CreateQueryRequest createQueryRequest = KNNQueryFactory.CreateQueryRequest.builder()
                 .knnEngine(knnEngine)
@@ -587,6 +637,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
                 .context(context)
                 .rescoreContext(processedRescoreContext)
                 .expandNested(expandNested == null ? false : expandNested)
+                .searchBudget(searchBudget)
                 .memoryOptimizedSearchEnabled(memoryOptimizedSearchEnabled)
                 .build();
             return KNNQueryFactory.create(createQueryRequest);
@@ -745,7 +796,8 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
             && Objects.equals(filter, other.filter)
             && Objects.equals(ignoreUnmapped, other.ignoreUnmapped)
             && Objects.equals(rescoreContext, other.rescoreContext)
-            && Objects.equals(expandNested, other.expandNested);
+            && Objects.equals(expandNested, other.expandNested)
+            && Objects.equals(searchBudget, other.searchBudget);
     }
 
     @Override
@@ -760,7 +812,8 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
             maxDistance,
             minScore,
             rescoreContext,
-            expandNested
+            expandNested,
+            searchBudget
         );
     }
 
@@ -786,6 +839,7 @@ public class KNNQueryBuilder extends AbstractQueryBuilder<KNNQueryBuilder> imple
                     .ignoreUnmapped(this.ignoreUnmapped)
                     .rescoreContext(this.rescoreContext)
                     .expandNested(this.expandNested)
+                    .searchBudget(this.searchBudget)
                     .build();
                 return rewrittenQueryBuilder;
             }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.Getter;
+
+/**
+ * Primitive buffers a native search writes the ids and scores of its results into, so that no {@link KNNQueryResult} has
+ * to be allocated per hit. A buffer is kept per thread and reused by every search on that thread. Its content is only
+ * valid until the next search on the same thread, so callers must consume it right away.
+ */
+public final class KNNQueryResultBuffer {
+
+    private static final ThreadLocal<KNNQueryResultBuffer> THREAD_LOCAL_BUFFER = ThreadLocal.withInitial(KNNQueryResultBuffer::new);
+
+    @Getter
+    private int[] ids = new int[0];
+    @Getter
+    private float[] scores = new float[0];
+    @Getter
+    private int size;
+
+    private KNNQueryResultBuffer() {}
+
+    /**
+     * Returns the buffer of the calling thread, emptied and able to hold at least the given number of results.
+     *
+     * @param capacity number of results the buffer must be able to hold
+     * @return KNNQueryResultBuffer of the calling thread
+     */
+    public static KNNQueryResultBuffer getThreadLocalBuffer(int capacity) {
+        final KNNQueryResultBuffer buffer = THREAD_LOCAL_BUFFER.get();
+        if (buffer.ids.length < capacity) {
+            buffer.ids = new int[capacity];
+            buffer.scores = new float[capacity];
+        }
+        buffer.size = 0;
+        return buffer;
+    }
+
+    /**
+     * Sets the number of results written into the buffer.
+     *
+     * @param size number of valid entries in ids and scores
+     */
+    public void setSize(int size) {
+        if (size < 0 || size > ids.length) {
+            throw new IllegalArgumentException("Result size " + size + " is out of the buffer capacity " + ids.length);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Copies the given results into the buffer.
+     *
+     * @param results results to copy
+     */
+    public void copyFrom(KNNQueryResult[] results) {
+        if (ids.length < results.length) {
+            ids = new int[results.length];
+            scores = new float[results.length];
+        }
+        for (int i = 0; i < results.length; i++) {
+            ids[i] = results[i].getId();
+            scores[i] = results[i].getScore();
+        }
+        size = results.length;
+    }
+}
@@ -7,10 +7,13 @@ package org.opensearch.knn.index.query;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.FilteredDocIdSetIterator;
@@ -34,6 +37,7 @@ import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
+import org.opensearch.knn.index.query.budget.LeafSearchBudget;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher.ExactSearcherContext.ExactSearcherContextBuilder;
 import org.opensearch.knn.index.query.explain.KnnExplanation;
@@ -45,7 +49,10 @@ import org.opensearch.knn.plugin.stats.KNNCounter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
@@ -76,6 +83,8 @@ import static org.opensearch.knn.profile.StopWatchUtils.stopStopWatchAndLog;
 @Log4j2
 public abstract class KNNWeight extends Weight {
     protected static final TopDocs EMPTY_TOPDOCS = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+    // Neighbors whose distance is computed for every node a graph search visits, about the degree of the bottom layer
+    private static final long GRAPH_SEARCH_NEIGHBORS_PER_HOP = 32;
     private static ModelDao modelDao;
     private static ExactSearcher DEFAULT_EXACT_SEARCHER;
 
@@ -88,6 +97,14 @@ public abstract class KNNWeight extends Weight {
 
     protected final QuantizationService quantizationService;
     private final KnnExplanation knnExplanation;
+    // The timeout of the search budget starts with the weight, so that all segments of the shard share it
+    private final long searchBudgetStartNanos;
+    private final Map<Integer, LeafSearchBudget> leafSearchBudgets = new ConcurrentHashMap<>();
+    // Segments whose approximate search was answered by an exact search, as their graph was not resident
+    private final Set<Integer> graphFallbackLeaves = ConcurrentHashMap.newKeySet();
+    // Top k bound shared by the segments of the shard, only set when their results are reduced to the top k of the shard
+    @Setter
+    private MinCompetitiveScore minCompetitiveScore;
 
     public KNNWeight(KNNQuery query, float boost) {
         this(query, boost, null);
@@ -102,6 +119,7 @@ public abstract class KNNWeight extends Weight {
         this.exactSearcher = DEFAULT_EXACT_SEARCHER;
         this.quantizationService = QuantizationService.getInstance();
         this.knnExplanation = new KnnExplanation();
+        this.searchBudgetStartNanos = System.nanoTime();
     }
 
     public static void initialize(ModelDao modelDao) {
@@ -326,13 +344,27 @@ public abstract class KNNWeight extends Weight {
             knnExplanation.setCardinality(filterCardinality);
         }
 
+        // The timeout of the search budget passed while other segments of the shard were searched
+        final LeafSearchBudget leafSearchBudget = getLeafSearchBudget(context);
+        if (leafSearchBudget != null && leafSearchBudget.hasTimeLeft() == false) {
+            onSearchBudgetExhausted(context);
+            return PerLeafResult.EMPTY_RESULT;
+        }
+
         /*
          * The idea for this optimization is to get K results, we need to at least look at K vectors in the HNSW graph
          * . Hence, if filtered results are less than K and filter query is present we should shift to exact search.
          * This improves the recall.
          */
-        if (isFilteredExactSearchPreferred(filterCardinality)) {
+        final boolean isPlannerEnabled = isFilteredSearchPlannerEnabled();
+        if (isFilteredExactSearchPreferred(context, filterCardinality, k, isPlannerEnabled)) {
+            final long exactStartNanos = System.nanoTime();
             final TopDocs result = doExactSearch(context, new BitSetIterator(filterBitSet, filterCardinality), filterCardinality, k);
+            if (isSearchBudgetExhausted(context)) {
+                onSearchBudgetExhausted(context);
+            } else if (isPlannerEnabled) {
+                recordExactSearchLatency(k, filterCardinality, exactStartNanos);
+            }
             return new PerLeafResult(
                 filterWeight == null ? null : filterBitSet,
                 filterCardinality,
@@ -342,18 +374,41 @@ public abstract class KNNWeight extends Weight {
         }
 
         final StopWatch annStopWatch = startStopWatch(log);
+        final long annStartNanos = System.nanoTime();
         final TopDocs topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
         stopStopWatchAndLog(log, annStopWatch, "ANN search", knnQuery.getShardId(), segmentName, knnQuery.getField());
+        // Only a search of the graph tells the planner what approximate search costs
+        final boolean isGraphSearched = graphFallbackLeaves.remove(context.ord) == false;
 
         if (knnQuery.isExplain()) {
             knnExplanation.addLeafResult(context.id(), topDocs.scoreDocs.length);
         }
+        // A search stopped by its budget returns what it found so far, rather than spending more on an exact search
+        if (isSearchBudgetExhausted(context)) {
+            onSearchBudgetExhausted(context);
+            return new PerLeafResult(
+                filterWeight == null ? null : filterBitSet,
+                filterCardinality,
+                topDocs,
+                PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+            );
+        }
         // See whether we have to perform exact search based on approx search results
         // This is required if there are no native engine files or if approximate search returned
         // results less than K, though we have more than k filtered docs
         if (isExactSearchRequire(context, filterCardinality, topDocs.scoreDocs.length)) {
             final BitSetIterator docs = filterWeight != null ? new BitSetIterator(filterBitSet, filterCardinality) : null;
+            final long exactStartNanos = System.nanoTime();
             final TopDocs result = doExactSearch(context, docs, filterCardinality, k);
+            if (isSearchBudgetExhausted(context)) {
+                onSearchBudgetExhausted(context);
+            } else if (isPlannerEnabled) {
+                recordExactSearchLatency(k, filterCardinality, exactStartNanos);
+                // Choosing approximate search also cost the fallback to exact search
+                if (isGraphSearched) {
+                    recordApproximateSearchLatency(context, k, filterCardinality, annStartNanos);
+                }
+            }
             return new PerLeafResult(
                 filterWeight == null ? null : filterBitSet,
                 filterCardinality,
@@ -362,6 +417,13 @@ public abstract class KNNWeight extends Weight {
             );
         }
 
+        if (isPlannerEnabled) {
+            if (isGraphSearched) {
+                recordApproximateSearchLatency(context, k, filterCardinality, annStartNanos);
+            } else {
+                recordExactSearchLatency(k, filterCardinality, annStartNanos);
+            }
+        }
         return new PerLeafResult(
             filterWeight == null ? null : filterBitSet,
             filterCardinality,
@@ -401,7 +463,17 @@ public abstract class KNNWeight extends Weight {
         return BitSet.of(filterIterator, maxDoc);
     }
 
-    private TopDocs doExactSearch(
+    /**
+     * Runs exact search over the accepted docs of the segment with the query's parameters.
+     *
+     * @param context LeafReaderContext
+     * @param acceptedDocs iterator over the docs to score, or null to score every doc with a vector
+     * @param numberOfAcceptedDocs number of docs in acceptedDocs
+     * @param k number of results to return
+     * @return top k results
+     * @throws IOException if an error occurs while reading vectors
+     */
+    protected TopDocs doExactSearch(
         final LeafReaderContext context,
         final DocIdSetIterator acceptedDocs,
         final long numberOfAcceptedDocs,
@@ -419,7 +491,9 @@ public abstract class KNNWeight extends Weight {
             .numberOfMatchedDocs(numberOfAcceptedDocs)
             .floatQueryVector(knnQuery.getQueryVector())
             .byteQueryVector(knnQuery.getByteQueryVector())
-            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch());
+            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
+            .searchBudget(getLeafSearchBudget(context))
+            .minCompetitiveScore(minCompetitiveScore != null && minCompetitiveScore.getK() == k ? minCompetitiveScore : null);
 
         if (knnQuery.getContext() != null) {
             exactSearcherContextBuilder.maxResultWindow(knnQuery.getContext().getMaxResultWindow());
@@ -577,6 +651,16 @@ public abstract class KNNWeight extends Weight {
         }
     }
 
+    protected void addExplainIfRequired(final KNNQueryResultBuffer results, final KNNEngine knnEngine, final SpaceType spaceType) {
+        if (knnQuery.isExplain()) {
+            final boolean negateScore = KNNEngine.FAISS.getName().equals(knnEngine.getName()) && SpaceType.INNER_PRODUCT.equals(spaceType);
+            for (int i = 0; i < results.getSize(); i++) {
+                final float score = results.getScores()[i];
+                knnExplanation.addRawScore(results.getIds()[i], negateScore ? -1 * score : score);
+            }
+        }
+    }
+
     protected void addExplainIfRequired(final TopDocs results, final KNNEngine knnEngine, final SpaceType spaceType) {
         if (knnQuery.isExplain()) {
             Arrays.stream(results.scoreDocs).forEach(result -> {
@@ -613,7 +697,12 @@ public abstract class KNNWeight extends Weight {
         return -score + 1;
     }
 
-    private boolean isFilteredExactSearchPreferred(final int filterIdsCount) {
+    private boolean isFilteredExactSearchPreferred(
+        final LeafReaderContext context,
+        final int filterIdsCount,
+        final int k,
+        final boolean isPlannerEnabled
+    ) {
         if (filterWeight == null) {
             return false;
         }
@@ -633,6 +722,36 @@ public abstract class KNNWeight extends Weight {
             return false;
         }
 
+        if (isPlannerEnabled) {
+            final FilteredSearchPlanner planner = FilteredSearchPlanner.getInstance();
+            // Plan with the k the segment is searched with, which is the first pass k under rescoring, as latencies are
+            // recorded under that k
+            final FilteredSearchPlanner.Plan plan = planner.plan(
+                knnQuery.getIndexName(),
+                knnQuery.getField(),
+                k,
+                filterIdsCount,
+                context.reader().maxDoc()
+            );
+            final boolean isExactSearchPlanned;
+            if (plan.getDecision() != FilteredSearchPlanner.Decision.UNDECIDED) {
+                isExactSearchPlanned = plan.getDecision() == FilteredSearchPlanner.Decision.EXACT_SEARCH;
+            } else {
+                // Undecided, fall back to the heuristic. Once in a while run approximate search where the heuristic would not,
+                // so that the planner learns its latency for this segment shape.
+                isExactSearchPlanned = isMaxDistCompGreaterThanEstimatedDistComp(filterIdsCount)
+                    && planner.shouldExploreApproximateSearch(knnQuery.getIndexName(), knnQuery.getField(), k) == false;
+            }
+            final FilteredSearchPlanner.Plan chosenPlan = new FilteredSearchPlanner.Plan(
+                isExactSearchPlanned ? FilteredSearchPlanner.Decision.EXACT_SEARCH : FilteredSearchPlanner.Decision.APPROXIMATE_SEARCH,
+                plan.getEstimatedExactSearchNanos(),
+                plan.getEstimatedApproximateSearchNanos()
+            );
+            onFilteredSearchPlanned(context, chosenPlan);
+            log.debug("Filtered search plan for filterIdsLength : {}, plan : {}, chosen plan : {}", filterIdsCount, plan, chosenPlan);
+            return isExactSearchPlanned;
+        }
+
         // if no setting is set, then use the default max distance computation value to see if we can do exact search.
         /**
          * TODO we can have a different MAX_DISTANCE_COMPUTATIONS for binary index as computation cost for binary index
@@ -641,6 +760,155 @@ public abstract class KNNWeight extends Weight {
         return isMaxDistCompGreaterThanEstimatedDistComp(filterIdsCount);
     }
 
+    /**
+     * Whether the search of a segment is planned by the {@link FilteredSearchPlanner}. Only filtered k-NN searches are
+     * planned, radial searches keep the static heuristics.
+     *
+     * @return true if the planner is enabled for the query
+     */
+    private boolean isFilteredSearchPlannerEnabled() {
+        return filterWeight != null && knnQuery.getRadius() == null && KNNSettings.isFilteredSearchPlannerEnabled(knnQuery.getIndexName());
+    }
+
+    private void recordExactSearchLatency(final int k, final int numCandidates, final long startNanos) {
+        FilteredSearchPlanner.getInstance()
+            .recordExactSearch(knnQuery.getIndexName(), knnQuery.getField(), k, numCandidates, System.nanoTime() - startNanos);
+    }
+
+    private void recordApproximateSearchLatency(
+        final LeafReaderContext context,
+        final int k,
+        final int filterCardinality,
+        final long startNanos
+    ) {
+        FilteredSearchPlanner.getInstance()
+            .recordApproximateSearch(
+                knnQuery.getIndexName(),
+                knnQuery.getField(),
+                k,
+                filterCardinality,
+                context.reader().maxDoc(),
+                System.nanoTime() - startNanos
+            );
+    }
+
+    /**
+     * Called by implementations that answer the approximate search of a segment with an exact search, e.g. while the
+     * graph of the segment is being loaded, so that its latency is not taken for the one of a graph search.
+     *
+     * @param context LeafReaderContext of the segment
+     */
+    protected void onGraphSearchFallback(final LeafReaderContext context) {
+        graphFallbackLeaves.add(context.ord);
+    }
+
+    /**
+     * Called with the plan of a filtered search before the search is run, so that profiling weights can expose the
+     * decision of the planner. The decision of the plan is the search that is run, an undecided planner being resolved by
+     * the heuristics.
+     *
+     * @param context LeafReaderContext of the planned segment
+     * @param plan chosen plan of the segment search
+     */
+    protected void onFilteredSearchPlanned(final LeafReaderContext context, final FilteredSearchPlanner.Plan plan) {}
+
+    /**
+     * Returns the budget the search of a segment draws from, or null if the query has no search budget. The approximate search of
+     * a segment, its exact search fallback and the second pass of an optimistic search share the budget of the segment.
+     *
+     * @param context LeafReaderContext of the segment
+     * @return budget of the segment, or null
+     */
+    protected LeafSearchBudget getLeafSearchBudget(final LeafReaderContext context) {
+        if (knnQuery.getSearchBudget() == null) {
+            return null;
+        }
+        return leafSearchBudgets.computeIfAbsent(
+            context.ord,
+            ord -> new LeafSearchBudget(knnQuery.getSearchBudget(), searchBudgetStartNanos)
+        );
+    }
+
+    /**
+     * @param context LeafReaderContext of the segment
+     * @return true if the search of the segment was stopped or skipped because its budget was spent
+     */
+    public boolean isSearchBudgetExhausted(final LeafReaderContext context) {
+        final LeafSearchBudget leafSearchBudget = knnQuery.getSearchBudget() == null ? null : leafSearchBudgets.get(context.ord);
+        return leafSearchBudget != null && leafSearchBudget.isExhausted();
+    }
+
+    /**
+     * Called once the search of a segment returned partial results because the budget of the query was spent, so that
+     * profiling weights can report the partially searched segments.
+     *
+     * @param context LeafReaderContext of the partially searched segment
+     */
+    protected void onSearchBudgetExhausted(final LeafReaderContext context) {}
+
+    /**
+     * Estimates the cost of searching a segment in number of distance computations, so that the segments of a shard can be
+     * scheduled with the most expensive ones first. A segment without a graph is scanned, costing one computation per vector.
+     * A graph search grows with the size of the candidate queue and the logarithm of the number of vectors, and a graph
+     * that is not resident yet additionally has to be loaded, which reads every vector of the segment once.
+     *
+     * @param context LeafReaderContext of the segment
+     * @return estimated cost of the segment search, 0 if the segment has no vectors of the field
+     */
+    public long estimateSearchCost(final LeafReaderContext context) {
+        final SegmentReader reader = Lucene.segmentReader(context.reader());
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, knnQuery.getField());
+        if (fieldInfo == null) {
+            return 0;
+        }
+        final long numVectors = getNumVectors(reader, fieldInfo);
+        final KNNEngine knnEngine = FieldInfoExtractor.extractKNNEngine(fieldInfo);
+        final List<String> engineFiles = KNNCodecUtil.getEngineFiles(
+            knnEngine.getExtension(),
+            knnQuery.getField(),
+            reader.getSegmentInfo().info
+        );
+        if (engineFiles.isEmpty()) {
+            return numVectors;
+        }
+
+        final Object efSearch = knnQuery.getMethodParameters() == null
+            ? null
+            : knnQuery.getMethodParameters().get(KNNConstants.METHOD_PARAMETER_EF_SEARCH);
+        final long queueSize = Math.max(1, Math.max(knnQuery.getK(), efSearch instanceof Integer ? (Integer) efSearch : 0));
+        final long log2NumVectors = 64 - Long.numberOfLeadingZeros(Math.max(1, numVectors));
+        final long graphSearchCost = Math.min(numVectors, queueSize * log2NumVectors * GRAPH_SEARCH_NEIGHBORS_PER_HOP);
+        return isGraphResident(reader, engineFiles.get(0)) ? graphSearchCost : graphSearchCost + numVectors;
+    }
+
+    /**
+     * Returns whether the graph of a segment can be searched without loading it first. Weights that search graphs off heap
+     * through the vectors reader never load them, so this defaults to true.
+     *
+     * @param reader SegmentReader of the segment
+     * @param vectorIndexFileName name of the graph file of the segment
+     * @return true if the graph does not need to be loaded before it is searched
+     */
+    protected boolean isGraphResident(final SegmentReader reader, final String vectorIndexFileName) {
+        return true;
+    }
+
+    private static long getNumVectors(final SegmentReader reader, final FieldInfo fieldInfo) {
+        if (fieldInfo.hasVectorValues() == false) {
+            // Vectors of legacy segments are stored as binary doc values, which carry no count
+            return reader.maxDoc();
+        }
+        try {
+            final KnnVectorValues vectorValues = fieldInfo.getVectorEncoding() == VectorEncoding.BYTE
+                ? reader.getByteVectorValues(fieldInfo.getName())
+                : reader.getFloatVectorValues(fieldInfo.getName());
+            return vectorValues == null ? 0 : vectorValues.size();
+        } catch (IOException e) {
+            log.debug("[KNN] Failed to read the vector count of segment {}, using its document count", reader.getSegmentName(), e);
+            return reader.maxDoc();
+        }
+    }
+
     private boolean isMaxDistCompGreaterThanEstimatedDistComp(int filterDocsCardinality) {
         long estimatedDistanceComputations = ((long) filterDocsCardinality) * knnQuery.getQueryDimension();
         return KNNConstants.MAX_DISTANCE_COMPUTATIONS >= estimatedDistanceComputations;
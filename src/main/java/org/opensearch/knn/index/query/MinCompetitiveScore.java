@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.Getter;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.NumericUtils;
+import org.apache.lucene.util.hnsw.FloatHeap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lower bound of the score a document needs to make the top k of a shard, shared by the searches of all segments of the
+ * shard, including the ones running concurrently. Every segment that found k live documents raises the bound to the k-th
+ * best of its scores, as the top k of the shard cannot score lower. Segments searched later drop the results below the bound
+ * right away, and their exact searches skip the batches that cannot reach it.
+ * <p>
+ * The bound only rises and is updated without locking. It is only valid if the results of all segments are reduced to the
+ * top k of the shard afterwards, see {@link ResultUtil#reduceToTopK}.
+ */
+public final class MinCompetitiveScore {
+
+    @Getter
+    private final int k;
+    // Scores are kept in their sortable int form, so that a plain max of the ints is a max of the scores
+    private final AtomicInteger sortableScore = new AtomicInteger(NumericUtils.floatToSortableInt(Float.NEGATIVE_INFINITY));
+
+    /**
+     * @param k number of results the shard is reduced to
+     */
+    public MinCompetitiveScore(final int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be greater than zero, got=" + k);
+        }
+        this.k = k;
+    }
+
+    /**
+     * @return score a document has to reach to make the top k of the shard
+     */
+    public float get() {
+        return NumericUtils.sortableIntToFloat(sortableScore.get());
+    }
+
+    /**
+     * Raises the bound to the given score, unless it is already higher.
+     *
+     * @param score k-th best score among k distinct live documents of the shard
+     */
+    public void accumulate(final float score) {
+        sortableScore.accumulateAndGet(NumericUtils.floatToSortableInt(score), Math::max);
+    }
+
+    /**
+     * Raises the bound to the k-th best score of the results of a segment. Results with fewer than k documents leave the
+     * bound as it is.
+     *
+     * @param results live documents found in a segment
+     */
+    public void accumulate(final TopDocs results) {
+        final ScoreDoc[] scoreDocs = results.scoreDocs;
+        if (scoreDocs.length < k) {
+            return;
+        }
+        final FloatHeap floatHeap = new FloatHeap(k);
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            floatHeap.offer(scoreDoc.score);
+        }
+        accumulate(floatHeap.peek());
+    }
+
+    /**
+     * Drops the results that cannot make the top k of the shard.
+     *
+     * @param results results of a segment
+     * @return results scoring at least the current bound
+     */
+    public TopDocs prune(final TopDocs results) {
+        final float minScore = get();
+        final ScoreDoc[] scoreDocs = results.scoreDocs;
+        int numCompetitive = 0;
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            if (scoreDoc.score >= minScore) {
+                numCompetitive++;
+            }
+        }
+        if (numCompetitive == scoreDocs.length) {
+            return results;
+        }
+
+        final ScoreDoc[] competitive = new ScoreDoc[numCompetitive];
+        int i = 0;
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            if (scoreDoc.score >= minScore) {
+                competitive[i++] = scoreDoc;
+            }
+        }
+        return new TopDocs(new TotalHits(competitive.length, TotalHits.Relation.EQUAL_TO), competitive);
+    }
+}
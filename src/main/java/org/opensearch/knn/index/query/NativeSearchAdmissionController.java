@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ADMISSION_QUEUED;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ADMISSION_REJECTIONS;
+
+/**
+ * Admits the native engine searches of a node. Every search allocates scratch memory inside the native library, such as the
+ * visited table of the graph traversal, the result heap and the copy of the filter ids, which is not accounted for by the
+ * native memory cache. The controller bounds both the number of searches running at the same time and the scratch memory
+ * they estimate to allocate. A search over either limit waits until running searches complete, and is rejected if it was
+ * not admitted within the queue timeout, so that a node under bursty traffic sheds load instead of oversubscribing its CPU
+ * and native memory.
+ * <p>
+ * The limits are read from their dynamic settings whenever a search is admitted, so that changed limits apply without a
+ * restart. A search estimating more scratch memory than the whole budget is admitted once no other search is running.
+ */
+final class NativeSearchAdmissionController {
+
+    private static final NativeSearchAdmissionController INSTANCE = new NativeSearchAdmissionController(
+        KNNSettings::getNativeSearchMaxConcurrency,
+        KNNSettings::getNativeSearchScratchMemoryLimitInBytes,
+        () -> KNNSettings.getNativeSearchQueueTimeout().millis()
+    );
+
+    // Waiting searches re-read the limits at this interval, so that raised limits also admit them without a release
+    private static final long RECHECK_INTERVAL_MILLIS = 100;
+    // Bytes of a result of the native search heap, a float distance and a 64 bit id
+    private static final long RESULT_BYTES = Float.BYTES + Long.BYTES;
+
+    private final IntSupplier maxConcurrency;
+    private final LongSupplier scratchMemoryLimitBytes;
+    private final LongSupplier queueTimeoutMillis;
+    private int inFlight;
+    private long inFlightScratchBytes;
+
+    @VisibleForTesting
+    NativeSearchAdmissionController(
+        final IntSupplier maxConcurrency,
+        final LongSupplier scratchMemoryLimitBytes,
+        final LongSupplier queueTimeoutMillis
+    ) {
+        this.maxConcurrency = maxConcurrency;
+        this.scratchMemoryLimitBytes = scratchMemoryLimitBytes;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    static NativeSearchAdmissionController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Estimates the scratch memory the native library allocates for a search of a graph.
+     *
+     * @param numVectors number of vectors of the graph, the visited table holds a byte for each
+     * @param numResults number of results the search keeps in its heap
+     * @param numFilterIds number of filter ids or bitset words passed to the search
+     * @param numParentIds number of parent ids passed to the search
+     * @return estimated scratch memory in bytes
+     */
+    static long estimateScratchBytes(final int numVectors, final int numResults, final int numFilterIds, final int numParentIds) {
+        return numVectors + numResults * RESULT_BYTES + (long) numFilterIds * Long.BYTES + (long) numParentIds * Integer.BYTES;
+    }
+
+    /**
+     * Blocks until the search may run. Must be followed by {@link #release(long)} with the same estimate once the search is
+     * done.
+     *
+     * @param scratchBytes estimated scratch memory of the search
+     * @throws OpenSearchRejectedExecutionException if the search was not admitted within the queue timeout
+     */
+    synchronized void acquire(final long scratchBytes) {
+        if (isAdmissible(scratchBytes) == false) {
+            waitUntilAdmissible(scratchBytes);
+        }
+        inFlight++;
+        inFlightScratchBytes += scratchBytes;
+    }
+
+    /**
+     * Marks a search admitted with {@link #acquire(long)} as done.
+     *
+     * @param scratchBytes estimated scratch memory the search was admitted with
+     */
+    synchronized void release(final long scratchBytes) {
+        inFlight--;
+        inFlightScratchBytes -= scratchBytes;
+        notifyAll();
+    }
+
+    @VisibleForTesting
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void waitUntilAdmissible(final long scratchBytes) {
+        GRAPH_QUERY_ADMISSION_QUEUED.increment();
+        final long startNanos = System.nanoTime();
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis.getAsLong());
+        try {
+            while (isAdmissible(scratchBytes) == false) {
+                final long remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+                if (remainingNanos <= 0) {
+                    GRAPH_QUERY_ADMISSION_REJECTIONS.increment();
+                    throw new OpenSearchRejectedExecutionException(
+                        String.format(
+                            Locale.ROOT,
+                            "k-NN native search rejected after waiting [%d ms] for [%d] running searches using [%d] bytes of scratch",
+                            TimeUnit.NANOSECONDS.toMillis(timeoutNanos),
+                            inFlight,
+                            inFlightScratchBytes
+                        )
+                    );
+                }
+                wait(Math.min(RECHECK_INTERVAL_MILLIS, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos))));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            GRAPH_QUERY_ADMISSION_REJECTIONS.increment();
+            throw new OpenSearchRejectedExecutionException("k-NN native search interrupted while waiting to be admitted");
+        } finally {
+            GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    private boolean isAdmissible(final long scratchBytes) {
+        final int concurrencyLimit = maxConcurrency.getAsInt();
+        if (concurrencyLimit > 0 && inFlight >= concurrencyLimit) {
+            return false;
+        }
+        final long scratchLimit = scratchMemoryLimitBytes.getAsLong();
+        return scratchLimit <= 0 || inFlight == 0 || inFlightScratchBytes + scratchBytes <= scratchLimit;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.budget;
+
+import org.apache.lucene.search.KnnCollector;
+
+/**
+ * {@link KnnCollector} that terminates the graph traversal once the {@link LeafSearchBudget} of the segment is exhausted. The
+ * HNSW searchers stop at the next {@link #earlyTerminated()} check and the collector keeps the best results found so far.
+ */
+public class BudgetedKnnCollector extends KnnCollector.Decorator {
+
+    private final LeafSearchBudget leafSearchBudget;
+
+    public BudgetedKnnCollector(final KnnCollector collector, final LeafSearchBudget leafSearchBudget) {
+        super(collector);
+        this.leafSearchBudget = leafSearchBudget;
+    }
+
+    @Override
+    public boolean earlyTerminated() {
+        return leafSearchBudget.isExhausted() || super.earlyTerminated();
+    }
+
+    @Override
+    public void incVisitedCount(final int count) {
+        super.incVisitedCount(count);
+        leafSearchBudget.tryConsume(count);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.budget;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the {@link SearchBudget} of a query while a single segment is searched. The searchers report the distances they compute
+ * through {@link #tryConsume(int)} and stop once it returns false. It is thread safe, as the exact search of a segment may score
+ * doc id ranges in parallel.
+ */
+public final class LeafSearchBudget {
+
+    // Reading the clock for every scored vector would cost more than scoring it, so it is only read once per this many vectors
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
+    private final long maxDistanceComputations;
+    private final long timeoutNanos;
+    private final long startNanos;
+    private final AtomicLong distanceComputations = new AtomicLong();
+    private volatile boolean exhausted;
+
+    /**
+     * @param searchBudget budget of the query
+     * @param startNanos   {@link System#nanoTime()} at which the timeout of the budget started
+     */
+    public LeafSearchBudget(final SearchBudget searchBudget, final long startNanos) {
+        this.maxDistanceComputations = searchBudget.getMaxDistanceComputations() == null
+            ? Long.MAX_VALUE
+            : searchBudget.getMaxDistanceComputations();
+        this.timeoutNanos = searchBudget.getTimeout() == null ? -1 : searchBudget.getTimeout().nanos();
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Accounts for {@code count} distance computations. The budget is only exhausted once more than the allowed number of
+     * computations were reported, so a segment searched with exactly that many is not reported as cut short.
+     *
+     * @param count number of vectors scored
+     * @return true if the search may continue, false if the budget is exhausted
+     */
+    public boolean tryConsume(final int count) {
+        if (exhausted) {
+            return false;
+        }
+        final long total = distanceComputations.addAndGet(count);
+        if (total > maxDistanceComputations) {
+            exhausted = true;
+        } else if ((total - count) / CLOCK_CHECK_INTERVAL != total / CLOCK_CHECK_INTERVAL) {
+            return hasTimeLeft();
+        }
+        return exhausted == false;
+    }
+
+    /**
+     * Reads the clock to check whether the timeout of the budget has passed.
+     *
+     * @return true if the search may continue, false if the budget is exhausted
+     */
+    public boolean hasTimeLeft() {
+        if (exhausted == false && timeoutNanos >= 0 && System.nanoTime() - startNanos >= timeoutNanos) {
+            exhausted = true;
+        }
+        return exhausted == false;
+    }
+
+    /**
+     * @return true once the search of the segment was stopped or skipped because the budget was spent
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * @return number of distance computations accounted so far
+     */
+    public long getDistanceComputations() {
+        return distanceComputations.get();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.budget;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.common.unit.TimeValue;
+
+/**
+ * Bounds the work a k-NN query may spend on a shard. Once the budget is spent, the search stops and returns the best results
+ * found so far instead of failing, trading recall for latency.
+ * <ul>
+ *     <li>{@code maxDistanceComputations} bounds the number of vectors scored in a single segment. A search through the native
+ *     library cannot be stopped, so for native engine fields it requires memory optimized search.</li>
+ *     <li>{@code timeout} bounds the time spent searching the segments of a shard, starting when the query weight is created.</li>
+ * </ul>
+ * Either limit may be null, in which case it does not apply. Lucene engine fields are searched by Lucene itself, so they do not
+ * support a budget.
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public final class SearchBudget {
+    private final Integer maxDistanceComputations;
+    private final TimeValue timeout;
+}
@@ -7,6 +7,7 @@ package org.opensearch.knn.index.query.exactsearch;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Setter;
 import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.FieldInfo;
@@ -15,21 +16,24 @@ import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.index.VectorSimilarityFunction;
 import org.apache.lucene.search.DocAndFloatFeatureBuffer;
 import org.apache.lucene.search.DocIdSetIterator;
-import org.apache.lucene.search.HitQueue;
-import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.VectorScorer;
 import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.query.MinCompetitiveScore;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationUtil;
+import org.opensearch.knn.index.query.budget.LeafSearchBudget;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.query.scorers.VectorScorerMode;
 import org.opensearch.knn.index.query.scorers.VectorScorers;
@@ -37,12 +41,16 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesIterator;
 import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+
+import static org.opensearch.knn.common.KNNConstants.EXACT_SEARCH_THREAD_POOL;
+import static org.opensearch.knn.plugin.stats.KNNCounter.EXACT_SEARCH_PARALLEL_REQUESTS;
 
 /**
  * Performs brute-force (exact) k-nearest-neighbor search over vector fields within individual
@@ -53,7 +61,7 @@ import java.util.Locale;
  * <ul>
  *   <li><b>Top-K</b> — returns the {@code k} highest-scoring documents using a min-heap.</li>
  *   <li><b>Score-all</b> — scores every matched document when the candidate set is smaller than
- *       or equal to {@code k}, avoiding unnecessary heap overhead.</li>
+ *       or equal to {@code k}, without pruning any batch.</li>
  *   <li><b>Radial (min-score)</b> — returns all documents whose similarity score meets or exceeds
  *       a minimum threshold derived from the query radius (FAISS engine only).</li>
  * </ul>
@@ -62,11 +70,21 @@ import java.util.Locale;
  * supports segment-level quantization when enabled, including Asymmetric Distance Computation (ADC).
  * For nested document structures, a parent {@link BitSet} is used to map child vectors back to
  * their parent documents.
+ *
+ * <p>A large filtered candidate set can be split into doc id ranges that are scored in parallel on the
+ * {@link org.opensearch.knn.common.KNNConstants#EXACT_SEARCH_THREAD_POOL}, see
+ * {@link KNNSettings#KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES}.
  */
 @Log4j2
 @AllArgsConstructor
 public class ExactSearcher {
 
+    // Smallest number of candidates worth handing to a separate thread
+    private static final int MIN_CANDIDATES_PER_PARTITION = 4096;
+
+    @Setter
+    private static ThreadPool threadPool;
+
     private final ModelDao modelDao;
 
     /**
@@ -99,6 +117,29 @@ public class ExactSearcher {
             return TopDocsCollector.EMPTY_TOPDOCS;
         }
 
+        final int numPartitions = getNumPartitions(context);
+        if (numPartitions > 1) {
+            return searchPartitions(reader, fieldInfo, leafReaderContext, context, numPartitions);
+        }
+        return searchRange(reader, fieldInfo, leafReaderContext, context);
+    }
+
+    /**
+     * Searches the candidates of the context with a single {@link VectorScorer}.
+     *
+     * @param reader            the {@link SegmentReader} for the current segment
+     * @param fieldInfo         the {@link FieldInfo} for the vector field (must not be {@code null})
+     * @param leafReaderContext the {@link LeafReaderContext} providing access to the segment's reader
+     * @param context           the {@link ExactSearcherContext} encapsulating the search parameters
+     * @return {@link TopDocs} containing the scored results sorted by descending score
+     * @throws IOException if an I/O error occurs while reading vectors or computing scores
+     */
+    private TopDocs searchRange(
+        final SegmentReader reader,
+        final FieldInfo fieldInfo,
+        final LeafReaderContext leafReaderContext,
+        final ExactSearcherContext context
+    ) throws IOException {
         final VectorScorer vectorScorer = createVectorScorer(reader, fieldInfo, leafReaderContext, context);
         if (vectorScorer == null) {
             log.debug("[KNN] VectorScorer creation failed for field [{}] in segment [{}]", context.getField(), reader.getSegmentName());
@@ -113,7 +154,95 @@ public class ExactSearcher {
         if (context.getRadius() != null) {
             return doRadialSearch(fieldInfo, context, vectorScorer, matchedDocs);
         }
-        return exactNearestNeighborSearch(context, vectorScorer, matchedDocs);
+        // The heap of a segment with deleted documents may hold documents that are dropped later, so it cannot raise the bound
+        final boolean canRaiseMinCompetitiveScore = leafReaderContext.reader().getLiveDocs() == null;
+        return exactNearestNeighborSearch(context, vectorScorer, matchedDocs, canRaiseMinCompetitiveScore);
+    }
+
+    /**
+     * Decides into how many doc id ranges the candidates of the context are split. Only a filtered, non-nested search
+     * whose candidate set reaches {@link KNNSettings#KNN_EXACT_SEARCH_PARALLEL_MIN_CANDIDATES} and exceeds {@code k} is
+     * split, and every range gets at least {@link #MIN_CANDIDATES_PER_PARTITION} candidates on average.
+     *
+     * @param context the {@link ExactSearcherContext} of the search
+     * @return number of ranges, 1 if the search should stay on the calling thread
+     */
+    private static int getNumPartitions(final ExactSearcherContext context) {
+        if (threadPool == null || context.getParentsFilter() != null) {
+            return 1;
+        }
+        if (context.getMatchedDocsIterator() instanceof BitSetIterator == false || context.getMatchedDocsIterator().docID() != -1) {
+            return 1;
+        }
+        if (context.getRadius() == null && context.getNumberOfMatchedDocs() <= context.getK()) {
+            return 1;
+        }
+        final int minCandidates = KNNSettings.getExactSearchParallelMinCandidates();
+        if (minCandidates < 0 || context.getNumberOfMatchedDocs() < minCandidates) {
+            return 1;
+        }
+        final long maxPartitions = context.getNumberOfMatchedDocs() / MIN_CANDIDATES_PER_PARTITION;
+        return (int) Math.min(threadPool.info(EXACT_SEARCH_THREAD_POOL).getMax(), maxPartitions);
+    }
+
+    /**
+     * Splits the candidate {@link BitSet} into contiguous doc id ranges, searches every range with its own
+     * {@link VectorScorer} on the exact search thread pool and merges the per-range results. The calling thread takes
+     * part in the search, and a range rejected by the saturated pool is searched on the calling thread.
+     *
+     * @param reader            the {@link SegmentReader} for the current segment
+     * @param fieldInfo         the {@link FieldInfo} for the vector field (must not be {@code null})
+     * @param leafReaderContext the {@link LeafReaderContext} providing access to the segment's reader
+     * @param context           the {@link ExactSearcherContext} whose matched docs iterator is a {@link BitSetIterator}
+     * @param numPartitions     number of doc id ranges to split the candidates into
+     * @return {@link TopDocs} containing the merged results sorted by descending score
+     * @throws IOException if an I/O error occurs while reading vectors or computing scores
+     */
+    private TopDocs searchPartitions(
+        final SegmentReader reader,
+        final FieldInfo fieldInfo,
+        final LeafReaderContext leafReaderContext,
+        final ExactSearcherContext context,
+        final int numPartitions
+    ) throws IOException {
+        final BitSet candidates = ((BitSetIterator) context.getMatchedDocsIterator()).getBitSet();
+        final int minDoc = candidates.nextSetBit(0);
+        if (minDoc == DocIdSetIterator.NO_MORE_DOCS) {
+            return TopDocsCollector.EMPTY_TOPDOCS;
+        }
+        final int maxDoc = candidates.prevSetBit(candidates.length() - 1) + 1;
+        final int rangeSize = Math.ceilDiv(maxDoc - minDoc, numPartitions);
+        final long rangeCost = Math.ceilDiv(context.getNumberOfMatchedDocs(), numPartitions);
+
+        EXACT_SEARCH_PARALLEL_REQUESTS.increment();
+        final List<Callable<TopDocs>> tasks = new ArrayList<>(numPartitions);
+        for (int from = minDoc; from < maxDoc; from += rangeSize) {
+            // Every range gets its own copy of the query vector, as creating a scorer may transform it in place
+            final ExactSearcherContext rangeContext = context.toBuilder()
+                .matchedDocsIterator(new BitSetRangeIterator(candidates, from, Math.min(from + rangeSize, maxDoc), rangeCost))
+                .floatQueryVector(context.getFloatQueryVector() == null ? null : context.getFloatQueryVector().clone())
+                .build();
+            tasks.add(() -> searchRange(reader, fieldInfo, leafReaderContext, rangeContext));
+        }
+        final List<TopDocs> rangeResults = new TaskExecutor(ExactSearcher::execute).invokeAll(tasks);
+
+        final TopDocAndScoreCollector collector = context.getRadius() != null
+            ? new TopDocAndScoreCollector(context.getMaxResultWindow())
+            : new TopDocAndScoreCollector(context.getK());
+        for (TopDocs rangeResult : rangeResults) {
+            collector.collect(rangeResult);
+        }
+        return collector.topDocs();
+    }
+
+    private static void execute(final Runnable task) {
+        try {
+            threadPool.executor(EXACT_SEARCH_THREAD_POOL).execute(task);
+        } catch (OpenSearchRejectedExecutionException e) {
+            // The pool is saturated. Score the range on the calling thread rather than failing the query.
+            log.debug("Exact search thread pool rejected the task, scoring the range on the calling thread", e);
+            task.run();
+        }
     }
 
     /**
@@ -121,7 +250,7 @@ public class ExactSearcher {
      * candidate set size relative to {@code k}:
      * <ul>
      *   <li>If the number of matched documents is ≤ {@code k}, scores all candidates directly
-     *       to avoid unnecessary heap overhead.</li>
+     *       without pruning any batch.</li>
      *   <li>Otherwise, uses a fixed-size min-heap to efficiently retain only the top-{@code k}
      *       results.</li>
      * </ul>
@@ -130,18 +259,27 @@ public class ExactSearcher {
      * @param vectorScorer the {@link VectorScorer} used to compute similarity scores
      * @param matchedDocs  a {@link DocIdSetIterator} over the candidate document set, or {@code null}
      *                     to score all documents available to the scorer
+     * @param canRaiseMinCompetitiveScore whether the top-k heap may raise the shard level minimum competitive score
      * @return {@link TopDocs} containing the nearest-neighbor results sorted by descending score
      * @throws IOException if an I/O error occurs while reading vectors or computing scores
      */
     private TopDocs exactNearestNeighborSearch(
         final ExactSearcherContext context,
         final VectorScorer vectorScorer,
-        final DocIdSetIterator matchedDocs
+        final DocIdSetIterator matchedDocs,
+        final boolean canRaiseMinCompetitiveScore
     ) throws IOException {
         if (context.getMatchedDocsIterator() != null && context.getNumberOfMatchedDocs() <= context.getK()) {
-            return scoreAllDocs(vectorScorer, matchedDocs);
+            return scoreAllDocs(vectorScorer, matchedDocs, context.getK(), context.getSearchBudget());
         }
-        return searchTopK(vectorScorer, matchedDocs, context.getK());
+        return searchTopK(
+            vectorScorer,
+            matchedDocs,
+            context.getK(),
+            context.getSearchBudget(),
+            context.getMinCompetitiveScore(),
+            canRaiseMinCompetitiveScore
+        );
     }
 
     /**
@@ -179,85 +317,91 @@ public class ExactSearcher {
         final SpaceType spaceType = FieldInfoExtractor.getSpaceType(modelDao, fieldInfo);
         final float minScore = context.isMemoryOptimizedSearchEnabled ? context.getRadius() : engine.score(context.getRadius(), spaceType);
 
-        return searchWithMinScore(vectorScorer, matchedDocs, context.getMaxResultWindow(), minScore);
+        return searchWithMinScore(vectorScorer, matchedDocs, context.getMaxResultWindow(), minScore, context.getSearchBudget());
     }
 
     /**
      * Scores every candidate document against the query vector and returns all results sorted
      * by descending score. This method is used as an optimization when the total number of
-     * matched documents is small enough (≤ k) that maintaining a bounded heap is unnecessary.
+     * matched documents is small enough (≤ k) that no candidate ever has to be pruned.
      *
      * @param vectorScorer the {@link VectorScorer} used to compute similarity scores
      * @param matchedDocs  a {@link DocIdSetIterator} over the candidate document set, or {@code null}
      *                     to score all documents available to the scorer
+     * @param k            the number of top results to return, at least the number of candidates
+     * @param searchBudget budget of the segment, or {@code null} to score every candidate
      * @return {@link TopDocs} containing all scored documents sorted by descending score
      * @throws IOException if an I/O error occurs while reading vectors or computing scores
      */
-    private TopDocs scoreAllDocs(final VectorScorer vectorScorer, final DocIdSetIterator matchedDocs) throws IOException {
+    private TopDocs scoreAllDocs(
+        final VectorScorer vectorScorer,
+        final DocIdSetIterator matchedDocs,
+        final int k,
+        final LeafSearchBudget searchBudget
+    ) throws IOException {
         final VectorScorer.Bulk bulkScorer = vectorScorer.bulk(matchedDocs);
         final DocAndFloatFeatureBuffer buffer = new DocAndFloatFeatureBuffer();
-        final List<ScoreDoc> scoreDocList = new ArrayList<>();
+        final TopDocAndScoreCollector collector = new TopDocAndScoreCollector(k);
 
         bulkScorer.nextDocsAndScores(DocIdSetIterator.NO_MORE_DOCS, null, buffer);
         while (buffer.size > 0) {
-            for (int i = 0; i < buffer.size; i++) {
-                scoreDocList.add(new ScoreDoc(buffer.docs[i], buffer.features[i]));
+            collector.collect(buffer);
+            if (searchBudget != null && searchBudget.tryConsume(buffer.size) == false) {
+                break;
             }
             bulkScorer.nextDocsAndScores(DocIdSetIterator.NO_MORE_DOCS, null, buffer);
         }
-
-        scoreDocList.sort(Comparator.comparing(scoreDoc -> scoreDoc.score, Comparator.reverseOrder()));
-        return new TopDocs(new TotalHits(scoreDocList.size(), TotalHits.Relation.EQUAL_TO), scoreDocList.toArray(ScoreDoc[]::new));
+        return collector.topDocs();
     }
 
     /**
-     * Finds the top-{@code k} highest-scoring documents using a fixed-size min-heap ({@link HitQueue}).
+     * Finds the top-{@code k} highest-scoring documents using a fixed-size {@link TopDocAndScoreCollector}.
      * Documents are processed in batches via the bulk scorer; batches whose maximum score falls below
-     * the current heap minimum are skipped entirely for efficiency.
+     * the current minimum competitive score are skipped entirely for efficiency.
      *
      * @param vectorScorer the {@link VectorScorer} used to compute similarity scores
      * @param matchedDocs  a {@link DocIdSetIterator} over the candidate document set, or {@code null}
      *                     to score all documents available to the scorer
      * @param k            the number of top results to return
+     * @param searchBudget budget of the segment, or {@code null} to score every candidate
+     * @param minCompetitiveScore shard level top-k bound, or {@code null} if the results of the segment are not reduced to
+     *                            the top k of the shard
+     * @param canRaiseMinCompetitiveScore whether the heap may raise {@code minCompetitiveScore} once it holds k documents
      * @return {@link TopDocs} containing the {@code k} highest-scoring documents sorted by
      *         descending score; may contain fewer than {@code k} results if the candidate set
-     *         is smaller or if sentinel entries are discarded
+     *         is smaller
      * @throws IOException if an I/O error occurs while reading vectors or computing scores
      */
-    private TopDocs searchTopK(final VectorScorer vectorScorer, final DocIdSetIterator matchedDocs, final int k) throws IOException {
-        final VectorScorer.Bulk bulkScorer = vectorScorer.bulk(matchedDocs);
-        final DocAndFloatFeatureBuffer buffer = new DocAndFloatFeatureBuffer();
-        final HitQueue queue = new HitQueue(k, true);
-        ScoreDoc topDoc = queue.top();
-
-        for (float maxScore = bulkScorer.nextDocsAndScores(DocIdSetIterator.NO_MORE_DOCS, null, buffer); buffer.size > 0; maxScore =
-            bulkScorer.nextDocsAndScores(DocIdSetIterator.NO_MORE_DOCS, null, buffer)) {
-            if (maxScore < topDoc.score) {
-                continue;
-            }
-            for (int i = 0; i < buffer.size; i++) {
-                if (buffer.features[i] > topDoc.score) {
-                    topDoc.score = buffer.features[i];
-                    topDoc.doc = buffer.docs[i];
-                    topDoc = queue.updateTop();
-                }
-            }
-        }
-
-        return collectTopDocs(queue);
+    private TopDocs searchTopK(
+        final VectorScorer vectorScorer,
+        final DocIdSetIterator matchedDocs,
+        final int k,
+        final LeafSearchBudget searchBudget,
+        final MinCompetitiveScore minCompetitiveScore,
+        final boolean canRaiseMinCompetitiveScore
+    ) throws IOException {
+        return collectTopDocs(
+            vectorScorer,
+            matchedDocs,
+            new TopDocAndScoreCollector(k),
+            searchBudget,
+            minCompetitiveScore,
+            canRaiseMinCompetitiveScore
+        );
     }
 
     /**
      * Returns all documents whose similarity score meets or exceeds the specified minimum,
-     * bounded by {@code maxResultWindow}. A fixed-size min-heap ({@link HitQueue}) is used to
+     * bounded by {@code maxResultWindow}. A fixed-size {@link TopDocAndScoreCollector} is used to
      * retain the highest-scoring results. Batches whose maximum score falls below
      * {@code minScore} are skipped entirely for efficiency.
      *
      * @param vectorScorer   the {@link VectorScorer} used to compute similarity scores
      * @param matchedDocs    a {@link DocIdSetIterator} over the candidate document set, or {@code null}
      *                       to score all documents available to the scorer
-     * @param maxResultWindow the maximum number of results to retain in the heap
+     * @param maxResultWindow the maximum number of results to retain
      * @param minScore       the minimum similarity score a document must achieve to be included
+     * @param searchBudget   budget of the segment, or {@code null} to score every candidate
      * @return {@link TopDocs} containing documents that meet the minimum score threshold,
      *         sorted by descending score, up to {@code maxResultWindow} results
      * @throws IOException if an I/O error occurs while reading vectors or computing scores
@@ -266,52 +410,57 @@ public class ExactSearcher {
         final VectorScorer vectorScorer,
         final DocIdSetIterator matchedDocs,
         final int maxResultWindow,
-        final float minScore
+        final float minScore,
+        final LeafSearchBudget searchBudget
+    ) throws IOException {
+        return collectTopDocs(vectorScorer, matchedDocs, new TopDocAndScoreCollector(maxResultWindow, minScore), searchBudget, null, false);
+    }
+
+    /**
+     * Feeds every scored batch whose maximum score is competitive into the collector and returns the collected
+     * documents in descending score order. Once the search budget is exhausted, the documents collected so far are returned.
+     * A batch is competitive if it can beat both the collector and the shard level bound, which the collector raises in turn
+     * once it is full.
+     *
+     * @param vectorScorer the {@link VectorScorer} used to compute similarity scores
+     * @param matchedDocs  a {@link DocIdSetIterator} over the candidate document set, or {@code null}
+     *                     to score all documents available to the scorer
+     * @param collector    the {@link TopDocAndScoreCollector} retaining the results
+     * @param searchBudget budget of the segment, or {@code null} to score every candidate
+     * @param minCompetitiveScore shard level top-k bound, or {@code null} to only compare against the collector
+     * @param canRaiseMinCompetitiveScore whether the collector may raise {@code minCompetitiveScore}
+     * @return {@link TopDocs} containing the collected results sorted by descending score
+     * @throws IOException if an I/O error occurs while reading vectors or computing scores
+     */
+    private static TopDocs collectTopDocs(
+        final VectorScorer vectorScorer,
+        final DocIdSetIterator matchedDocs,
+        final TopDocAndScoreCollector collector,
+        final LeafSearchBudget searchBudget,
+        final MinCompetitiveScore minCompetitiveScore,
+        final boolean canRaiseMinCompetitiveScore
     ) throws IOException {
         final VectorScorer.Bulk bulkScorer = vectorScorer.bulk(matchedDocs);
         final DocAndFloatFeatureBuffer buffer = new DocAndFloatFeatureBuffer();
-        final HitQueue queue = new HitQueue(maxResultWindow, true);
-        ScoreDoc topDoc = queue.top();
 
         for (float maxBatchScore = bulkScorer.nextDocsAndScores(
             DocIdSetIterator.NO_MORE_DOCS,
             null,
             buffer
         ); buffer.size > 0; maxBatchScore = bulkScorer.nextDocsAndScores(DocIdSetIterator.NO_MORE_DOCS, null, buffer)) {
-            if (maxBatchScore < minScore) {
-                continue;
-            }
-            for (int i = 0; i < buffer.size; i++) {
-                final float score = buffer.features[i];
-                if (score >= minScore && score > topDoc.score) {
-                    topDoc.score = score;
-                    topDoc.doc = buffer.docs[i];
-                    topDoc = queue.updateTop();
+            final float sharedMinScore = minCompetitiveScore == null ? Float.NEGATIVE_INFINITY : minCompetitiveScore.get();
+            if (maxBatchScore >= collector.minCompetitiveScore() && maxBatchScore >= sharedMinScore) {
+                collector.collect(buffer);
+                if (canRaiseMinCompetitiveScore && minCompetitiveScore != null) {
+                    // Until the collector is full, its minimum competitive score is negative infinity and leaves the bound as it is
+                    minCompetitiveScore.accumulate(collector.minCompetitiveScore());
                 }
             }
+            if (searchBudget != null && searchBudget.tryConsume(buffer.size) == false) {
+                break;
+            }
         }
-
-        return collectTopDocs(queue);
-    }
-
-    /**
-     * Collects scored results from the {@link HitQueue} into a {@link TopDocs}, discarding
-     * sentinel entries (those with negative scores that were pre-populated when the queue was
-     * created with {@code sentinelObjectsEnabled = true}). The remaining entries are returned
-     * in descending score order.
-     *
-     * @param queue the {@link HitQueue} to collect from; will be empty after this call
-     * @return {@link TopDocs} containing the valid results sorted by descending score
-     */
-    private static TopDocs collectTopDocs(final HitQueue queue) {
-        while (queue.size() > 0 && queue.top().score < 0) {
-            queue.pop();
-        }
-        final ScoreDoc[] topScoreDocs = new ScoreDoc[queue.size()];
-        for (int i = topScoreDocs.length - 1; i >= 0; i--) {
-            topScoreDocs[i] = queue.pop();
-        }
-        return new TopDocs(new TotalHits(topScoreDocs.length, TotalHits.Relation.EQUAL_TO), topScoreDocs);
+        return collector.topDocs();
     }
 
     /**
@@ -430,12 +579,54 @@ public class ExactSearcher {
         );
     }
 
+    /**
+     * Iterates the set bits of a {@link BitSet} within the doc id range {@code [from, to)}.
+     */
+    private static final class BitSetRangeIterator extends DocIdSetIterator {
+        private final BitSet bitSet;
+        private final int from;
+        private final int to;
+        private final long cost;
+        private int doc = -1;
+
+        private BitSetRangeIterator(final BitSet bitSet, final int from, final int to, final long cost) {
+            this.bitSet = bitSet;
+            this.from = from;
+            this.to = to;
+            this.cost = cost;
+        }
+
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() {
+            return advance(doc + 1);
+        }
+
+        @Override
+        public int advance(final int target) {
+            if (target >= to) {
+                return doc = NO_MORE_DOCS;
+            }
+            final int next = bitSet.nextSetBit(Math.max(target, from));
+            return doc = next >= to ? NO_MORE_DOCS : next;
+        }
+
+        @Override
+        public long cost() {
+            return cost;
+        }
+    }
+
     /**
      * Immutable context object that encapsulates all parameters required to execute an exact search.
      * Constructed via the Lombok {@code @Builder} pattern to avoid constructor parameter explosion.
      */
     @Value
-    @Builder
+    @Builder(toBuilder = true)
     public static class ExactSearcherContext {
         /**
          * When {@code true}, the searcher uses quantized (compressed) vectors for scoring.
@@ -498,5 +689,19 @@ public class ExactSearcher {
          * from a raw distance.
          */
         Boolean isMemoryOptimizedSearchEnabled;
+
+        /**
+         * Budget of the segment search, or {@code null} to score every candidate. Once the budget is exhausted, the search
+         * returns the best documents scored so far. It is shared by the doc id ranges of a parallel search.
+         */
+        @Nullable
+        LeafSearchBudget searchBudget;
+
+        /**
+         * Top-k bound shared by the segments of the shard, or {@code null} if the results of the segment are not reduced to
+         * the top {@code k} of the shard. Batches scoring below it are skipped, and a full top-k heap raises it.
+         */
+        @Nullable
+        MinCompetitiveScore minCompetitiveScore;
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.exactsearch;
+
+import org.apache.lucene.search.DocAndFloatFeatureBuffer;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.LongHeap;
+import org.apache.lucene.util.NumericUtils;
+
+/**
+ * Keeps the highest scoring documents of an exact search in a bounded min-heap of longs, each packing a score and a doc id,
+ * so that collecting a candidate allocates nothing. {@link ScoreDoc}s are only created for the final results. Like
+ * {@link org.apache.lucene.search.HitQueue}, ties on score are broken in favor of the smaller doc id.
+ */
+final class TopDocAndScoreCollector {
+
+    private final int size;
+    private final float minScore;
+    private final LongHeap heap;
+
+    /**
+     * Constructor
+     *
+     * @param size maximum number of documents to keep
+     * @param minScore minimum score a document must reach to be collected
+     */
+    TopDocAndScoreCollector(int size, float minScore) {
+        this.size = size;
+        this.minScore = minScore;
+        this.heap = size > 0 ? new LongHeap(size) : null;
+    }
+
+    /**
+     * Constructor for collecting the top documents regardless of their score
+     *
+     * @param size maximum number of documents to keep
+     */
+    TopDocAndScoreCollector(int size) {
+        this(size, Float.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Returns the score a document has to beat to be collected. Until the collector is full this is the minimum score.
+     *
+     * @return minimum competitive score
+     */
+    float minCompetitiveScore() {
+        if (heap == null) {
+            return Float.POSITIVE_INFINITY;
+        }
+        return heap.size() < size ? minScore : decodeScore(heap.top());
+    }
+
+    /**
+     * Collects all documents of a scored batch.
+     *
+     * @param buffer batch of doc ids and their scores
+     */
+    void collect(DocAndFloatFeatureBuffer buffer) {
+        final float minCompetitiveScore = minCompetitiveScore();
+        if (minCompetitiveScore == Float.POSITIVE_INFINITY) {
+            return;
+        }
+        for (int i = 0; i < buffer.size; i++) {
+            final float score = buffer.features[i];
+            if (score >= minScore && score >= minCompetitiveScore) {
+                heap.insertWithOverflow(encode(buffer.docs[i], score));
+            }
+        }
+    }
+
+    /**
+     * Collects the results of a search over a subset of the candidates, used to merge partial results.
+     *
+     * @param topDocs results to collect
+     */
+    void collect(TopDocs topDocs) {
+        if (heap == null) {
+            return;
+        }
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            if (scoreDoc.score >= minScore && scoreDoc.score >= minCompetitiveScore()) {
+                heap.insertWithOverflow(encode(scoreDoc.doc, scoreDoc.score));
+            }
+        }
+    }
+
+    /**
+     * Drains the collector into {@link TopDocs} sorted by descending score.
+     *
+     * @return collected documents
+     */
+    TopDocs topDocs() {
+        final int numResults = heap == null ? 0 : heap.size();
+        final ScoreDoc[] scoreDocs = new ScoreDoc[numResults];
+        for (int i = numResults - 1; i >= 0; i--) {
+            final long encoded = heap.pop();
+            scoreDocs[i] = new ScoreDoc(decodeDoc(encoded), decodeScore(encoded));
+        }
+        return new TopDocs(new TotalHits(numResults, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    // The score goes to the upper 32 bits in its sortable form. The lower 32 bits hold the inverted doc id, so that
+    // among equal scores the smaller doc id compares greater and stays in the heap.
+    private static long encode(int doc, float score) {
+        return (((long) NumericUtils.floatToSortableInt(score)) << 32) | (Integer.MAX_VALUE - doc);
+    }
+
+    private static int decodeDoc(long encoded) {
+        return Integer.MAX_VALUE - (int) encoded;
+    }
+
+    private static float decodeScore(long encoded) {
+        return NumericUtils.sortableIntToFloat((int) (encoded >> 32));
+    }
+}
@@ -31,6 +31,8 @@ import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
 import org.opensearch.knn.index.query.MemoryOptimizedSearchScoreConverter;
+import org.opensearch.knn.index.query.budget.BudgetedKnnCollector;
+import org.opensearch.knn.index.query.budget.LeafSearchBudget;
 import org.opensearch.lucene.OptimisticKnnCollectorManager;
 import org.opensearch.lucene.ReentrantKnnCollectorManager;
 
@@ -193,7 +195,9 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         final KnnCollectorManager collectorManager = reentrantKNNCollectorManager != null
             ? reentrantKNNCollectorManager
             : knnCollectorManager;
-        final KnnCollector knnCollector = collectorManager.newCollector(visitedLimit, DEFAULT_HNSW_SEARCH_STRATEGY, context);
+        final KnnCollector collector = collectorManager.newCollector(visitedLimit, DEFAULT_HNSW_SEARCH_STRATEGY, context);
+        final LeafSearchBudget leafSearchBudget = getLeafSearchBudget(context);
+        final KnnCollector knnCollector = leafSearchBudget == null ? collector : new BudgetedKnnCollector(collector, leafSearchBudget);
         final AcceptDocs acceptDocs = getAcceptedDocs(reader, cardinality, filterIdsBitSet);
 
         // Start searching index
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.nativelib;
+
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TaskExecutor;
+import org.apache.lucene.util.IOFunction;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.ToLongFunction;
+
+import static org.opensearch.knn.common.KNNConstants.SEGMENT_SEARCH_THREAD_POOL;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS;
+import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_INTRA_SHARD_REJECTIONS;
+
+/**
+ * Runs the per-segment searches of a shard level k-NN query. When intra shard search is enabled for the index and the
+ * searcher does not already spread the segments across threads through concurrent segment search, the segments are
+ * searched in parallel on the k-NN segment search thread pool. Otherwise, the searcher's own {@link TaskExecutor} is used.
+ * Either way, the leaves are scheduled by their estimated search cost rather than by their document count.
+ */
+@Log4j2
+public final class IntraShardSearchExecutor {
+
+    @Setter
+    private static ThreadPool threadPool;
+
+    private IntraShardSearchExecutor() {}
+
+    /**
+     * Searches every leaf with the given function. The leaves are scheduled in decreasing order of their estimated search cost,
+     * so that the most expensive searches start first and the cheap ones fill the threads that become free, instead of the
+     * largest segment starting last and the query waiting on it while the other threads sit idle. This applies to the
+     * searcher's own {@link TaskExecutor} as well, as concurrent segment search forms its slices by document count.
+     *
+     * @param indexSearcher searcher the query is executed with
+     * @param indexName name of the index being searched
+     * @param leafReaderContexts leaves to search
+     * @param leafSearchCost estimated cost of searching a leaf, only its order matters
+     * @param leafSearch search to run against a single leaf
+     * @return results in the same order as the given leaves
+     * @throws IOException if any of the leaf searches fails
+     */
+    public static <T> List<T> invokeAll(
+        final IndexSearcher indexSearcher,
+        final String indexName,
+        final List<LeafReaderContext> leafReaderContexts,
+        final ToLongFunction<LeafReaderContext> leafSearchCost,
+        final IOFunction<LeafReaderContext, T> leafSearch
+    ) throws IOException {
+        final Integer[] order = orderByDecreasingCost(leafReaderContexts, leafSearchCost);
+        final List<Callable<T>> tasks = new ArrayList<>(order.length);
+        for (int leafIndex : order) {
+            final LeafReaderContext leafReaderContext = leafReaderContexts.get(leafIndex);
+            tasks.add(() -> leafSearch.apply(leafReaderContext));
+        }
+
+        final TaskExecutor taskExecutor;
+        if (isParallelSearchApplicable(indexSearcher, indexName, leafReaderContexts.size())) {
+            GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.increment();
+            taskExecutor = new TaskExecutor(IntraShardSearchExecutor::execute);
+        } else {
+            taskExecutor = indexSearcher.getTaskExecutor();
+        }
+        final List<T> orderedResults = taskExecutor.invokeAll(tasks);
+
+        final List<T> results = new ArrayList<>(Collections.nCopies(order.length, null));
+        for (int i = 0; i < order.length; i++) {
+            results.set(order[i], orderedResults.get(i));
+        }
+        return results;
+    }
+
+    private static Integer[] orderByDecreasingCost(
+        final List<LeafReaderContext> leafReaderContexts,
+        final ToLongFunction<LeafReaderContext> leafSearchCost
+    ) {
+        final long[] costs = new long[leafReaderContexts.size()];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = leafSearchCost.applyAsLong(leafReaderContexts.get(i));
+        }
+        final Integer[] order = new Integer[costs.length];
+        Arrays.setAll(order, i -> i);
+        // Stable, so leaves of equal cost keep their order
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> costs[i]).reversed());
+        return order;
+    }
+
+    private static boolean isParallelSearchApplicable(final IndexSearcher indexSearcher, final String indexName, final int numLeaves) {
+        if (threadPool == null || indexName == null || numLeaves < 2) {
+            return false;
+        }
+        // Concurrent segment search already parallelizes the leaves of this shard
+        if (indexSearcher.getSlices().length > 1) {
+            return false;
+        }
+        return KNNSettings.isIntraShardSearchEnabled(indexName);
+    }
+
+    private static void execute(final Runnable task) {
+        try {
+            threadPool.executor(SEGMENT_SEARCH_THREAD_POOL).execute(task);
+        } catch (OpenSearchRejectedExecutionException e) {
+            // The pool is saturated. Search the segment on the calling thread rather than failing the query.
+            GRAPH_QUERY_INTRA_SHARD_REJECTIONS.increment();
+            log.debug("Segment search thread pool rejected the task, searching the segment on the calling thread", e);
+            task.run();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
+import org.opensearch.knn.index.query.MinCompetitiveScore;
 import org.opensearch.knn.index.query.PerLeafResult;
 import org.opensearch.knn.index.query.ResultUtil;
 import org.opensearch.knn.index.query.TopDocsDISI;
@@ -112,9 +113,15 @@ public class NativeEngineKnnVectorQuery extends Query {
         List<PerLeafResult> perLeafResults;
         final int finalK = knnQuery.getK();
         if (isRescoreRequired(firstPassKFor2PhaseSearch) == false) {
-            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, finalK);
+            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, finalK, true);
         } else {
-            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, firstPassKFor2PhaseSearch);
+            perLeafResults = doSearch(
+                indexSearcher,
+                leafReaderContexts,
+                knnWeight,
+                firstPassKFor2PhaseSearch,
+                isShardLevelRescoringDisabled == false
+            );
             if (isShardLevelRescoringDisabled == false) {
                 ResultUtil.reduceToTopK(perLeafResults, firstPassKFor2PhaseSearch);
             }
@@ -322,16 +329,25 @@ public class NativeEngineKnnVectorQuery extends Query {
         final IndexSearcher indexSearcher,
         List<LeafReaderContext> leafReaderContexts,
         KNNWeight knnWeight,
-        int k
+        int k,
+        boolean isReducedToTopK
     ) throws IOException {
-        // Collect search tasks
-        List<Callable<PerLeafResult>> tasks = new ArrayList<>(leafReaderContexts.size());
-        for (LeafReaderContext leafReaderContext : leafReaderContexts) {
-            tasks.add(() -> searchLeaf(leafReaderContext, knnWeight, k));
-        }
+        // When the results of the segments are reduced to the top k of the shard, the segments share a bound that lets them
+        // drop results that cannot make it. Memory optimized search keeps all results, and already shares one through the
+        // collectors of its collector manager.
+        final MinCompetitiveScore minCompetitiveScore = isReducedToTopK && knnQuery.isMemoryOptimizedSearch() == false && k > 0
+            ? new MinCompetitiveScore(k)
+            : null;
+        knnWeight.setMinCompetitiveScore(minCompetitiveScore);
 
         // Execute search tasks
-        final List<PerLeafResult> perLeafResults = indexSearcher.getTaskExecutor().invokeAll(tasks);
+        final List<PerLeafResult> perLeafResults = IntraShardSearchExecutor.invokeAll(
+            indexSearcher,
+            knnQuery.getIndexName(),
+            leafReaderContexts,
+            knnWeight::estimateSearchCost,
+            leafReaderContext -> searchLeaf(leafReaderContext, knnWeight, k, minCompetitiveScore)
+        );
 
         // For memory optimized search, it should kick off 2nd search if optimistic
         if (knnQuery.isMemoryOptimizedSearch() && perLeafResults.size() > 1) {
@@ -393,7 +409,10 @@ public class NativeEngineKnnVectorQuery extends Query {
             final LeafReaderContext leafReaderContext = leafReaderContexts.get(i);
             final PerLeafResult perLeafResult = perLeafResults.get(i);
             final TopDocs perLeaf = perLeafResults.get(i).getResult();
-            if (perLeaf.scoreDocs.length > 0 && perLeafResult.getSearchMode() == PerLeafResult.SearchMode.APPROXIMATE_SEARCH) {
+            // A segment whose search budget is spent keeps the results of its first search
+            if (perLeaf.scoreDocs.length > 0
+                && perLeafResult.getSearchMode() == PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+                && knnWeight.isSearchBudgetExhausted(leafReaderContext) == false) {
                 if (FORCE_REENTER_TESTING || perLeaf.scoreDocs[perLeaf.scoreDocs.length - 1].score >= minTopKScore) {
                     log.debug("Entering the second deep dive approximate search while FORCE_REENTER_TESTING={}", FORCE_REENTER_TESTING);
                     // For the target segment, save top results. Which will be used as seeds.
@@ -496,7 +515,8 @@ public class NativeEngineKnnVectorQuery extends Query {
         return indexSearcher.getTaskExecutor().invokeAll(rescoreTasks);
     }
 
-    private PerLeafResult searchLeaf(LeafReaderContext ctx, KNNWeight queryWeight, int k) throws IOException {
+    private PerLeafResult searchLeaf(LeafReaderContext ctx, KNNWeight queryWeight, int k, MinCompetitiveScore minCompetitiveScore)
+        throws IOException {
         final PerLeafResult perLeafResult = queryWeight.searchLeaf(ctx, k);
         final Bits liveDocs = ctx.reader().getLiveDocs();
         if (liveDocs != null) {
@@ -510,6 +530,11 @@ public class NativeEngineKnnVectorQuery extends Query {
             TotalHits totalHits = new TotalHits(filteredScoreDoc.length, TotalHits.Relation.EQUAL_TO);
             perLeafResult.setResult(new TopDocs(totalHits, filteredScoreDoc));
         }
+        // Only live documents may raise the bound, as deleted ones never make the top k of the shard
+        if (minCompetitiveScore != null) {
+            minCompetitiveScore.accumulate(perLeafResult.getResult());
+            perLeafResult.setResult(minCompetitiveScore.prune(perLeafResult.getResult()));
+        }
         return perLeafResult;
     }
 
@@ -37,7 +37,9 @@ import static org.opensearch.knn.common.KNNConstants.EXPAND_NESTED;
 import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.EXPAND_NESTED_FIELD;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.RESCORE_FIELD;
+import static org.opensearch.knn.index.query.KNNQueryBuilder.SEARCH_BUDGET_FIELD;
 import static org.opensearch.knn.index.query.parser.RescoreParser.RESCORE_PARAMETER;
+import static org.opensearch.knn.index.query.parser.SearchBudgetParser.SEARCH_BUDGET_PARAMETER;
 import static org.opensearch.knn.index.query.rescore.RescoreContext.EXPLICITLY_DISABLED_RESCORE_CONTEXT;
 import static org.opensearch.knn.index.util.IndexUtil.isClusterOnOrAfterMinRequiredVersion;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.FILTER_FIELD;
@@ -107,6 +109,11 @@ public final class KNNQueryBuilderParser {
         }, RESCORE_FIELD, ObjectParser.ValueType.OBJECT_OR_BOOLEAN);
 
         internalParser.declareBoolean(KNNQueryBuilder.Builder::expandNested, EXPAND_NESTED_FIELD);
+        internalParser.declareObject(
+            KNNQueryBuilder.Builder::searchBudget,
+            (p, v) -> SearchBudgetParser.fromXContent(p),
+            SEARCH_BUDGET_FIELD
+        );
 
         // Declare fields that cannot be set at the same time. Right now, rescore and radial is not supported
         internalParser.declareExclusiveFieldSet(RESCORE_FIELD.getPreferredName(), MAX_DISTANCE_FIELD.getPreferredName());
@@ -155,6 +162,10 @@ public final class KNNQueryBuilderParser {
             builder.expandNested(in.readOptionalBoolean());
         }
 
+        if (minClusterVersionCheck.apply(SEARCH_BUDGET_PARAMETER)) {
+            builder.searchBudget(SearchBudgetParser.streamInput(in));
+        }
+
         return builder;
     }
 
@@ -194,6 +205,9 @@ public final class KNNQueryBuilderParser {
         if (minClusterVersionCheck.apply(EXPAND_NESTED)) {
             out.writeOptionalBoolean(builder.getExpandNested());
         }
+        if (minClusterVersionCheck.apply(SEARCH_BUDGET_PARAMETER)) {
+            SearchBudgetParser.streamOutput(out, builder.getSearchBudget());
+        }
     }
 
     /**
@@ -273,6 +287,9 @@ public final class KNNQueryBuilderParser {
         if (knnQueryBuilder.getExpandNested() != null) {
             builder.field(EXPAND_NESTED, knnQueryBuilder.getExpandNested());
         }
+        if (knnQueryBuilder.getSearchBudget() != null) {
+            SearchBudgetParser.doXContent(builder, knnQueryBuilder.getSearchBudget());
+        }
 
         builder.endObject();
         builder.endObject();
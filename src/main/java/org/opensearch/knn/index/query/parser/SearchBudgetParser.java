@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.parser;
+
+import org.opensearch.common.ValidationException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.knn.index.query.budget.SearchBudget;
+import org.opensearch.knn.index.util.IndexUtil;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Parses the search budget of a k-NN query, for example
+ * <pre>
+ * "search_budget": {
+ *     "max_distance_computations": 10000,
+ *     "timeout": "20ms"
+ * }
+ * </pre>
+ */
+public final class SearchBudgetParser {
+
+    public static final String SEARCH_BUDGET_PARAMETER = "search_budget";
+    public static final String MAX_DISTANCE_COMPUTATIONS_PARAMETER = "max_distance_computations";
+    public static final String TIMEOUT_PARAMETER = "timeout";
+
+    private static final ParseField MAX_DISTANCE_COMPUTATIONS_FIELD = new ParseField(MAX_DISTANCE_COMPUTATIONS_PARAMETER);
+    private static final ParseField TIMEOUT_FIELD = new ParseField(TIMEOUT_PARAMETER);
+
+    private static final ObjectParser<SearchBudget.SearchBudgetBuilder, Void> INTERNAL_PARSER = createInternalObjectParser();
+
+    private static ObjectParser<SearchBudget.SearchBudgetBuilder, Void> createInternalObjectParser() {
+        ObjectParser<SearchBudget.SearchBudgetBuilder, Void> internalParser = new ObjectParser<>(
+            SEARCH_BUDGET_PARAMETER,
+            SearchBudget::builder
+        );
+        internalParser.declareInt(SearchBudget.SearchBudgetBuilder::maxDistanceComputations, MAX_DISTANCE_COMPUTATIONS_FIELD);
+        internalParser.declareField(
+            SearchBudget.SearchBudgetBuilder::timeout,
+            (p, c) -> TimeValue.parseTimeValue(p.text(), TIMEOUT_PARAMETER),
+            TIMEOUT_FIELD,
+            ObjectParser.ValueType.STRING
+        );
+        return internalParser;
+    }
+
+    /**
+     * Validate the search budget
+     *
+     * @return ValidationException if validation fails, null otherwise
+     */
+    public static ValidationException validate(SearchBudget searchBudget) {
+        ValidationException validationException = null;
+        if (searchBudget.getMaxDistanceComputations() == null && searchBudget.getTimeout() == null) {
+            validationException = new ValidationException();
+            validationException.addValidationError(
+                String.format(
+                    Locale.ROOT,
+                    "[%s] requires at least one of [%s] or [%s]",
+                    SEARCH_BUDGET_PARAMETER,
+                    MAX_DISTANCE_COMPUTATIONS_PARAMETER,
+                    TIMEOUT_PARAMETER
+                )
+            );
+            return validationException;
+        }
+
+        if (searchBudget.getMaxDistanceComputations() != null && searchBudget.getMaxDistanceComputations() <= 0) {
+            validationException = new ValidationException();
+            validationException.addValidationError(
+                String.format(
+                    Locale.ROOT,
+                    "[%s] must be greater than 0, got [%d]",
+                    MAX_DISTANCE_COMPUTATIONS_PARAMETER,
+                    searchBudget.getMaxDistanceComputations()
+                )
+            );
+        }
+
+        if (searchBudget.getTimeout() != null && searchBudget.getTimeout().nanos() <= 0) {
+            validationException = validationException == null ? new ValidationException() : validationException;
+            validationException.addValidationError(
+                String.format(Locale.ROOT, "[%s] must be greater than 0, got [%s]", TIMEOUT_PARAMETER, searchBudget.getTimeout())
+            );
+        }
+        return validationException;
+    }
+
+    /**
+     *
+     * @param in stream input
+     * @return SearchBudget
+     * @throws IOException on stream failure
+     */
+    public static SearchBudget streamInput(StreamInput in) throws IOException {
+        if (!IndexUtil.isVersionOnOrAfterMinRequiredVersion(in.getVersion(), SEARCH_BUDGET_PARAMETER)) {
+            return null;
+        }
+        if (in.readBoolean() == false) {
+            return null;
+        }
+        return SearchBudget.builder().maxDistanceComputations(in.readOptionalVInt()).timeout(in.readOptionalTimeValue()).build();
+    }
+
+    /**
+     *
+     * @param out stream output
+     * @param searchBudget SearchBudget
+     * @throws IOException on stream failure
+     */
+    public static void streamOutput(StreamOutput out, SearchBudget searchBudget) throws IOException {
+        if (!IndexUtil.isVersionOnOrAfterMinRequiredVersion(out.getVersion(), SEARCH_BUDGET_PARAMETER)) {
+            return;
+        }
+        out.writeBoolean(searchBudget != null);
+        if (searchBudget != null) {
+            out.writeOptionalVInt(searchBudget.getMaxDistanceComputations());
+            out.writeOptionalTimeValue(searchBudget.getTimeout());
+        }
+    }
+
+    /**
+     *
+     * @param builder XContentBuilder
+     * @param searchBudget SearchBudget
+     * @throws IOException on XContent failure
+     */
+    public static void doXContent(final XContentBuilder builder, final SearchBudget searchBudget) throws IOException {
+        builder.startObject(SEARCH_BUDGET_PARAMETER);
+        if (searchBudget.getMaxDistanceComputations() != null) {
+            builder.field(MAX_DISTANCE_COMPUTATIONS_PARAMETER, searchBudget.getMaxDistanceComputations());
+        }
+        if (searchBudget.getTimeout() != null) {
+            builder.field(TIMEOUT_PARAMETER, searchBudget.getTimeout().getStringRep());
+        }
+        builder.endObject();
+    }
+
+    /**
+     *
+     * @param parser input parser
+     * @return SearchBudget
+     */
+    public static SearchBudget fromXContent(final XContentParser parser) {
+        return INTERNAL_PARSER.apply(parser, null).build();
+    }
+}
@@ -52,6 +52,7 @@ import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
 import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE_FAISS_INDEX_LOAD_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
 import static org.opensearch.knn.index.query.parser.RescoreParser.RESCORE_PARAMETER;
+import static org.opensearch.knn.index.query.parser.SearchBudgetParser.SEARCH_BUDGET_PARAMETER;
 
 public class IndexUtil {
 
@@ -71,6 +72,7 @@ public class IndexUtil {
     private static final Version MINIMAL_EXPAND_NESTED_FEATURE = Version.V_2_19_0;
     private static final Version MINIMAL_TOP_LEVEL_ENGINE_FEATURE = Version.V_3_2_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_FOR_NULL_K = Version.V_3_3_0;
+    private static final Version MINIMAL_SEARCH_BUDGET_FEATURE = Version.V_3_7_0;
     // public so neural search can access it
     public static final Map<String, Version> minimalRequiredVersionMap = initializeMinimalRequiredVersionMap();
     public static final Set<VectorDataType> VECTOR_DATA_TYPES_NOT_SUPPORTING_ENCODERS = Set.of(VectorDataType.BINARY, VectorDataType.BYTE);
@@ -438,6 +440,7 @@ public class IndexUtil {
                 put(EXPAND_NESTED, MINIMAL_EXPAND_NESTED_FEATURE);
                 put(KNNConstants.TOP_LEVEL_ENGINE_FEATURE, MINIMAL_TOP_LEVEL_ENGINE_FEATURE);
                 put(KNNConstants.NULL_K, MINIMAL_SUPPORTED_VERSION_FOR_NULL_K);
+                put(SEARCH_BUDGET_PARAMETER, MINIMAL_SEARCH_BUDGET_FEATURE);
             }
         };
 
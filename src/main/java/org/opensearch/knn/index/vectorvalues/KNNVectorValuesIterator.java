@@ -157,8 +157,8 @@ public interface KNNVectorValuesIterator {
      */
     class FieldWriterIteratorValues<T> extends AbstractVectorValuesIterator {
         private final Function<Integer, T> vectorGetter;
-        private int index = -1;
-        private int lastDocId = Integer.MIN_VALUE;
+        // Ordinal of the current doc, i.e. the number of docs with the field before it
+        private int ord = -1;
 
         FieldWriterIteratorValues(@NonNull final DocsWithFieldSet docsWithFieldSet, @NonNull final Map<Integer, T> vectors) {
             super(docsWithFieldSet.iterator());
@@ -169,23 +169,30 @@ public interface KNNVectorValuesIterator {
         FieldWriterIteratorValues(@NonNull final DocsWithFieldSet docsWithFieldSet, @NonNull final List<T> vectors) {
             super(docsWithFieldSet.iterator());
             assert docsWithFieldSet.iterator().cost() == vectors.size();
-            // We can return vectors in sequential manner.
-            // Dense case -> Easy. doc_id == vector_ordinal and doc_id will be given as 0, 1, ..., N - 1
+            // Vectors are stored in increasing doc id order, so the vector of a doc is at its ordinal.
+            // Dense case -> doc_id == vector_ordinal and doc_id will be given as 0, 1, ..., N - 1
             // Sparse case -> doc_id will be given in increasing order 1, 4, 7, 8, 10, ...
             // but its corresponding vector ordinal is 0, 1, 2, ...
-            // The getter is idempotent — multiple getVector() calls for the same doc return the same vector
-            this.vectorGetter = (docId) -> {
-                if (docId != this.lastDocId) {
-                    if (docId < this.lastDocId) {
-                        throw new IllegalStateException(
-                            "Doc IDs must be in increasing order, but got " + docId + " after " + this.lastDocId
-                        );
-                    }
-                    this.index++;
-                    this.lastDocId = docId;
-                }
-                return vectors.get(this.index);
-            };
+            this.vectorGetter = (docId) -> vectors.get(this.ord);
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            final int docId = docIdSetIterator.nextDoc();
+            if (docId != DocIdSetIterator.NO_MORE_DOCS) {
+                ord++;
+            }
+            return docId;
+        }
+
+        @Override
+        public int advance(int docId) throws IOException {
+            // Docs are stepped through one by one so that the ordinal of the doc advanced to is known
+            int currentDocId = docId();
+            while (currentDocId < docId) {
+                currentDocId = nextDoc();
+            }
+            return currentDocId;
         }
 
         /**
@@ -117,7 +117,7 @@ class FaissService {
     /**
      * Writes a faiss index.
      *
-     * NOTE: This will always free the index. Do not call free after this.
+     * NOTE: This frees the index once it is written. If writing fails, the index is not freed and the caller must free it.
      *
      * @param indexAddress address of native memory where index is stored
      * @param output       Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
@@ -127,7 +127,7 @@ class FaissService {
     /**
      * Writes a faiss index.
      *
-     * NOTE: This will always free the index. Do not call free after this.
+     * NOTE: This frees the index once it is written. If writing fails, the index is not freed and the caller must free it.
      *
      * @param indexAddress address of native memory where index is stored
      * @param output       Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
@@ -138,7 +138,7 @@ class FaissService {
     /**
      * Writes a faiss index.
      *
-     * NOTE: This will always free the index. Do not call free after this.
+     * NOTE: This frees the index once it is written. If writing fails, the index is not freed and the caller must free it.
      *
      * @param indexAddress address of native memory where index is stored
      * @param output       Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
@@ -210,6 +210,15 @@ class FaissService {
      */
     public static native long loadIndex(String indexPath);
 
+    /**
+     * Load an index by memory mapping its file. The vectors and the graph of the index are not copied into native
+     * memory but read through the mapping, so the file must not be modified while the index is loaded.
+     *
+     * @param indexPath path to index file
+     * @return pointer to location in memory the index resides in
+     */
+    public static native long loadIndexWithMmap(String indexPath);
+
     /**
      * Load an index into memory via a wrapping having Lucene's IndexInput.
      * Instead of directly accessing an index path, this will make Faiss delegate IndexInput to load bytes.
@@ -318,6 +327,56 @@ class FaissService {
         int[] parentIds
     );
 
+    /**
+     * Query an index with filter, writing the ids and distances of the results into the given buffers instead of
+     * allocating a {@link KNNQueryResult} per hit.
+     *
+     * @param indexPointer     pointer to index in memory
+     * @param queryVector      vector to be used for query
+     * @param k                neighbors to be returned
+     * @param methodParameters method parameter
+     * @param filterIds        list of doc ids to include in the query result, null to search without filter
+     * @param filterIdsType    how to filter ids: Batch or BitMap
+     * @param parentIds        list of parent doc ids when the knn field is a nested field
+     * @param resultIds        buffer of at least k entries the result doc ids are written to
+     * @param resultDistances  buffer of at least k entries the result distances are written to
+     * @return number of results written to the buffers
+     */
+    public static native int queryIndexWithFilterIntoBuffer(
+        long indexPointer,
+        float[] queryVector,
+        int k,
+        Map<String, ?> methodParameters,
+        long[] filterIds,
+        int filterIdsType,
+        int[] parentIds,
+        int[] resultIds,
+        float[] resultDistances
+    );
+
+    /**
+     * Query an index with a batch of query vectors in a single native search call, writing the ids and distances of the
+     * results of query i into the given buffers at offset i * k. A query with less than k results has its remaining ids set
+     * to -1.
+     *
+     * @param indexPointer     pointer to index in memory
+     * @param queryVectors     query vectors laid out one after another, numQueries * dimension values
+     * @param numQueries       number of query vectors in the batch
+     * @param k                neighbors to be returned per query
+     * @param methodParameters method parameter
+     * @param resultIds        buffer of at least numQueries * k entries the result doc ids are written to
+     * @param resultDistances  buffer of at least numQueries * k entries the result distances are written to
+     */
+    public static native void queryIndexBatchIntoBuffer(
+        long indexPointer,
+        float[] queryVectors,
+        int numQueries,
+        int k,
+        Map<String, ?> methodParameters,
+        int[] resultIds,
+        float[] resultDistances
+    );
+
     /**
      * Query a binary index with filter
      *
@@ -16,6 +16,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.query.KNNQueryResult;
+import org.opensearch.knn.index.query.KNNQueryResultBuffer;
 import org.opensearch.knn.index.store.IndexInputWithBuffer;
 import org.opensearch.knn.index.store.IndexOutputWithBuffer;
 import org.opensearch.knn.index.util.IndexUtil;
@@ -92,7 +93,8 @@ public class JNIService {
     }
 
     /**
-     * Writes a faiss index to disk.
+     * Writes a faiss index to disk. The index is freed once it is written. If writing fails, the caller keeps ownership of
+     * the index and must free it.
      *
      * @param output       Index output wrapper having Lucene's IndexOutput to be used to flush bytes in native engines.
      * @param indexAddress address of native memory where index is stored
@@ -193,6 +195,23 @@ public class JNIService {
         );
     }
 
+    /**
+     * Load an index by memory mapping its file, so that its vectors and graph are served from the OS page cache.
+     *
+     * @param indexPath  Path to the index file
+     * @param knnEngine  Engine to load index
+     * @return Pointer to location in memory the index resides in
+     */
+    public static long loadIndexWithMmap(String indexPath, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.loadIndexWithMmap(indexPath);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "Memory mapped loading not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Load an index via Lucene's IndexInput.
      *
@@ -321,6 +340,85 @@ public class JNIService {
         );
     }
 
+    /**
+     * Query an index, writing the results into the given buffer instead of returning a {@link KNNQueryResult} per hit.
+     * Faiss writes the ids and distances straight into the buffer. Other engines copy their results into it.
+     *
+     * @param indexPointer     pointer to index in memory
+     * @param queryVector      vector to be used for query
+     * @param k                neighbors to be returned
+     * @param methodParameters method parameter
+     * @param knnEngine        engine to query index
+     * @param filteredIds      array of ints on which should be used for search.
+     * @param filterIdsType    how to filter ids: Batch or BitMap
+     * @param parentIds        list of parent doc ids when the knn field is a nested field
+     * @param resultBuffer     buffer able to hold k results the results are written to
+     */
+    public static void queryIndex(
+        long indexPointer,
+        float[] queryVector,
+        int k,
+        @Nullable Map<String, ?> methodParameters,
+        KNNEngine knnEngine,
+        long[] filteredIds,
+        int filterIdsType,
+        int[] parentIds,
+        KNNQueryResultBuffer resultBuffer
+    ) {
+        if (KNNEngine.FAISS == knnEngine) {
+            // Same as above, an empty filter means the search runs without filter
+            final int resultSize = FaissService.queryIndexWithFilterIntoBuffer(
+                indexPointer,
+                queryVector,
+                k,
+                methodParameters,
+                ArrayUtils.isNotEmpty(filteredIds) ? filteredIds : null,
+                filterIdsType,
+                parentIds,
+                resultBuffer.getIds(),
+                resultBuffer.getScores()
+            );
+            resultBuffer.setSize(resultSize);
+            return;
+        }
+        resultBuffer.copyFrom(
+            queryIndex(indexPointer, queryVector, k, methodParameters, knnEngine, filteredIds, filterIdsType, parentIds)
+        );
+    }
+
+    /**
+     * Query an index with a batch of query vectors. Faiss searches the whole batch with a single native call, so the JNI
+     * crossing and the search setup are paid once per batch instead of once per query. The ids and distances of the results
+     * of query i are written at offset i * k, and a query with less than k results has its remaining ids set to -1.
+     *
+     * @param indexPointer     pointer to index in memory
+     * @param queryVectors     query vectors laid out one after another, numQueries * dimension values
+     * @param numQueries       number of query vectors in the batch
+     * @param k                neighbors to be returned per query
+     * @param methodParameters method parameter
+     * @param knnEngine        engine to query index
+     * @param resultIds        buffer of at least numQueries * k entries the result doc ids are written to
+     * @param resultDistances  buffer of at least numQueries * k entries the result distances are written to
+     */
+    public static void queryIndexBatch(
+        long indexPointer,
+        float[] queryVectors,
+        int numQueries,
+        int k,
+        @Nullable Map<String, ?> methodParameters,
+        KNNEngine knnEngine,
+        int[] resultIds,
+        float[] resultDistances
+    ) {
+        if (KNNEngine.FAISS == knnEngine) {
+            FaissService.queryIndexBatchIntoBuffer(indexPointer, queryVectors, numQueries, k, methodParameters, resultIds, resultDistances);
+            return;
+        }
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "QueryIndexBatch not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Query a binary index
      *
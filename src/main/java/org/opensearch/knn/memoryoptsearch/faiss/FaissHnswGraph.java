@@ -31,6 +31,7 @@ public class FaissHnswGraph extends HnswGraph {
     private int[] neighborIdList;
     private int numNeighbors;
     private int nextNeighborIndex;
+    private int currentLevel;
 
     public FaissHnswGraph(final FaissHNSW faissHNSW, final IndexInput indexInput) {
         this.faissHnsw = faissHNSW;
@@ -56,9 +57,24 @@ public class FaissHnswGraph extends HnswGraph {
         // Ex: [1, 5, 20, 100, -1, -1, ..., -1]
         final long begin = o + faissHnsw.getCumNumberNeighborPerLevel()[level];
         final long end = o + faissHnsw.getCumNumberNeighborPerLevel()[level + 1];
+        currentLevel = level;
         loadNeighborIdList(begin, end);
     }
 
+    /**
+     * Hints the underlying storage to load the neighbor list of a vector at the level of the last {@link #seek(int, int)},
+     * so that a later seek to it does not block on IO. The read position of the graph is not changed.
+     *
+     * @param internalVectorId An internal vector id.
+     * @throws IOException if an I/O error occurs during prefetch
+     */
+    public void prefetchNeighborIdList(int internalVectorId) throws IOException {
+        final long o = faissHnsw.getOffsetsReader().get(internalVectorId);
+        final long begin = o + faissHnsw.getCumNumberNeighborPerLevel()[currentLevel];
+        final long end = o + faissHnsw.getCumNumberNeighborPerLevel()[currentLevel + 1];
+        indexInput.prefetch(faissHnsw.getNeighbors().getBaseOffset() + Integer.BYTES * begin, Integer.BYTES * (end - begin));
+    }
+
     private void loadNeighborIdList(final long begin, final long end) {
         // Make sure we have sufficient space for neighbor list
         final long maxLength = end - begin;
@@ -24,6 +24,8 @@ import org.apache.lucene.util.hnsw.OrdinalTranslatedKnnCollector;
 import org.apache.lucene.util.hnsw.RandomVectorScorer;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.common.RobustUniqueRandomIterator;
+import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.KNNVectorSimilarityFunction;
 import org.opensearch.knn.index.util.WarmupUtil;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
@@ -163,7 +165,8 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
         if (knnCollector.k() < scorer.maxOrd()) {
             // Do ANN search with Lucene's HNSW graph searcher.
-            HnswGraphSearcher.search(scorer, collector, new FaissHnswGraph(hnsw, indexInput.clone()), acceptedOrds);
+            final FaissHnswGraph graph = new FaissHnswGraph(hnsw, indexInput.clone());
+            HnswGraphSearcher.search(withLookAheadPrefetch(scorer, graph, collector), collector, graph, acceptedOrds);
         } else {
             // if k is larger than the number of vectors we expect to visit in an HNSW search,
             // we can just iterate over all vectors and collect them.
@@ -200,6 +203,23 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
         }
     }
 
+    /**
+     * Wraps the scorer to prefetch the neighbor lists of the best scored neighbors during graph traversal, when a look-ahead
+     * depth is configured and prefetching is enabled.
+     */
+    @VisibleForTesting
+    static RandomVectorScorer withLookAheadPrefetch(
+        final RandomVectorScorer scorer,
+        final FaissHnswGraph graph,
+        final KnnCollector collector
+    ) {
+        final int depth = KNNSettings.getMemoryOptimizedSearchPrefetchDepth();
+        if (depth == 0 || KNNFeatureFlags.isPrefetchEnabled() == false) {
+            return scorer;
+        }
+        return new LookAheadPrefetchingVectorScorer(scorer, graph, collector, depth);
+    }
+
     @VisibleForTesting
     KnnCollector createKnnCollector(final KnnCollector knnCollector, final RandomVectorScorer scorer) {
         final KnnCollector ordinalTranslatedKnnCollector = new OrdinalTranslatedKnnCollector(knnCollector, scorer::ordToDoc);
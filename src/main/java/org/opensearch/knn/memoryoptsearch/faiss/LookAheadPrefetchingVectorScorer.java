@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.hnsw.HnswGraphSearcher;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+
+import java.io.IOException;
+
+/**
+ * A {@link RandomVectorScorer} that looks ahead of {@link HnswGraphSearcher} while it traverses a {@link FaissHnswGraph}.
+ * <p>
+ * Each time the searcher bulk scores the neighbors of the candidate it expands, the neighbors with the best competitive
+ * scores are the ones it is most likely to expand next. This scorer prefetches their neighbor lists, so that the reads are
+ * in flight while the searcher still works through the candidates ahead of them. The vectors of those neighbor lists are
+ * prefetched when they are bulk scored, by {@link org.opensearch.knn.index.codec.scorer.PrefetchableFlatVectorScorer}.
+ * <p>
+ * NOTE: This is not thread safe, it must be created per search along with the graph.
+ */
+final class LookAheadPrefetchingVectorScorer implements RandomVectorScorer {
+
+    private final RandomVectorScorer delegate;
+    private final FaissHnswGraph graph;
+    private final KnnCollector collector;
+    private final int depth;
+    // Best competitive nodes of the last bulk score, sorted by descending score
+    private final int[] bestNodes;
+    private final float[] bestScores;
+
+    /**
+     * Constructor
+     *
+     * @param delegate scorer to delegate scoring to
+     * @param graph graph being traversed with this scorer
+     * @param collector collector of the search, used to skip neighbors that will not become candidates
+     * @param depth maximum number of neighbor lists to prefetch per expanded candidate
+     */
+    LookAheadPrefetchingVectorScorer(
+        final RandomVectorScorer delegate,
+        final FaissHnswGraph graph,
+        final KnnCollector collector,
+        final int depth
+    ) {
+        this.delegate = delegate;
+        this.graph = graph;
+        this.collector = collector;
+        this.depth = depth;
+        this.bestNodes = new int[depth];
+        this.bestScores = new float[depth];
+    }
+
+    @Override
+    public float score(int node) throws IOException {
+        return delegate.score(node);
+    }
+
+    @Override
+    public float bulkScore(int[] nodes, float[] scores, int numNodes) throws IOException {
+        final float maxScore = delegate.bulkScore(nodes, scores, numNodes);
+        prefetchBestNeighborLists(nodes, scores, numNodes);
+        return maxScore;
+    }
+
+    @Override
+    public int maxOrd() {
+        return delegate.maxOrd();
+    }
+
+    @Override
+    public int ordToDoc(int ord) {
+        return delegate.ordToDoc(ord);
+    }
+
+    @Override
+    public Bits getAcceptOrds(Bits acceptDocs) {
+        return delegate.getAcceptOrds(acceptDocs);
+    }
+
+    private void prefetchBestNeighborLists(final int[] nodes, final float[] scores, final int numNodes) throws IOException {
+        // The searcher only queues neighbors scoring at least the minimum competitive similarity
+        final float minCompetitiveSimilarity = collector.minCompetitiveSimilarity();
+        int numBest = 0;
+        for (int i = 0; i < numNodes; i++) {
+            final float score = scores[i];
+            if (score < minCompetitiveSimilarity || (numBest == depth && score <= bestScores[depth - 1])) {
+                continue;
+            }
+            // Insertion into the small sorted arrays, dropping the worst node when they are full
+            int position = numBest < depth ? numBest++ : depth - 1;
+            while (position > 0 && bestScores[position - 1] < score) {
+                bestScores[position] = bestScores[position - 1];
+                bestNodes[position] = bestNodes[position - 1];
+                position--;
+            }
+            bestScores[position] = score;
+            bestNodes[position] = nodes[i];
+        }
+
+        for (int i = 0; i < numBest; i++) {
+            graph.prefetchNeighborIdList(bestNodes[i]);
+        }
+    }
+}
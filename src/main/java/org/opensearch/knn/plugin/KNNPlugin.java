@@ -41,12 +41,15 @@ import org.opensearch.knn.index.KNNVectorDocValueFormat;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.KNNCodecService;
 import org.opensearch.knn.index.codec.derivedsource.DerivedSourceIndexOperationListener;
+import org.opensearch.knn.index.codec.nativeindex.MemOptimizedNativeIndexBuildStrategy;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
+import org.opensearch.knn.index.query.nativelib.IntraShardSearchExecutor;
+import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.KNNWeight;
 import org.opensearch.knn.index.query.RescoreKNNVectorQuery;
 import org.opensearch.knn.index.query.nativelib.NativeEngineKnnVectorQuery;
@@ -59,6 +62,7 @@ import org.opensearch.knn.jni.PlatformUtils;
 import org.opensearch.knn.plugin.rest.RestClearCacheHandler;
 import org.opensearch.knn.plugin.rest.RestDeleteModelHandler;
 import org.opensearch.knn.plugin.rest.RestGetModelHandler;
+import org.opensearch.knn.plugin.rest.RestKNNBatchSearchHandler;
 import org.opensearch.knn.plugin.rest.RestKNNStatsHandler;
 import org.opensearch.knn.plugin.rest.RestKNNWarmupHandler;
 import org.opensearch.knn.plugin.rest.RestSearchModelHandler;
@@ -72,6 +76,8 @@ import org.opensearch.knn.plugin.transport.DeleteModelAction;
 import org.opensearch.knn.plugin.transport.DeleteModelTransportAction;
 import org.opensearch.knn.plugin.transport.GetModelAction;
 import org.opensearch.knn.plugin.transport.GetModelTransportAction;
+import org.opensearch.knn.plugin.transport.KNNBatchSearchAction;
+import org.opensearch.knn.plugin.transport.KNNBatchSearchTransportAction;
 import org.opensearch.knn.plugin.transport.KNNStatsAction;
 import org.opensearch.knn.plugin.transport.KNNStatsTransportAction;
 import org.opensearch.knn.plugin.transport.KNNWarmupAction;
@@ -148,6 +154,14 @@ import static java.util.Collections.singletonList;
 import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
 import static org.opensearch.knn.common.KNNConstants.MODEL_INDEX_NAME;
 import static org.opensearch.knn.common.KNNConstants.TRAIN_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL_QUEUE_SIZE;
+import static org.opensearch.knn.common.KNNConstants.SEGMENT_SEARCH_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.EXACT_SEARCH_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.EXACT_SEARCH_THREAD_POOL_QUEUE_SIZE;
+import static org.opensearch.knn.common.KNNConstants.INDEX_BUILD_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.INDEX_BUILD_THREAD_POOL_QUEUE_SIZE;
+import static org.opensearch.knn.common.KNNConstants.SEGMENT_SEARCH_THREAD_POOL_QUEUE_SIZE;
 import static org.opensearch.knn.index.KNNCircuitBreaker.KNN_CIRCUIT_BREAKER_TIER;
 import static org.opensearch.knn.index.KNNSettings.KNN_DERIVED_SOURCE_ENABLED;
 
@@ -262,6 +276,9 @@ public class KNNPlugin extends Plugin
         TrainingJobClusterStateListener.initialize(threadPool, ModelDao.OpenSearchKNNModelDao.getInstance(), clusterService);
         QuantizationStateCache.setThreadPool(threadPool);
         NativeMemoryCacheManager.setThreadPool(threadPool);
+        IntraShardSearchExecutor.setThreadPool(threadPool);
+        ExactSearcher.setThreadPool(threadPool);
+        MemOptimizedNativeIndexBuildStrategy.setThreadPool(threadPool);
         KNNCircuitBreaker.getInstance().initialize(threadPool, clusterService, client);
         KNNQueryBuilder.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
         KNNWeight.initialize(ModelDao.OpenSearchKNNModelDao.getInstance());
@@ -329,6 +346,7 @@ public class KNNPlugin extends Plugin
         RestTrainModelHandler restTrainModelHandler = new RestTrainModelHandler();
         RestSearchModelHandler restSearchModelHandler = new RestSearchModelHandler();
         RestClearCacheHandler restClearCacheHandler = new RestClearCacheHandler(clusterService, indexNameExpressionResolver);
+        RestKNNBatchSearchHandler restKNNBatchSearchHandler = new RestKNNBatchSearchHandler(clusterService, indexNameExpressionResolver);
 
         return ImmutableList.of(
             restKNNStatsHandler,
@@ -337,7 +355,8 @@ public class KNNPlugin extends Plugin
             restDeleteModelHandler,
             restTrainModelHandler,
             restSearchModelHandler,
-            restClearCacheHandler
+            restClearCacheHandler,
+            restKNNBatchSearchHandler
         );
     }
 
@@ -358,7 +377,8 @@ public class KNNPlugin extends Plugin
             new ActionHandler<>(RemoveModelFromCacheAction.INSTANCE, RemoveModelFromCacheTransportAction.class),
             new ActionHandler<>(SearchModelAction.INSTANCE, SearchModelTransportAction.class),
             new ActionHandler<>(UpdateModelGraveyardAction.INSTANCE, UpdateModelGraveyardTransportAction.class),
-            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class)
+            new ActionHandler<>(ClearCacheAction.INSTANCE, ClearCacheTransportAction.class),
+            new ActionHandler<>(KNNBatchSearchAction.INSTANCE, KNNBatchSearchTransportAction.class)
         );
     }
 
@@ -440,7 +460,41 @@ public class KNNPlugin extends Plugin
 
     @Override
     public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-        return ImmutableList.of(new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false));
+        return ImmutableList.of(
+            new FixedExecutorBuilder(settings, TRAIN_THREAD_POOL, 1, 1, KNN_THREAD_POOL_PREFIX, false),
+            new FixedExecutorBuilder(
+                settings,
+                GRAPH_LOAD_THREAD_POOL,
+                KNNSettings.getGraphLoadThreadPoolSize(settings),
+                GRAPH_LOAD_THREAD_POOL_QUEUE_SIZE,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            ),
+            new FixedExecutorBuilder(
+                settings,
+                SEGMENT_SEARCH_THREAD_POOL,
+                KNNSettings.getSegmentSearchThreadPoolSize(settings),
+                SEGMENT_SEARCH_THREAD_POOL_QUEUE_SIZE,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            ),
+            new FixedExecutorBuilder(
+                settings,
+                EXACT_SEARCH_THREAD_POOL,
+                KNNSettings.getExactSearchThreadPoolSize(settings),
+                EXACT_SEARCH_THREAD_POOL_QUEUE_SIZE,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            ),
+            new FixedExecutorBuilder(
+                settings,
+                INDEX_BUILD_THREAD_POOL,
+                KNNSettings.getIndexBuildThreadPoolSize(settings),
+                INDEX_BUILD_THREAD_POOL_QUEUE_SIZE,
+                KNN_THREAD_POOL_PREFIX,
+                false
+            )
+        );
     }
 
     @Override
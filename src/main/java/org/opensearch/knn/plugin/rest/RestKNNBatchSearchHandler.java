@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.rest;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.knn.common.exception.KNNInvalidIndicesException;
+import org.opensearch.knn.index.query.parser.MethodParametersParser;
+import org.opensearch.knn.plugin.KNNPlugin;
+import org.opensearch.knn.plugin.transport.KNNBatchSearchAction;
+import org.opensearch.knn.plugin.transport.KNNBatchSearchRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.opensearch.action.support.IndicesOptions.strictExpandOpen;
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.knn.common.KNNConstants.BATCH_SEARCH;
+import static org.opensearch.knn.common.KNNConstants.K;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER;
+import static org.opensearch.knn.index.KNNSettings.KNN_INDEX;
+
+/**
+ * RestHandler for k-NN Batch Search API. API provides the ability for a user to search the k nearest neighbors of a batch
+ * of query vectors in a single request, for instance:
+ * <pre>
+ * POST /_plugins/_knn/batch_search/my-index
+ * {
+ *   "field": "my_vector",
+ *   "k": 10,
+ *   "vectors": [[1.0, 2.0], [3.0, 4.0]],
+ *   "method_parameters": { "ef_search": 100 }
+ * }
+ * </pre>
+ */
+@AllArgsConstructor
+@Log4j2
+public class RestKNNBatchSearchHandler extends BaseRestHandler {
+    private static final String INDEX = "index";
+    private static final String FIELD = "field";
+    private static final String VECTORS = "vectors";
+    public static String NAME = "knn_batch_search_action";
+    private final ClusterService clusterService;
+    private final IndexNameExpressionResolver indexNameExpressionResolver;
+
+    /**
+     * @return name of Batch Search API action
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * @return Immutable List of Batch Search API endpoint
+     */
+    @Override
+    public List<Route> routes() {
+        return ImmutableList.of(
+            new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/%s/{%s}", KNNPlugin.KNN_BASE_URI, BATCH_SEARCH, INDEX))
+        );
+    }
+
+    /**
+     * @param request RestRequest
+     * @param client NodeClient
+     * @return RestChannelConsumer
+     */
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        KNNBatchSearchRequest knnBatchSearchRequest = createKNNBatchSearchRequest(request);
+        return channel -> client.execute(KNNBatchSearchAction.INSTANCE, knnBatchSearchRequest, new RestToXContentListener<>(channel));
+    }
+
+    // Create a batch search request by parsing the body of the rest request and validating the indices
+    private KNNBatchSearchRequest createKNNBatchSearchRequest(RestRequest request) throws IOException {
+        String[] indexNames = Strings.splitStringByCommaToArray(request.param(INDEX));
+        Index[] indices = indexNameExpressionResolver.concreteIndices(clusterService.state(), strictExpandOpen(), indexNames);
+        validateIndices(indices);
+
+        String field = null;
+        int k = 0;
+        float[][] queryVectors = null;
+        Map<String, ?> methodParameters = null;
+
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            if (FIELD.equals(fieldName)) {
+                field = parser.text();
+            } else if (K.equals(fieldName)) {
+                k = parser.intValue();
+            } else if (VECTORS.equals(fieldName)) {
+                queryVectors = parseQueryVectors(parser);
+            } else if (METHOD_PARAMETER.equals(fieldName)) {
+                methodParameters = MethodParametersParser.fromXContent(parser);
+            } else {
+                throw new IllegalArgumentException("Unable to parse token. \"" + fieldName + "\" is not a valid parameter.");
+            }
+        }
+
+        return new KNNBatchSearchRequest(field, k, queryVectors, methodParameters, indexNames);
+    }
+
+    private static float[][] parseQueryVectors(XContentParser parser) throws IOException {
+        ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+        List<float[]> queryVectors = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+            List<Float> values = new ArrayList<>();
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                values.add(parser.floatValue());
+            }
+            float[] queryVector = new float[values.size()];
+            for (int i = 0; i < queryVector.length; i++) {
+                queryVector[i] = values.get(i);
+            }
+            queryVectors.add(queryVector);
+        }
+        return queryVectors.toArray(new float[0][]);
+    }
+
+    // Validate if the given indices are k-NN indices or not. If there are any invalid indices,
+    // the request is rejected and an exception is thrown.
+    private void validateIndices(Index[] indices) {
+        List<String> invalidIndexNames = Arrays.stream(indices)
+            .filter(index -> !"true".equals(clusterService.state().metadata().getIndexSafe(index).getSettings().get(KNN_INDEX)))
+            .map(Index::getName)
+            .collect(Collectors.toList());
+
+        if (!invalidIndexNames.isEmpty()) {
+            throw new KNNInvalidIndicesException(
+                invalidIndexNames,
+                "Batch search request rejected. One or more indices have 'index.knn' set to false."
+            );
+        }
+    }
+}
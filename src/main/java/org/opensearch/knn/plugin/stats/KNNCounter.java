@@ -13,8 +13,16 @@ import java.util.concurrent.atomic.AtomicLong;
 public enum KNNCounter {
     GRAPH_QUERY_ERRORS("graph_query_errors"),
     GRAPH_QUERY_REQUESTS("graph_query_requests"),
+    GRAPH_QUERY_LOAD_FALLBACKS("graph_query_load_fallbacks"),
+    GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS("graph_query_intra_shard_parallel_requests"),
+    GRAPH_QUERY_INTRA_SHARD_REJECTIONS("graph_query_intra_shard_rejections"),
+    GRAPH_QUERY_ADMISSION_QUEUED("graph_query_admission_queued"),
+    GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS("graph_query_admission_queue_time_millis"),
+    GRAPH_QUERY_ADMISSION_REJECTIONS("graph_query_admission_rejections"),
+    EXACT_SEARCH_PARALLEL_REQUESTS("exact_search_parallel_requests"),
     GRAPH_INDEX_ERRORS("graph_index_errors"),
     GRAPH_INDEX_REQUESTS("graph_index_requests"),
+    CACHE_ADMISSION_REJECT_COUNT("cache_admission_reject_count"),
     KNN_QUERY_REQUESTS("knn_query_requests"),
     SCRIPT_COMPILATIONS("script_compilations"),
     SCRIPT_COMPILATION_ERRORS("script_compilation_errors"),
@@ -66,6 +74,15 @@ public enum KNNCounter {
         count.getAndIncrement();
     }
 
+    /**
+     * Add a value to a counter
+     *
+     * @param value value to add
+     */
+    public void add(long value) {
+        count.getAndAdd(value);
+    }
+
     /**
      * @param value counter value
      * Set the value of a counter
@@ -122,6 +122,10 @@ public class KNNStats {
             .put(StatNames.LOAD_EXCEPTION_COUNT.getName(), createNodeStat(new KNNInnerCacheStatsSupplier(CacheStats::loadExceptionCount)))
             .put(StatNames.TOTAL_LOAD_TIME.getName(), createNodeStat(new KNNInnerCacheStatsSupplier(CacheStats::totalLoadTime)))
             .put(StatNames.EVICTION_COUNT.getName(), createNodeStat(new KNNInnerCacheStatsSupplier(CacheStats::evictionCount)))
+            .put(
+                StatNames.CACHE_ADMISSION_REJECT_COUNT.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.CACHE_ADMISSION_REJECT_COUNT))
+            )
             .put(
                 StatNames.GRAPH_MEMORY_USAGE.getName(),
                 createNodeStat(new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getIndicesSizeInKilobytes))
@@ -140,6 +144,34 @@ public class KNNStats {
             )
             .put(StatNames.GRAPH_QUERY_ERRORS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_ERRORS)))
             .put(StatNames.GRAPH_QUERY_REQUESTS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_REQUESTS)))
+            .put(
+                StatNames.GRAPH_QUERY_LOAD_FALLBACKS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_LOAD_FALLBACKS))
+            )
+            .put(
+                StatNames.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS))
+            )
+            .put(
+                StatNames.GRAPH_QUERY_INTRA_SHARD_REJECTIONS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_INTRA_SHARD_REJECTIONS))
+            )
+            .put(
+                StatNames.GRAPH_QUERY_ADMISSION_QUEUED.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_ADMISSION_QUEUED))
+            )
+            .put(
+                StatNames.GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS))
+            )
+            .put(
+                StatNames.GRAPH_QUERY_ADMISSION_REJECTIONS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_ADMISSION_REJECTIONS))
+            )
+            .put(
+                StatNames.EXACT_SEARCH_PARALLEL_REQUESTS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.EXACT_SEARCH_PARALLEL_REQUESTS))
+            )
             .put(StatNames.GRAPH_INDEX_ERRORS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_INDEX_ERRORS)))
             .put(StatNames.GRAPH_INDEX_REQUESTS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_INDEX_REQUESTS)))
             .put(StatNames.CIRCUIT_BREAKER_TRIGGERED.getName(), createClusterStat(new KNNCircuitBreakerSupplier()));
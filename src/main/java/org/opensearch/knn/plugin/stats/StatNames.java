@@ -19,6 +19,7 @@ public enum StatNames {
     LOAD_EXCEPTION_COUNT("load_exception_count"),
     TOTAL_LOAD_TIME("total_load_time"),
     EVICTION_COUNT("eviction_count"),
+    CACHE_ADMISSION_REJECT_COUNT(KNNCounter.CACHE_ADMISSION_REJECT_COUNT.getName()),
 
     GRAPH_MEMORY_USAGE("graph_memory_usage"),
     GRAPH_MEMORY_USAGE_PERCENTAGE("graph_memory_usage_percentage"),
@@ -34,6 +35,13 @@ public enum StatNames {
 
     GRAPH_QUERY_ERRORS(KNNCounter.GRAPH_QUERY_ERRORS.getName()),
     GRAPH_QUERY_REQUESTS(KNNCounter.GRAPH_QUERY_REQUESTS.getName()),
+    GRAPH_QUERY_LOAD_FALLBACKS(KNNCounter.GRAPH_QUERY_LOAD_FALLBACKS.getName()),
+    GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS(KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.getName()),
+    GRAPH_QUERY_INTRA_SHARD_REJECTIONS(KNNCounter.GRAPH_QUERY_INTRA_SHARD_REJECTIONS.getName()),
+    GRAPH_QUERY_ADMISSION_QUEUED(KNNCounter.GRAPH_QUERY_ADMISSION_QUEUED.getName()),
+    GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS(KNNCounter.GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS.getName()),
+    GRAPH_QUERY_ADMISSION_REJECTIONS(KNNCounter.GRAPH_QUERY_ADMISSION_REJECTIONS.getName()),
+    EXACT_SEARCH_PARALLEL_REQUESTS(KNNCounter.EXACT_SEARCH_PARALLEL_REQUESTS.getName()),
     GRAPH_INDEX_ERRORS(KNNCounter.GRAPH_INDEX_ERRORS.getName()),
     GRAPH_INDEX_REQUESTS(KNNCounter.GRAPH_INDEX_REQUESTS.getName()),
 
@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Action associated with k-NN batch search
+ */
+public class KNNBatchSearchAction extends ActionType<KNNBatchSearchResponse> {
+
+    public static final KNNBatchSearchAction INSTANCE = new KNNBatchSearchAction();
+    public static final String NAME = "indices:data/read/knn_batch_search";
+
+    private KNNBatchSearchAction() {
+        super(NAME, KNNBatchSearchResponse::new);
+    }
+
+    @Override
+    public Writeable.Reader<KNNBatchSearchResponse> getResponseReader() {
+        return KNNBatchSearchResponse::new;
+    }
+}
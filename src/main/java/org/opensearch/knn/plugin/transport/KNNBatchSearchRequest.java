@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.Getter;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.broadcast.BroadcastRequest;
+import org.opensearch.common.ValidationException;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.knn.index.query.KNNQueryBuilder;
+import org.opensearch.knn.index.query.parser.MethodParametersParser;
+import org.opensearch.knn.index.util.IndexUtil;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * k-NN Batch Search Request. This request contains a batch of float query vectors, each of which is searched for its k
+ * nearest neighbors in a k-NN vector field of the given indices.
+ */
+@Getter
+public class KNNBatchSearchRequest extends BroadcastRequest<KNNBatchSearchRequest> {
+
+    public static final int MAX_QUERY_VECTORS = 1000;
+
+    private final String field;
+    private final int k;
+    private final float[][] queryVectors;
+    private final Map<String, ?> methodParameters;
+
+    public KNNBatchSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.field = in.readString();
+        this.k = in.readVInt();
+        this.queryVectors = new float[in.readVInt()][];
+        for (int i = 0; i < queryVectors.length; i++) {
+            queryVectors[i] = in.readFloatArray();
+        }
+        this.methodParameters = MethodParametersParser.streamInput(in, IndexUtil::isClusterOnOrAfterMinRequiredVersion);
+    }
+
+    public KNNBatchSearchRequest(String field, int k, float[][] queryVectors, Map<String, ?> methodParameters, String... indices) {
+        super(indices);
+        this.field = field;
+        this.k = k;
+        this.queryVectors = queryVectors;
+        this.methodParameters = methodParameters;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(field);
+        out.writeVInt(k);
+        out.writeVInt(queryVectors.length);
+        for (float[] queryVector : queryVectors) {
+            out.writeFloatArray(queryVector);
+        }
+        MethodParametersParser.streamOutput(out, methodParameters, IndexUtil::isClusterOnOrAfterMinRequiredVersion);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = super.validate();
+        if (Strings.isNullOrEmpty(field)) {
+            exception = addValidationError("field must be set", exception);
+        }
+        if (k <= 0 || k > KNNQueryBuilder.K_MAX) {
+            exception = addValidationError("k must be in the range (0, " + KNNQueryBuilder.K_MAX + "]", exception);
+        }
+        if (queryVectors == null || queryVectors.length == 0 || queryVectors.length > MAX_QUERY_VECTORS) {
+            exception = addValidationError("number of query vectors must be in the range (0, " + MAX_QUERY_VECTORS + "]", exception);
+        } else {
+            for (float[] queryVector : queryVectors) {
+                if (queryVector == null || queryVector.length != queryVectors[0].length || queryVector.length == 0) {
+                    exception = addValidationError("query vectors must be non-empty and of the same dimension", exception);
+                    break;
+                }
+            }
+        }
+        if (methodParameters != null) {
+            final ValidationException validationException = MethodParametersParser.validateMethodParameters(methodParameters);
+            if (validationException != null) {
+                exception = addValidationError(validationException.getMessage(), exception);
+            }
+        }
+        return exception;
+    }
+}
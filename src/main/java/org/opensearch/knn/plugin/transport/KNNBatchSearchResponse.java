@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.action.support.broadcast.BroadcastResponse;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Response returned for k-NN Batch Search. Besides the number of shards that were searched, succeeded and failed, it
+ * returns the hits of each query vector, in the order of the query vectors of the request.
+ */
+@Getter
+public class KNNBatchSearchResponse extends BroadcastResponse implements ToXContentObject {
+
+    private static final String RESPONSES = "responses";
+    private static final String HITS = "hits";
+
+    private final List<List<Hit>> hitsPerQuery;
+
+    public KNNBatchSearchResponse(StreamInput in) throws IOException {
+        super(in);
+        this.hitsPerQuery = in.readList(input -> input.readList(Hit::new));
+    }
+
+    public KNNBatchSearchResponse(
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<DefaultShardOperationFailedException> shardFailures,
+        List<List<Hit>> hitsPerQuery
+    ) {
+        super(totalShards, successfulShards, failedShards, shardFailures);
+        this.hitsPerQuery = hitsPerQuery;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeCollection(hitsPerQuery, StreamOutput::writeList);
+    }
+
+    @Override
+    protected void addCustomXContentFields(XContentBuilder builder, Params params) throws IOException {
+        builder.startArray(RESPONSES);
+        for (List<Hit> hits : hitsPerQuery) {
+            builder.startObject();
+            builder.startArray(HITS);
+            for (Hit hit : hits) {
+                hit.toXContent(builder, params);
+            }
+            builder.endArray();
+            builder.endObject();
+        }
+        builder.endArray();
+    }
+
+    /**
+     * A document matching a query vector of the batch
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Hit implements Writeable, ToXContentObject {
+        private static final String INDEX = "_index";
+        private static final String ID = "_id";
+        private static final String SCORE = "_score";
+
+        private final String index;
+        private final String id;
+        private final float score;
+
+        public Hit(StreamInput in) throws IOException {
+            this.index = in.readString();
+            this.id = in.readString();
+            this.score = in.readFloat();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(index);
+            out.writeString(id);
+            out.writeFloat(score);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(INDEX, index);
+            builder.field(ID, id);
+            builder.field(SCORE, score);
+            builder.endObject();
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hits of each query vector of a k-NN batch search on a single shard, in the order of the query vectors of the request
+ */
+@Getter
+@AllArgsConstructor
+public class KNNBatchSearchShardResult implements Writeable {
+
+    private final List<List<KNNBatchSearchResponse.Hit>> hitsPerQuery;
+
+    public KNNBatchSearchShardResult(StreamInput in) throws IOException {
+        this.hitsPerQuery = in.readList(input -> input.readList(KNNBatchSearchResponse.Hit::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeCollection(hitsPerQuery, StreamOutput::writeList);
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.broadcast.node.TransportBroadcastByNodeAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlockException;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.PlainShardsIterator;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.ValidationException;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.fieldvisitor.FieldsVisitor;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ObjectMapper;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.VectorQueryType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.engine.KNNMethodConfigContext;
+import org.opensearch.knn.index.engine.KNNMethodContext;
+import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
+import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.index.engine.model.QueryContext;
+import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
+import org.opensearch.knn.index.mapper.CompressionLevel;
+import org.opensearch.knn.index.mapper.KNNMappingConfig;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.query.KNNBatchSearcher;
+import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.indices.ModelMetadata;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.opensearch.knn.index.engine.KNNEngine.FAISS;
+import static org.opensearch.knn.index.engine.validation.ParameterValidator.validateParameters;
+
+/**
+ * Transport Action for k-NN batch search. TransportBroadcastByNodeAction distributes the request to the primary of every
+ * shard of the given indices. For each shard, shardOperation searches all query vectors of the batch, and the hits of the
+ * shards are then merged into the top k hits of each query vector.
+ */
+public class KNNBatchSearchTransportAction extends TransportBroadcastByNodeAction<
+    KNNBatchSearchRequest,
+    KNNBatchSearchResponse,
+    KNNBatchSearchShardResult> {
+
+    public static Logger logger = LogManager.getLogger(KNNBatchSearchTransportAction.class);
+
+    private static final String SEARCHER_SOURCE = "knn-batch-search";
+    private static final Comparator<KNNBatchSearchResponse.Hit> HIT_COMPARATOR = Comparator.comparing(
+        KNNBatchSearchResponse.Hit::getScore,
+        Comparator.reverseOrder()
+    ).thenComparing(KNNBatchSearchResponse.Hit::getIndex).thenComparing(KNNBatchSearchResponse.Hit::getId);
+
+    private IndicesService indicesService;
+
+    @Inject
+    public KNNBatchSearchTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        IndicesService indicesService,
+        ActionFilters actionFilters,
+        IndexNameExpressionResolver indexNameExpressionResolver
+    ) {
+        super(
+            KNNBatchSearchAction.NAME,
+            clusterService,
+            transportService,
+            actionFilters,
+            indexNameExpressionResolver,
+            KNNBatchSearchRequest::new,
+            ThreadPool.Names.SEARCH
+        );
+        this.indicesService = indicesService;
+    }
+
+    @Override
+    protected KNNBatchSearchShardResult readShardResult(StreamInput in) throws IOException {
+        return new KNNBatchSearchShardResult(in);
+    }
+
+    @Override
+    protected KNNBatchSearchResponse newResponse(
+        KNNBatchSearchRequest request,
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<KNNBatchSearchShardResult> shardResults,
+        List<DefaultShardOperationFailedException> shardFailures,
+        ClusterState clusterState
+    ) {
+        return new KNNBatchSearchResponse(
+            totalShards,
+            successfulShards,
+            failedShards,
+            shardFailures,
+            mergeShardResults(request.getQueryVectors().length, request.getK(), shardResults)
+        );
+    }
+
+    @Override
+    protected KNNBatchSearchRequest readRequestFrom(StreamInput in) throws IOException {
+        return new KNNBatchSearchRequest(in);
+    }
+
+    @Override
+    protected KNNBatchSearchShardResult shardOperation(KNNBatchSearchRequest request, ShardRouting shardRouting) throws IOException {
+        final IndexService indexService = indicesService.indexServiceSafe(shardRouting.shardId().getIndex());
+        final IndexShard indexShard = indexService.getShard(shardRouting.shardId().id());
+        final String indexName = shardRouting.getIndexName();
+        final KNNVectorFieldType knnVectorFieldType = getSearchableFieldType(indexService.mapperService(), request);
+
+        // Query vectors are transformed the same way as the query vector of a k-NN query, for instance normalized for cosine
+        final float[][] queryVectors = new float[request.getQueryVectors().length][];
+        for (int i = 0; i < queryVectors.length; i++) {
+            queryVectors[i] = knnVectorFieldType.transformQueryVector(request.getQueryVectors()[i].clone());
+        }
+
+        final KNNBatchSearcher knnBatchSearcher = new KNNBatchSearcher(
+            NativeMemoryCacheManager.getInstance(),
+            ModelDao.OpenSearchKNNModelDao.getInstance()
+        );
+        try (Engine.Searcher searcher = indexShard.acquireSearcher(SEARCHER_SOURCE)) {
+            final TopDocs[] topDocs = knnBatchSearcher.search(
+                searcher.getIndexReader(),
+                indexName,
+                request.getField(),
+                queryVectors,
+                request.getK(),
+                request.getMethodParameters(),
+                MemoryOptimizedSearchSupportSpec.isSupportedFieldType(knnVectorFieldType, indexName)
+            );
+
+            final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+            final List<List<KNNBatchSearchResponse.Hit>> hitsPerQuery = new ArrayList<>(topDocs.length);
+            for (TopDocs queryTopDocs : topDocs) {
+                final List<KNNBatchSearchResponse.Hit> hits = new ArrayList<>(queryTopDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : queryTopDocs.scoreDocs) {
+                    final LeafReaderContext leafReaderContext = leaves.get(ReaderUtil.subIndex(scoreDoc.doc, leaves));
+                    final FieldsVisitor fieldsVisitor = new FieldsVisitor(false);
+                    leafReaderContext.reader().storedFields().document(scoreDoc.doc - leafReaderContext.docBase, fieldsVisitor);
+                    hits.add(new KNNBatchSearchResponse.Hit(indexName, fieldsVisitor.id(), scoreDoc.score));
+                }
+                hitsPerQuery.add(hits);
+            }
+            return new KNNBatchSearchShardResult(hitsPerQuery);
+        }
+    }
+
+    @Override
+    protected ShardsIterator shards(ClusterState state, KNNBatchSearchRequest request, String[] concreteIndices) {
+        // Every document is searched once, on the primary of its shard
+        final List<ShardRouting> primaries = new ArrayList<>();
+        for (ShardRouting shardRouting : state.routingTable().allShards(concreteIndices)) {
+            if (shardRouting.primary()) {
+                primaries.add(shardRouting);
+            }
+        }
+        return new PlainShardsIterator(primaries);
+    }
+
+    @Override
+    protected ClusterBlockException checkGlobalBlock(ClusterState state, KNNBatchSearchRequest request) {
+        return state.blocks().globalBlockedException(ClusterBlockLevel.READ);
+    }
+
+    @Override
+    protected ClusterBlockException checkRequestBlock(ClusterState state, KNNBatchSearchRequest request, String[] concreteIndices) {
+        return state.blocks().indicesBlockedException(ClusterBlockLevel.READ, concreteIndices);
+    }
+
+    /**
+     * Merges the hits of the shards into the top k hits of each query vector, ordered by descending score.
+     *
+     * @param numQueries number of query vectors of the request
+     * @param k number of hits to keep per query vector
+     * @param shardResults hits of the shards that succeeded
+     * @return top k hits of each query vector
+     */
+    static List<List<KNNBatchSearchResponse.Hit>> mergeShardResults(
+        final int numQueries,
+        final int k,
+        final List<KNNBatchSearchShardResult> shardResults
+    ) {
+        final List<List<KNNBatchSearchResponse.Hit>> hitsPerQuery = new ArrayList<>(numQueries);
+        for (int query = 0; query < numQueries; query++) {
+            final List<KNNBatchSearchResponse.Hit> hits = new ArrayList<>();
+            for (KNNBatchSearchShardResult shardResult : shardResults) {
+                hits.addAll(shardResult.getHitsPerQuery().get(query));
+            }
+            hits.sort(HIT_COMPARATOR);
+            hitsPerQuery.add(new ArrayList<>(hits.subList(0, Math.min(k, hits.size()))));
+        }
+        return hitsPerQuery;
+    }
+
+    /**
+     * Returns the field type of the searched field, once validated that its vectors can be searched as a batch: a float
+     * field indexed by Faiss without quantization, outside of a nested object, with query vectors of its dimension.
+     */
+    private static KNNVectorFieldType getSearchableFieldType(final MapperService mapperService, final KNNBatchSearchRequest request) {
+        final String field = request.getField();
+        final MappedFieldType mappedFieldType = mapperService.fieldType(field);
+        if (!(mappedFieldType instanceof KNNVectorFieldType knnVectorFieldType)) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Field '%s' is not knn_vector type.", field));
+        }
+
+        final KNNMappingConfig knnMappingConfig = knnVectorFieldType.getKnnMappingConfig();
+        final KNNEngine knnEngine;
+        final SpaceType spaceType;
+        final MethodComponentContext methodComponentContext;
+        final int dimension;
+        if (knnMappingConfig.getKnnMethodContext().isPresent()) {
+            final KNNMethodContext knnMethodContext = knnMappingConfig.getKnnMethodContext().get();
+            knnEngine = knnMethodContext.getKnnEngine();
+            spaceType = knnMethodContext.getSpaceType();
+            methodComponentContext = knnMethodContext.getMethodComponentContext();
+            dimension = knnMappingConfig.getDimension();
+        } else if (knnMappingConfig.getModelId().isPresent()) {
+            final String modelId = knnMappingConfig.getModelId().get();
+            final ModelMetadata modelMetadata = ModelDao.OpenSearchKNNModelDao.getInstance().getMetadata(modelId);
+            if (modelMetadata == null) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "Model [%s] of field '%s' does not exist.", modelId, field));
+            }
+            knnEngine = modelMetadata.getKnnEngine();
+            spaceType = modelMetadata.getSpaceType();
+            methodComponentContext = modelMetadata.getMethodComponentContext();
+            dimension = modelMetadata.getDimension();
+        } else {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Field '%s' is not built for ANN search.", field));
+        }
+
+        if (knnEngine != FAISS) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Batch search only supports engine [%s], field '%s' uses [%s]", FAISS, field, knnEngine)
+            );
+        }
+        final VectorDataType vectorDataType = knnVectorFieldType.getVectorDataType();
+        if (vectorDataType != VectorDataType.FLOAT) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Batch search only supports float vectors, field '%s' has [%s]", field, vectorDataType)
+            );
+        }
+        if (knnMappingConfig.getQuantizationConfig() != QuantizationConfig.EMPTY
+            || (CompressionLevel.isConfigured(knnMappingConfig.getCompressionLevel())
+                && knnMappingConfig.getCompressionLevel() != CompressionLevel.x1)
+            || knnVectorFieldType.isAlwaysUseMemoryOptimizedSearch()) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Batch search does not support quantized field '%s'", field));
+        }
+        if (isInsideNestedObject(mapperService, field)) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Batch search does not support nested field '%s'", field));
+        }
+
+        for (float[] queryVector : request.getQueryVectors()) {
+            if (queryVector.length != dimension) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "Query vector has invalid dimension: %d. Dimension should be: %d",
+                        queryVector.length,
+                        dimension
+                    )
+                );
+            }
+            spaceType.validateVector(queryVector);
+        }
+
+        final String method = methodComponentContext != null ? methodComponentContext.getName() : null;
+        if (request.getMethodParameters() != null && method != null && !method.isBlank()) {
+            final ValidationException validationException = validateParameters(
+                knnEngine.getKNNLibrarySearchContext(method).supportedMethodParameters(new QueryContext(VectorQueryType.K)),
+                (Map<String, Object>) request.getMethodParameters(),
+                KNNMethodConfigContext.EMPTY
+            );
+            if (validationException != null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "Parameters not valid for [%s]:[%s] combination: [%s]",
+                        knnEngine,
+                        method,
+                        validationException.getMessage()
+                    )
+                );
+            }
+        }
+        return knnVectorFieldType;
+    }
+
+    private static boolean isInsideNestedObject(final MapperService mapperService, final String field) {
+        for (int i = field.lastIndexOf('.'); i > 0; i = field.lastIndexOf('.', i - 1)) {
+            final ObjectMapper objectMapper = mapperService.getObjectMapper(field.substring(0, i));
+            if (objectMapper != null && objectMapper.nested().isNested()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
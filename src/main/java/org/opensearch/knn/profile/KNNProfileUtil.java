@@ -9,6 +9,8 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.IOSupplier;
+import org.opensearch.knn.index.query.FilteredSearchPlanner;
+import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 import org.opensearch.search.profile.Timer;
@@ -81,4 +83,50 @@ public class KNNProfileUtil {
         }
         return action.get();
     }
+
+    /**
+     * Records the cost estimates of the filtered search planner for a segment in the profile breakdown, and counts the
+     * segment under the search the planner chose for it.
+     * @param profile
+     * @param leafReaderContext
+     * @param plan chosen plan of the segment search
+     */
+    public static void recordFilteredSearchPlan(
+        ContextualProfileBreakdown profile,
+        LeafReaderContext leafReaderContext,
+        FilteredSearchPlanner.Plan plan
+    ) {
+        if (profile != null) {
+            ((LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.PLANNED_EXACT_SEARCH_NANOS)).setValue(
+                plan.getEstimatedExactSearchNanos()
+            );
+            ((LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.PLANNED_ANN_SEARCH_NANOS)).setValue(
+                plan.getEstimatedApproximateSearchNanos()
+            );
+            final String chosenPlanMetric = plan.getDecision() == FilteredSearchPlanner.Decision.EXACT_SEARCH
+                ? KNNMetrics.PLANNED_EXACT_SEARCH_SEGMENTS
+                : KNNMetrics.PLANNED_ANN_SEARCH_SEGMENTS;
+            // The segments of a slice share a breakdown, and may still be searched in parallel by the intra shard search
+            final LongMetric metric = (LongMetric) profile.context(leafReaderContext).getMetric(chosenPlanMetric);
+            synchronized (metric) {
+                metric.setValue(metric.getValue() + 1);
+            }
+        }
+    }
+
+    /**
+     * Records in the profile breakdown that the search of a segment returned partial results because the search budget of
+     * the query was spent.
+     * @param profile
+     * @param leafReaderContext partially searched segment
+     */
+    public static void recordPartiallySearchedSegment(ContextualProfileBreakdown profile, LeafReaderContext leafReaderContext) {
+        if (profile != null) {
+            // The segments of a slice share a breakdown, and may still be searched in parallel by the intra shard search
+            final LongMetric metric = (LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.PARTIALLY_SEARCHED_SEGMENTS);
+            synchronized (metric) {
+                metric.setValue(metric.getValue() + 1);
+            }
+        }
+    }
 }
@@ -15,6 +15,7 @@ import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.index.query.DefaultKNNWeight;
+import org.opensearch.knn.index.query.FilteredSearchPlanner;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
@@ -58,6 +59,16 @@ public class ProfileDefaultKNNWeight extends DefaultKNNWeight {
         return filterBitSet;
     }
 
+    @Override
+    protected void onFilteredSearchPlanned(final LeafReaderContext context, final FilteredSearchPlanner.Plan plan) {
+        KNNProfileUtil.recordFilteredSearchPlan(profile, context, plan);
+    }
+
+    @Override
+    protected void onSearchBudgetExhausted(final LeafReaderContext context) {
+        KNNProfileUtil.recordPartiallySearchedSegment(profile, context);
+    }
+
     @Override
     public TopDocs approximateSearch(final LeafReaderContext context, final BitSet filterIdsBitSet, final int cardinality, final int k)
         throws IOException {
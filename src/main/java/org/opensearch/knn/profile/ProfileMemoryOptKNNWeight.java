@@ -10,6 +10,7 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
+import org.opensearch.knn.index.query.FilteredSearchPlanner;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
@@ -61,6 +62,16 @@ public class ProfileMemoryOptKNNWeight extends MemoryOptimizedKNNWeight {
         return filterBitSet;
     }
 
+    @Override
+    protected void onFilteredSearchPlanned(final LeafReaderContext context, final FilteredSearchPlanner.Plan plan) {
+        KNNProfileUtil.recordFilteredSearchPlan(profile, context, plan);
+    }
+
+    @Override
+    protected void onSearchBudgetExhausted(final LeafReaderContext context) {
+        KNNProfileUtil.recordPartiallySearchedSegment(profile, context);
+    }
+
     @Override
     public TopDocs approximateSearch(final LeafReaderContext context, final BitSet filterIdsBitSet, final int cardinality, final int k)
         throws IOException {
@@ -21,10 +21,16 @@ public class KNNMetrics {
 
     public static final String NUM_NESTED_DOCS = "num_nested_docs";
     public static final String CARDINALITY = "cardinality";
+    public static final String PLANNED_EXACT_SEARCH_NANOS = "planned_exact_search_nanos";
+    public static final String PLANNED_ANN_SEARCH_NANOS = "planned_ann_search_nanos";
+    public static final String PLANNED_EXACT_SEARCH_SEGMENTS = "planned_exact_search_segments";
+    public static final String PLANNED_ANN_SEARCH_SEGMENTS = "planned_ann_search_segments";
+    public static final String PARTIALLY_SEARCHED_SEGMENTS = "partially_searched_segments";
 
     /**
      * Contains profile metric information for KNN Queries based on {@link KNNQueryTimingType} timers. Additionally, it
-     * contains a metric for filter cardinality.
+     * contains a metric for filter cardinality, the cost estimates and chosen plans of the filtered search planner and the
+     * number of segments whose search was cut short by the search budget of the query.
      * @return list of {@link org.opensearch.search.profile.ProfileMetric} for KNNQueries
      *
      */
@@ -35,6 +41,11 @@ public class KNNMetrics {
         }
 
         metrics.add(() -> new LongMetric(CARDINALITY));
+        metrics.add(() -> new LongMetric(PLANNED_EXACT_SEARCH_NANOS));
+        metrics.add(() -> new LongMetric(PLANNED_ANN_SEARCH_NANOS));
+        metrics.add(() -> new LongMetric(PLANNED_EXACT_SEARCH_SEGMENTS));
+        metrics.add(() -> new LongMetric(PLANNED_ANN_SEARCH_SEGMENTS));
+        metrics.add(() -> new LongMetric(PARTIALLY_SEARCHED_SEGMENTS));
 
         return metrics;
     }
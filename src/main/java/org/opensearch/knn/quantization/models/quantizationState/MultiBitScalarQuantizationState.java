@@ -15,6 +15,7 @@ import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.quantizer.RandomHadamardRotation;
 import static org.opensearch.knn.common.KNNConstants.BYTE_ALIGNMENT_MASK;
 
 import java.io.IOException;
@@ -51,11 +52,17 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
     private float[][] thresholds;
 
     /**
-     * Rotation matrix used if random rotation is enabled.
+     * Rotation matrix used if random rotation is enabled. Only states written before 3.7.0 use a dense matrix.
      */
     @Builder.Default
     private float[][] rotationMatrix = null;
 
+    /**
+     * Randomized Hadamard rotation used if random rotation is enabled.
+     */
+    @Builder.Default
+    private RandomHadamardRotation hadamardRotation = null;
+
     @Override
     public ScalarQuantizationParams getQuantizationParams() {
         return quantizationParams;
@@ -89,6 +96,7 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
             }
         }
 
+        out.writeOptionalWriteable(hadamardRotation);
     }
 
     /**
@@ -117,6 +125,10 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
                 }
             }
         }
+
+        if (Version.fromId(version).onOrAfter(Version.V_3_7_0)) {
+            this.hadamardRotation = in.readOptionalWriteable(RandomHadamardRotation::new);
+        }
     }
 
     /**
@@ -220,6 +232,9 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
                 size += RamUsageEstimator.sizeOf(row);
             }
         }
+        if (hadamardRotation != null) {
+            size += hadamardRotation.ramBytesUsed();
+        }
         return size;
     }
 }
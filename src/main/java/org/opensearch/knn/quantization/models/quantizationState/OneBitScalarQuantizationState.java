@@ -15,6 +15,7 @@ import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.quantizer.RandomHadamardRotation;
 import org.opensearch.knn.quantization.util.QuantizationUtils.FloatArrayWrapper;
 import static org.opensearch.knn.common.KNNConstants.BYTE_ALIGNMENT_MASK;
 
@@ -55,11 +56,17 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
     private float[] aboveThresholdMeans = null;
 
     /**
-     * Rotation matrix used if random rotation is enabled.
+     * Rotation matrix used if random rotation is enabled. Only states written before 3.7.0 use a dense matrix.
      */
     @Builder.Default
     private float[][] rotationMatrix = null;
 
+    /**
+     * Randomized Hadamard rotation used if random rotation is enabled.
+     */
+    @Builder.Default
+    private RandomHadamardRotation hadamardRotation = null;
+
     @Override
     public ScalarQuantizationParams getQuantizationParams() {
         return quantizationParams;
@@ -90,6 +97,7 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
         out.writeOptionalArray(belowThresholdMeans != null ? new FloatArrayWrapper[] { new FloatArrayWrapper(belowThresholdMeans) } : null);
         // Serialize aboveThresholdMeans using writeOptionalArray
         out.writeOptionalArray(aboveThresholdMeans != null ? new FloatArrayWrapper[] { new FloatArrayWrapper(aboveThresholdMeans) } : null);
+        out.writeOptionalWriteable(hadamardRotation);
     }
 
     /**
@@ -121,6 +129,10 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
             FloatArrayWrapper[] wrappedAboveThresholdMeans = in.readOptionalArray(FloatArrayWrapper::new, FloatArrayWrapper[]::new);
             this.aboveThresholdMeans = wrappedAboveThresholdMeans != null ? wrappedAboveThresholdMeans[0].getArray() : null;
         }
+
+        if (Version.fromId(version).onOrAfter(Version.V_3_7_0)) {
+            this.hadamardRotation = in.readOptionalWriteable(RandomHadamardRotation::new);
+        }
     }
 
     /**
@@ -134,6 +146,7 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
         this.quantizationParams = quantizationParams;
         this.meanThresholds = meanThresholds;
         this.rotationMatrix = null;
+        this.hadamardRotation = null;
     }
 
     /**
@@ -217,6 +230,9 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
                 size += RamUsageEstimator.sizeOf(row);
             }
         }
+        if (hadamardRotation != null) {
+            size += hadamardRotation.ramBytesUsed();
+        }
         if (belowThresholdMeans != null) {
             size += RamUsageEstimator.sizeOf(belowThresholdMeans);
         }
@@ -137,10 +137,7 @@ public class MultiBitScalarQuantizer implements Quantizer<float[], byte[]> {
         if (thresholds == null || thresholds[0].length != vector.length) {
             throw new IllegalArgumentException("Thresholds must not be null and must match the dimension of the vector.");
         }
-        float[][] rotationMatrix = multiBitState.getRotationMatrix();
-        if (rotationMatrix != null) {
-            vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-        }
+        vector = QuantizerHelper.rotate(vector, multiBitState.getHadamardRotation(), multiBitState.getRotationMatrix());
         output.prepareQuantizedVector(vectorLength);
         BitPacker.quantizeAndPackBits(vector, thresholds, bitsPerCoordinate, output.getQuantizedVector());
     }
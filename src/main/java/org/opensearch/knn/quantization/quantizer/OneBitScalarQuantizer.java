@@ -105,10 +105,7 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
         if (thresholds == null || thresholds.length != vectorLength) {
             throw new IllegalArgumentException("Thresholds must not be null and must match the dimension of the vector.");
         }
-        float[][] rotationMatrix = binaryState.getRotationMatrix();
-        if (rotationMatrix != null) {
-            vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-        }
+        vector = QuantizerHelper.rotate(vector, binaryState.getHadamardRotation(), binaryState.getRotationMatrix());
         output.prepareQuantizedVector(vectorLength);
         BitPacker.quantizeAndPackBits(vector, thresholds, output.getQuantizedVector());
     }
@@ -127,21 +124,21 @@ public class OneBitScalarQuantizer implements Quantizer<float[], byte[]> {
         validateState(state);
         OneBitScalarQuantizationState binaryState = (OneBitScalarQuantizationState) state;
 
+        RandomHadamardRotation hadamardRotation = binaryState.getHadamardRotation();
         float[][] rotationMatrix = binaryState.getRotationMatrix();
 
-        float[] rotatedVector = vector.clone();
-
-        if (rotationMatrix != null) {
-            rotatedVector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
+        if (hadamardRotation != null) {
+            hadamardRotation.rotate(vector);
+        } else if (rotationMatrix != null) {
+            float[] rotatedVector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
+            System.arraycopy(rotatedVector, 0, vector, 0, vector.length);
         }
 
         if (shouldDoADCCorrection(spaceType)) {
-            transformVectorWithADCCorrection(rotatedVector, binaryState);
+            transformVectorWithADCCorrection(vector, binaryState);
         } else {
-            transformVectorWithADCNoCorrection(rotatedVector, binaryState);
+            transformVectorWithADCNoCorrection(vector, binaryState);
         }
-
-        System.arraycopy(rotatedVector, 0, vector, 0, vector.length);
     }
 
     private boolean shouldDoADCCorrection(SpaceType spaceType) {
@@ -17,15 +17,18 @@ import lombok.experimental.UtilityClass;
 import oshi.util.tuples.Pair;
 
 import java.io.IOException;
+import java.util.function.UnaryOperator;
 
 /**
  * Utility class for calculating quantization state information for both
  * OneBit and MultiBit scalar quantizers. Handles computing thresholds,
- * below/above mean statistics, and rotation matrix application.
+ * below/above mean statistics, and random rotation application.
  */
 @UtilityClass
 class QuantizerHelper {
     private static final int ONE_BIT_NUMBER_OF_BITS_PER_COORDINATE = 1;
+    // Vectors are rotated into a buffer kept per thread, so indexing and queries do not allocate a copy of every vector
+    private static final ThreadLocal<float[]> ROTATION_BUFFER = ThreadLocal.withInitial(() -> new float[0]);
 
     /**
      * Calculate quantization state for a {@link OneBitScalarQuantizationState}.
@@ -50,7 +53,7 @@ class QuantizerHelper {
         return OneBitScalarQuantizationState.builder()
             .quantizationParams(quantizationParams)
             .meanThresholds(quantizerHelperResult.getThresholds()[0])
-            .rotationMatrix(quantizerHelperResult.getRotationMatrix())
+            .hadamardRotation(quantizerHelperResult.getHadamardRotation())
             .belowThresholdMeans(quantizerHelperResult.getBelow())
             .aboveThresholdMeans(quantizerHelperResult.getAbove())
             .build();
@@ -77,10 +80,36 @@ class QuantizerHelper {
         return MultiBitScalarQuantizationState.builder()
             .quantizationParams(quantizationParams)
             .thresholds(quantizerHelperResult.getThresholds())
-            .rotationMatrix(quantizerHelperResult.getRotationMatrix())
+            .hadamardRotation(quantizerHelperResult.getHadamardRotation())
             .build();
     }
 
+    /**
+     * Rotates a vector with the random rotation of a quantization state, if it has one. A Hadamard rotated vector is written
+     * into a buffer of the calling thread, so it is only valid until the next vector is rotated on that thread.
+     *
+     * @param vector           The vector to rotate. The input vector is not modified.
+     * @param hadamardRotation Randomized Hadamard rotation of the state, may be null.
+     * @param rotationMatrix   Dense rotation matrix of a state written before 3.7.0, may be null.
+     * @return The rotated copy of the vector, or the vector itself if the state has no rotation.
+     */
+    static float[] rotate(float[] vector, RandomHadamardRotation hadamardRotation, float[][] rotationMatrix) {
+        if (hadamardRotation != null) {
+            float[] buffer = ROTATION_BUFFER.get();
+            if (buffer.length != vector.length) {
+                buffer = new float[vector.length];
+                ROTATION_BUFFER.set(buffer);
+            }
+            System.arraycopy(vector, 0, buffer, 0, vector.length);
+            hadamardRotation.rotate(buffer);
+            return buffer;
+        }
+        if (rotationMatrix != null) {
+            return RandomGaussianRotation.applyRotation(vector, rotationMatrix);
+        }
+        return vector;
+    }
+
     /**
      * Validates that sampled indices are not null or empty.
      *
@@ -121,7 +150,7 @@ class QuantizerHelper {
         @NonNull
         float[][] thresholds; // note: this is a (1 x dimension) 2D array for one bit quantization
 
-        float[][] rotationMatrix;
+        RandomHadamardRotation hadamardRotation;
 
         // below and above thresholds means are used for transforming vector for ADC in one bit paradigm.
         float[] below;
@@ -136,15 +165,17 @@ class QuantizerHelper {
         validateSampledIndices(sampledIndices);
         int dim = trainingRequest.getVectorAtThePosition(sampledIndices[0]).length;
 
-        float[][] rotationMatrix = null;
+        RandomHadamardRotation hadamardRotation = null;
+        UnaryOperator<float[]> rotation = UnaryOperator.identity();
         if (trainingRequest.isEnableRandomRotation()) {
-            rotationMatrix = RandomGaussianRotation.generateRotationMatrix(dim);
+            hadamardRotation = RandomHadamardRotation.generate(dim);
+            rotation = rotateIntoBuffer(hadamardRotation);
         }
 
         float[][] thresholds;
 
         // note: the vectors are rotated before the mean and stddev are calculated if random rotation is enabled.
-        Pair<float[], float[]> meanStd = calculateMeanAndStdDev(trainingRequest, sampledIndices, rotationMatrix);
+        Pair<float[], float[]> meanStd = calculateMeanAndStdDev(trainingRequest, sampledIndices, rotation);
 
         thresholds = calculateThresholds(meanStd.getA(), meanStd.getB(), bitsPerCoordinate);
 
@@ -156,21 +187,37 @@ class QuantizerHelper {
                 trainingRequest,
                 thresholds[0],
                 sampledIndices,
-                rotationMatrix
+                rotation
             );
             return QuantizerHelperResult.builder()
                 .thresholds(thresholds)
-                .rotationMatrix(rotationMatrix)
+                .hadamardRotation(hadamardRotation)
                 .below(belowAbove.getA())
                 .above(belowAbove.getB())
                 .build();
         }
 
-        return QuantizerHelperResult.builder().thresholds(thresholds).rotationMatrix(rotationMatrix).build();
+        return QuantizerHelperResult.builder().thresholds(thresholds).hadamardRotation(hadamardRotation).build();
+    }
+
+    /**
+     * Rotates vectors with a randomized Hadamard rotation. Each vector is copied into the same buffer and rotated there, so
+     * a rotated vector is only valid until the next one is rotated.
+     *
+     * @param hadamardRotation The rotation to apply.
+     * @return Function returning the rotated copy of a vector.
+     */
+    private static UnaryOperator<float[]> rotateIntoBuffer(RandomHadamardRotation hadamardRotation) {
+        final float[] buffer = new float[hadamardRotation.getDimensions()];
+        return vector -> {
+            System.arraycopy(vector, 0, buffer, 0, buffer.length);
+            hadamardRotation.rotate(buffer);
+            return buffer;
+        };
     }
 
     public static Pair<float[], float[]> calculateMeanAndStdDev(TrainingRequest<float[]> request, int[] sampledIndices) throws IOException {
-        return calculateMeanAndStdDev(request, sampledIndices, null);
+        return calculateMeanAndStdDev(request, sampledIndices, UnaryOperator.identity());
     }
 
     /**
@@ -178,13 +225,14 @@ class QuantizerHelper {
      *
      * @param request         Training request.
      * @param sampledIndices  Sampled vector indices.
+     * @param rotation        Rotation applied to each vector before it is accumulated.
      * @return Pair of (means[], stdDevs[]).
      * @throws IOException if vector access fails.
      */
-    public static Pair<float[], float[]> calculateMeanAndStdDev(
+    static Pair<float[], float[]> calculateMeanAndStdDev(
         TrainingRequest<float[]> request,
         int[] sampledIndices,
-        float[][] rotationMatrix
+        UnaryOperator<float[]> rotation
     ) throws IOException {
         float[] mean = null;
         float[] m2 = null;
@@ -198,9 +246,7 @@ class QuantizerHelper {
                 throw new IllegalArgumentException("Vector at sampled index " + docId + " is null.");
             }
 
-            if (rotationMatrix != null) {
-                vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-            }
+            vector = rotation.apply(vector);
 
             if (mean == null) {
                 mean = new float[vector.length];
@@ -228,11 +274,11 @@ class QuantizerHelper {
         return new Pair<>(mean, stdDev);
     }
 
-    protected static Pair<float[], float[]> calculateBelowAboveThresholdMeans(
+    static Pair<float[], float[]> calculateBelowAboveThresholdMeans(
         TrainingRequest<float[]> request,
         float[] thresholds,
         int[] sampledIndices,
-        float[][] rotationMatrix
+        UnaryOperator<float[]> rotation
     ) throws IOException {
         int dim = thresholds.length;
         float[] below = new float[dim], above = new float[dim];
@@ -246,9 +292,7 @@ class QuantizerHelper {
             }
 
             // we may also need to rotate the vector here.
-            if (rotationMatrix != null) {
-                vector = RandomGaussianRotation.applyRotation(vector, rotationMatrix);
-            }
+            vector = rotation.apply(vector);
 
             for (int d = 0; d < dim; d++) {
                 if (vector[d] <= thresholds[d]) {
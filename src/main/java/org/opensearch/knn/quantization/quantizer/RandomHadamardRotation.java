@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.opensearch.knn.common.KNNConstants.QUANTIZATION_RANDOM_ROTATION_DEFAULT_SEED;
+
+/**
+ * Structured random rotation built from rounds of random sign flips, each followed by a normalized Walsh-Hadamard transform.
+ * Like the dense matrix of {@link RandomGaussianRotation}, it smooths the data so each dimension has roughly equal variance:
+ * every entry of a normalized Hadamard matrix has magnitude 1/sqrt(d), so after a random sign flip each rotated coordinate is
+ * an equally weighted random combination of all input coordinates. Unlike the dense matrix, a rotation only needs the sign
+ * flips as state, O(d) instead of O(d²), and is applied in place with the fast Walsh-Hadamard transform in O(d log d).
+ * <p>
+ * The Hadamard transform is only defined for powers of two. For other dimensions, every round transforms the leading and then
+ * the trailing block of the largest power of two that fits, which overlap, so all coordinates are mixed. Both transforms are
+ * preceded by their own sign flips, otherwise the second transform would partly undo the first. Each step is orthogonal, hence
+ * the rotation preserves norms and distances.
+ * <p>
+ * The sign flips are sampled from an RNG seeded with QUANTIZATION_RANDOM_ROTATION_DEFAULT_SEED to achieve reproducible
+ * rotations across different indexing runs.
+ */
+@EqualsAndHashCode
+public final class RandomHadamardRotation implements Writeable {
+
+    // Rounds of sign flips and transforms; a single round leaves coordinates correlated for vectors with few large entries
+    static final int DEFAULT_ROUNDS = 3;
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(RandomHadamardRotation.class);
+
+    @Getter
+    private final int dimensions;
+    // signs[step][i] is either 1 or -1, steps alternate between the leading and the trailing block
+    private final float[][] signs;
+
+    private RandomHadamardRotation(final int dimensions, final float[][] signs) {
+        this.dimensions = dimensions;
+        this.signs = signs;
+    }
+
+    /**
+     * Generates a random rotation for vectors of the given dimension.
+     *
+     * @param dimensions The number of dimensions of the rotated vectors.
+     * @return The rotation.
+     */
+    public static RandomHadamardRotation generate(final int dimensions) {
+        if (dimensions <= 0) {
+            throw new IllegalArgumentException("Dimensions must be greater than zero.");
+        }
+        final Random random = new Random(QUANTIZATION_RANDOM_ROTATION_DEFAULT_SEED);
+        final int steps = Integer.bitCount(dimensions) == 1 ? DEFAULT_ROUNDS : 2 * DEFAULT_ROUNDS;
+        final float[][] signs = new float[steps][dimensions];
+        for (float[] stepSigns : signs) {
+            for (int i = 0; i < dimensions; i++) {
+                stepSigns[i] = random.nextBoolean() ? 1f : -1f;
+            }
+        }
+        return new RandomHadamardRotation(dimensions, signs);
+    }
+
+    /**
+     * Reads a rotation written with {@link #writeTo(StreamOutput)}.
+     *
+     * @param in the StreamInput to read the rotation from.
+     * @throws IOException if an I/O error occurs during deserialization.
+     */
+    public RandomHadamardRotation(final StreamInput in) throws IOException {
+        this.dimensions = in.readVInt();
+        final int steps = in.readVInt();
+        this.signs = new float[steps][dimensions];
+        for (float[] stepSigns : signs) {
+            final long[] bits = in.readLongArray();
+            for (int i = 0; i < dimensions; i++) {
+                stepSigns[i] = (bits[i >>> 6] & (1L << i)) != 0 ? -1f : 1f;
+            }
+        }
+    }
+
+    /**
+     * Writes the rotation, the sign flips of every step are packed into bits.
+     *
+     * @param out the StreamOutput to write the rotation to.
+     * @throws IOException if an I/O error occurs during serialization.
+     */
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeVInt(dimensions);
+        out.writeVInt(signs.length);
+        for (float[] stepSigns : signs) {
+            final long[] bits = new long[(dimensions + Long.SIZE - 1) >>> 6];
+            for (int i = 0; i < dimensions; i++) {
+                if (stepSigns[i] < 0) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+            }
+            out.writeLongArray(bits);
+        }
+    }
+
+    /**
+     * Rotates a vector in place.
+     *
+     * @param vector The vector to rotate, modified in place.
+     */
+    public void rotate(final float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Vector dimension [%d] does not match rotation dimension [%d]", vector.length, dimensions)
+            );
+        }
+        final int blockSize = Integer.highestOneBit(dimensions);
+        for (int step = 0; step < signs.length; step++) {
+            final float[] stepSigns = signs[step];
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] *= stepSigns[i];
+            }
+            // Both blocks are the whole vector if the dimension is a power of two
+            transform(vector, step % 2 == 0 ? 0 : dimensions - blockSize, blockSize);
+        }
+    }
+
+    /**
+     * @return The estimated memory usage of the rotation in bytes.
+     */
+    public long ramBytesUsed() {
+        long size = SHALLOW_SIZE + RamUsageEstimator.shallowSizeOf(signs);
+        for (float[] stepSigns : signs) {
+            size += RamUsageEstimator.sizeOf(stepSigns);
+        }
+        return size;
+    }
+
+    /**
+     * Applies the normalized fast Walsh-Hadamard transform to a block of the vector in place.
+     *
+     * @param vector The vector to transform.
+     * @param offset The start of the block.
+     * @param length The length of the block, a power of two.
+     */
+    private static void transform(final float[] vector, final int offset, final int length) {
+        final int end = offset + length;
+        for (int half = 1; half < length; half <<= 1) {
+            for (int start = offset; start < end; start += half << 1) {
+                for (int i = start; i < start + half; i++) {
+                    final float a = vector[i];
+                    final float b = vector[i + half];
+                    vector[i] = a + b;
+                    vector[i + half] = a - b;
+                }
+            }
+        }
+        final float scale = (float) (1.0 / Math.sqrt(length));
+        for (int i = offset; i < end; i++) {
+            vector[i] *= scale;
+        }
+    }
+}
@@ -13,6 +13,8 @@ package org.opensearch.knn.training;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.knn.index.KNNVectorDocValueFormat;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.jni.JNICommons;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
@@ -60,7 +62,7 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
             trainingDataAllocation.setMemoryAddress(
                 JNICommons.storeVectorData(
                     trainingDataAllocation.getMemoryAddress(),
-                    floats.stream().map(v -> ArrayUtils.toPrimitive((Float[]) v)).toArray(float[][]::new),
+                    floats.stream().map(FloatTrainingDataConsumer::toFloatArray).toArray(float[][]::new),
                     floats.size()
                 )
             );
@@ -70,17 +72,30 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
     @Override
     public void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName) {
         SearchHit[] hits = searchResponse.getHits().getHits();
-        List<Float[]> vectors = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
         String[] fieldPath = fieldName.split("\\.");
 
         for (int vector = 0; vector < vectorsToAdd; vector++) {
+            // Vectors requested as docvalue_fields are returned base64 encoded, see KNNVectorDocValueFormat
+            DocumentField docValueField = hits[vector].field(fieldName);
+            if (docValueField != null) {
+                if (docValueField.getValue() instanceof String encodedVector) {
+                    vectors.add(KNNVectorDocValueFormat.decodeFromBinary(encodedVector));
+                }
+                continue;
+            }
+
             Object fieldValue = extractFieldValue(hits[vector], fieldPath);
             if (!(fieldValue instanceof List<?>)) {
                 continue;
             }
 
             List<Number> fieldList = (List<Number>) fieldValue;
-            vectors.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
+            float[] floats = new float[fieldList.size()];
+            for (int i = 0; i < floats.length; i++) {
+                floats[i] = fieldList.get(i).floatValue();
+            }
+            vectors.add(floats);
         }
 
         setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
@@ -88,6 +103,11 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         accept(vectors);
     }
 
+    @Override
+    public boolean isDocValueFieldsSupported() {
+        return true;
+    }
+
     private List<byte[]> quantizeVectors(List<?> vectors) throws IOException {
         List<byte[]> bytes = new ArrayList<>();
         ScalarQuantizationParams quantizationParams = ScalarQuantizationParams.builder()
@@ -98,7 +118,7 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         TrainingRequest<float[]> trainingRequest = new TrainingRequest<float[]>(vectors.size()) {
             @Override
             public float[] getVectorAtThePosition(int position) {
-                return ArrayUtils.toPrimitive((Float[]) vectors.get(position));
+                return toFloatArray(vectors.get(position));
             }
 
             @Override
@@ -111,13 +131,18 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         QuantizationState quantizationState = quantizer.train(trainingRequest);
         BinaryQuantizationOutput binaryQuantizationOutput = new BinaryQuantizationOutput(quantizationConfig.getQuantizationType().getId());
         for (int i = 0; i < vectors.size(); i++) {
-            quantizer.quantize(ArrayUtils.toPrimitive((Float[]) vectors.get(i)), quantizationState, binaryQuantizationOutput);
+            quantizer.quantize(toFloatArray(vectors.get(i)), quantizationState, binaryQuantizationOutput);
             bytes.add(binaryQuantizationOutput.getQuantizedVectorCopy());
         }
 
         return bytes;
     }
 
+    // Vectors are float[] when read by processTrainingVectors, accept also takes the boxed Float[] vectors of older callers
+    private static float[] toFloatArray(Object vector) {
+        return vector instanceof float[] floats ? floats : ArrayUtils.toPrimitive((Float[]) vector);
+    }
+
     private boolean isValidFloatsAndQuantizationConfig(List<?> floats) {
         return floats != null && floats.isEmpty() == false && quantizationConfig != null && quantizationConfig != QuantizationConfig.EMPTY;
     }
@@ -44,6 +44,17 @@ public abstract class TrainingDataConsumer {
 
     public abstract void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName);
 
+    /**
+     * Whether the consumer can read training vectors from docvalue_fields of the search hits instead of from _source. Doc
+     * values of a vector field are read from the vector values of the segments on the data nodes, which avoids loading and
+     * parsing the _source of every training document.
+     *
+     * @return true if vectors can be read from docvalue_fields
+     */
+    public boolean isDocValueFieldsSupported() {
+        return false;
+    }
+
     /**
      * Traverses the hit to the desired field and extracts its value.
      *
@@ -53,6 +64,9 @@ public abstract class TrainingDataConsumer {
      */
     protected Object extractFieldValue(SearchHit hit, String[] fieldPath) {
         Map<String, Object> currentMap = hit.getSourceAsMap();
+        if (currentMap == null) {
+            return null;
+        }
         for (int pathPart = 0; pathPart < fieldPath.length - 1; pathPart++) {
             currentMap = (Map<String, Object>) currentMap.get(fieldPath[pathPart]);
             if (currentMap == null) {
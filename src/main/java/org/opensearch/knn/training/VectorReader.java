@@ -13,6 +13,7 @@ package org.opensearch.knn.training;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.Version;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
@@ -23,6 +24,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ValidationException;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.knn.index.KNNVectorDocValueFormat;
 import org.opensearch.knn.index.util.IndexUtil;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.sort.SortOrder;
@@ -111,10 +113,16 @@ public class VectorReader {
             searchScrollRequestBuilder
         );
 
-        createSearchRequestBuilder(indexName, fieldName, Integer.min(maxVectorCount, searchSize)).execute(vectorReaderListener);
+        // Nodes before 3.7.0 cannot return knn_vector fields as docvalue_fields
+        boolean useDocValueFields = vectorConsumer.isDocValueFieldsSupported()
+            && clusterService.state().nodes().getMinNodeVersion().onOrAfter(Version.V_3_7_0);
+
+        createSearchRequestBuilder(indexName, fieldName, Integer.min(maxVectorCount, searchSize), useDocValueFields).execute(
+            vectorReaderListener
+        );
     }
 
-    private SearchRequestBuilder createSearchRequestBuilder(String indexName, String fieldName, int resultSize) {
+    private SearchRequestBuilder createSearchRequestBuilder(String indexName, String fieldName, int resultSize, boolean useDocValueFields) {
         ExistsQueryBuilder queryBuilder = new ExistsQueryBuilder(fieldName);
 
         SearchRequestBuilder searchRequestBuilder = client.prepareSearch(indexName);
@@ -123,8 +131,14 @@ public class VectorReader {
         searchRequestBuilder.setSize(resultSize);
         searchRequestBuilder.addSort("_doc", SortOrder.ASC);
 
-        // We are only interested in reading vectors from a particular field
-        searchRequestBuilder.setFetchSource(fieldName, null);
+        // We are only interested in reading vectors from a particular field. Doc values are read from the vector values
+        // of the segments and returned base64 encoded, instead of loading, parsing and filtering the _source of every hit.
+        if (useDocValueFields) {
+            searchRequestBuilder.addDocValueField(fieldName, KNNVectorDocValueFormat.FORMAT_BINARY);
+            searchRequestBuilder.setFetchSource(false);
+        } else {
+            searchRequestBuilder.setFetchSource(fieldName, null);
+        }
 
         return searchRequestBuilder;
     }
@@ -95,6 +95,14 @@ public class KNNVectorDocValueFormatTests extends KNNTestCase {
         assertEquals("Byte 3 should be 0x3F (little-endian)", (byte) 0x3F, decoded[3]);
     }
 
+    public void testDecodeFromBinary() {
+        float[] vector = { -1.5f, -100.0f, 0.0f, Float.MAX_VALUE, Float.MIN_VALUE };
+        assertArrayEquals(vector, KNNVectorDocValueFormat.decodeFromBinary(KNNVectorDocValueFormat.encodeToBinary(vector)), 0.0f);
+
+        float[] empty = {};
+        assertArrayEquals(empty, KNNVectorDocValueFormat.decodeFromBinary(KNNVectorDocValueFormat.encodeToBinary(empty)), 0.0f);
+    }
+
     public void testToString() {
         assertEquals("ARRAY_FORMAT toString mismatch", "knn_vector(array)", KNNVectorDocValueFormat.ARRAY_FORMAT.toString());
         assertEquals("BINARY_FORMAT toString mismatch", "knn_vector(binary)", KNNVectorDocValueFormat.BINARY_FORMAT.toString());
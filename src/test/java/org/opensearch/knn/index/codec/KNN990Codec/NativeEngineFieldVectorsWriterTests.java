@@ -17,10 +17,13 @@ import org.apache.lucene.index.DocsWithFieldSet;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.util.InfoStream;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.junit.Assert;
 import org.mockito.Mockito;
 import org.opensearch.knn.index.codec.KNNCodecTestCase;
 
+import java.util.List;
+
 public class NativeEngineFieldVectorsWriterTests extends KNNCodecTestCase {
 
     @SuppressWarnings("unchecked")
@@ -63,6 +66,7 @@ public class NativeEngineFieldVectorsWriterTests extends KNNCodecTestCase {
         final float[] vec2 = new float[] { 2.0f, 2.0f };
         Mockito.doNothing().when(mockedFlatFieldVectorsWriter).addValue(1, vec1);
         Mockito.doNothing().when(mockedFlatFieldVectorsWriter).addValue(2, vec2);
+        Mockito.when(mockedFlatFieldVectorsWriter.getVectors()).thenReturn(List.of(vec1, vec2));
         final NativeEngineFieldVectorsWriter<float[]> floatWriter = (NativeEngineFieldVectorsWriter<float[]>) NativeEngineFieldVectorsWriter
             .create(fieldInfo, mockedFlatFieldVectorsWriter, InfoStream.getDefault());
         floatWriter.addValue(1, vec1);
@@ -70,8 +74,9 @@ public class NativeEngineFieldVectorsWriterTests extends KNNCodecTestCase {
         Mockito.verify(mockedFlatFieldVectorsWriter).addValue(1, vec1);
         Mockito.verify(mockedFlatFieldVectorsWriter).addValue(2, vec2);
 
-        Assert.assertEquals(vec1, floatWriter.getVectors().get(1));
-        Assert.assertEquals(vec2, floatWriter.getVectors().get(2));
+        // Vectors are read from the flat field vectors writer, by ordinal
+        Assert.assertEquals(vec1, floatWriter.getVectors().get(0));
+        Assert.assertEquals(vec2, floatWriter.getVectors().get(1));
         Mockito.verify(fieldInfo).getVectorEncoding();
 
         Mockito.when(fieldInfo.getVectorEncoding()).thenReturn(VectorEncoding.BYTE);
@@ -80,13 +85,14 @@ public class NativeEngineFieldVectorsWriterTests extends KNNCodecTestCase {
         final byte[] bvec2 = new byte[] { 2, 2 };
         Mockito.doNothing().when(mockedFlatFieldByteVectorsWriter).addValue(1, bvec1);
         Mockito.doNothing().when(mockedFlatFieldByteVectorsWriter).addValue(2, bvec2);
+        Mockito.when(mockedFlatFieldByteVectorsWriter.getVectors()).thenReturn(List.of(bvec1, bvec2));
         final NativeEngineFieldVectorsWriter<byte[]> byteWriter = (NativeEngineFieldVectorsWriter<byte[]>) NativeEngineFieldVectorsWriter
             .create(fieldInfo, mockedFlatFieldByteVectorsWriter, InfoStream.getDefault());
         byteWriter.addValue(1, bvec1);
         byteWriter.addValue(2, bvec2);
 
-        Assert.assertEquals(bvec1, byteWriter.getVectors().get(1));
-        Assert.assertEquals(bvec2, byteWriter.getVectors().get(2));
+        Assert.assertEquals(bvec1, byteWriter.getVectors().get(0));
+        Assert.assertEquals(bvec2, byteWriter.getVectors().get(1));
         Mockito.verify(fieldInfo, Mockito.times(2)).getVectorEncoding();
         Mockito.verify(mockedFlatFieldByteVectorsWriter).addValue(1, bvec1);
         Mockito.verify(mockedFlatFieldByteVectorsWriter).addValue(2, bvec2);
@@ -129,4 +135,26 @@ public class NativeEngineFieldVectorsWriterTests extends KNNCodecTestCase {
         Assert.assertTrue(byteWriter.ramBytesUsed() > 0);
         Mockito.verify(mockedFlatFieldVectorsWriter, Mockito.times(2)).ramBytesUsed();
     }
+
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    public void testRamByteUsed_whenVectorsAdded_thenVectorsAreCountedOnce() {
+        final FieldInfo fieldInfo = Mockito.mock(FieldInfo.class);
+        Mockito.when(fieldInfo.getVectorEncoding()).thenReturn(VectorEncoding.FLOAT32);
+        Mockito.when(fieldInfo.getVectorDimension()).thenReturn(128);
+        final FlatFieldVectorsWriter<float[]> mockedFlatFieldVectorsWriter = Mockito.mock(FlatFieldVectorsWriter.class);
+        final NativeEngineFieldVectorsWriter<float[]> floatWriter = (NativeEngineFieldVectorsWriter<float[]>) NativeEngineFieldVectorsWriter
+            .create(fieldInfo, mockedFlatFieldVectorsWriter, InfoStream.getDefault());
+        for (int docId = 0; docId < 100; docId++) {
+            floatWriter.addValue(docId, new float[128]);
+        }
+        final long flatWriterBytes = 100L * 128 * Float.BYTES;
+        Mockito.when(mockedFlatFieldVectorsWriter.ramBytesUsed()).thenReturn(flatWriterBytes);
+
+        // The flat field vectors writer holds the only copy of the vectors and accounts for it
+        Assert.assertEquals(
+            RamUsageEstimator.shallowSizeOfInstance(NativeEngineFieldVectorsWriter.class) + flatWriterBytes,
+            floatWriter.ramBytesUsed()
+        );
+    }
 }
@@ -43,6 +43,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -179,7 +180,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -219,7 +224,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -268,7 +273,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(quantizationParams);
@@ -324,7 +333,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -378,7 +387,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSupplier.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -453,7 +466,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -528,7 +545,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -612,7 +633,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(null);
@@ -699,7 +724,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(quantizationParams);
@@ -751,7 +780,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -809,7 +838,11 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
 
                 DocsWithFieldSet docsWithFieldSet = field.getFlatFieldVectorsWriter().getDocsWithFieldSet();
                 knnVectorValuesFactoryMockedStatic.when(
-                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(VectorDataType.FLOAT, docsWithFieldSet, vectorsPerField.get(i))
+                    () -> KNNVectorValuesFactory.getVectorValuesSupplier(
+                        VectorDataType.FLOAT,
+                        docsWithFieldSet,
+                        vectorsList(vectorsPerField.get(i))
+                    )
                 ).thenReturn(expectedVectorValuesSuppliers.get(i));
 
                 when(quantizationService.getQuantizationParams(fieldInfo)).thenReturn(quantizationParams);
@@ -861,7 +894,7 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
                 () -> KNNVectorValuesFactory.getVectorValuesSupplier(
                     any(VectorDataType.class),
                     any(DocsWithFieldSet.class),
-                    any(Map.class)
+                    any(List.class)
                 ),
                 times(Math.toIntExact(expectedTimesGetVectorValuesIsCalled))
             );
@@ -883,9 +916,14 @@ public class NativeEngines990KnnVectorsWriterFlushTests extends OpenSearchTestCa
         DocsWithFieldSet docsWithFieldSet = new DocsWithFieldSet();
         vectors.keySet().stream().sorted().forEach(docsWithFieldSet::add);
         when(fieldVectorsWriter.getFieldInfo()).thenReturn(fieldInfo);
-        when(fieldVectorsWriter.getVectors()).thenReturn(vectors);
+        when(fieldVectorsWriter.getVectors()).thenReturn(vectorsList(vectors));
         when(fieldVectorsWriter.getFlatFieldVectorsWriter()).thenReturn(flatFieldVectorsWriter);
         when(flatFieldVectorsWriter.getDocsWithFieldSet()).thenReturn(docsWithFieldSet);
         return fieldVectorsWriter;
     }
+
+    // Vectors as buffered by the flat field vectors writer, in increasing doc id order
+    private static <T> List<T> vectorsList(Map<Integer, T> vectors) {
+        return new ArrayList<>(new TreeMap<>(vectors).values());
+    }
 }
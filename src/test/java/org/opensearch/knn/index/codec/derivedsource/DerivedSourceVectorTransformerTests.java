@@ -10,9 +10,13 @@ import org.apache.lucene.index.SegmentReadState;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -116,6 +120,53 @@ public class DerivedSourceVectorTransformerTests extends OpenSearchTestCase {
         );
     }
 
+    public void testInjectVectors_whenSourceHasMaskedVectors_thenSplicesVectorsInPlace() throws IOException {
+        DerivedSourceVectorTransformer transformer = createTransformerWithFields();
+        transformer.perFieldDerivedVectorTransformers.put("test_vector", vectorWriter(new float[] { 1.5f, -2f }));
+        transformer.perFieldDerivedVectorTransformers.put("nested.vector", vectorWriter(new float[] { 3f }, new float[] { 4f }));
+        transformer.initialize(null, null);
+
+        String source = "{\"title\":\"a\",\"test_vector\":1,\"nested\":[{\"vector\":1,\"n\":2},{\"n\":3},{\"vector\":1}],"
+            + "\"other\":{\"vector\":1,\"x\":[1,2.5]}}";
+
+        byte[] injected = transformer.injectVectors(0, source.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(
+            "{\"title\":\"a\",\"test_vector\":[1.5,-2.0],\"nested\":[{\"vector\":[3.0],\"n\":2},{\"n\":3},{\"vector\":[4.0]}],"
+                + "\"other\":{\"vector\":1,\"x\":[1,2.5]}}",
+            new String(injected, StandardCharsets.UTF_8)
+        );
+    }
+
+    public void testInjectVectors_whenVectorFieldIsNull_thenKeepsNull() throws IOException {
+        DerivedSourceVectorTransformer transformer = createTransformerWithFields();
+        transformer.perFieldDerivedVectorTransformers.put("test_vector", vectorWriter());
+        transformer.initialize(null, null);
+
+        String source = "{\"test_vector\":null,\"n\":1}";
+
+        byte[] injected = transformer.injectVectors(0, source.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(source, new String(injected, StandardCharsets.UTF_8));
+    }
+
+    private static PerFieldDerivedVectorTransformer vectorWriter(float[]... vectors) {
+        Iterator<float[]> iterator = Arrays.asList(vectors).iterator();
+        return new PerFieldDerivedVectorTransformer() {
+            @Override
+            public void setCurrentDoc(int offset, int docId) {}
+
+            @Override
+            public void writeVector(XContentBuilder builder) throws IOException {
+                builder.startArray();
+                for (float value : iterator.next()) {
+                    builder.value(value);
+                }
+                builder.endArray();
+            }
+        };
+    }
+
     private void assertFieldFiltering(String[] includes, String[] excludes, String[] expectedPresent, String[] expectedAbsent) {
         DerivedSourceVectorTransformer transformer = createTransformerWithFields(ALL_FIELDS);
         transformer.initialize(includes, excludes);
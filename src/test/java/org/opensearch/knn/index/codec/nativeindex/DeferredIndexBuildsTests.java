@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DeferredIndexBuildsTests extends KNNTestCase {
+
+    public void testCompleteAll_thenCompletesInOrderAndClosesOutputs() throws IOException {
+        IndexOutput firstOutput = mock(IndexOutput.class);
+        IndexOutput secondOutput = mock(IndexOutput.class);
+        List<String> completed = new ArrayList<>();
+        List<String> cancelled = new ArrayList<>();
+
+        DeferredIndexBuilds deferredIndexBuilds = new DeferredIndexBuilds();
+        deferredIndexBuilds.add(firstOutput, () -> completed.add("first"), () -> cancelled.add("first"));
+        deferredIndexBuilds.add(secondOutput, () -> completed.add("second"), () -> cancelled.add("second"));
+        assertTrue(completed.isEmpty());
+
+        deferredIndexBuilds.completeAll();
+        deferredIndexBuilds.close();
+
+        assertEquals(List.of("first", "second"), completed);
+        assertTrue(cancelled.isEmpty());
+        verify(firstOutput).close();
+        verify(secondOutput).close();
+    }
+
+    public void testCompleteAll_whenCompletionFails_thenCancelsRemainingBuilds() throws IOException {
+        IndexOutput firstOutput = mock(IndexOutput.class);
+        IndexOutput secondOutput = mock(IndexOutput.class);
+        List<String> completed = new ArrayList<>();
+        List<String> cancelled = new ArrayList<>();
+
+        DeferredIndexBuilds deferredIndexBuilds = new DeferredIndexBuilds();
+        deferredIndexBuilds.add(firstOutput, () -> {
+            throw new IOException("failed");
+        }, () -> cancelled.add("first"));
+        deferredIndexBuilds.add(secondOutput, () -> completed.add("second"), () -> cancelled.add("second"));
+
+        expectThrows(IOException.class, deferredIndexBuilds::completeAll);
+
+        assertTrue(completed.isEmpty());
+        assertEquals(List.of("second"), cancelled);
+        verify(firstOutput).close();
+        verify(secondOutput).close();
+    }
+
+    public void testClose_thenCancelsBuildsAndClosesOutputsWithoutCompleting() throws IOException {
+        IndexOutput output = mock(IndexOutput.class);
+        List<String> completed = new ArrayList<>();
+        List<String> cancelled = new ArrayList<>();
+
+        DeferredIndexBuilds deferredIndexBuilds = new DeferredIndexBuilds();
+        deferredIndexBuilds.add(output, () -> completed.add("first"), () -> cancelled.add("first"));
+        deferredIndexBuilds.close();
+        deferredIndexBuilds.completeAll();
+
+        assertTrue(completed.isEmpty());
+        assertEquals(List.of("first"), cancelled);
+        verify(output, times(1)).close();
+    }
+
+    public void testClose_whenCancellationFails_thenCancelsOtherBuilds() throws IOException {
+        IndexOutput firstOutput = mock(IndexOutput.class);
+        IndexOutput secondOutput = mock(IndexOutput.class);
+        List<String> cancelled = new ArrayList<>();
+
+        DeferredIndexBuilds deferredIndexBuilds = new DeferredIndexBuilds();
+        deferredIndexBuilds.add(firstOutput, () -> {}, () -> {
+            throw new IllegalStateException("failed");
+        });
+        deferredIndexBuilds.add(secondOutput, () -> {}, () -> cancelled.add("second"));
+        deferredIndexBuilds.close();
+
+        assertEquals(List.of("second"), cancelled);
+        verify(firstOutput).close();
+        verify(secondOutput).close();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IndexInput;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.index.store.IndexOutputWithBuffer;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.index.vectorvalues.TestVectorValues;
+import org.opensearch.knn.jni.JNIService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+public class IncrementalMergeIndexBuildStrategyTests extends OpenSearchTestCase {
+
+    private static final Map<String, Object> PARAMETERS = Map.of("index", "param");
+
+    @SneakyThrows
+    public void testBuildAndWrite_thenInsertsOnlyVectorsMissingFromBaseGraph() {
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 }, new float[] { 4, 5 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<float[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        // The first two docs come from the base segment
+        final Directory directory = mock(Directory.class);
+        when(directory.openInput(eq("_0_165_field.faiss"), any())).thenReturn(mock(IndexInput.class));
+        final MergeBaseGraph baseGraph = new MergeBaseGraph(directory, "_0_165_field.faiss", 2, 2);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.loadIndex(any(IndexInputWithBuffer.class), eq(PARAMETERS), eq(KNNEngine.FAISS)))
+                .thenReturn(100L);
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 2))
+                .thenReturn(offHeapVectorTransfer);
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(false).thenReturn(true);
+            when(offHeapVectorTransfer.flush(false)).thenReturn(false);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+            IndexOutputWithBuffer indexOutputWithBuffer = mock(IndexOutputWithBuffer.class);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(PARAMETERS)
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs(vectorValues.size())
+                .build();
+
+            new IncrementalMergeIndexBuildStrategy(baseGraph).buildAndWriteIndex(buildIndexParams);
+
+            mockedJNIService.verify(() -> JNIService.initIndex(anyLong(), Mockito.anyInt(), any(), any()), never());
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(eq(new int[] { 2, 3 }), eq(200L), eq(2), eq(PARAMETERS), eq(100L), eq(KNNEngine.FAISS))
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(PARAMETERS), eq(false))
+            );
+            mockedJNIService.verify(() -> JNIService.free(anyLong(), any(), Mockito.anyBoolean()), never());
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenWriteFails_thenFreesIndex() {
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<float[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        final Directory directory = mock(Directory.class);
+        when(directory.openInput(eq("_0_165_field.faiss"), any())).thenReturn(mock(IndexInput.class));
+        final MergeBaseGraph baseGraph = new MergeBaseGraph(directory, "_0_165_field.faiss", 2, 2);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.loadIndex(any(IndexInputWithBuffer.class), eq(PARAMETERS), eq(KNNEngine.FAISS)))
+                .thenReturn(100L);
+            IndexOutputWithBuffer indexOutputWithBuffer = mock(IndexOutputWithBuffer.class);
+            mockedJNIService.when(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(PARAMETERS), eq(false))
+            ).thenThrow(new RuntimeException("Failed to write"));
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 1))
+                .thenReturn(offHeapVectorTransfer);
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(1);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(true);
+            when(offHeapVectorTransfer.flush(false)).thenReturn(false);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(PARAMETERS)
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs(vectorValues.size())
+                .build();
+
+            expectThrows(
+                RuntimeException.class,
+                () -> new IncrementalMergeIndexBuildStrategy(baseGraph).buildAndWriteIndex(buildIndexParams)
+            );
+
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(eq(new int[] { 2 }), eq(200L), eq(2), eq(PARAMETERS), eq(100L), eq(KNNEngine.FAISS))
+            );
+            mockedJNIService.verify(() -> JNIService.free(100L, KNNEngine.FAISS, false));
+        }
+    }
+}
@@ -9,6 +9,8 @@ import lombok.SneakyThrows;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
@@ -23,15 +25,18 @@ import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.INDEX_BUILD_THREAD_POOL;
 
 public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCase {
 
@@ -258,4 +263,98 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
             }
         }
     }
+
+    @SneakyThrows
+    public void testBuildAndWrite_whenPipelinedTransferEnabled_thenBuffersAlternate() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        // Runs the inserts on the calling thread, where the static mocks are active
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(INDEX_BUILD_THREAD_POOL)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        MemOptimizedNativeIndexBuildStrategy.setThreadPool(threadPool);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<KNNSettings> mockedKNNSettings = Mockito.mockStatic(KNNSettings.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedKNNSettings.when(KNNSettings::isIndexBuildPipelinedTransferEnabled).thenReturn(true);
+            mockedJNIService.when(() -> JNIService.initIndex(3, 2, Map.of("index", "param"), KNNEngine.FAISS)).thenReturn(100L);
+
+            // Limits transfer to 2 vectors per buffer
+            OffHeapVectorTransfer firstVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(firstVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(firstVectorTransfer.transfer(any(), eq(false))).thenReturn(false).thenReturn(true);
+            when(firstVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            OffHeapVectorTransfer secondVectorTransfer = mock(OffHeapVectorTransfer.class);
+            when(secondVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(secondVectorTransfer.transfer(any(), eq(false))).thenReturn(false);
+            when(secondVectorTransfer.flush(false)).thenReturn(true);
+            when(secondVectorTransfer.getVectorAddress()).thenReturn(300L);
+
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 3))
+                .thenReturn(firstVectorTransfer)
+                .thenReturn(secondVectorTransfer);
+
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .indexParameters(Map.of("index", "param"))
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then
+            verify(firstVectorTransfer, times(2)).transfer(any(), eq(false));
+            verify(secondVectorTransfer, times(1)).transfer(any(), eq(false));
+            verify(firstVectorTransfer, times(0)).flush(false);
+
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 0, 1 }),
+                    eq(200L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 2 }),
+                    eq(300L),
+                    eq(2),
+                    eq(Map.of("index", "param")),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(
+                    eq(indexOutputWithBuffer),
+                    eq(100L),
+                    eq(KNNEngine.FAISS),
+                    eq(Map.of("index", "param")),
+                    eq(false)
+                )
+            );
+            verify(firstVectorTransfer).close();
+            verify(secondVectorTransfer).close();
+        } finally {
+            MemOptimizedNativeIndexBuildStrategy.setThreadPool(null);
+        }
+    }
 }
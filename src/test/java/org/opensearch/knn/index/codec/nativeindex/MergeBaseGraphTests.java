@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.hnsw.FlatVectorsReader;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.search.AcceptDocs;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.InfoStream;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.KNNCodecTestUtil;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MergeBaseGraphTests extends KNNTestCase {
+
+    private static final String FIELD_NAME = "field";
+    private static final String GRAPH_FILE_NAME = "_0_165_field.faiss";
+
+    @SneakyThrows
+    public void testFind_whenFirstSegmentIsEligible_thenReturnsItsGraph() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.FAISS);
+        final Directory directory = mock(Directory.class);
+        final KnnVectorsReader baseReader = createReader(directory, fieldInfo, Set.of(GRAPH_FILE_NAME), 60);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] { baseReader, createReader(mock(Directory.class), fieldInfo, Set.of(), 40) },
+            new Bits[2],
+            false
+        );
+
+        final MergeBaseGraph baseGraph = MergeBaseGraph.find(fieldInfo, mergeState, 100);
+
+        assertNotNull(baseGraph);
+        assertSame(directory, baseGraph.getDirectory());
+        assertEquals(GRAPH_FILE_NAME, baseGraph.getFileName());
+        assertEquals(60, baseGraph.getMaxDoc());
+        assertEquals(60, baseGraph.getNumVectors());
+    }
+
+    @SneakyThrows
+    public void testFind_whenFirstSegmentHasDeletions_thenNull() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.FAISS);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] {
+                createReader(mock(Directory.class), fieldInfo, Set.of(GRAPH_FILE_NAME), 60),
+                createReader(mock(Directory.class), fieldInfo, Set.of(), 40) },
+            new Bits[] { mock(Bits.class), null },
+            false
+        );
+
+        // Dropping deleted docs shifts the doc ids stored in the graph
+        assertNull(MergeBaseGraph.find(fieldInfo, mergeState, 100));
+    }
+
+    @SneakyThrows
+    public void testFind_whenMergeSortsIndex_thenNull() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.FAISS);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] {
+                createReader(mock(Directory.class), fieldInfo, Set.of(GRAPH_FILE_NAME), 60),
+                createReader(mock(Directory.class), fieldInfo, Set.of(), 40) },
+            new Bits[2],
+            true
+        );
+
+        assertNull(MergeBaseGraph.find(fieldInfo, mergeState, 100));
+    }
+
+    @SneakyThrows
+    public void testFind_whenFirstSegmentHoldsTooFewVectors_thenNull() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.FAISS);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] {
+                createReader(mock(Directory.class), fieldInfo, Set.of(GRAPH_FILE_NAME), 40),
+                createReader(mock(Directory.class), fieldInfo, Set.of(), 60) },
+            new Bits[2],
+            false
+        );
+
+        assertNull(MergeBaseGraph.find(fieldInfo, mergeState, 100));
+    }
+
+    @SneakyThrows
+    public void testFind_whenFirstSegmentHasNoGraph_thenNull() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.FAISS);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] {
+                createReader(mock(Directory.class), fieldInfo, Set.of(), 60),
+                createReader(mock(Directory.class), fieldInfo, Set.of(), 40) },
+            new Bits[2],
+            false
+        );
+
+        // The segment was below the approximate search threshold, so no graph was built for it
+        assertNull(MergeBaseGraph.find(fieldInfo, mergeState, 100));
+    }
+
+    @SneakyThrows
+    public void testFind_whenSingleSegment_thenNull() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.FAISS);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] { createReader(mock(Directory.class), fieldInfo, Set.of(GRAPH_FILE_NAME), 100) },
+            new Bits[1],
+            false
+        );
+
+        assertNull(MergeBaseGraph.find(fieldInfo, mergeState, 100));
+    }
+
+    @SneakyThrows
+    public void testFind_whenNotFaiss_thenNull() {
+        final FieldInfo fieldInfo = createFieldInfo(KNNEngine.LUCENE);
+        final MergeState mergeState = createMergeState(
+            fieldInfo,
+            new KnnVectorsReader[] {
+                createReader(mock(Directory.class), fieldInfo, Set.of(GRAPH_FILE_NAME), 60),
+                createReader(mock(Directory.class), fieldInfo, Set.of(), 40) },
+            new Bits[2],
+            false
+        );
+
+        assertNull(MergeBaseGraph.find(fieldInfo, mergeState, 100));
+    }
+
+    private static FieldInfo createFieldInfo(final KNNEngine knnEngine) {
+        return KNNCodecTestUtil.FieldInfoBuilder.builder(FIELD_NAME)
+            .fieldNumber(0)
+            .addAttribute(KNNVectorFieldMapper.KNN_FIELD, "true")
+            .addAttribute(KNNConstants.KNN_ENGINE, knnEngine.getName())
+            .addAttribute(KNNConstants.VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue())
+            .build();
+    }
+
+    @SneakyThrows
+    private static KnnVectorsReader createReader(
+        final Directory directory,
+        final FieldInfo fieldInfo,
+        final Set<String> files,
+        final int numVectors
+    ) {
+        final SegmentInfo segmentInfo = mock(SegmentInfo.class);
+        when(segmentInfo.files()).thenReturn(files);
+        final FloatVectorValues floatVectorValues = mock(FloatVectorValues.class);
+        when(floatVectorValues.size()).thenReturn(numVectors);
+        final FlatVectorsReader flatVectorsReader = mock(FlatVectorsReader.class);
+        when(flatVectorsReader.getFloatVectorValues(FIELD_NAME)).thenReturn(floatVectorValues);
+        return new TestReader(
+            new SegmentReadState(directory, segmentInfo, new FieldInfos(new FieldInfo[] { fieldInfo }), IOContext.DEFAULT),
+            flatVectorsReader
+        );
+    }
+
+    @SneakyThrows
+    private static MergeState createMergeState(
+        final FieldInfo fieldInfo,
+        final KnnVectorsReader[] readers,
+        final Bits[] liveDocs,
+        final boolean needsIndexSort
+    ) {
+        final int numSegments = readers.length;
+        final MergeState.DocMap[] docMaps = new MergeState.DocMap[numSegments];
+        final int[] maxDocs = new int[numSegments];
+        final FieldInfos[] fieldInfos = new FieldInfos[numSegments];
+        int docBase = 0;
+        for (int s = 0; s < numSegments; s++) {
+            final int base = docBase;
+            docMaps[s] = docID -> base + docID;
+            maxDocs[s] = readers[s].getFloatVectorValues(FIELD_NAME).size();
+            fieldInfos[s] = new FieldInfos(new FieldInfo[] { fieldInfo });
+            docBase += maxDocs[s];
+        }
+        return new MergeState(
+            docMaps,
+            mock(SegmentInfo.class),
+            new FieldInfos(new FieldInfo[] { fieldInfo }),
+            null,
+            null,
+            null,
+            null,
+            fieldInfos,
+            liveDocs,
+            null,
+            null,
+            readers,
+            maxDocs,
+            InfoStream.NO_OUTPUT,
+            Runnable::run,
+            needsIndexSort
+        );
+    }
+
+    /** Minimal native engines reader, whose vectors and segment files are mocked. */
+    private static class TestReader extends AbstractNativeEnginesKnnVectorsReader {
+        TestReader(SegmentReadState state, FlatVectorsReader flatVectorsReader) {
+            super(state, flatVectorsReader);
+        }
+
+        @Override
+        public void search(String field, float[] target, KnnCollector knnCollector, AcceptDocs acceptDocs) {}
+
+        @Override
+        public void search(String field, byte[] target, KnnCollector knnCollector, AcceptDocs acceptDocs) {}
+
+        @Override
+        public ByteVectorValues getByteVectorValues(String field) {
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flatVectorsReader.close();
+        }
+
+        @Override
+        public void warmUp(String fieldName) throws IOException {}
+    }
+}
@@ -23,10 +23,12 @@ import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Random;
+import java.util.zip.GZIPOutputStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -35,6 +37,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
 import static org.opensearch.knn.common.KNNConstants.DOC_ID_FILE_EXTENSION;
+import static org.opensearch.knn.common.KNNConstants.GZIP_FILE_EXTENSION;
 import static org.opensearch.knn.common.KNNConstants.VECTOR_BLOB_FILE_EXTENSION;
 
 public class DefaultVectorRepositoryAccessorTests extends RemoteIndexBuildTests {
@@ -71,6 +74,38 @@ public class DefaultVectorRepositoryAccessorTests extends RemoteIndexBuildTests
         verify(testContainer).writeBlob(eq(BLOB_NAME + DOC_ID_FILE_EXTENSION), any(), eq((long) NUM_DOCS * Integer.BYTES), eq(true));
     }
 
+    /**
+     * Test that the compact format writes half precision vectors and delta encoded doc ids with their encoded lengths
+     */
+    public void testRepositoryInteractionWithCompactFormat() throws IOException, InterruptedException {
+        BlobPath testBasePath = new BlobPath().add("testBasePath");
+        BlobContainer testContainer = Mockito.spy(new TestBlobContainer(mock(FsBlobStore.class), testBasePath, mock(Path.class)));
+
+        VectorRepositoryAccessor objectUnderTest = new DefaultVectorRepositoryAccessor(
+            testContainer,
+            new RemoteBlobFormat(true, true, true)
+        );
+
+        String BLOB_NAME = "test_blob";
+        int NUM_DOCS = 100;
+        objectUnderTest.writeToRepository(BLOB_NAME, NUM_DOCS, VectorDataType.FLOAT, knnVectorValuesSupplier);
+
+        KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
+        initializeVectorValues(knnVectorValues);
+        verify(testContainer).writeBlob(
+            eq(BLOB_NAME + VECTOR_BLOB_FILE_EXTENSION),
+            any(),
+            eq((long) NUM_DOCS * knnVectorValues.dimension() * Short.BYTES),
+            eq(true)
+        );
+        verify(testContainer).writeBlob(
+            eq(BLOB_NAME + DOC_ID_FILE_EXTENSION),
+            any(),
+            eq(DocIdInputStream.deltaEncodedLength(knnVectorValuesSupplier.get())),
+            eq(true)
+        );
+    }
+
     /**
      * Test that whenever an AsyncMultiStreamBlobContainer is used, both asyncBlobUpload and writeBlob are invoked once and only once
      */
@@ -181,4 +216,49 @@ public class DefaultVectorRepositoryAccessorTests extends RemoteIndexBuildTests
         testIndexInput.close();
         directory.close();
     }
+
+    /**
+     * Verify a gzip compressed index file is decompressed when the compact format accepts it, and rejected otherwise
+     */
+    public void testRepositoryReadCompressed() throws IOException {
+        String TEST_FILE_NAME = randomAlphaOfLength(8) + KNNEngine.FAISS.getExtension() + GZIP_FILE_EXTENSION;
+
+        int TEST_ARRAY_SIZE = 64 * 1024 * 10;
+        byte[] byteArray = new byte[TEST_ARRAY_SIZE];
+        new Random().nextBytes(byteArray);
+        ByteArrayOutputStream compressedBytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedBytes)) {
+            gzipOutputStream.write(byteArray);
+        }
+
+        Directory directory = newFSDirectory(createTempDir());
+        String TEST_SEGMENT_NAME = "test-segment-name";
+        IndexOutput testIndexOutput = directory.createOutput(TEST_SEGMENT_NAME, IOContext.DEFAULT);
+        IndexOutputWithBuffer testIndexOutputWithBuffer = new IndexOutputWithBuffer(testIndexOutput);
+
+        BlobContainer mockBlobContainer = mock(BlobContainer.class);
+        when(mockBlobContainer.readBlob(TEST_FILE_NAME)).thenReturn(new ByteArrayInputStream(compressedBytes.toByteArray()));
+
+        // The raw format does not accept compressed index files
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new DefaultVectorRepositoryAccessor(mockBlobContainer).readFromRepository(TEST_FILE_NAME, testIndexOutputWithBuffer)
+        );
+
+        VectorRepositoryAccessor objectUnderTest = new DefaultVectorRepositoryAccessor(
+            mockBlobContainer,
+            new RemoteBlobFormat(false, true, true)
+        );
+        objectUnderTest.readFromRepository(TEST_FILE_NAME, testIndexOutputWithBuffer);
+        testIndexOutput.close();
+
+        IndexInput testIndexInput = directory.openInput(TEST_SEGMENT_NAME, IOContext.DEFAULT);
+        assertEquals(TEST_ARRAY_SIZE, testIndexInput.length());
+        byte[] resultByteArray = new byte[TEST_ARRAY_SIZE];
+        testIndexInput.readBytes(resultByteArray, 0, TEST_ARRAY_SIZE);
+        assertArrayEquals(byteArray, resultByteArray);
+
+        testIndexInput.close();
+        directory.close();
+    }
 }
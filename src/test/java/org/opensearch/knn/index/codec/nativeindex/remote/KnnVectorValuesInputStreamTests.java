@@ -6,6 +6,7 @@
 package org.opensearch.knn.index.codec.nativeindex.remote;
 
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.ByteArrayDataInput;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -18,6 +19,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -263,6 +265,92 @@ public class KnnVectorValuesInputStreamTests extends KNNTestCase {
         assertArrayEquals(bufferRead.array(), bufferReadByByte.array());
     }
 
+    /**
+     * Tests that delta encoded doc ids decode to the doc ids, and that their precomputed length matches the stream
+     */
+    public void testDocIdInputStreamDeltaEncoded() throws IOException {
+        int NUM_DOCS = randomIntBetween(1, 1000);
+
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            getRandomFloatVectors(NUM_DOCS, 1)
+        );
+        final KNNVectorValues<float[]> knnVectorValuesForStream = KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.FLOAT,
+            randomVectorValues
+        );
+        final KNNVectorValues<float[]> knnVectorValuesForLength = KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.FLOAT,
+            randomVectorValues
+        );
+        final KNNVectorValues<float[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+
+        byte[] docIdStreamBytes = new DocIdInputStream(knnVectorValuesForStream, true).readAllBytes();
+        assertEquals(DocIdInputStream.deltaEncodedLength(knnVectorValuesForLength), docIdStreamBytes.length);
+        // Consecutive doc ids need a single byte each
+        assertEquals(NUM_DOCS, docIdStreamBytes.length);
+
+        ByteArrayDataInput dataInput = new ByteArrayDataInput(docIdStreamBytes);
+        initializeVectorValues(knnVectorValues);
+        int previousDocId = 0;
+        int docId = knnVectorValues.docId();
+        while (docId != -1 && docId != DocIdSetIterator.NO_MORE_DOCS) {
+            previousDocId += dataInput.readVInt();
+            assertEquals(docId, previousDocId);
+            docId = knnVectorValues.nextDoc();
+        }
+        assertTrue(dataInput.eof());
+    }
+
+    /**
+     * Tests that half precision float vectors are the fp16 conversion of the vectors, also when read in parts
+     */
+    public void testFloatVectorValuesInputStreamHalfPrecision() throws IOException {
+        int NUM_DOCS = randomIntBetween(1, 100);
+        int NUM_DIMENSION = randomIntBetween(1, 100);
+
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            getRandomFloatVectors(NUM_DOCS, NUM_DIMENSION)
+        );
+        final KNNVectorValues<float[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+        initializeVectorValues(knnVectorValues);
+        ByteBuffer expectedBuffer = ByteBuffer.allocate(NUM_DOCS * NUM_DIMENSION * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int docId = knnVectorValues.docId();
+        while (docId != -1 && docId != DocIdSetIterator.NO_MORE_DOCS) {
+            for (float value : knnVectorValues.getVector()) {
+                expectedBuffer.putShort(Float.floatToFloat16(value));
+            }
+            docId = knnVectorValues.nextDoc();
+        }
+
+        byte[] vectorStreamBytes = new VectorValuesInputStream(
+            KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues),
+            VectorDataType.FLOAT,
+            true
+        ).readAllBytes();
+        assertArrayEquals(expectedBuffer.array(), vectorStreamBytes);
+
+        // The second part starts at a vector boundary of the fp16 blob
+        long firstPartSize = (long) (NUM_DOCS / 2) * NUM_DIMENSION * Short.BYTES;
+        long secondPartSize = vectorStreamBytes.length - firstPartSize;
+        byte[] secondPartBytes = new VectorValuesInputStream(
+            KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues),
+            VectorDataType.FLOAT,
+            true,
+            firstPartSize,
+            secondPartSize
+        ).readAllBytes();
+        assertArrayEquals(Arrays.copyOfRange(vectorStreamBytes, (int) firstPartSize, vectorStreamBytes.length), secondPartBytes);
+
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new VectorValuesInputStream(
+                KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues),
+                VectorDataType.BYTE,
+                true
+            )
+        );
+    }
+
     private List<float[]> getRandomFloatVectors(int numDocs, int dimension) {
         ArrayList<float[]> vectorValues = new ArrayList<>();
         for (int i = 0; i < numDocs; i++) {
@@ -5,6 +5,7 @@
 
 package org.opensearch.knn.index.codec.nativeindex.remote;
 
+import org.mockito.MockedStatic;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobPath;
@@ -29,6 +30,7 @@ import java.util.Map;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_SQ;
@@ -92,6 +94,50 @@ public class RemoteIndexBuildStrategyTests extends RemoteIndexBuildTests {
         }
     }
 
+    /**
+     * Test that a build which could not be submitted only falls back once it is completed
+     */
+    public void testSubmitIndexBuild_whenSubmitFails_thenFallbackOnCompletion() throws IOException {
+        RepositoriesService repositoriesService = mock(RepositoriesService.class);
+        when(repositoriesService.repository(any())).thenThrow(new RepositoryMissingException("Fallback"));
+
+        final SetOnce<Boolean> fallback = new SetOnce<>();
+        RemoteIndexBuildStrategy objectUnderTest = new RemoteIndexBuildStrategy(
+            () -> repositoriesService,
+            new TestIndexBuildStrategy(fallback),
+            mock(IndexSettings.class),
+            null
+        );
+        RemoteIndexBuildStrategy.PendingIndexBuild pendingIndexBuild = objectUnderTest.submitIndexBuild(buildIndexParams);
+        assertNull(fallback.get());
+        assertEquals(1L, (long) KNNRemoteIndexBuildValue.INDEX_BUILD_FAILURE_COUNT.getValue());
+
+        pendingIndexBuild.awaitAndWriteIndex();
+        assertTrue(fallback.get());
+        assertEquals(1L, (long) KNNRemoteIndexBuildValue.INDEX_BUILD_FAILURE_COUNT.getValue());
+    }
+
+    /**
+     * Test that cancelling a build which could not be submitted neither falls back nor records another failure
+     */
+    public void testCancel_whenSubmitFails_thenNoFallback() throws IOException {
+        RepositoriesService repositoriesService = mock(RepositoriesService.class);
+        when(repositoriesService.repository(any())).thenThrow(new RepositoryMissingException("Fallback"));
+
+        final SetOnce<Boolean> fallback = new SetOnce<>();
+        RemoteIndexBuildStrategy objectUnderTest = new RemoteIndexBuildStrategy(
+            () -> repositoriesService,
+            new TestIndexBuildStrategy(fallback),
+            mock(IndexSettings.class),
+            null
+        );
+        RemoteIndexBuildStrategy.PendingIndexBuild pendingIndexBuild = objectUnderTest.submitIndexBuild(buildIndexParams);
+
+        pendingIndexBuild.cancel();
+        assertNull(fallback.get());
+        assertEquals(1L, (long) KNNRemoteIndexBuildValue.INDEX_BUILD_FAILURE_COUNT.getValue());
+    }
+
     /**
      * Test that we do not fall back to the fallback BuildStrategy when a terminal exception is thrown
      * Instead of mocking every step of the process, mock the first method called to immediately throw the exception
@@ -224,6 +270,46 @@ public class RemoteIndexBuildStrategyTests extends RemoteIndexBuildTests {
         assertFalse(request.isSkipStoredVectors());
     }
 
+    public void testBuildRequestCompactFormat() throws IOException {
+        RemoteBuildRequest rawRequest = RemoteIndexBuildStrategy.buildRemoteBuildRequest(
+            createTestIndexSettings(),
+            buildIndexParams,
+            createTestRepositoryMetadata(),
+            MOCK_FULL_PATH,
+            getMockFP16ParameterMap()
+        );
+        assertNull(rawRequest.getVectorEncoding());
+        assertNull(rawRequest.getDocIdEncoding());
+        assertNull(rawRequest.getIndexEncoding());
+
+        RemoteBuildRequest request = RemoteIndexBuildStrategy.buildRemoteBuildRequest(
+            createTestIndexSettings(),
+            buildIndexParams,
+            createTestRepositoryMetadata(),
+            MOCK_FULL_PATH,
+            getMockFP16ParameterMap(),
+            new RemoteBlobFormat(true, true, true)
+        );
+        assertEquals("half_float", request.getVectorDataType());
+        assertEquals(KNNConstants.VECTOR_ENCODING_FP16, request.getVectorEncoding());
+        assertEquals(KNNConstants.DOC_ID_ENCODING_DELTA_VARINT, request.getDocIdEncoding());
+        assertEquals(KNNConstants.INDEX_ENCODING_GZIP, request.getIndexEncoding());
+    }
+
+    public void testRemoteBlobFormat() {
+        try (MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)) {
+            knnSettingsMockedStatic.when(KNNSettings::isRemoteBuildCompactFormatEnabled).thenReturn(false);
+            assertEquals(RemoteBlobFormat.RAW, RemoteBlobFormat.of(VectorDataType.FLOAT, getMockFP16ParameterMap()));
+
+            knnSettingsMockedStatic.when(KNNSettings::isRemoteBuildCompactFormatEnabled).thenReturn(true);
+            // Half precision only when the encoder stores vectors in half precision
+            assertEquals(new RemoteBlobFormat(true, true, true), RemoteBlobFormat.of(VectorDataType.FLOAT, getMockFP16ParameterMap()));
+            assertEquals(new RemoteBlobFormat(false, true, true), RemoteBlobFormat.of(VectorDataType.FLOAT, getMockSQOneBitParameterMap()));
+            assertEquals(8, new RemoteBlobFormat(true, true, true).encodedBytesPerVector(16));
+            assertEquals(16, RemoteBlobFormat.RAW.encodedBytesPerVector(16));
+        }
+    }
+
     public Map<String, Object> getMockParameterMap() {
         Map<String, Object> encoderSq = Map.of(ENCODER_SQ, Map.of());
         Map<String, Object> encoderMap = Map.of(METHOD_ENCODER_PARAMETER, encoderSq);
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex.remote;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RemoteIndexTransferLimiterTests extends KNNTestCase {
+
+    public void testAcquire_whenLimitReached_thenWaitsForRelease() throws Exception {
+        RemoteIndexTransferLimiter limiter = new RemoteIndexTransferLimiter(() -> 2);
+        limiter.acquire();
+        limiter.acquire();
+        assertEquals(2, limiter.getInFlight());
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        limiter.release();
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    public void testAcquire_whenLimitRaised_thenWaiterAdmittedWithoutRelease() throws Exception {
+        AtomicInteger maxConcurrency = new AtomicInteger(1);
+        RemoteIndexTransferLimiter limiter = new RemoteIndexTransferLimiter(maxConcurrency::get);
+        limiter.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        maxConcurrency.set(2);
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(2, limiter.getInFlight());
+    }
+}
@@ -25,8 +25,11 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -55,9 +58,12 @@ import org.opensearch.knn.indices.ModelState;
 import org.opensearch.knn.indices.ModelUtil;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -2672,6 +2678,133 @@ public class KNNVectorFieldMapperTests extends KNNTestCase {
         return array;
     }
 
+    @SneakyThrows
+    public void testGetFloatsFromContext_whenBase64EncodedVector_thenDecoded() {
+        final ByteBuffer encoded = ByteBuffer.allocate(TEST_DIMENSION * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        encoded.asFloatBuffer().put(TEST_VECTOR);
+        final String json = "{\"" + TEST_FIELD_NAME + "\":\"" + Base64.getEncoder().encodeToString(encoded.array()) + "\"}";
+        final ParseContext parseContext = createEncodedVectorParseContext(new BytesArray(json), MediaTypeRegistry.JSON);
+
+        final Optional<float[]> vector = createLuceneFieldMapper(VectorDataType.FLOAT).getFloatsFromContext(parseContext, TEST_DIMENSION);
+
+        assertTrue(vector.isPresent());
+        assertArrayEquals(TEST_VECTOR, vector.get(), 0.0f);
+    }
+
+    @SneakyThrows
+    public void testGetFloatsFromContext_whenBinaryEncodedVector_thenDecoded() {
+        final ByteBuffer encoded = ByteBuffer.allocate(TEST_DIMENSION * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        encoded.asFloatBuffer().put(TEST_VECTOR);
+        final XContentBuilder builder = XContentFactory.cborBuilder().startObject().field(TEST_FIELD_NAME, encoded.array()).endObject();
+        final ParseContext parseContext = createEncodedVectorParseContext(BytesReference.bytes(builder), XContentType.CBOR);
+
+        final Optional<float[]> vector = createLuceneFieldMapper(VectorDataType.FLOAT).getFloatsFromContext(parseContext, TEST_DIMENSION);
+
+        assertTrue(vector.isPresent());
+        assertArrayEquals(TEST_VECTOR, vector.get(), 0.0f);
+    }
+
+    @SneakyThrows
+    public void testGetFloatsFromContext_whenEncodedVectorInvalid_thenException() {
+        final EngineFieldMapper fieldMapper = createLuceneFieldMapper(VectorDataType.FLOAT);
+
+        // Not a multiple of 4 bytes
+        final String partialFloat = "{\"" + TEST_FIELD_NAME + "\":\"" + Base64.getEncoder().encodeToString(new byte[5]) + "\"}";
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> fieldMapper.getFloatsFromContext(
+                createEncodedVectorParseContext(new BytesArray(partialFloat), MediaTypeRegistry.JSON),
+                TEST_DIMENSION
+            )
+        );
+
+        // Wrong dimension
+        final String wrongDimension = "{\"" + TEST_FIELD_NAME + "\":\"" + Base64.getEncoder().encodeToString(new byte[8]) + "\"}";
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> fieldMapper.getFloatsFromContext(
+                createEncodedVectorParseContext(new BytesArray(wrongDimension), MediaTypeRegistry.JSON),
+                TEST_DIMENSION
+            )
+        );
+
+        // Not a finite number
+        final ByteBuffer encoded = ByteBuffer.allocate(TEST_DIMENSION * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        encoded.putFloat(0, Float.NaN);
+        final String nan = "{\"" + TEST_FIELD_NAME + "\":\"" + Base64.getEncoder().encodeToString(encoded.array()) + "\"}";
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> fieldMapper.getFloatsFromContext(
+                createEncodedVectorParseContext(new BytesArray(nan), MediaTypeRegistry.JSON),
+                TEST_DIMENSION
+            )
+        );
+    }
+
+    @SneakyThrows
+    public void testGetBytesFromContext_whenEncodedVector_thenDecoded() {
+        final String json = "{\"" + TEST_FIELD_NAME + "\":\"" + Base64.getEncoder().encodeToString(TEST_BYTE_VECTOR) + "\"}";
+        final ParseContext parseContext = createEncodedVectorParseContext(new BytesArray(json), MediaTypeRegistry.JSON);
+
+        final Optional<byte[]> vector = createLuceneFieldMapper(VectorDataType.BYTE).getBytesFromContext(
+            parseContext,
+            TEST_DIMENSION,
+            VectorDataType.BYTE
+        );
+
+        assertTrue(vector.isPresent());
+        assertArrayEquals(TEST_BYTE_VECTOR, vector.get());
+    }
+
+    private ParseContext createEncodedVectorParseContext(final BytesReference source, final MediaType mediaType) throws IOException {
+        final XContentParser parser = XContentHelper.createParser(
+            NamedXContentRegistry.EMPTY,
+            LoggingDeprecationHandler.INSTANCE,
+            source,
+            mediaType
+        );
+        // Move to the encoded vector value, after START_OBJECT and FIELD_NAME
+        parser.nextToken();
+        parser.nextToken();
+        parser.nextToken();
+        final ParseContext parseContext = mock(ParseContext.class);
+        when(parseContext.path()).thenReturn(new ContentPath());
+        when(parseContext.parser()).thenReturn(parser);
+        return parseContext;
+    }
+
+    private EngineFieldMapper createLuceneFieldMapper(final VectorDataType vectorDataType) {
+        final KNNMethodContext luceneMethodContext = new KNNMethodContext(
+            KNNEngine.LUCENE,
+            SpaceType.DEFAULT,
+            new MethodComponentContext(METHOD_HNSW, Collections.emptyMap())
+        );
+        final OriginalMappingParameters originalMappingParameters = new OriginalMappingParameters(
+            vectorDataType,
+            TEST_DIMENSION,
+            luceneMethodContext,
+            Mode.NOT_CONFIGURED.getName(),
+            CompressionLevel.NOT_CONFIGURED.getName(),
+            null,
+            SpaceType.UNDEFINED.getValue(),
+            KNNEngine.UNDEFINED.getName()
+        );
+        originalMappingParameters.setResolvedKnnMethodContext(originalMappingParameters.getKnnMethodContext());
+        return EngineFieldMapper.createFieldMapper(
+            TEST_FIELD_NAME,
+            TEST_FIELD_NAME,
+            Collections.emptyMap(),
+            KNNMethodConfigContext.builder().vectorDataType(vectorDataType).versionCreated(CURRENT).dimension(TEST_DIMENSION).build(),
+            FieldMapper.MultiFields.empty(),
+            FieldMapper.CopyTo.empty(),
+            new Explicit<>(true, true),
+            false,
+            true,
+            originalMappingParameters,
+            CURRENT
+        );
+    }
+
     private static byte[] createInitializedByteArray(int dimension, byte value) {
         byte[] array = new byte[dimension];
         Arrays.fill(array, value);
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.opensearch.knn.KNNTestCase;
+
+public class FrequencySketchTests extends KNNTestCase {
+
+    public void testFrequency() {
+        FrequencySketch frequencySketch = new FrequencySketch(16);
+        assertEquals(0, frequencySketch.frequency("test-1"));
+
+        for (int i = 0; i < 5; i++) {
+            frequencySketch.increment("test-1");
+        }
+        frequencySketch.increment("test-2");
+
+        assertTrue(frequencySketch.frequency("test-1") >= 5);
+        assertTrue(frequencySketch.frequency("test-2") >= 1);
+        assertTrue(frequencySketch.frequency("test-1") > frequencySketch.frequency("test-2"));
+    }
+
+    public void testFrequency_whenIncrementedBeyondMax_thenCapped() {
+        FrequencySketch frequencySketch = new FrequencySketch(16);
+        for (int i = 0; i < 100; i++) {
+            frequencySketch.increment("test-1");
+        }
+        assertEquals(15, frequencySketch.frequency("test-1"));
+    }
+
+    public void testFrequency_whenSampleSizeReached_thenAged() {
+        FrequencySketch frequencySketch = new FrequencySketch(16);
+        for (int i = 0; i < 10; i++) {
+            frequencySketch.increment("test-1");
+        }
+        int frequencyBeforeReset = frequencySketch.frequency("test-1");
+
+        // The minimum table holds 64 slots, so the sketch ages after 640 additions
+        for (int i = 0; i < 640; i++) {
+            frequencySketch.increment("other-" + i);
+        }
+        assertTrue(frequencySketch.frequency("test-1") < frequencyBeforeReset);
+    }
+}
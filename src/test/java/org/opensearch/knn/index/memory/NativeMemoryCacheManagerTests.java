@@ -28,14 +28,17 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.knn.TestUtils;
+import org.opensearch.knn.common.exception.CacheAdmissionRejectedException;
 import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.plugin.KNNPlugin;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
@@ -60,6 +63,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.knn.common.KNNConstants.GRAPH_LOAD_THREAD_POOL;
+import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
 import static org.opensearch.knn.index.memory.NativeMemoryCacheManager.GRAPH_COUNT;
 import static org.opensearch.knn.plugin.stats.StatNames.GRAPH_MEMORY_USAGE;
 
@@ -417,6 +422,24 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         nativeMemoryCacheManager.close();
     }
 
+    public void testIsResident() throws ExecutionException {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+
+        String key = "test-1";
+        assertFalse(nativeMemoryCacheManager.isResident(key));
+
+        nativeMemoryCacheManager.get(new TestNativeMemoryEntryContent(key, 1), true);
+        long hitCount = nativeMemoryCacheManager.getCacheStats().hitCount();
+        assertTrue(nativeMemoryCacheManager.isResident(key));
+        // Checking residency does not count as an access
+        assertEquals(hitCount, nativeMemoryCacheManager.getCacheStats().hitCount());
+
+        nativeMemoryCacheManager.invalidate(key);
+        assertFalse(nativeMemoryCacheManager.isResident(key));
+
+        nativeMemoryCacheManager.close();
+    }
+
     public void testInvalidateAll() throws ExecutionException {
         NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
 
@@ -785,6 +808,148 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
 
     }
 
+    @SneakyThrows
+    public void testGet_whenSizeAwareLfuPolicy_thenColdEntriesDoNotDisplaceHotEntries() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = createSizeAwareLfuCacheManager();
+        assertEquals(NativeMemoryCacheEvictionPolicy.SIZE_AWARE_LFU, nativeMemoryCacheManager.getEvictionPolicy());
+        long admissionRejectsBefore = KNNCounter.CACHE_ADMISSION_REJECT_COUNT.getCount();
+
+        TestNativeMemoryEntryContent hotEntryContext = new TestNativeMemoryEntryContent("hot", 4);
+        NativeMemoryAllocation hotAllocation = nativeMemoryCacheManager.get(hotEntryContext, true);
+        nativeMemoryCacheManager.get(hotEntryContext, true);
+        nativeMemoryCacheManager.get(hotEntryContext, true);
+
+        // Fits without eviction, so it is admitted
+        TestNativeMemoryEntryContent cold1EntryContext = new TestNativeMemoryEntryContent("cold-1", 4);
+        nativeMemoryCacheManager.get(cold1EntryContext, true);
+        assertEquals(admissionRejectsBefore, (long) KNNCounter.CACHE_ADMISSION_REJECT_COUNT.getCount());
+
+        // Would displace cold-1, which is as popular as cold-2, so cold-2 is neither loaded nor evicts anything
+        TestNativeMemoryEntryContent cold2EntryContext = new TestNativeMemoryEntryContent("cold-2", 4);
+        expectThrows(CacheAdmissionRejectedException.class, () -> nativeMemoryCacheManager.get(cold2EntryContext, true));
+        assertEquals(admissionRejectsBefore + 1, (long) KNNCounter.CACHE_ADMISSION_REJECT_COUNT.getCount());
+        assertEquals(2, nativeMemoryCacheManager.getCacheStats().loadSuccessCount());
+        assertTrue(nativeMemoryCacheManager.isResident(cold1EntryContext.getKey()));
+        assertFalse(nativeMemoryCacheManager.isResident(cold2EntryContext.getKey()));
+
+        // Once accessed more often than cold-1, cold-2 is admitted and only cold-1 is evicted
+        nativeMemoryCacheManager.get(cold2EntryContext, true);
+        assertEquals(admissionRejectsBefore + 1, (long) KNNCounter.CACHE_ADMISSION_REJECT_COUNT.getCount());
+        assertFalse(nativeMemoryCacheManager.isResident(cold1EntryContext.getKey()));
+        assertTrue(nativeMemoryCacheManager.isResident(cold2EntryContext.getKey()));
+        assertEquals(8, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertSame(hotAllocation, nativeMemoryCacheManager.get(hotEntryContext, true));
+
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testGet_whenSizeAwareLfuPolicy_thenInvalidatedEntriesAreNotDisplaced() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = createSizeAwareLfuCacheManager();
+
+        TestNativeMemoryEntryContent hotEntryContext = new TestNativeMemoryEntryContent("hot", 4);
+        for (int i = 0; i < 2; i++) {
+            nativeMemoryCacheManager.get(hotEntryContext, true);
+        }
+        TestNativeMemoryEntryContent invalidatedEntryContext = new TestNativeMemoryEntryContent("invalidated", 4);
+        for (int i = 0; i < 4; i++) {
+            nativeMemoryCacheManager.get(invalidatedEntryContext, true);
+        }
+        nativeMemoryCacheManager.invalidate(invalidatedEntryContext.getKey());
+
+        // Only the hot entry has to go for the new entry to fit, so the invalidated entry does not count against it
+        TestNativeMemoryEntryContent newEntryContext = new TestNativeMemoryEntryContent("new", 8);
+        for (int i = 0; i < 2; i++) {
+            expectThrows(CacheAdmissionRejectedException.class, () -> nativeMemoryCacheManager.get(newEntryContext, true));
+        }
+        nativeMemoryCacheManager.get(newEntryContext, true);
+        assertTrue(nativeMemoryCacheManager.isResident(newEntryContext.getKey()));
+        assertFalse(nativeMemoryCacheManager.isResident(hotEntryContext.getKey()));
+        assertEquals(8, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+
+        nativeMemoryCacheManager.close();
+    }
+
+    private NativeMemoryCacheManager createSizeAwareLfuCacheManager() {
+        Set<Setting<?>> defaultClusterSettings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        defaultClusterSettings.addAll(
+            KNNSettings.state()
+                .getSettings()
+                .stream()
+                .filter(s -> s.getProperties().contains(Setting.Property.NodeScope))
+                .collect(Collectors.toList())
+        );
+        Settings settings = Settings.builder()
+            .put(KNNSettings.KNN_CACHE_EVICTION_POLICY, NativeMemoryCacheEvictionPolicy.SIZE_AWARE_LFU.getName())
+            .put(KNNSettings.KNN_MEMORY_CIRCUIT_BREAKER_CLUSTER_LIMIT, "10kb")
+            .build();
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, defaultClusterSettings));
+        return new NativeMemoryCacheManager();
+    }
+
+    @SneakyThrows
+    public void testGetOrScheduleLoad() {
+        ThreadPool graphLoadThreadPool = new ThreadPool(
+            Settings.builder().put("node.name", "NativeMemoryCacheManagerTests-graph-load").build(),
+            new FixedExecutorBuilder(Settings.EMPTY, GRAPH_LOAD_THREAD_POOL, 1, 10, KNN_THREAD_POOL_PREFIX, false)
+        );
+        NativeMemoryCacheManager.setThreadPool(graphLoadThreadPool);
+        try {
+            NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+            TestNativeMemoryEntryContent testNativeMemoryEntryContent = new TestNativeMemoryEntryContent("test-1", 5);
+
+            // First request misses and returns immediately while the entry loads in the background
+            assertTrue(nativeMemoryCacheManager.getOrScheduleLoad(testNativeMemoryEntryContent).isEmpty());
+            assertBusy(() -> assertEquals(5, nativeMemoryCacheManager.getCacheSizeInKilobytes()));
+
+            // Once resident, the allocation is returned directly
+            assertTrue(nativeMemoryCacheManager.getOrScheduleLoad(testNativeMemoryEntryContent).isPresent());
+            assertEquals(1, nativeMemoryCacheManager.getCacheStats().loadSuccessCount());
+            nativeMemoryCacheManager.close();
+        } finally {
+            NativeMemoryCacheManager.setThreadPool(threadPool);
+            terminate(graphLoadThreadPool);
+        }
+    }
+
+    @SneakyThrows
+    public void testGetOrScheduleLoad_whenInvalidatedWhileLoading_thenLoadIsDropped() {
+        ThreadPool graphLoadThreadPool = new ThreadPool(
+            Settings.builder().put("node.name", "NativeMemoryCacheManagerTests-graph-load").build(),
+            new FixedExecutorBuilder(Settings.EMPTY, GRAPH_LOAD_THREAD_POOL, 1, 10, KNN_THREAD_POOL_PREFIX, false)
+        );
+        NativeMemoryCacheManager.setThreadPool(graphLoadThreadPool);
+        try {
+            NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+            CountDownLatch loadStarted = new CountDownLatch(1);
+            CountDownLatch invalidated = new CountDownLatch(1);
+            TestNativeMemoryAllocation allocation = spy(new TestNativeMemoryAllocation(5));
+            TestNativeMemoryEntryContent testNativeMemoryEntryContent = new TestNativeMemoryEntryContent("test-1", 5) {
+                @Override
+                @SneakyThrows
+                public TestNativeMemoryAllocation load() {
+                    loadStarted.countDown();
+                    invalidated.await();
+                    return allocation;
+                }
+            };
+
+            // The segment of the entry goes away while its graph is being loaded in the background
+            assertTrue(nativeMemoryCacheManager.getOrScheduleLoad(testNativeMemoryEntryContent).isEmpty());
+            loadStarted.await();
+            nativeMemoryCacheManager.invalidate(testNativeMemoryEntryContent.getKey());
+            invalidated.countDown();
+
+            assertBusy(() -> verify(allocation).close());
+            assertFalse(nativeMemoryCacheManager.isResident(testNativeMemoryEntryContent.getKey()));
+            assertEquals(0, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+            nativeMemoryCacheManager.close();
+        } finally {
+            NativeMemoryCacheManager.setThreadPool(threadPool);
+            terminate(graphLoadThreadPool);
+        }
+    }
+
     private static class TestNativeMemoryAllocation implements NativeMemoryAllocation {
 
         int size;
@@ -13,11 +13,15 @@ package org.opensearch.knn.index.memory;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.NIOFSDirectory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.TestUtils;
 import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.jni.JNICommons;
@@ -27,6 +31,7 @@ import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.training.FloatTrainingDataConsumer;
 import org.opensearch.knn.training.VectorReader;
+import org.mockito.MockedStatic;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -38,6 +43,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 
 public class NativeMemoryLoadStrategyTests extends KNNTestCase {
 
@@ -140,6 +146,98 @@ public class NativeMemoryLoadStrategyTests extends KNNTestCase {
     }
 
     @SuppressWarnings("unchecked")
+    public void testLoad_whenFaissMemoryMappedLoadEnabled_thenLoadedWithFileSize() throws IOException {
+        Path tempDirPath = createTempDir();
+        try (
+            Directory luceneDirectory = new NIOFSDirectory(tempDirPath);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)
+        ) {
+            knnSettingsMockedStatic.when(() -> KNNSettings.isFaissMemoryMappedLoadEnabled("test")).thenReturn(true);
+
+            KNNEngine knnEngine = KNNEngine.FAISS;
+            String indexFileName = "test1" + knnEngine.getExtension();
+            int numVectors = 10;
+            int dimension = 10;
+            int[] ids = new int[numVectors];
+            float[][] vectors = new float[numVectors][dimension];
+            for (int i = 0; i < numVectors; i++) {
+                ids[i] = i;
+                Arrays.fill(vectors[i], i);
+            }
+            Map<String, Object> parameters = ImmutableMap.of(
+                KNNConstants.SPACE_TYPE,
+                SpaceType.L2.getValue(),
+                KNNConstants.INDEX_DESCRIPTION_PARAMETER,
+                "HNSW32,Flat"
+            );
+            long memoryAddress = JNICommons.storeVectorData(0, vectors, numVectors * dimension);
+            TestUtils.createIndex(ids, memoryAddress, dimension, luceneDirectory, indexFileName, parameters, knnEngine);
+
+            NativeMemoryEntryContext.IndexEntryContext indexEntryContext = new NativeMemoryEntryContext.IndexEntryContext(
+                luceneDirectory,
+                TestUtils.createFakeNativeMamoryCacheKey(indexFileName),
+                NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+                parameters,
+                "test"
+            );
+            assertNotNull(indexEntryContext.getMemoryMappedFilePath());
+            int expectedSizeKb = Math.toIntExact(luceneDirectory.fileLength(indexFileName) / 1024);
+            assertEquals(expectedSizeKb, indexEntryContext.calculateSizeInKB().intValue());
+
+            indexEntryContext.open();
+            NativeMemoryAllocation.IndexAllocation indexAllocation = indexEntryContext.load();
+            assertEquals(expectedSizeKb, indexAllocation.getSizeInKB());
+
+            // Confirm that the file was loaded by querying
+            float[] query = new float[dimension];
+            Arrays.fill(query, 3);
+            KNNQueryResult[] results = JNIService.queryIndex(indexAllocation.getMemoryAddress(), query, 2, null, knnEngine, null, 0, null);
+            assertEquals(2, results.length);
+            assertEquals(3, results[0].getId());
+        }
+    }
+
+    public void testGetMemoryMappedFilePath_whenDirectoryMayTransformBytes_thenNull() throws IOException {
+        Path tempDirPath = createTempDir();
+        try (MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)) {
+            knnSettingsMockedStatic.when(() -> KNNSettings.isFaissMemoryMappedLoadEnabled("test")).thenReturn(true);
+            String indexFileName = "test1" + KNNEngine.FAISS.getExtension();
+            Map<String, Object> parameters = ImmutableMap.of(
+                KNNConstants.SPACE_TYPE,
+                SpaceType.L2.getValue(),
+                KNNConstants.INDEX_DESCRIPTION_PARAMETER,
+                "HNSW32,Flat"
+            );
+
+            try (Directory plainDirectory = new NIOFSDirectory(tempDirPath)) {
+                plainDirectory.createOutput(indexFileName, IOContext.DEFAULT).close();
+                assertNotNull(createIndexEntryContext(plainDirectory, indexFileName, parameters).getMemoryMappedFilePath());
+            }
+            // An unknown wrapper, e.g. an encrypting directory, must be read through
+            try (Directory wrappedDirectory = new FilterDirectory(new NIOFSDirectory(tempDirPath)) {}) {
+                assertNull(createIndexEntryContext(wrappedDirectory, indexFileName, parameters).getMemoryMappedFilePath());
+            }
+            // So must a directory that extends a plain one
+            try (Directory extendedDirectory = new NIOFSDirectory(tempDirPath) {}) {
+                assertNull(createIndexEntryContext(extendedDirectory, indexFileName, parameters).getMemoryMappedFilePath());
+            }
+        }
+    }
+
+    private static NativeMemoryEntryContext.IndexEntryContext createIndexEntryContext(
+        Directory directory,
+        String indexFileName,
+        Map<String, Object> parameters
+    ) {
+        return new NativeMemoryEntryContext.IndexEntryContext(
+            directory,
+            TestUtils.createFakeNativeMamoryCacheKey(indexFileName),
+            NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+            parameters,
+            "test"
+        );
+    }
+
     public void testTrainingLoadStrategy_load() {
         // Mock the vector reader so that on read, it waits 2 seconds, transfers vectors to the consumer, and then calls
         // listener onResponse to release the write lock
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.opensearch.knn.KNNTestCase;
+
+public class FilteredSearchPlannerTests extends KNNTestCase {
+
+    private static final String INDEX_NAME = "test-index";
+    private static final String FIELD_NAME = "test-field";
+    private static final int K = 10;
+    private static final int MAX_DOC = 100_000;
+
+    public void testPlan_whenNoSamples_thenUndecided() {
+        FilteredSearchPlanner planner = new FilteredSearchPlanner();
+
+        FilteredSearchPlanner.Plan plan = planner.plan(INDEX_NAME, FIELD_NAME, K, 1000, MAX_DOC);
+
+        assertEquals(FilteredSearchPlanner.Decision.UNDECIDED, plan.getDecision());
+        assertEquals(-1, plan.getEstimatedExactSearchNanos());
+        assertEquals(-1, plan.getEstimatedApproximateSearchNanos());
+    }
+
+    public void testPlan_whenBothPathsObserved_thenPicksCheaperPath() {
+        FilteredSearchPlanner planner = new FilteredSearchPlanner();
+        for (int i = 0; i < FilteredSearchPlanner.MIN_SAMPLES; i++) {
+            // 100ns per scored candidate
+            planner.recordExactSearch(INDEX_NAME, FIELD_NAME, K, 1000, 100_000);
+            // 1ms for a filter matching ~1% of the segment
+            planner.recordApproximateSearch(INDEX_NAME, FIELD_NAME, K, 1000, MAX_DOC, 1_000_000);
+        }
+
+        // 1000 candidates cost ~100us exactly, far less than the graph traversal
+        FilteredSearchPlanner.Plan plan = planner.plan(INDEX_NAME, FIELD_NAME, K, 1000, MAX_DOC);
+        assertEquals(FilteredSearchPlanner.Decision.EXACT_SEARCH, plan.getDecision());
+        assertEquals(100_000, plan.getEstimatedExactSearchNanos());
+        assertEquals(1_000_000, plan.getEstimatedApproximateSearchNanos());
+
+        // Same selectivity bucket, but 1900 candidates cost ~190us, still exact
+        assertEquals(FilteredSearchPlanner.Decision.EXACT_SEARCH, planner.plan(INDEX_NAME, FIELD_NAME, K, 1900, MAX_DOC).getDecision());
+
+        // Other fields and k are modelled separately
+        assertEquals(FilteredSearchPlanner.Decision.UNDECIDED, planner.plan(INDEX_NAME, "other", K, 1000, MAX_DOC).getDecision());
+        assertEquals(FilteredSearchPlanner.Decision.UNDECIDED, planner.plan(INDEX_NAME, FIELD_NAME, 100, 1000, MAX_DOC).getDecision());
+    }
+
+    public void testPlan_whenExactSearchIsSlower_thenApproximateSearch() {
+        FilteredSearchPlanner planner = new FilteredSearchPlanner();
+        for (int i = 0; i < FilteredSearchPlanner.MIN_SAMPLES; i++) {
+            // 10us per scored candidate
+            planner.recordExactSearch(INDEX_NAME, FIELD_NAME, K, 100, 1_000_000);
+            planner.recordApproximateSearch(INDEX_NAME, FIELD_NAME, K, 50_000, MAX_DOC, 2_000_000);
+        }
+
+        FilteredSearchPlanner.Plan plan = planner.plan(INDEX_NAME, FIELD_NAME, K, 50_000, MAX_DOC);
+        assertEquals(FilteredSearchPlanner.Decision.APPROXIMATE_SEARCH, plan.getDecision());
+    }
+
+    public void testPlan_whenExactCheaperThanLessSelectiveSearch_thenExactSearch() {
+        FilteredSearchPlanner planner = new FilteredSearchPlanner();
+        for (int i = 0; i < FilteredSearchPlanner.MIN_SAMPLES; i++) {
+            planner.recordExactSearch(INDEX_NAME, FIELD_NAME, K, 1000, 100_000);
+            planner.recordApproximateSearch(INDEX_NAME, FIELD_NAME, K, 50_000, MAX_DOC, 1_000_000);
+        }
+
+        // No approximate search was observed for this selectivity, but a less selective one is already slower than exact
+        FilteredSearchPlanner.Plan plan = planner.plan(INDEX_NAME, FIELD_NAME, K, 2000, MAX_DOC);
+        assertEquals(FilteredSearchPlanner.Decision.EXACT_SEARCH, plan.getDecision());
+        assertEquals(-1, plan.getEstimatedApproximateSearchNanos());
+    }
+
+    public void testShouldExploreApproximateSearch() {
+        FilteredSearchPlanner planner = new FilteredSearchPlanner();
+        int explorations = 0;
+        for (int i = 0; i < FilteredSearchPlanner.EXPLORATION_INTERVAL * 3; i++) {
+            if (planner.shouldExploreApproximateSearch(INDEX_NAME, FIELD_NAME, K)) {
+                explorations++;
+            }
+        }
+        assertEquals(3, explorations);
+    }
+}
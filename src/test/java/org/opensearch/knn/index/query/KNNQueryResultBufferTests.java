@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.opensearch.knn.KNNTestCase;
+
+public class KNNQueryResultBufferTests extends KNNTestCase {
+
+    public void testGetThreadLocalBuffer_thenReusedAndGrown() {
+        KNNQueryResultBuffer buffer = KNNQueryResultBuffer.getThreadLocalBuffer(10);
+        assertTrue(buffer.getIds().length >= 10);
+        assertEquals(buffer.getIds().length, buffer.getScores().length);
+        buffer.setSize(5);
+
+        // Same thread gets the same, emptied buffer back
+        KNNQueryResultBuffer reused = KNNQueryResultBuffer.getThreadLocalBuffer(5);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.getSize());
+
+        KNNQueryResultBuffer grown = KNNQueryResultBuffer.getThreadLocalBuffer(100);
+        assertSame(buffer, grown);
+        assertTrue(grown.getIds().length >= 100);
+        assertTrue(grown.getScores().length >= 100);
+    }
+
+    public void testSetSize_whenOutOfCapacity_thenThrows() {
+        KNNQueryResultBuffer buffer = KNNQueryResultBuffer.getThreadLocalBuffer(10);
+        expectThrows(IllegalArgumentException.class, () -> buffer.setSize(buffer.getIds().length + 1));
+        expectThrows(IllegalArgumentException.class, () -> buffer.setSize(-1));
+    }
+
+    public void testCopyFrom() {
+        KNNQueryResultBuffer buffer = KNNQueryResultBuffer.getThreadLocalBuffer(1);
+        KNNQueryResult[] results = new KNNQueryResult[] { new KNNQueryResult(3, 0.5f), new KNNQueryResult(7, 1.5f) };
+
+        buffer.copyFrom(results);
+
+        assertEquals(2, buffer.getSize());
+        assertEquals(3, buffer.getIds()[0]);
+        assertEquals(0.5f, buffer.getScores()[0], 0.0f);
+        assertEquals(7, buffer.getIds()[1]);
+        assertEquals(1.5f, buffer.getScores()[1], 0.0f);
+    }
+}
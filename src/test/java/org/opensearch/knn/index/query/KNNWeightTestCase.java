@@ -37,6 +37,8 @@ import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -116,6 +118,23 @@ public class KNNWeightTestCase extends KNNTestCase {
         knnSettingsMockedStatic.when(() -> KNNSettings.getFilteredExactSearchThreshold(INDEX_NAME)).thenReturn(0);
         knnSettingsMockedStatic.when(() -> KNNSettings.isKnnIndexFaissEfficientFilterExactSearchDisabled(INDEX_NAME)).thenReturn(false);
         jniServiceMockedStatic = mockStatic(JNIService.class);
+        // Serve buffered float queries from the stubbed array returning queryIndex, so tests only need to stub the latter
+        jniServiceMockedStatic.when(
+            () -> JNIService.queryIndex(anyLong(), any(), anyInt(), any(), any(), any(), anyInt(), any(), any(KNNQueryResultBuffer.class))
+        ).thenAnswer(invocation -> {
+            final KNNQueryResult[] results = JNIService.queryIndex(
+                invocation.<Long>getArgument(0),
+                invocation.<float[]>getArgument(1),
+                invocation.<Integer>getArgument(2),
+                invocation.getArgument(3),
+                invocation.getArgument(4),
+                invocation.<long[]>getArgument(5),
+                invocation.<Integer>getArgument(6),
+                invocation.<int[]>getArgument(7)
+            );
+            invocation.<KNNQueryResultBuffer>getArgument(8).copyFrom(results == null ? new KNNQueryResult[0] : results);
+            return null;
+        });
     }
 
     @After
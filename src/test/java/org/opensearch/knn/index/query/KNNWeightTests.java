@@ -29,6 +29,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -42,6 +43,7 @@ import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.codec.util.KNNVectorAsCollectionOfFloatsSerializer;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -66,6 +68,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -982,6 +985,66 @@ public class KNNWeightTests extends KNNWeightTestCase {
         verify(mockedExactSearcher).searchLeaf(leafReaderContext, exactSearchContext);
     }
 
+    @SneakyThrows
+    public void testScorer_whenNoFilterAndGraphIsLoading_thenExactSearchAllDocs() {
+        final int k = 3;
+        final ExactSearcher mockedExactSearcher = mock(ExactSearcher.class);
+        KNNWeight.initialize(null, mockedExactSearcher);
+        knnSettingsMockedStatic.when(KNNSettings::isAsyncGraphLoadEnabled).thenReturn(true);
+        when(NativeMemoryCacheManager.getInstance().getOrScheduleLoad(any())).thenReturn(Optional.empty());
+        try {
+            final SegmentReader reader = mockSegmentReader();
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            when(leafReaderContext.reader()).thenReturn(reader);
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(fieldInfos.fieldInfo(any())).thenReturn(fieldInfo);
+            when(fieldInfo.attributes()).thenReturn(
+                Map.of(
+                    KNN_ENGINE,
+                    KNNEngine.FAISS.getName(),
+                    PARAMETERS,
+                    String.format(Locale.ROOT, "{\"%s\":\"%s\"}", INDEX_DESCRIPTION_PARAMETER, "HNSW32")
+                )
+            );
+            final ArgumentCaptor<ExactSearcher.ExactSearcherContext> exactSearcherContextCaptor = ArgumentCaptor.forClass(
+                ExactSearcher.ExactSearcherContext.class
+            );
+            when(mockedExactSearcher.searchLeaf(eq(leafReaderContext), exactSearcherContextCaptor.capture())).thenReturn(
+                buildTopDocs(DOC_ID_TO_SCORES)
+            );
+
+            final KNNQuery query = KNNQuery.builder()
+                .field(FIELD_NAME)
+                .queryVector(QUERY_VECTOR)
+                .k(k)
+                .indexName(INDEX_NAME)
+                .methodParameters(HNSW_METHOD_PARAMETERS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .build();
+            final KNNWeight knnWeight = new DefaultKNNWeight(query, 1.0f, null);
+
+            final KNNScorer knnScorer = (KNNScorer) knnWeight.scorer(leafReaderContext);
+            assertNotNull(knnScorer);
+            final DocIdSetIterator docIdSetIterator = knnScorer.iterator();
+            final List<Integer> actualDocIds = new ArrayList<>();
+            for (int docId = docIdSetIterator.nextDoc(); docId != NO_MORE_DOCS; docId = docIdSetIterator.nextDoc()) {
+                actualDocIds.add(docId);
+            }
+            assertFalse(actualDocIds.isEmpty());
+            // Without a filter, the exact search must not be restricted to the empty filter bitset
+            assertNull(exactSearcherContextCaptor.getValue().getMatchedDocsIterator());
+            jniServiceMockedStatic.verify(
+                () -> JNIService.queryIndex(anyLong(), any(), anyInt(), any(), any(), any(), anyInt(), any()),
+                times(0)
+            );
+        } finally {
+            knnSettingsMockedStatic.when(KNNSettings::isAsyncGraphLoadEnabled).thenReturn(false);
+            KNNWeight.initialize(null);
+        }
+    }
+
     @SneakyThrows
     public void testANNWithFilterQuery_whenExactSearchAndThresholdComputations_thenSuccess() {
         ModelDao modelDao = mock(ModelDao.class);
@@ -1199,6 +1262,19 @@ public class KNNWeightTests extends KNNWeightTestCase {
 
             // Then
             // Verifies ANN index was called
+            jniServiceMockedStatic.verify(
+                () -> JNIService.queryIndex(
+                    anyLong(),
+                    any(float[].class),
+                    eq(K),
+                    anyMap(),
+                    eq(KNNEngine.FAISS),
+                    any(),
+                    anyInt(),
+                    any(),
+                    any(KNNQueryResultBuffer.class)
+                )
+            );
             jniServiceMockedStatic.verify(
                 () -> JNIService.queryIndex(anyLong(), any(float[].class), eq(K), anyMap(), eq(KNNEngine.FAISS), any(), anyInt(), any())
             );
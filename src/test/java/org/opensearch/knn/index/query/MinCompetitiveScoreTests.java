@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.knn.utils.TopDocsTestUtils.buildTopDocs;
+import static org.opensearch.knn.utils.TopDocsTestUtils.convertTopDocsToMap;
+
+public class MinCompetitiveScoreTests extends KNNTestCase {
+
+    public void testAccumulate_whenLowerScore_thenKeepsHighest() {
+        MinCompetitiveScore minCompetitiveScore = new MinCompetitiveScore(3);
+        assertEquals(Float.NEGATIVE_INFINITY, minCompetitiveScore.get(), 0.0f);
+
+        minCompetitiveScore.accumulate(0.5f);
+        minCompetitiveScore.accumulate(-1.0f);
+        assertEquals(0.5f, minCompetitiveScore.get(), 0.0f);
+
+        minCompetitiveScore.accumulate(Float.NEGATIVE_INFINITY);
+        minCompetitiveScore.accumulate(2.0f);
+        assertEquals(2.0f, minCompetitiveScore.get(), 0.0f);
+    }
+
+    public void testAccumulate_whenNegativeScores_thenKeepsHighest() {
+        MinCompetitiveScore minCompetitiveScore = new MinCompetitiveScore(1);
+
+        minCompetitiveScore.accumulate(-3.0f);
+        minCompetitiveScore.accumulate(-5.0f);
+        assertEquals(-3.0f, minCompetitiveScore.get(), 0.0f);
+    }
+
+    public void testAccumulateTopDocs_whenFewerThanKResults_thenUnchanged() {
+        MinCompetitiveScore minCompetitiveScore = new MinCompetitiveScore(3);
+
+        minCompetitiveScore.accumulate(buildTopDocs(new HashMap<>(Map.of(0, 4.0f, 1, 3.0f))));
+        assertEquals(Float.NEGATIVE_INFINITY, minCompetitiveScore.get(), 0.0f);
+
+        minCompetitiveScore.accumulate(buildTopDocs(new HashMap<>(Map.of(0, 1.0f, 1, 4.0f, 2, 3.0f, 3, 2.0f))));
+        assertEquals(2.0f, minCompetitiveScore.get(), 0.0f);
+    }
+
+    public void testPrune_thenDropsResultsBelowBound() {
+        MinCompetitiveScore minCompetitiveScore = new MinCompetitiveScore(2);
+        TopDocs results = buildTopDocs(new HashMap<>(Map.of(0, 1.0f, 1, 4.0f, 2, 3.0f)));
+        assertSame(results, minCompetitiveScore.prune(results));
+
+        minCompetitiveScore.accumulate(3.0f);
+        TopDocs pruned = minCompetitiveScore.prune(results);
+        assertEquals(Map.of(1, 4.0f, 2, 3.0f), convertTopDocsToMap(pruned));
+        assertEquals(2, pruned.totalHits.value());
+    }
+
+    public void testConstructor_whenKNotPositive_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> new MinCompetitiveScore(0));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.plugin.stats.KNNCounter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NativeSearchAdmissionControllerTests extends KNNTestCase {
+
+    public void testAcquire_whenLimitsDisabled_thenAdmitsAllSearches() {
+        NativeSearchAdmissionController controller = new NativeSearchAdmissionController(() -> 0, () -> 0, () -> 0);
+        for (int i = 0; i < 10; i++) {
+            controller.acquire(1024);
+        }
+        assertEquals(10, controller.getInFlight());
+    }
+
+    public void testAcquire_whenConcurrencyLimitReached_thenWaitsForRelease() throws Exception {
+        NativeSearchAdmissionController controller = new NativeSearchAdmissionController(() -> 2, () -> 0, () -> 10_000);
+        controller.acquire(1);
+        controller.acquire(1);
+        long queued = KNNCounter.GRAPH_QUERY_ADMISSION_QUEUED.getCount();
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            controller.acquire(1);
+            admitted.countDown();
+        });
+        waiter.start();
+
+        assertFalse(admitted.await(100, TimeUnit.MILLISECONDS));
+        controller.release(1);
+        assertTrue(admitted.await(10, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(2, controller.getInFlight());
+        assertEquals(queued + 1, (long) KNNCounter.GRAPH_QUERY_ADMISSION_QUEUED.getCount());
+    }
+
+    public void testAcquire_whenScratchMemoryBudgetReached_thenWaitsForRelease() throws Exception {
+        NativeSearchAdmissionController controller = new NativeSearchAdmissionController(() -> 0, () -> 100, () -> 10_000);
+        controller.acquire(60);
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            controller.acquire(60);
+            admitted.countDown();
+        });
+        waiter.start();
+
+        assertFalse(admitted.await(100, TimeUnit.MILLISECONDS));
+        controller.release(60);
+        assertTrue(admitted.await(10, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(1, controller.getInFlight());
+    }
+
+    public void testAcquire_whenSearchExceedsScratchMemoryBudget_thenAdmittedAlone() {
+        NativeSearchAdmissionController controller = new NativeSearchAdmissionController(() -> 0, () -> 100, () -> 0);
+        controller.acquire(1000);
+        assertEquals(1, controller.getInFlight());
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> controller.acquire(1));
+    }
+
+    public void testAcquire_whenNotAdmittedWithinTimeout_thenRejected() {
+        NativeSearchAdmissionController controller = new NativeSearchAdmissionController(() -> 1, () -> 0, () -> 50);
+        controller.acquire(1);
+        long rejections = KNNCounter.GRAPH_QUERY_ADMISSION_REJECTIONS.getCount();
+        long queueTimeMillis = KNNCounter.GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS.getCount();
+
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> controller.acquire(1));
+
+        assertEquals(1, controller.getInFlight());
+        assertEquals(rejections + 1, (long) KNNCounter.GRAPH_QUERY_ADMISSION_REJECTIONS.getCount());
+        assertTrue(KNNCounter.GRAPH_QUERY_ADMISSION_QUEUE_TIME_MILLIS.getCount() >= queueTimeMillis + 50);
+    }
+
+    public void testAcquire_whenLimitRaised_thenWaiterAdmittedWithoutRelease() throws Exception {
+        AtomicInteger maxConcurrency = new AtomicInteger(1);
+        NativeSearchAdmissionController controller = new NativeSearchAdmissionController(maxConcurrency::get, () -> 0, () -> 10_000);
+        controller.acquire(1);
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            controller.acquire(1);
+            admitted.countDown();
+        });
+        waiter.start();
+
+        assertFalse(admitted.await(100, TimeUnit.MILLISECONDS));
+        maxConcurrency.set(2);
+        assertTrue(admitted.await(10, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(2, controller.getInFlight());
+    }
+
+    public void testEstimateScratchBytes() {
+        assertEquals(1000 + 10 * 12 + 5 * 8 + 3 * 4, NativeSearchAdmissionController.estimateScratchBytes(1000, 10, 5, 3));
+    }
+}
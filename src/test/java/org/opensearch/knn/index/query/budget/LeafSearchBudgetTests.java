@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.budget;
+
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopKnnCollector;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.knn.KNNTestCase;
+
+public class LeafSearchBudgetTests extends KNNTestCase {
+
+    public void testTryConsume_whenDistanceComputationsReached_thenExhausted() {
+        LeafSearchBudget budget = new LeafSearchBudget(SearchBudget.builder().maxDistanceComputations(100).build(), System.nanoTime());
+
+        assertTrue(budget.tryConsume(64));
+        assertFalse(budget.isExhausted());
+        // Spending exactly the budget does not cut the search short
+        assertTrue(budget.tryConsume(36));
+        assertFalse(budget.isExhausted());
+        assertFalse(budget.tryConsume(1));
+        assertTrue(budget.isExhausted());
+        assertFalse(budget.tryConsume(1));
+        assertEquals(101, budget.getDistanceComputations());
+    }
+
+    public void testHasTimeLeft_whenTimeoutPassed_thenExhausted() {
+        SearchBudget searchBudget = SearchBudget.builder().timeout(TimeValue.timeValueMillis(10)).build();
+        LeafSearchBudget expired = new LeafSearchBudget(searchBudget, System.nanoTime() - TimeValue.timeValueSeconds(1).nanos());
+        assertFalse(expired.isExhausted());
+        assertFalse(expired.hasTimeLeft());
+        assertTrue(expired.isExhausted());
+
+        SearchBudget longBudget = SearchBudget.builder().timeout(TimeValue.timeValueHours(1)).build();
+        LeafSearchBudget running = new LeafSearchBudget(longBudget, System.nanoTime());
+        assertTrue(running.hasTimeLeft());
+        assertTrue(running.tryConsume(1000));
+        assertFalse(running.isExhausted());
+    }
+
+    public void testTryConsume_whenTimeoutPassed_thenExhaustedAtClockCheck() {
+        SearchBudget searchBudget = SearchBudget.builder().timeout(TimeValue.timeValueMillis(10)).build();
+        LeafSearchBudget budget = new LeafSearchBudget(searchBudget, System.nanoTime() - TimeValue.timeValueSeconds(1).nanos());
+
+        // The clock is only read once the consumed count crosses a check interval
+        assertTrue(budget.tryConsume(1));
+        assertFalse(budget.tryConsume(63));
+        assertTrue(budget.isExhausted());
+    }
+
+    public void testBudgetedKnnCollector_whenBudgetExhausted_thenEarlyTerminatesWithCollectedResults() {
+        LeafSearchBudget budget = new LeafSearchBudget(SearchBudget.builder().maxDistanceComputations(1).build(), System.nanoTime());
+        KnnCollector collector = new BudgetedKnnCollector(new TopKnnCollector(10, Integer.MAX_VALUE), budget);
+
+        collector.incVisitedCount(1);
+        collector.collect(1, 0.5f);
+        assertFalse(collector.earlyTerminated());
+
+        collector.incVisitedCount(1);
+        collector.collect(2, 0.9f);
+        assertTrue(collector.earlyTerminated());
+
+        TopDocs topDocs = collector.topDocs();
+        assertEquals(2, topDocs.scoreDocs.length);
+        assertEquals(2, topDocs.scoreDocs[0].doc);
+        assertEquals(2, collector.visitedCount());
+    }
+}
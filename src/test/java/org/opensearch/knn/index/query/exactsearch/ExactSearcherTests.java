@@ -16,11 +16,15 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.KNNCodecVersion;
@@ -31,8 +35,12 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
 import org.opensearch.knn.index.vectorvalues.TestVectorValues;
 import org.opensearch.knn.plugin.script.KNNScoringUtil;
+import org.opensearch.knn.plugin.stats.KNNCounter;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -47,7 +55,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.KNNRestTestCase.FIELD_NAME;
 import static org.opensearch.knn.KNNRestTestCase.INDEX_NAME;
+import static org.opensearch.knn.common.KNNConstants.EXACT_SEARCH_THREAD_POOL;
 import static org.opensearch.knn.common.KNNConstants.INDEX_DESCRIPTION_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
 import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
 import static org.opensearch.knn.common.KNNConstants.PARAMETERS;
 import static org.opensearch.knn.common.KNNConstants.QFRAMEWORK_CONFIG;
@@ -360,6 +370,80 @@ public class ExactSearcherTests extends KNNTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testExactSearch_whenCandidatesExceedParallelThreshold_thenSameResultsAsSingleThreaded() {
+        final int numDocs = 10_000;
+        final int k = 10;
+        final float[] queryVector = new float[] { 0.5f, 0.5f };
+        final List<float[]> vectors = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            vectors.add(new float[] { random().nextFloat(), random().nextFloat() });
+        }
+        final FixedBitSet candidates = new FixedBitSet(numDocs);
+        for (int i = 0; i < numDocs; i += 1 + random().nextInt(2)) {
+            candidates.set(i);
+        }
+        final int numCandidates = candidates.cardinality();
+
+        final ThreadPool exactSearchThreadPool = new ThreadPool(
+            Settings.builder().put("node.name", "ExactSearcherTests").build(),
+            new FixedExecutorBuilder(Settings.EMPTY, EXACT_SEARCH_THREAD_POOL, 2, 10, KNN_THREAD_POOL_PREFIX, false)
+        );
+        try (
+            MockedStatic<KNNVectorValuesFactory> vectorValuesFactoryMockedStatic = Mockito.mockStatic(KNNVectorValuesFactory.class);
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = Mockito.mockStatic(KNNSettings.class)
+        ) {
+            knnSettingsMockedStatic.when(KNNSettings::getExactSearchParallelMinCandidates).thenReturn(0);
+            final ExactSearcher exactSearcher = new ExactSearcher(null);
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            final SegmentReader reader = mock(SegmentReader.class);
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(fieldInfo.getAttribute(SPACE_TYPE)).thenReturn(SpaceType.L2.getValue());
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(fieldInfos.fieldInfo(FIELD_NAME)).thenReturn(fieldInfo);
+            when(leafReaderContext.reader()).thenReturn(reader);
+            // Every range reads the vectors through its own iterator
+            vectorValuesFactoryMockedStatic.when(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader))
+                .thenAnswer(invocation -> TestVectorValues.createKNNFloatVectorValues(vectors));
+
+            final TopDocs singleThreaded = exactSearcher.searchLeaf(
+                leafReaderContext,
+                buildContext(queryVector, k, candidates, numCandidates)
+            );
+
+            ExactSearcher.setThreadPool(exactSearchThreadPool);
+            final long parallelRequests = KNNCounter.EXACT_SEARCH_PARALLEL_REQUESTS.getCount();
+            final TopDocs parallel = exactSearcher.searchLeaf(leafReaderContext, buildContext(queryVector, k, candidates, numCandidates));
+
+            assertEquals(parallelRequests + 1, (long) KNNCounter.EXACT_SEARCH_PARALLEL_REQUESTS.getCount());
+            assertEquals(k, parallel.scoreDocs.length);
+            for (int i = 0; i < k; i++) {
+                assertEquals(singleThreaded.scoreDocs[i].doc, parallel.scoreDocs[i].doc);
+                assertEquals(singleThreaded.scoreDocs[i].score, parallel.scoreDocs[i].score, 0.0f);
+            }
+        } finally {
+            ExactSearcher.setThreadPool(null);
+            terminate(exactSearchThreadPool);
+        }
+    }
+
+    private static ExactSearcher.ExactSearcherContext buildContext(
+        final float[] queryVector,
+        final int k,
+        final FixedBitSet candidates,
+        final int numCandidates
+    ) {
+        return ExactSearcher.ExactSearcherContext.builder()
+            .field(FIELD_NAME)
+            .floatQueryVector(queryVector)
+            .k(k)
+            .useQuantizedVectorsForSearch(true)
+            .matchedDocsIterator(new BitSetIterator(candidates, numCandidates))
+            .numberOfMatchedDocs(numCandidates)
+            .build();
+    }
+
     @SneakyThrows
     private void doTestRadialSearch_whenNoEngineFiles_thenSuccess(final boolean memoryOptimizedSearchEnabled) {
         // Prepare data before mocking static factory
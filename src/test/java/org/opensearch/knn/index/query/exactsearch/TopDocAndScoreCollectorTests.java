@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.exactsearch;
+
+import org.apache.lucene.search.DocAndFloatFeatureBuffer;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.knn.KNNTestCase;
+
+public class TopDocAndScoreCollectorTests extends KNNTestCase {
+
+    public void testCollect_thenKeepsTopKInDescendingOrder() {
+        TopDocAndScoreCollector collector = new TopDocAndScoreCollector(3);
+        assertEquals(Float.NEGATIVE_INFINITY, collector.minCompetitiveScore(), 0.0f);
+
+        collector.collect(buffer(new int[] { 0, 1, 2, 3, 4 }, new float[] { 0.1f, 0.9f, 0.5f, 0.7f, 0.3f }));
+        assertEquals(0.5f, collector.minCompetitiveScore(), 0.0f);
+
+        TopDocs topDocs = collector.topDocs();
+        assertEquals(3, topDocs.totalHits.value());
+        assertEquals(1, topDocs.scoreDocs[0].doc);
+        assertEquals(0.9f, topDocs.scoreDocs[0].score, 0.0f);
+        assertEquals(3, topDocs.scoreDocs[1].doc);
+        assertEquals(2, topDocs.scoreDocs[2].doc);
+    }
+
+    public void testCollect_whenScoresTie_thenSmallerDocWins() {
+        TopDocAndScoreCollector collector = new TopDocAndScoreCollector(2);
+
+        collector.collect(buffer(new int[] { 5, 6, 7 }, new float[] { 0.5f, 0.5f, 0.5f }));
+
+        TopDocs topDocs = collector.topDocs();
+        assertEquals(2, topDocs.scoreDocs.length);
+        assertEquals(5, topDocs.scoreDocs[0].doc);
+        assertEquals(6, topDocs.scoreDocs[1].doc);
+    }
+
+    public void testCollect_whenMinScore_thenDropsDocsBelowIt() {
+        TopDocAndScoreCollector collector = new TopDocAndScoreCollector(10, 0.4f);
+
+        collector.collect(buffer(new int[] { 0, 1, 2 }, new float[] { 0.39f, 0.4f, 0.8f }));
+
+        TopDocs topDocs = collector.topDocs();
+        assertEquals(2, topDocs.scoreDocs.length);
+        assertEquals(2, topDocs.scoreDocs[0].doc);
+        assertEquals(1, topDocs.scoreDocs[1].doc);
+    }
+
+    public void testCollect_whenSizeIsZero_thenCollectsNothing() {
+        TopDocAndScoreCollector collector = new TopDocAndScoreCollector(0);
+
+        collector.collect(buffer(new int[] { 0 }, new float[] { 1.0f }));
+
+        assertEquals(0, collector.topDocs().scoreDocs.length);
+    }
+
+    public void testCollectTopDocs_thenMergesPartialResults() {
+        TopDocAndScoreCollector collector = new TopDocAndScoreCollector(3);
+
+        collector.collect(topDocs(new int[] { 9, 2 }, new float[] { 0.8f, 0.4f }));
+        collector.collect(topDocs(new int[] { 20, 15, 11 }, new float[] { 0.9f, 0.4f, 0.1f }));
+
+        TopDocs topDocs = collector.topDocs();
+        assertEquals(3, topDocs.scoreDocs.length);
+        assertEquals(20, topDocs.scoreDocs[0].doc);
+        assertEquals(9, topDocs.scoreDocs[1].doc);
+        assertEquals(2, topDocs.scoreDocs[2].doc);
+    }
+
+    private static TopDocs topDocs(int[] docs, float[] scores) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[docs.length];
+        for (int i = 0; i < docs.length; i++) {
+            scoreDocs[i] = new ScoreDoc(docs[i], scores[i]);
+        }
+        return new TopDocs(new TotalHits(docs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    private static DocAndFloatFeatureBuffer buffer(int[] docs, float[] scores) {
+        DocAndFloatFeatureBuffer buffer = new DocAndFloatFeatureBuffer();
+        buffer.docs = docs;
+        buffer.features = scores;
+        buffer.size = docs.length;
+        return buffer;
+    }
+}
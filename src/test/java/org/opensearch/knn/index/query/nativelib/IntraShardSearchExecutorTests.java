@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.nativelib;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TaskExecutor;
+import org.mockito.MockedStatic;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.plugin.stats.KNNCounter;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.KNN_THREAD_POOL_PREFIX;
+import static org.opensearch.knn.common.KNNConstants.SEGMENT_SEARCH_THREAD_POOL;
+
+public class IntraShardSearchExecutorTests extends KNNTestCase {
+
+    private static final String INDEX_NAME = "test-index";
+
+    @SneakyThrows
+    public void testInvokeAll_whenIntraShardSearchEnabled_thenSearchesLeavesInParallel() {
+        ThreadPool segmentSearchThreadPool = new ThreadPool(
+            Settings.builder().put("node.name", "IntraShardSearchExecutorTests").build(),
+            new FixedExecutorBuilder(Settings.EMPTY, SEGMENT_SEARCH_THREAD_POOL, 2, 10, KNN_THREAD_POOL_PREFIX, false)
+        );
+        IntraShardSearchExecutor.setThreadPool(segmentSearchThreadPool);
+        try (MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class)) {
+            mockedKnnSettings.when(() -> KNNSettings.isIntraShardSearchEnabled(any())).thenReturn(true);
+            IndexSearcher indexSearcher = mockIndexSearcher();
+            List<LeafReaderContext> leafReaderContexts = mockLeaves(10, 1000, 100);
+            long parallelRequests = KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.getCount();
+
+            List<Integer> results = IntraShardSearchExecutor.invokeAll(
+                indexSearcher,
+                INDEX_NAME,
+                leafReaderContexts,
+                ctx -> ctx.reader().maxDoc(),
+                ctx -> ctx.reader().maxDoc()
+            );
+
+            // Results are returned in leaf order even though the largest leaf is scheduled first
+            assertEquals(List.of(10, 1000, 100), results);
+            assertEquals(parallelRequests + 1, (long) KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.getCount());
+        } finally {
+            IntraShardSearchExecutor.setThreadPool(null);
+            terminate(segmentSearchThreadPool);
+        }
+    }
+
+    @SneakyThrows
+    public void testInvokeAll_whenThreadPoolNotSet_thenUsesSearcherTaskExecutor() {
+        IntraShardSearchExecutor.setThreadPool(null);
+        IndexSearcher indexSearcher = mockIndexSearcher();
+        List<LeafReaderContext> leafReaderContexts = mockLeaves(10, 1000);
+        long parallelRequests = KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.getCount();
+
+        List<Integer> results = IntraShardSearchExecutor.invokeAll(
+            indexSearcher,
+            INDEX_NAME,
+            leafReaderContexts,
+            ctx -> ctx.reader().maxDoc(),
+            ctx -> ctx.reader().maxDoc()
+        );
+
+        assertEquals(List.of(10, 1000), results);
+        assertEquals(parallelRequests, (long) KNNCounter.GRAPH_QUERY_INTRA_SHARD_PARALLEL_REQUESTS.getCount());
+    }
+
+    @SneakyThrows
+    public void testInvokeAll_whenSearcherTaskExecutorUsed_thenSchedulesLeavesByDecreasingCost() {
+        IntraShardSearchExecutor.setThreadPool(null);
+        IndexSearcher indexSearcher = mockIndexSearcher();
+        List<LeafReaderContext> leafReaderContexts = mockLeaves(10, 1000, 100, 500);
+        // The smallest leaf falls back to exact search over all of its vectors, the largest one has a resident graph
+        Map<Integer, Long> costs = Map.of(10, 10_000L, 1000, 300L, 100, 50L, 500, 300L);
+        List<Integer> searchOrder = new ArrayList<>();
+
+        List<Integer> results = IntraShardSearchExecutor.invokeAll(
+            indexSearcher,
+            INDEX_NAME,
+            leafReaderContexts,
+            ctx -> costs.get(ctx.reader().maxDoc()),
+            ctx -> {
+                searchOrder.add(ctx.reader().maxDoc());
+                return ctx.reader().maxDoc();
+            }
+        );
+
+        // Leaves of equal cost keep their order
+        assertEquals(List.of(10, 1000, 500, 100), searchOrder);
+        assertEquals(List.of(10, 1000, 100, 500), results);
+    }
+
+    private static IndexSearcher mockIndexSearcher() {
+        IndexSearcher indexSearcher = mock(IndexSearcher.class);
+        when(indexSearcher.getTaskExecutor()).thenReturn(new TaskExecutor(Runnable::run));
+        when(indexSearcher.getSlices()).thenReturn(new IndexSearcher.LeafSlice[1]);
+        return indexSearcher;
+    }
+
+    private static List<LeafReaderContext> mockLeaves(int... maxDocs) {
+        List<LeafReaderContext> leafReaderContexts = new ArrayList<>(maxDocs.length);
+        for (int maxDoc : maxDocs) {
+            LeafReader leafReader = mock(LeafReader.class);
+            when(leafReader.maxDoc()).thenReturn(maxDoc);
+            LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            when(leafReaderContext.reader()).thenReturn(leafReader);
+            leafReaderContexts.add(leafReaderContext);
+        }
+        return leafReaderContexts;
+    }
+}
@@ -35,6 +35,7 @@ import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
+import org.opensearch.knn.index.query.MinCompetitiveScore;
 import org.opensearch.knn.index.query.PerLeafResult;
 import org.opensearch.knn.index.query.ResultUtil;
 import org.opensearch.knn.index.query.common.QueryUtils;
@@ -390,6 +391,36 @@ public class NativeEngineKNNVectorQueryTests extends OpenSearchTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testSingleLeaf_whenKResultsFound_thenRaisesMinCompetitiveScore() {
+        // Given
+        int k = 2;
+        PerLeafResult leaf1Result = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 1.2f, 1, 5.1f, 2, 2.2f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        List<LeafReaderContext> leaves = reader.leaves();
+        leaf1 = leaves.get(0);
+        when(knnWeight.searchLeaf(leaf1, k)).thenReturn(leaf1Result);
+        when(knnQuery.getK()).thenReturn(k);
+
+        try (MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class)) {
+            mockedKnnSettings.when(() -> KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(any())).thenReturn(false);
+
+            // When
+            objectUnderTest.createWeight(searcher, scoreMode, 1);
+
+            // Then
+            ArgumentCaptor<MinCompetitiveScore> captor = ArgumentCaptor.forClass(MinCompetitiveScore.class);
+            verify(knnWeight).setMinCompetitiveScore(captor.capture());
+            assertEquals(k, captor.getValue().getK());
+            assertEquals(2.2f, captor.getValue().get(), 0.0f);
+            assertEquals(Map.of(1, 5.1f, 2, 2.2f), convertTopDocsToMap(leaf1Result.getResult()));
+        }
+    }
+
     @SneakyThrows
     public void testNoMatch() {
         // Given
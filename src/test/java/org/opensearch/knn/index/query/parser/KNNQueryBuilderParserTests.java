@@ -9,6 +9,7 @@ import org.opensearch.Version;
 import org.opensearch.cluster.ClusterModule;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -18,6 +19,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.query.budget.SearchBudget;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.knn.index.util.KNNClusterUtil;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
@@ -408,6 +410,48 @@ public class KNNQueryBuilderParserTests extends KNNTestCase {
         assertEquals(knnQueryBuilderRescoreDisabled, actualBuilderRescoreDisabled);
     }
 
+    public void testFromXContent_withSearchBudget() throws Exception {
+        float[] queryVector = { 1.0f, 2.0f, 3.0f, 4.0f };
+        SearchBudget searchBudget = SearchBudget.builder().maxDistanceComputations(1000).timeout(TimeValue.timeValueMillis(20)).build();
+        KNNQueryBuilder knnQueryBuilder = KNNQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .vector(queryVector)
+            .k(K)
+            .searchBudget(searchBudget)
+            .build();
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        builder.startObject(knnQueryBuilder.fieldName());
+        builder.field(KNNQueryBuilder.VECTOR_FIELD.getPreferredName(), knnQueryBuilder.vector());
+        builder.field(KNNQueryBuilder.K_FIELD.getPreferredName(), knnQueryBuilder.getK());
+        builder.startObject(KNNQueryBuilder.SEARCH_BUDGET_FIELD.getPreferredName());
+        builder.field(SearchBudgetParser.MAX_DISTANCE_COMPUTATIONS_PARAMETER, 1000);
+        builder.field(SearchBudgetParser.TIMEOUT_PARAMETER, "20ms");
+        builder.endObject();
+        builder.endObject();
+        builder.endObject();
+        XContentParser contentParser = createParser(builder);
+        contentParser.nextToken();
+        KNNQueryBuilder actualBuilder = KNNQueryBuilderParser.fromXContent(contentParser);
+        assertEquals(knnQueryBuilder, actualBuilder);
+    }
+
+    public void testFromXContent_withEmptySearchBudget_thenException() throws Exception {
+        float[] queryVector = { 1.0f, 2.0f, 3.0f, 4.0f };
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        builder.startObject(FIELD_NAME);
+        builder.field(KNNQueryBuilder.VECTOR_FIELD.getPreferredName(), queryVector);
+        builder.field(KNNQueryBuilder.K_FIELD.getPreferredName(), K);
+        builder.startObject(KNNQueryBuilder.SEARCH_BUDGET_FIELD.getPreferredName());
+        builder.endObject();
+        builder.endObject();
+        builder.endObject();
+        XContentParser contentParser = createParser(builder);
+        contentParser.nextToken();
+        expectThrows(IllegalArgumentException.class, () -> KNNQueryBuilderParser.fromXContent(contentParser));
+    }
+
     public void testFromXContent_whenFlat_thenException() throws Exception {
         float[] queryVector = { 1.0f, 2.0f, 3.0f, 4.0f };
         XContentBuilder builder = XContentFactory.jsonBuilder();
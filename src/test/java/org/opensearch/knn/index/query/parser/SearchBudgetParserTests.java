@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.parser;
+
+import lombok.SneakyThrows;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.query.budget.SearchBudget;
+
+import java.io.IOException;
+
+import static org.opensearch.knn.index.query.parser.SearchBudgetParser.MAX_DISTANCE_COMPUTATIONS_PARAMETER;
+import static org.opensearch.knn.index.query.parser.SearchBudgetParser.SEARCH_BUDGET_PARAMETER;
+import static org.opensearch.knn.index.query.parser.SearchBudgetParser.TIMEOUT_PARAMETER;
+
+public class SearchBudgetParserTests extends KNNTestCase {
+
+    @SneakyThrows
+    public void testStreams() {
+        validateStreams(SearchBudget.builder().maxDistanceComputations(1000).timeout(TimeValue.timeValueMillis(20)).build());
+        validateStreams(SearchBudget.builder().timeout(TimeValue.timeValueMillis(20)).build());
+        validateStreams(SearchBudget.builder().maxDistanceComputations(1000).build());
+        validateStreams(null);
+    }
+
+    private void validateStreams(SearchBudget searchBudget) throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            SearchBudgetParser.streamOutput(output, searchBudget);
+
+            try (StreamInput in = new NamedWriteableAwareStreamInput(output.bytes().streamInput(), writableRegistry())) {
+                assertEquals(searchBudget, SearchBudgetParser.streamInput(in));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testDoXContent() {
+        XContentBuilder expectedBuilder = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject(SEARCH_BUDGET_PARAMETER)
+            .field(MAX_DISTANCE_COMPUTATIONS_PARAMETER, 1000)
+            .field(TIMEOUT_PARAMETER, "20ms")
+            .endObject()
+            .endObject();
+
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        SearchBudgetParser.doXContent(
+            builder,
+            SearchBudget.builder().maxDistanceComputations(1000).timeout(TimeValue.timeValueMillis(20)).build()
+        );
+        builder.endObject();
+        assertEquals(expectedBuilder.toString(), builder.toString());
+    }
+
+    @SneakyThrows
+    public void testFromXContent_whenValid_thenSucceed() {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .field(MAX_DISTANCE_COMPUTATIONS_PARAMETER, 1000)
+            .field(TIMEOUT_PARAMETER, "20ms")
+            .endObject();
+        XContentParser parser = createParser(builder);
+        SearchBudget searchBudget = SearchBudgetParser.fromXContent(parser);
+        assertEquals(Integer.valueOf(1000), searchBudget.getMaxDistanceComputations());
+        assertEquals(TimeValue.timeValueMillis(20), searchBudget.getTimeout());
+        assertNull(SearchBudgetParser.validate(searchBudget));
+    }
+
+    @SneakyThrows
+    public void testFromXContent_whenInvalid_thenFail() {
+        XContentBuilder invalidParamBuilder = XContentFactory.jsonBuilder().startObject().field("invalid", 0).endObject();
+        expectParsingException(invalidParamBuilder);
+
+        XContentBuilder invalidTimeoutBuilder = XContentFactory.jsonBuilder().startObject().field(TIMEOUT_PARAMETER, "20").endObject();
+        expectParsingException(invalidTimeoutBuilder);
+    }
+
+    public void testValidate() {
+        assertNotNull(SearchBudgetParser.validate(SearchBudget.builder().build()));
+        assertNotNull(SearchBudgetParser.validate(SearchBudget.builder().maxDistanceComputations(0).build()));
+        assertNotNull(SearchBudgetParser.validate(SearchBudget.builder().timeout(TimeValue.ZERO).build()));
+        assertNull(SearchBudgetParser.validate(SearchBudget.builder().maxDistanceComputations(1).build()));
+    }
+
+    private void expectParsingException(XContentBuilder builder) throws IOException {
+        XContentParser parser = createParser(builder);
+        expectThrows(Exception.class, () -> SearchBudgetParser.fromXContent(parser));
+    }
+}
@@ -175,6 +175,31 @@ public class KNNVectorValuesTests extends KNNTestCase {
         assertArrayEquals(new float[] { 5, 6 }, (float[]) knnVectorValues.getVector(), 0.0f);
     }
 
+    @SneakyThrows
+    public void testListBasedFloatVectorValues_whenDocsSkippedOrAdvanced_thenReturnsCorrectVectors() {
+        final List<float[]> vectors = List.of(new float[] { 1, 2 }, new float[] { 3, 4 }, new float[] { 5, 6 }, new float[] { 7, 8 });
+        final DocsWithFieldSet docsWithFieldSet = new DocsWithFieldSet();
+        docsWithFieldSet.add(1);
+        docsWithFieldSet.add(4);
+        docsWithFieldSet.add(7);
+        docsWithFieldSet.add(9);
+
+        final KNNVectorValues<float[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(
+            VectorDataType.FLOAT,
+            docsWithFieldSet,
+            vectors
+        );
+
+        // Vectors of skipped docs are never read, as done by the sampling of the quantization training
+        knnVectorValues.nextDoc();
+        assertEquals(4, knnVectorValues.nextDoc());
+        assertArrayEquals(new float[] { 3, 4 }, (float[]) knnVectorValues.getVector(), 0.0f);
+
+        assertEquals(9, knnVectorValues.advance(8));
+        assertArrayEquals(new float[] { 7, 8 }, (float[]) knnVectorValues.getVector(), 0.0f);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, knnVectorValues.nextDoc());
+    }
+
     private class CompareVectorValues<T> {
         void validateVectorValues(
             KNNVectorValues<T> vectorValues,
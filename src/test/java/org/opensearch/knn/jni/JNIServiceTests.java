@@ -32,6 +32,7 @@ import org.opensearch.knn.index.engine.KNNMethodContext;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.nmslib.NmslibHNSWMethod;
 import org.opensearch.knn.index.query.KNNQueryResult;
+import org.opensearch.knn.index.query.KNNQueryResultBuffer;
 import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.engine.KNNEngine;
@@ -1221,6 +1222,148 @@ public class JNIServiceTests extends KNNTestCase {
         }
     }
 
+    public void testQueryIndexWithResultBuffer_faiss_valid() throws IOException {
+        int k = 10;
+        int efSearch = 100;
+
+        Path tempDirPath = createTempDir();
+        try (Directory directory = newFSDirectory(tempDirPath)) {
+            String indexFileName = "test1" + UUID.randomUUID() + ".tmp";
+            TestUtils.createIndex(
+                testData.indexData.docs,
+                testData.loadDataToMemoryAddress(),
+                testData.indexData.getDimension(),
+                directory,
+                indexFileName,
+                ImmutableMap.of(INDEX_DESCRIPTION_PARAMETER, faissMethod, KNNConstants.SPACE_TYPE, SpaceType.L2.getValue()),
+                KNNEngine.FAISS
+            );
+
+            final long pointer;
+            try (IndexInput indexInput = directory.openInput(indexFileName, IOContext.DEFAULT)) {
+                pointer = JNIService.loadIndex(
+                    new IndexInputWithBuffer(indexInput),
+                    ImmutableMap.of(KNNConstants.SPACE_TYPE, SpaceType.L2.getValue()),
+                    KNNEngine.FAISS
+                );
+                assertNotEquals(0, pointer);
+            }
+
+            for (int i = 0; i < testData.queries.length; i++) {
+                KNNQueryResult[] results = JNIService.queryIndex(
+                    pointer,
+                    testData.queries[i],
+                    k,
+                    Map.of("ef_search", efSearch),
+                    KNNEngine.FAISS,
+                    null,
+                    0,
+                    null
+                );
+
+                // Results written into a buffer match the allocated results
+                KNNQueryResultBuffer resultBuffer = KNNQueryResultBuffer.getThreadLocalBuffer(k);
+                JNIService.queryIndex(
+                    pointer,
+                    testData.queries[i],
+                    k,
+                    Map.of("ef_search", efSearch),
+                    KNNEngine.FAISS,
+                    null,
+                    0,
+                    null,
+                    resultBuffer
+                );
+                assertEquals(results.length, resultBuffer.getSize());
+                for (int j = 0; j < results.length; j++) {
+                    assertEquals(results[j].getId(), resultBuffer.getIds()[j]);
+                    assertEquals(results[j].getScore(), resultBuffer.getScores()[j], 1e-5);
+                }
+            }
+        }
+    }
+
+    public void testQueryIndexBatch_faiss_valid() throws IOException {
+        int k = 10;
+        int efSearch = 100;
+
+        Path tempDirPath = createTempDir();
+        try (Directory directory = newFSDirectory(tempDirPath)) {
+            String indexFileName = "test1" + UUID.randomUUID() + ".tmp";
+            TestUtils.createIndex(
+                testData.indexData.docs,
+                testData.loadDataToMemoryAddress(),
+                testData.indexData.getDimension(),
+                directory,
+                indexFileName,
+                ImmutableMap.of(INDEX_DESCRIPTION_PARAMETER, faissMethod, KNNConstants.SPACE_TYPE, SpaceType.L2.getValue()),
+                KNNEngine.FAISS
+            );
+
+            final long pointer;
+            try (IndexInput indexInput = directory.openInput(indexFileName, IOContext.DEFAULT)) {
+                pointer = JNIService.loadIndex(
+                    new IndexInputWithBuffer(indexInput),
+                    ImmutableMap.of(KNNConstants.SPACE_TYPE, SpaceType.L2.getValue()),
+                    KNNEngine.FAISS
+                );
+                assertNotEquals(0, pointer);
+            }
+
+            int numQueries = testData.queries.length;
+            int dimension = testData.indexData.getDimension();
+            float[] queryVectors = new float[numQueries * dimension];
+            for (int i = 0; i < numQueries; i++) {
+                System.arraycopy(testData.queries[i], 0, queryVectors, i * dimension, dimension);
+            }
+            int[] resultIds = new int[numQueries * k];
+            float[] resultDistances = new float[numQueries * k];
+            JNIService.queryIndexBatch(
+                pointer,
+                queryVectors,
+                numQueries,
+                k,
+                Map.of("ef_search", efSearch),
+                KNNEngine.FAISS,
+                resultIds,
+                resultDistances
+            );
+
+            // Results of the batch match the results of searching every query on its own
+            for (int i = 0; i < numQueries; i++) {
+                KNNQueryResult[] results = JNIService.queryIndex(
+                    pointer,
+                    testData.queries[i],
+                    k,
+                    Map.of("ef_search", efSearch),
+                    KNNEngine.FAISS,
+                    null,
+                    0,
+                    null
+                );
+                for (int j = 0; j < k; j++) {
+                    if (j < results.length) {
+                        assertEquals(results[j].getId(), resultIds[i * k + j]);
+                        assertEquals(results[j].getScore(), resultDistances[i * k + j], 1e-5);
+                    } else {
+                        assertEquals(-1, resultIds[i * k + j]);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testQueryIndexBatch_invalidEngine() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> JNIService.queryIndexBatch(0L, new float[] {}, 1, 0, null, KNNEngine.LUCENE, new int[] {}, new float[] {})
+        );
+    }
+
+    public void testQueryIndexBatch_faiss_invalid_nullQueryVectors() {
+        expectThrows(Exception.class, () -> JNIService.queryIndexBatch(0L, null, 1, 1, null, KNNEngine.FAISS, new int[1], new float[1]));
+    }
+
     public void testQueryIndex_faiss_streaming_valid() throws IOException {
         int k = 10;
         int efSearch = 100;
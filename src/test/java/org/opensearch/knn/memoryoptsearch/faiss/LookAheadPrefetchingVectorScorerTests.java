@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.knn.KNNTestCase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LookAheadPrefetchingVectorScorerTests extends KNNTestCase {
+
+    @SneakyThrows
+    public void testBulkScore_thenPrefetchesNeighborListsOfBestCompetitiveNodes() {
+        final int[] nodes = { 10, 11, 12, 13, 14 };
+        final float[] scores = new float[nodes.length];
+        final RandomVectorScorer delegate = mock(RandomVectorScorer.class);
+        when(delegate.bulkScore(any(), any(), eq(nodes.length))).thenAnswer(invocation -> {
+            final float[] out = invocation.getArgument(1);
+            System.arraycopy(new float[] { 0.3f, 0.9f, 0.1f, 0.7f, 0.8f }, 0, out, 0, nodes.length);
+            return 0.9f;
+        });
+        final FaissHnswGraph graph = mock(FaissHnswGraph.class);
+        final KnnCollector collector = mock(KnnCollector.class);
+        when(collector.minCompetitiveSimilarity()).thenReturn(0.2f);
+
+        final LookAheadPrefetchingVectorScorer scorer = new LookAheadPrefetchingVectorScorer(delegate, graph, collector, 2);
+
+        assertEquals(0.9f, scorer.bulkScore(nodes, scores, nodes.length), 0.0f);
+        verify(graph).prefetchNeighborIdList(11);
+        verify(graph).prefetchNeighborIdList(14);
+        verify(graph, never()).prefetchNeighborIdList(10);
+        verify(graph, never()).prefetchNeighborIdList(13);
+    }
+
+    @SneakyThrows
+    public void testBulkScore_whenNoCompetitiveNode_thenNoPrefetch() {
+        final int[] nodes = { 1, 2 };
+        final RandomVectorScorer delegate = mock(RandomVectorScorer.class);
+        when(delegate.bulkScore(any(), any(), anyInt())).thenReturn(0.0f);
+        final FaissHnswGraph graph = mock(FaissHnswGraph.class);
+        final KnnCollector collector = mock(KnnCollector.class);
+        when(collector.minCompetitiveSimilarity()).thenReturn(0.5f);
+
+        final LookAheadPrefetchingVectorScorer scorer = new LookAheadPrefetchingVectorScorer(delegate, graph, collector, 4);
+        scorer.bulkScore(nodes, new float[nodes.length], nodes.length);
+
+        verify(graph, never()).prefetchNeighborIdList(anyInt());
+    }
+}
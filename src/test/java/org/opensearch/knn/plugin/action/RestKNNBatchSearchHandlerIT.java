@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.action;
+
+import lombok.SneakyThrows;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.knn.KNNRestTestCase;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.plugin.KNNPlugin;
+import org.opensearch.rest.RestRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.knn.common.KNNConstants.BATCH_SEARCH;
+import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
+
+/**
+ * Integration tests to validate Batch Search API
+ */
+public class RestKNNBatchSearchHandlerIT extends KNNRestTestCase {
+    private static final String TEST_FIELD = "test-field";
+    private static final int DIMENSIONS = 2;
+    public static final int ALWAYS_BUILD_GRAPH = 0;
+
+    @SneakyThrows
+    public void testNotKnnIndex() {
+        String notKNNIndex = "not-knn-index";
+        createIndex(notKNNIndex, Settings.EMPTY);
+
+        ResponseException ex = expectThrows(ResponseException.class, () -> batchSearch(notKNNIndex, "[[1.0, 2.0]]"));
+        assertTrue(ex.getMessage().contains(notKNNIndex));
+    }
+
+    @SneakyThrows
+    public void testBatchSearch() {
+        String testIndex = getTestName().toLowerCase();
+        createKnnIndex(
+            testIndex,
+            buildKNNIndexSettings(ALWAYS_BUILD_GRAPH),
+            createKnnIndexMapping(TEST_FIELD, DIMENSIONS, METHOD_HNSW, KNNEngine.FAISS.getName())
+        );
+        addKnnDoc(testIndex, "1", TEST_FIELD, new Float[] { 0.0f, 1.0f });
+        addKnnDoc(testIndex, "2", TEST_FIELD, new Float[] { 5.0f, 5.0f });
+        addKnnDoc(testIndex, "3", TEST_FIELD, new Float[] { 10.0f, 10.0f });
+
+        Map<String, Object> responseMap = entityAsMap(batchSearch(testIndex, "[[0.0, 1.0], [10.0, 10.0]]"));
+
+        List<Map<String, Object>> responses = (List<Map<String, Object>>) responseMap.get("responses");
+        assertEquals(2, responses.size());
+        assertEquals(List.of("1", "2"), getHitIds(responses.get(0)));
+        assertEquals(List.of("3", "2"), getHitIds(responses.get(1)));
+    }
+
+    @SneakyThrows
+    public void testBatchSearch_whenInvalidDimension_thenFails() {
+        String testIndex = getTestName().toLowerCase();
+        createKnnIndex(
+            testIndex,
+            buildKNNIndexSettings(ALWAYS_BUILD_GRAPH),
+            createKnnIndexMapping(TEST_FIELD, DIMENSIONS, METHOD_HNSW, KNNEngine.FAISS.getName())
+        );
+        addKnnDoc(testIndex, "1", TEST_FIELD, new Float[] { 0.0f, 1.0f });
+
+        Map<String, Object> responseMap = entityAsMap(batchSearch(testIndex, "[[0.0, 1.0, 2.0]]"));
+
+        Map<String, Object> shards = (Map<String, Object>) responseMap.get("_shards");
+        assertEquals(1, shards.get("failed"));
+    }
+
+    private Response batchSearch(String index, String vectors) throws Exception {
+        String restURI = String.join("/", KNNPlugin.KNN_BASE_URI, BATCH_SEARCH, index);
+        Request request = new Request(RestRequest.Method.POST.name(), restURI);
+        request.setJsonEntity("{\"field\": \"" + TEST_FIELD + "\", \"k\": 2, \"vectors\": " + vectors + "}");
+        return client().performRequest(request);
+    }
+
+    private static List<Object> getHitIds(Map<String, Object> response) {
+        return ((List<Map<String, Object>>) response.get("hits")).stream().map(hit -> hit.get("_id")).toList();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.mockito.MockedStatic;
+import org.opensearch.Version;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.util.KNNClusterUtil;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+public class KNNBatchSearchRequestTests extends KNNTestCase {
+
+    private static final String INDEX_NAME = "test-index";
+    private static final String FIELD_NAME = "test-field";
+
+    public void testStreams() throws IOException {
+        try (MockedStatic<KNNClusterUtil> knnClusterUtilMockedStatic = mockStatic(KNNClusterUtil.class)) {
+            final KNNClusterUtil knnClusterUtil = mock(KNNClusterUtil.class);
+            when(knnClusterUtil.getClusterMinVersion()).thenReturn(Version.CURRENT);
+            knnClusterUtilMockedStatic.when(KNNClusterUtil::instance).thenReturn(knnClusterUtil);
+
+            float[][] queryVectors = new float[][] { { 1.0f, 2.0f }, { 3.0f, 4.0f } };
+            KNNBatchSearchRequest knnBatchSearchRequest = new KNNBatchSearchRequest(
+                FIELD_NAME,
+                10,
+                queryVectors,
+                Map.of("ef_search", 100),
+                INDEX_NAME
+            );
+            BytesStreamOutput streamOutput = new BytesStreamOutput();
+            knnBatchSearchRequest.writeTo(streamOutput);
+            KNNBatchSearchRequest knnBatchSearchRequestCopy = new KNNBatchSearchRequest(streamOutput.bytes().streamInput());
+
+            assertArrayEquals(new String[] { INDEX_NAME }, knnBatchSearchRequestCopy.indices());
+            assertEquals(FIELD_NAME, knnBatchSearchRequestCopy.getField());
+            assertEquals(10, knnBatchSearchRequestCopy.getK());
+            assertEquals(queryVectors.length, knnBatchSearchRequestCopy.getQueryVectors().length);
+            for (int i = 0; i < queryVectors.length; i++) {
+                assertArrayEquals(queryVectors[i], knnBatchSearchRequestCopy.getQueryVectors()[i], 0.0f);
+            }
+            assertEquals(Map.of("ef_search", 100), knnBatchSearchRequestCopy.getMethodParameters());
+        }
+    }
+
+    public void testValidate() {
+        float[][] queryVectors = new float[][] { { 1.0f, 2.0f }, { 3.0f, 4.0f } };
+        assertNull(new KNNBatchSearchRequest(FIELD_NAME, 10, queryVectors, null, INDEX_NAME).validate());
+
+        ActionRequestValidationException exception = new KNNBatchSearchRequest(null, 0, new float[0][], null, INDEX_NAME).validate();
+        assertNotNull(exception);
+        assertEquals(3, exception.validationErrors().size());
+
+        exception = new KNNBatchSearchRequest(FIELD_NAME, 10, new float[][] { { 1.0f, 2.0f }, { 3.0f } }, null, INDEX_NAME).validate();
+        assertNotNull(exception);
+        assertEquals(1, exception.validationErrors().size());
+
+        float[][] tooManyQueryVectors = new float[KNNBatchSearchRequest.MAX_QUERY_VECTORS + 1][];
+        for (int i = 0; i < tooManyQueryVectors.length; i++) {
+            tooManyQueryVectors[i] = new float[] { 1.0f, 2.0f };
+        }
+        exception = new KNNBatchSearchRequest(FIELD_NAME, 10, tooManyQueryVectors, null, INDEX_NAME).validate();
+        assertNotNull(exception);
+        assertEquals(1, exception.validationErrors().size());
+
+        exception = new KNNBatchSearchRequest(FIELD_NAME, 10, queryVectors, Map.of("ef_search", -1), INDEX_NAME).validate();
+        assertNotNull(exception);
+        assertEquals(1, exception.validationErrors().size());
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlock;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.IndexService;
+import org.opensearch.knn.KNNSingleNodeTestCase;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class KNNBatchSearchTransportActionTests extends KNNSingleNodeTestCase {
+    private final String testIndexName = "test-index";
+    private final String testFieldName = "test-field";
+    private final int dimensions = 2;
+
+    public void testShardOperation() throws IOException, ExecutionException, InterruptedException {
+        IndexService indexService = createKNNIndex(testIndexName);
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions, KNNEngine.FAISS);
+        addKnnDoc(testIndexName, "1", testFieldName, new Float[] { 0.0f, 1.0f });
+        addKnnDoc(testIndexName, "2", testFieldName, new Float[] { 5.0f, 5.0f });
+        addKnnDoc(testIndexName, "3", testFieldName, new Float[] { 10.0f, 10.0f });
+        ShardRouting shardRouting = indexService.iterator().next().routingEntry();
+
+        KNNBatchSearchShardResult shardResult = searchShard(shardRouting);
+
+        // Every query is answered from the graph, which is loaded once for the whole batch
+        assertEquals(1, NativeMemoryCacheManager.getInstance().getIndicesCacheStats().size());
+        assertNearestNeighbors(shardResult);
+    }
+
+    public void testShardOperation_whenMemoryOptimizedSearch() throws IOException, ExecutionException, InterruptedException {
+        IndexService indexService = createMemoryOptimizedSearchEnabledKNNIndex(testIndexName);
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions, KNNEngine.FAISS);
+        addKnnDoc(testIndexName, "1", testFieldName, new Float[] { 0.0f, 1.0f });
+        addKnnDoc(testIndexName, "2", testFieldName, new Float[] { 5.0f, 5.0f });
+        addKnnDoc(testIndexName, "3", testFieldName, new Float[] { 10.0f, 10.0f });
+        ShardRouting shardRouting = indexService.iterator().next().routingEntry();
+
+        KNNBatchSearchShardResult shardResult = searchShard(shardRouting);
+
+        // The graph is searched off heap, so it is never loaded into the cache
+        assertTrue(NativeMemoryCacheManager.getInstance().getIndicesCacheStats().isEmpty());
+        assertNearestNeighbors(shardResult);
+    }
+
+    public void testShardOperation_whenLuceneEngine_thenException() throws IOException {
+        IndexService indexService = createKNNIndex(testIndexName);
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions, KNNEngine.LUCENE);
+        ShardRouting shardRouting = indexService.iterator().next().routingEntry();
+
+        expectThrows(IllegalArgumentException.class, () -> searchShard(shardRouting));
+    }
+
+    public void testShardOperation_whenInvalidDimension_thenException() throws IOException {
+        IndexService indexService = createKNNIndex(testIndexName);
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions, KNNEngine.FAISS);
+        ShardRouting shardRouting = indexService.iterator().next().routingEntry();
+        KNNBatchSearchTransportAction knnBatchSearchTransportAction = node().injector().getInstance(KNNBatchSearchTransportAction.class);
+        KNNBatchSearchRequest knnBatchSearchRequest = new KNNBatchSearchRequest(
+            testFieldName,
+            1,
+            new float[][] { { 1.0f, 2.0f, 3.0f } },
+            null,
+            testIndexName
+        );
+
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> knnBatchSearchTransportAction.shardOperation(knnBatchSearchRequest, shardRouting)
+        );
+    }
+
+    public void testShards() throws InterruptedException, ExecutionException, IOException {
+        ClusterService clusterService = node().injector().getInstance(ClusterService.class);
+        KNNBatchSearchTransportAction knnBatchSearchTransportAction = node().injector().getInstance(KNNBatchSearchTransportAction.class);
+        KNNBatchSearchRequest knnBatchSearchRequest = new KNNBatchSearchRequest(
+            testFieldName,
+            1,
+            new float[][] { { 0.0f, 1.0f } },
+            null,
+            testIndexName
+        );
+
+        createKNNIndex(testIndexName);
+        createKnnIndexMapping(testIndexName, testFieldName, dimensions, KNNEngine.FAISS);
+        addKnnDoc(testIndexName, "1", testFieldName, new Float[] { 0.0f, 1.0f });
+
+        ShardsIterator shardsIterator = knnBatchSearchTransportAction.shards(
+            clusterService.state(),
+            knnBatchSearchRequest,
+            new String[] { testIndexName }
+        );
+        assertEquals(1, shardsIterator.size());
+        for (ShardRouting shardRouting : shardsIterator) {
+            assertTrue(shardRouting.primary());
+        }
+    }
+
+    public void testMergeShardResults() {
+        KNNBatchSearchShardResult shardResult1 = new KNNBatchSearchShardResult(
+            List.of(
+                List.of(new KNNBatchSearchResponse.Hit("index-1", "1", 0.9f), new KNNBatchSearchResponse.Hit("index-1", "2", 0.5f)),
+                List.of(new KNNBatchSearchResponse.Hit("index-1", "3", 0.4f))
+            )
+        );
+        KNNBatchSearchShardResult shardResult2 = new KNNBatchSearchShardResult(
+            List.of(
+                List.of(new KNNBatchSearchResponse.Hit("index-2", "4", 0.7f), new KNNBatchSearchResponse.Hit("index-2", "5", 0.1f)),
+                List.of()
+            )
+        );
+
+        List<List<KNNBatchSearchResponse.Hit>> hitsPerQuery = KNNBatchSearchTransportAction.mergeShardResults(
+            2,
+            2,
+            List.of(shardResult1, shardResult2)
+        );
+
+        assertEquals(
+            List.of(
+                List.of(new KNNBatchSearchResponse.Hit("index-1", "1", 0.9f), new KNNBatchSearchResponse.Hit("index-2", "4", 0.7f)),
+                List.of(new KNNBatchSearchResponse.Hit("index-1", "3", 0.4f))
+            ),
+            hitsPerQuery
+        );
+    }
+
+    public void testCheckGlobalBlock() {
+        KNNBatchSearchTransportAction knnBatchSearchTransportAction = node().injector().getInstance(KNNBatchSearchTransportAction.class);
+        KNNBatchSearchRequest knnBatchSearchRequest = new KNNBatchSearchRequest(
+            testFieldName,
+            1,
+            new float[][] { { 0.0f, 1.0f } },
+            null,
+            testIndexName
+        );
+        assertNotNull(knnBatchSearchTransportAction.checkGlobalBlock(getReadBlockedState(), knnBatchSearchRequest));
+    }
+
+    public void testCheckRequestBlock() {
+        KNNBatchSearchTransportAction knnBatchSearchTransportAction = node().injector().getInstance(KNNBatchSearchTransportAction.class);
+        KNNBatchSearchRequest knnBatchSearchRequest = new KNNBatchSearchRequest(
+            testFieldName,
+            1,
+            new float[][] { { 0.0f, 1.0f } },
+            null,
+            testIndexName
+        );
+        assertNotNull(
+            knnBatchSearchTransportAction.checkRequestBlock(getReadBlockedState(), knnBatchSearchRequest, new String[] { testIndexName })
+        );
+    }
+
+    private KNNBatchSearchShardResult searchShard(ShardRouting shardRouting) throws IOException {
+        KNNBatchSearchTransportAction knnBatchSearchTransportAction = node().injector().getInstance(KNNBatchSearchTransportAction.class);
+        KNNBatchSearchRequest knnBatchSearchRequest = new KNNBatchSearchRequest(
+            testFieldName,
+            2,
+            new float[][] { { 0.0f, 1.0f }, { 10.0f, 10.0f } },
+            null,
+            testIndexName
+        );
+        return knnBatchSearchTransportAction.shardOperation(knnBatchSearchRequest, shardRouting);
+    }
+
+    private void assertNearestNeighbors(KNNBatchSearchShardResult shardResult) {
+        List<List<KNNBatchSearchResponse.Hit>> hitsPerQuery = shardResult.getHitsPerQuery();
+        assertEquals(2, hitsPerQuery.size());
+        assertEquals(List.of("1", "2"), hitsPerQuery.get(0).stream().map(KNNBatchSearchResponse.Hit::getId).toList());
+        assertEquals(List.of("3", "2"), hitsPerQuery.get(1).stream().map(KNNBatchSearchResponse.Hit::getId).toList());
+        for (List<KNNBatchSearchResponse.Hit> hits : hitsPerQuery) {
+            assertEquals(testIndexName, hits.get(0).getIndex());
+            // An exact match scores 1 in the l2 space
+            assertEquals(1.0f, hits.get(0).getScore(), 1e-5);
+            assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+        }
+    }
+
+    private ClusterState getReadBlockedState() {
+        ClusterBlock readClusterBlock = new ClusterBlock(
+            randomInt(),
+            "test-read-block",
+            false,
+            false,
+            false,
+            RestStatus.FORBIDDEN,
+            EnumSet.of(ClusterBlockLevel.READ)
+        );
+        ClusterBlocks clusterBlocks = ClusterBlocks.builder().addGlobalBlock(readClusterBlock).build();
+        return ClusterState.builder(ClusterName.DEFAULT).blocks(clusterBlocks).build();
+    }
+}
@@ -10,6 +10,7 @@ import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.quantizer.RandomHadamardRotation;
 
 import java.io.IOException;
 
@@ -58,6 +59,52 @@ public class QuantizationStateSerializerTests extends KNNTestCase {
         assertEquals(params, deserialized.getQuantizationParams());
     }
 
+    public void testSerializeAndDeserializeOneBitScalarQuantizationStateWithHadamardRotation() throws IOException {
+        ScalarQuantizationParams params = ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build();
+        float[] mean = new float[] { 0.1f, 0.2f, 0.3f };
+        float[] above = new float[] { 0.2f, 0.3f, 0.4f };
+        float[] below = new float[] { 0.0f, 0.1f, 0.2f };
+        RandomHadamardRotation hadamardRotation = RandomHadamardRotation.generate(mean.length);
+        OneBitScalarQuantizationState state = OneBitScalarQuantizationState.builder()
+            .quantizationParams(params)
+            .meanThresholds(mean)
+            .aboveThresholdMeans(above)
+            .belowThresholdMeans(below)
+            .hadamardRotation(hadamardRotation)
+            .build();
+
+        byte[] serialized = state.toByteArray();
+        OneBitScalarQuantizationState deserialized = OneBitScalarQuantizationState.fromByteArray(serialized);
+
+        assertArrayEquals(mean, deserialized.getMeanThresholds(), 0.0f);
+        assertArrayEquals(above, deserialized.getAboveThresholdMeans(), 0.0f);
+        assertArrayEquals(below, deserialized.getBelowThresholdMeans(), 0.0f);
+        assertNull(deserialized.getRotationMatrix());
+        assertEquals(hadamardRotation, deserialized.getHadamardRotation());
+        assertEquals(state.ramBytesUsed(), deserialized.ramBytesUsed());
+    }
+
+    public void testSerializeAndDeserializeMultiBitScalarQuantizationStateWithHadamardRotation() throws IOException {
+        ScalarQuantizationParams params = ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.TWO_BIT).build();
+        float[][] thresholds = new float[][] { { 0.1f, 0.2f, 0.3f }, { 0.4f, 0.5f, 0.6f } };
+        RandomHadamardRotation hadamardRotation = RandomHadamardRotation.generate(3);
+
+        MultiBitScalarQuantizationState state = MultiBitScalarQuantizationState.builder()
+            .quantizationParams(params)
+            .thresholds(thresholds)
+            .hadamardRotation(hadamardRotation)
+            .build();
+
+        byte[] serialized = state.toByteArray();
+        MultiBitScalarQuantizationState deserialized = MultiBitScalarQuantizationState.fromByteArray(serialized);
+
+        for (int i = 0; i < thresholds.length; i++) {
+            assertArrayEquals(thresholds[i], deserialized.getThresholds()[i], 0.0f);
+        }
+        assertNull(deserialized.getRotationMatrix());
+        assertEquals(hadamardRotation, deserialized.getHadamardRotation());
+    }
+
     public void testSerializeAndDeserializeMultiBitScalarQuantizationState() throws IOException {
         ScalarQuantizationParams params = ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.TWO_BIT).build();
         float[][] thresholds = new float[][] { { 0.1f, 0.2f, 0.3f }, { 0.4f, 0.5f, 0.6f } };
@@ -192,7 +192,7 @@ public class QuantizationStateTests extends KNNTestCase {
 
         // Case 2: 2D with 3 bit levels: 2*3=6 bits → align to 8 bits
         float[][] thresholds1 = { { 0.5f, 1.5f }, { 1.0f, 2.0f }, { 1.5f, 2.5f } };
-        MultiBitScalarQuantizationState state1 = new MultiBitScalarQuantizationState(params, thresholds1, null);
+        MultiBitScalarQuantizationState state1 = new MultiBitScalarQuantizationState(params, thresholds1, null, null);
         int expectedDimensions1 = 8; // 6 bits aligned to 8
         assertEquals(expectedDimensions1, state1.getDimensions());
     }
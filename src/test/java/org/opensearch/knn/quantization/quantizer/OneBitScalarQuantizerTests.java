@@ -7,6 +7,7 @@ package org.opensearch.knn.quantization.quantizer;
 
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
 import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOutput;
@@ -171,8 +172,20 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
         OneBitScalarQuantizationState state = (OneBitScalarQuantizationState) quantizer.train(trainingRequest);
 
         assertNotNull(state);
-        assertNotNull(state.getRotationMatrix());
-        assertTrue(state.getRotationMatrix().length > 0);
+        assertNotNull(state.getHadamardRotation());
+        assertEquals(3, state.getHadamardRotation().getDimensions());
+        assertNull(state.getRotationMatrix());
+
+        // Thresholds are the means of the rotated vectors
+        float[] expectedMeans = new float[3];
+        for (float[] vector : vectors) {
+            float[] rotated = vector.clone();
+            state.getHadamardRotation().rotate(rotated);
+            for (int i = 0; i < rotated.length; i++) {
+                expectedMeans[i] += rotated[i] / vectors.length;
+            }
+        }
+        assertArrayEquals(expectedMeans, state.getMeanThresholds(), 0.1f);
     }
 
     public void testTrain_withoutRotationMatrix() throws IOException {
@@ -195,6 +208,56 @@ public class OneBitScalarQuantizerTests extends KNNTestCase {
 
         assertNotNull(state);
         assertNull(state.getRotationMatrix());
+        assertNull(state.getHadamardRotation());
+    }
+
+    public void testQuantize_withHadamardRotation() {
+        float[] vector = { 3.0f, -6.0f, 9.0f, 1.0f, -2.0f };
+        float[] original = vector.clone();
+        float[] thresholds = { 0.5f, -0.5f, 1.0f, 0.0f, 2.0f };
+        RandomHadamardRotation hadamardRotation = RandomHadamardRotation.generate(vector.length);
+
+        OneBitScalarQuantizationState state = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+            .meanThresholds(thresholds)
+            .hadamardRotation(hadamardRotation)
+            .build();
+
+        OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer();
+        BinaryQuantizationOutput output = new BinaryQuantizationOutput(1);
+        quantizer.quantize(vector, state, output);
+
+        float[] rotated = original.clone();
+        hadamardRotation.rotate(rotated);
+        BinaryQuantizationOutput expectedOutput = new BinaryQuantizationOutput(1);
+        quantizer.quantize(rotated, new OneBitScalarQuantizationState(state.getQuantizationParams(), thresholds), expectedOutput);
+
+        assertArrayEquals(expectedOutput.getQuantizedVector(), output.getQuantizedVector());
+        // The vector to quantize is not modified
+        assertArrayEquals(original, vector, 0.0f);
+    }
+
+    public void testTransformWithADC_withHadamardRotation() {
+        float[] vector = { 3.0f, -6.0f, 9.0f, 1.0f };
+        RandomHadamardRotation hadamardRotation = RandomHadamardRotation.generate(vector.length);
+        OneBitScalarQuantizationState state = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+            .meanThresholds(new float[] { 0.0f, 0.0f, 0.0f, 0.0f })
+            .belowThresholdMeans(new float[] { -1.0f, -2.0f, -1.0f, -2.0f })
+            .aboveThresholdMeans(new float[] { 1.0f, 2.0f, 3.0f, 2.0f })
+            .hadamardRotation(hadamardRotation)
+            .build();
+
+        float[] expected = vector.clone();
+        hadamardRotation.rotate(expected);
+        for (int i = 0; i < expected.length; i++) {
+            float below = state.getBelowThresholdMeans()[i];
+            expected[i] = (expected[i] - below) / (state.getAboveThresholdMeans()[i] - below);
+        }
+
+        new OneBitScalarQuantizer().transformWithADC(vector, state, SpaceType.INNER_PRODUCT);
+
+        assertArrayEquals(expected, vector, 0.0001f);
     }
 
     public void testQuantize_withRotationMatrix() {
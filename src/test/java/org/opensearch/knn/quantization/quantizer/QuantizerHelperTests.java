@@ -14,6 +14,7 @@ import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import oshi.util.tuples.Pair;
 
 import java.io.IOException;
+import java.util.function.UnaryOperator;
 
 import static org.opensearch.knn.quantization.quantizer.QuantizerHelper.calculateMeanAndStdDev;
 import static org.opensearch.knn.quantization.quantizer.QuantizerHelper.calculateThresholds;
@@ -42,7 +43,7 @@ public class QuantizerHelperTests extends KNNTestCase {
         int[] sampledIndices = { 0, 1, 2 };
         float[][] rotationMatrix = { { 0f, 1f }, { -1f, 0f } };
 
-        Pair<float[], float[]> result = calculateMeanAndStdDev(request, sampledIndices, rotationMatrix);
+        Pair<float[], float[]> result = calculateMeanAndStdDev(request, sampledIndices, rotateWith(rotationMatrix));
 
         assertArrayEquals(new float[] { 4.0f, -3f }, result.getA(), 0.01f);
         assertArrayEquals(new float[] { (float) Math.sqrt(8f / 3), (float) Math.sqrt(8f / 3) }, result.getB(), 0.01f);
@@ -51,7 +52,7 @@ public class QuantizerHelperTests extends KNNTestCase {
         float entry = (float) (1f / Math.sqrt(2f));
         float[][] rotationMatrix2 = { { entry, -entry }, { entry, entry } };
 
-        Pair<float[], float[]> result2 = calculateMeanAndStdDev(request, sampledIndices, rotationMatrix2);
+        Pair<float[], float[]> result2 = calculateMeanAndStdDev(request, sampledIndices, rotateWith(rotationMatrix2));
 
         assertArrayEquals(new float[] { -0.707f, 4.949f }, result2.getA(), 0.01f);
         assertArrayEquals(new float[] { 0f, 2.31f }, result2.getB(), 0.01f);
@@ -99,6 +100,28 @@ public class QuantizerHelperTests extends KNNTestCase {
         assertEquals(3, rotated.length);
     }
 
+    public void testRotate_withHadamardRotation_thenReusesBufferAndKeepsInput() {
+        RandomHadamardRotation hadamardRotation = RandomHadamardRotation.generate(4);
+        float[] first = { 1f, 2f, 3f, 4f };
+        float[] second = { 4f, 3f, 2f, 1f };
+        float[] expectedFirst = first.clone();
+        hadamardRotation.rotate(expectedFirst);
+        float[] expectedSecond = second.clone();
+        hadamardRotation.rotate(expectedSecond);
+
+        float[] rotatedFirst = QuantizerHelper.rotate(first, hadamardRotation, null);
+        assertArrayEquals(expectedFirst, rotatedFirst, 0.0001f);
+        assertArrayEquals(new float[] { 1f, 2f, 3f, 4f }, first, 0.0f);
+
+        float[] rotatedSecond = QuantizerHelper.rotate(second, hadamardRotation, null);
+        assertArrayEquals(expectedSecond, rotatedSecond, 0.0001f);
+        assertArrayEquals(new float[] { 4f, 3f, 2f, 1f }, second, 0.0f);
+        assertSame(rotatedFirst, rotatedSecond);
+
+        float[] vector = { 1f, 2f };
+        assertSame(vector, QuantizerHelper.rotate(vector, null, null));
+    }
+
     public void testAboveAndBelowThresholdMeans() throws IOException {
         float[][] vectors = { { 1f, 2f }, { 3f, 4f }, { 5f, 6f } };
         ScalarQuantizationParams params = ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build();
@@ -126,14 +149,14 @@ public class QuantizerHelperTests extends KNNTestCase {
         TrainingRequest<float[]> request = new MockTrainingRequest(params, vectors, rotationMatrix);
         int[] sampledIndices = { 0, 1, 2 };
 
-        Pair<float[], float[]> meanStd = calculateMeanAndStdDev(request, sampledIndices, rotationMatrix);
+        Pair<float[], float[]> meanStd = calculateMeanAndStdDev(request, sampledIndices, rotateWith(rotationMatrix));
         float[][] thresholds = calculateThresholds(meanStd.getA(), meanStd.getB(), 1);
 
         Pair<float[], float[]> belowAboveMeans = QuantizerHelper.calculateBelowAboveThresholdMeans(
             request,
             thresholds[0],
             sampledIndices,
-            rotationMatrix
+            rotateWith(rotationMatrix)
         );
 
         assertNotNull(belowAboveMeans.getA());
@@ -151,6 +174,10 @@ public class QuantizerHelperTests extends KNNTestCase {
         expectThrows(IllegalArgumentException.class, () -> QuantizerHelper.calculateQuantizationState(request, empty, params));
     }
 
+    private static UnaryOperator<float[]> rotateWith(float[][] rotationMatrix) {
+        return vector -> RandomGaussianRotation.applyRotation(vector, rotationMatrix);
+    }
+
     private float[][] invokeThresholds(float[] mean, float[] stdDev, int bitsPerCoordinate) {
         try {
             var method = QuantizerHelper.class.getDeclaredMethod("calculateThresholds", float[].class, float[].class, int.class);
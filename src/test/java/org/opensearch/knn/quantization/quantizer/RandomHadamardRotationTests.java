@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+
+public class RandomHadamardRotationTests extends KNNTestCase {
+
+    private static final int[] DIMENSIONS = { 1, 2, 3, 8, 100, 768, 1536 };
+
+    public void testRotate_preservesNormsAndDotProducts() {
+        for (int dimensions : DIMENSIONS) {
+            RandomHadamardRotation rotation = RandomHadamardRotation.generate(dimensions);
+            float[] a = randomVector(dimensions);
+            float[] b = randomVector(dimensions);
+            float expectedDotProduct = VectorUtil.dotProduct(a, b);
+            float expectedDistance = VectorUtil.squareDistance(a, b);
+
+            rotation.rotate(a);
+            rotation.rotate(b);
+
+            float delta = 1e-3f * dimensions;
+            assertEquals("Dot product changed for dimension " + dimensions, expectedDotProduct, VectorUtil.dotProduct(a, b), delta);
+            assertEquals("Distance changed for dimension " + dimensions, expectedDistance, VectorUtil.squareDistance(a, b), delta);
+        }
+    }
+
+    public void testRotate_spreadsCoordinates() {
+        for (int dimensions : new int[] { 64, 100, 1536 }) {
+            RandomHadamardRotation rotation = RandomHadamardRotation.generate(dimensions);
+            float[] vector = new float[dimensions];
+            vector[0] = 1.0f;
+
+            rotation.rotate(vector);
+
+            // A unit vector along one axis is spread over all coordinates instead of staying concentrated
+            for (float value : vector) {
+                assertTrue("Coordinate not spread for dimension " + dimensions, Math.abs(value) < 0.5f);
+            }
+        }
+    }
+
+    public void testGenerate_isReproducible() {
+        float[] vector = randomVector(100);
+        float[] copy = vector.clone();
+
+        RandomHadamardRotation.generate(100).rotate(vector);
+        RandomHadamardRotation.generate(100).rotate(copy);
+
+        assertEquals(RandomHadamardRotation.generate(100), RandomHadamardRotation.generate(100));
+        assertArrayEquals(vector, copy, 0.0f);
+    }
+
+    public void testGenerate_withInvalidDimensions() {
+        expectThrows(IllegalArgumentException.class, () -> RandomHadamardRotation.generate(0));
+    }
+
+    public void testRotate_withMismatchedDimensions() {
+        RandomHadamardRotation rotation = RandomHadamardRotation.generate(8);
+        expectThrows(IllegalArgumentException.class, () -> rotation.rotate(new float[7]));
+    }
+
+    public void testSerialization() throws IOException {
+        for (int dimensions : DIMENSIONS) {
+            RandomHadamardRotation rotation = RandomHadamardRotation.generate(dimensions);
+            BytesStreamOutput out = new BytesStreamOutput();
+            rotation.writeTo(out);
+
+            StreamInput in = out.bytes().streamInput();
+            RandomHadamardRotation deserialized = new RandomHadamardRotation(in);
+
+            assertEquals(rotation, deserialized);
+            assertEquals(dimensions, deserialized.getDimensions());
+            assertEquals(rotation.ramBytesUsed(), deserialized.ramBytesUsed());
+        }
+    }
+
+    public void testSerialization_isCompact() throws IOException {
+        RandomHadamardRotation rotation = RandomHadamardRotation.generate(1536);
+        BytesStreamOutput out = new BytesStreamOutput();
+        rotation.writeTo(out);
+
+        // Sign flips of the two blocks of every round are stored as bits, a dense rotation matrix of the same dimension takes 9 MB
+        assertTrue(out.size() < 2 * RandomHadamardRotation.DEFAULT_ROUNDS * (1536 / Byte.SIZE + 16));
+    }
+
+    private static float[] randomVector(int dimensions) {
+        float[] vector = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = randomFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
@@ -11,15 +11,24 @@
 
 package org.opensearch.knn.training;
 
+import org.apache.lucene.search.TotalHits;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNVectorDocValueFormat;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -27,6 +36,8 @@ import static org.mockito.Mockito.when;
 
 public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
+    private static final String FIELD_NAME = "test-field";
+
     public void testAccept() {
 
         // Mock the training data allocation
@@ -92,4 +103,39 @@ public class FloatTrainingDataConsumerTests extends KNNTestCase {
 
         assertNotEquals(0, trainingDataAllocation.getMemoryAddress());
     }
+
+    public void testProcessTrainingVectors_whenDocValueFieldsAndSource_thenVectorsRead() {
+        NativeMemoryAllocation.TrainingDataAllocation trainingDataAllocation = mock(NativeMemoryAllocation.TrainingDataAllocation.class);
+        when(trainingDataAllocation.getQuantizationConfig()).thenReturn(QuantizationConfig.EMPTY);
+        List<float[]> acceptedVectors = new ArrayList<>();
+        FloatTrainingDataConsumer floatTrainingDataConsumer = new FloatTrainingDataConsumer(trainingDataAllocation) {
+            @Override
+            public void accept(List<?> floats) {
+                floats.forEach(vector -> acceptedVectors.add((float[]) vector));
+            }
+        };
+        assertTrue(floatTrainingDataConsumer.isDocValueFieldsSupported());
+
+        float[] docValueVector = { 1.0f, 2.0f, 3.0f };
+        SearchHit docValueHit = new SearchHit(
+            0,
+            "0",
+            Map.of(FIELD_NAME, new DocumentField(FIELD_NAME, List.of(KNNVectorDocValueFormat.encodeToBinary(docValueVector)))),
+            Collections.emptyMap()
+        );
+        SearchHit sourceHit = new SearchHit(1, "1", Collections.emptyMap(), Collections.emptyMap());
+        sourceHit.sourceRef(new BytesArray("{\"" + FIELD_NAME + "\":[4,5.5,6]}"));
+        SearchHit missingHit = new SearchHit(2, "2", Collections.emptyMap(), Collections.emptyMap());
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(
+            new SearchHits(new SearchHit[] { docValueHit, sourceHit, missingHit }, new TotalHits(3, TotalHits.Relation.EQUAL_TO), 1.0f)
+        );
+
+        floatTrainingDataConsumer.processTrainingVectors(searchResponse, 3, FIELD_NAME);
+
+        assertEquals(2, floatTrainingDataConsumer.getTotalVectorsCountAdded());
+        assertEquals(2, acceptedVectors.size());
+        assertArrayEquals(docValueVector, acceptedVectors.get(0), 0.0f);
+        assertArrayEquals(new float[] { 4.0f, 5.5f, 6.0f }, acceptedVectors.get(1), 0.0f);
+    }
 }
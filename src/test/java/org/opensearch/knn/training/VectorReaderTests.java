@@ -11,6 +11,7 @@
 package org.opensearch.knn.training;
 
 import lombok.Getter;
+import org.apache.commons.lang3.ArrayUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
@@ -18,7 +19,6 @@ import org.opensearch.knn.KNNSingleNodeTestCase;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.common.ValidationException;
-import org.opensearch.search.SearchHit;
 
 import java.io.IOException;
 import java.util.*;
@@ -407,25 +407,11 @@ public class VectorReaderTests extends KNNSingleNodeTestCase {
         }
 
         @Override
-        public void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName) {
-            SearchHit[] hits = searchResponse.getHits().getHits();
-            List<Float[]> vectors = new ArrayList<>();
-
-            String[] fieldPath = fieldName.split("\\.");
-
-            for (int vector = 0; vector < vectorsToAdd; vector++) {
-                Object fieldValue = extractFieldValue(hits[vector], fieldPath);
-                if (!(fieldValue instanceof List<?>)) {
-                    continue;
-                }
-
-                List<Number> fieldList = (List<Number>) fieldValue;
-                vectors.add(fieldList.stream().map(Number::floatValue).toArray(Float[]::new));
+        public void accept(List<?> vectors) {
+            for (Object vector : vectors) {
+                totalAddedVectors.add(ArrayUtils.toObject((float[]) vector));
             }
-
-            totalAddedVectors.addAll(vectors);
-            setTotalVectorsCountAdded(getTotalVectorsCountAdded() + vectors.size());
-            accept(vectors);
+            super.accept(vectors);
         }
     }
 }